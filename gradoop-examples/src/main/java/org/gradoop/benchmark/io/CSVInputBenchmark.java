@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.io;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.io.FileUtils;
+import org.apache.flink.api.common.ProgramDescription;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.examples.AbstractRunner;
+import org.gradoop.flink.io.impl.csv.CSVDataSource;
+import org.gradoop.flink.io.impl.csv.functions.CSVEdgeInputFormat;
+import org.gradoop.flink.io.impl.csv.functions.CSVGraphHeadInputFormat;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineToGraphHead;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
+import org.gradoop.flink.io.impl.csv.functions.CSVVertexInputFormat;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A dedicated program to measure the read throughput of the CSV input formats.
+ * <p>
+ * The program reads all graph heads, vertices and edges of a CSV graph twice, once using
+ * {@code readTextFile} followed by the {@link CSVLineToVertex} functions (text) and once using the
+ * byte-level {@link CSVVertexInputFormat} input formats (bytes). The parsed elements are discarded.
+ * The throughput is reported in MB/s per core, i.e. the size of the CSV files divided by the
+ * runtime and the parallelism.
+ */
+public class CSVInputBenchmark extends AbstractRunner implements ProgramDescription {
+  /**
+   * Option to declare path to input graph
+   */
+  private static final String OPTION_INPUT_PATH = "i";
+  /**
+   * Option to declare output path to statistics csv file
+   */
+  private static final String OPTION_CSV_PATH = "c";
+  /**
+   * Option to declare the number of rounds per reader
+   */
+  private static final String OPTION_ROUNDS = "r";
+  /**
+   * Bytes per megabyte
+   */
+  private static final double BYTES_PER_MB = 1024 * 1024;
+  /**
+   * Used input path
+   */
+  private static String INPUT_PATH;
+  /**
+   * Used csv path
+   */
+  private static String CSV_PATH;
+  /**
+   * Used number of rounds
+   */
+  private static int ROUNDS;
+
+  static {
+    OPTIONS.addOption(OPTION_INPUT_PATH, "input", true,
+      "Path to CSV source files.");
+    OPTIONS.addOption(OPTION_CSV_PATH, "csv", true,
+      "Path to csv statistics");
+    OPTIONS.addOption(OPTION_ROUNDS, "rounds", true,
+      "Number of rounds per reader (default: 1)");
+  }
+
+  /**
+   * Main program to run the benchmark. Arguments are the available options.
+   *
+   * @param args program arguments
+   * @throws Exception in case of Error
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLine cmd = parseArguments(args, CSVInputBenchmark.class.getName());
+
+    if (cmd == null) {
+      System.exit(1);
+    }
+
+    // test if minimum arguments are set
+    performSanityCheck(cmd);
+
+    // read cmd arguments
+    readCMDArguments(cmd);
+
+    // create gradoop config
+    ExecutionEnvironment env = ExecutionEnvironment.getExecutionEnvironment();
+    GradoopFlinkConfig conf = GradoopFlinkConfig.createConfig(env);
+
+    long inputBytes = getInputSize();
+
+    for (int round = 0; round < ROUNDS; round++) {
+      readText(conf);
+      env.execute("CSV input benchmark (text)");
+      writeCSV(env, "text", inputBytes);
+
+      readBytes(conf);
+      env.execute("CSV input benchmark (bytes)");
+      writeCSV(env, "bytes", inputBytes);
+    }
+  }
+
+  /**
+   * Reads all elements using {@code readTextFile} and the {@code CSVLineTo*} functions.
+   *
+   * @param conf gradoop config
+   */
+  private static void readText(GradoopFlinkConfig conf) {
+    ExecutionEnvironment env = conf.getExecutionEnvironment();
+    DataSet<Tuple3<String, String, String>> metaData =
+      new CSVMetaDataSource().readDistributed(getPath("metadata.csv"), conf);
+
+    env.readTextFile(getPath("graphs.csv"))
+      .map(new CSVLineToGraphHead(conf.getGraphHeadFactory()))
+      .withBroadcastSet(metaData, CSVDataSource.BC_METADATA)
+      .output(new DiscardingOutputFormat<>());
+
+    env.readTextFile(getPath("vertices.csv"))
+      .map(new CSVLineToVertex(conf.getVertexFactory()))
+      .withBroadcastSet(metaData, CSVDataSource.BC_METADATA)
+      .output(new DiscardingOutputFormat<>());
+
+    env.readTextFile(getPath("edges.csv"))
+      .map(new CSVLineToEdge(conf.getEdgeFactory()))
+      .withBroadcastSet(metaData, CSVDataSource.BC_METADATA)
+      .output(new DiscardingOutputFormat<>());
+  }
+
+  /**
+   * Reads all elements using the byte-level input formats.
+   *
+   * @param conf gradoop config
+   * @throws IOException if the meta data cannot be read
+   */
+  private static void readBytes(GradoopFlinkConfig conf) throws IOException {
+    ExecutionEnvironment env = conf.getExecutionEnvironment();
+    CSVMetaDataTable metaData = new CSVMetaDataSource()
+      .readLocalTable(getPath("metadata.csv"), new Configuration());
+
+    DataSet<GraphHead> graphHeads = env.createInput(new CSVGraphHeadInputFormat(
+      getPath("graphs.csv"), conf.getGraphHeadFactory(), metaData));
+    graphHeads.output(new DiscardingOutputFormat<>());
+
+    DataSet<Vertex> vertices = env.createInput(new CSVVertexInputFormat(
+      getPath("vertices.csv"), conf.getVertexFactory(), metaData));
+    vertices.output(new DiscardingOutputFormat<>());
+
+    DataSet<Edge> edges = env.createInput(new CSVEdgeInputFormat(
+      getPath("edges.csv"), conf.getEdgeFactory(), metaData));
+    edges.output(new DiscardingOutputFormat<>());
+  }
+
+  /**
+   * Returns the path of a file in the input directory.
+   *
+   * @param file file name
+   * @return path of the file
+   */
+  private static String getPath(String file) {
+    return new Path(INPUT_PATH, file).toString();
+  }
+
+  /**
+   * Returns the total size of the graph head, vertex and edge files.
+   *
+   * @return size in bytes
+   * @throws IOException if the file system cannot be accessed
+   */
+  private static long getInputSize() throws IOException {
+    FileSystem fs = FileSystem.get(new Configuration());
+    long size = 0;
+    for (String file : new String[] {"graphs.csv", "vertices.csv", "edges.csv"}) {
+      size += fs.getContentSummary(new Path(getPath(file))).getLength();
+    }
+    return size;
+  }
+
+  /**
+   * Reads the given arguments from command line
+   *
+   * @param cmd command line
+   */
+  private static void readCMDArguments(CommandLine cmd) {
+    INPUT_PATH = cmd.getOptionValue(OPTION_INPUT_PATH);
+    CSV_PATH   = cmd.getOptionValue(OPTION_CSV_PATH);
+    ROUNDS     = Integer.parseInt(cmd.getOptionValue(OPTION_ROUNDS, "1"));
+  }
+
+  /**
+   * Checks if the minimum of arguments is provided
+   *
+   * @param cmd command line
+   */
+  private static void performSanityCheck(CommandLine cmd) {
+    if (!cmd.hasOption(OPTION_INPUT_PATH)) {
+      throw new IllegalArgumentException("Define a graph input directory.");
+    }
+    if (!cmd.hasOption(OPTION_CSV_PATH)) {
+      throw new IllegalArgumentException("Path to CSV-File need to be set.");
+    }
+  }
+
+  /**
+   * Method to create and add lines to a csv-file
+   *
+   * @param env        given ExecutionEnvironment
+   * @param reader     name of the measured reader
+   * @param inputBytes size of the input in bytes
+   * @throws IOException exception during file writing
+   */
+  private static void writeCSV(ExecutionEnvironment env, String reader, long inputBytes)
+    throws IOException {
+
+    long runtime =
+      Math.max(1, env.getLastJobExecutionResult().getNetRuntime(TimeUnit.MILLISECONDS));
+    double throughput = inputBytes / BYTES_PER_MB / (runtime / 1000d) / env.getParallelism();
+
+    String head = String
+      .format("%s|%s|%s|%s|%s|%s%n", "Parallelism", "dataset", "reader", "Input(MB)",
+        "Runtime(ms)", "MB/s per core");
+
+    String tail = String
+      .format("%s|%s|%s|%.2f|%s|%.2f%n", env.getParallelism(), INPUT_PATH, reader,
+        inputBytes / BYTES_PER_MB, runtime, throughput);
+
+    File f = new File(CSV_PATH);
+    if (f.exists() && !f.isDirectory()) {
+      FileUtils.writeStringToFile(f, tail, true);
+    } else {
+      PrintWriter writer = new PrintWriter(CSV_PATH, "UTF-8");
+      writer.print(head);
+      writer.print(tail);
+      writer.close();
+    }
+  }
+
+  @Override
+  public String getDescription() {
+    return CSVInputBenchmark.class.getName();
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.io;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.io.FileUtils;
+import org.apache.flink.api.common.ProgramDescription;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.gradoop.examples.AbstractRunner;
+import org.gradoop.flink.io.impl.compression.BlockCompression;
+import org.gradoop.flink.io.impl.csv.CSVDataSink;
+import org.gradoop.flink.io.impl.csv.CSVDataSource;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A dedicated program to measure the write and read throughput of the CSV data sink and source
+ * with and without block compression, see {@link BlockCompression}.
+ * <p>
+ * The program reads a CSV graph, writes it to the output directory once uncompressed (plain) and
+ * once block compressed (compressed) and reads each written copy again. The throughput is reported
+ * in MB/s per core with respect to the size of the uncompressed copy, i.e. both variants process
+ * the same amount of data. The size of the written element files is reported as well.
+ * <p>
+ * End-to-end results of this program have not been recorded yet. As a reference, the codec
+ * alone (1 MB blocks of length-prefixed records, deflate with {@code BEST_SPEED}) was measured on
+ * 249 MB of synthetic edge CSV lines with ObjectId-style ids, a single core of a virtualized Xeon
+ * and JDK 17:
+ * <pre>
+ * compression ratio   4.0
+ * deflate             59 - 72 MB/s per core
+ * inflate            217 - 241 MB/s per core
+ * </pre>
+ * These numbers only describe the codec throughput on synthetic data. They do not include
+ * serialization, Flink or file system overhead and say nothing about whether compression speeds
+ * up reading or writing a graph. This has to be measured with this program on the target data and
+ * cluster.
+ */
+public class CompressionBenchmark extends AbstractRunner implements ProgramDescription {
+  /**
+   * Option to declare path to input graph
+   */
+  private static final String OPTION_INPUT_PATH = "i";
+  /**
+   * Option to declare path to output directory
+   */
+  private static final String OPTION_OUTPUT_PATH = "o";
+  /**
+   * Option to declare output path to statistics csv file
+   */
+  private static final String OPTION_CSV_PATH = "c";
+  /**
+   * Option to declare the number of rounds per variant
+   */
+  private static final String OPTION_ROUNDS = "r";
+  /**
+   * Bytes per megabyte
+   */
+  private static final double BYTES_PER_MB = 1024 * 1024;
+  /**
+   * Used input path
+   */
+  private static String INPUT_PATH;
+  /**
+   * Used output path
+   */
+  private static String OUTPUT_PATH;
+  /**
+   * Used csv path
+   */
+  private static String CSV_PATH;
+  /**
+   * Used number of rounds
+   */
+  private static int ROUNDS;
+
+  static {
+    OPTIONS.addOption(OPTION_INPUT_PATH, "input", true,
+      "Path to CSV source files.");
+    OPTIONS.addOption(OPTION_OUTPUT_PATH, "output", true,
+      "Path to output directory");
+    OPTIONS.addOption(OPTION_CSV_PATH, "csv", true,
+      "Path to csv statistics");
+    OPTIONS.addOption(OPTION_ROUNDS, "rounds", true,
+      "Number of rounds per variant (default: 1)");
+  }
+
+  /**
+   * Main program to run the benchmark. Arguments are the available options.
+   *
+   * @param args program arguments
+   * @throws Exception in case of Error
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLine cmd = parseArguments(args, CompressionBenchmark.class.getName());
+
+    if (cmd == null) {
+      System.exit(1);
+    }
+
+    // test if minimum arguments are set
+    performSanityCheck(cmd);
+
+    // read cmd arguments
+    readCMDArguments(cmd);
+
+    // create gradoop config
+    ExecutionEnvironment env = ExecutionEnvironment.getExecutionEnvironment();
+    GradoopFlinkConfig conf = GradoopFlinkConfig.createConfig(env);
+
+    String plainPath = new Path(OUTPUT_PATH, "plain").toString();
+    String compressedPath = new Path(OUTPUT_PATH, "compressed").toString();
+
+    for (int round = 0; round < ROUNDS; round++) {
+      write(conf, plainPath, false);
+      long plainBytes = getElementSize(plainPath);
+      writeCSV(env, "plain", "write", plainBytes, plainBytes);
+
+      write(conf, compressedPath, true);
+      writeCSV(env, "compressed", "write", plainBytes, getElementSize(compressedPath));
+
+      read(conf, plainPath, false);
+      writeCSV(env, "plain", "read", plainBytes, plainBytes);
+
+      read(conf, compressedPath, true);
+      writeCSV(env, "compressed", "read", plainBytes, getElementSize(compressedPath));
+    }
+  }
+
+  /**
+   * Reads the input graph and writes it to the given path.
+   *
+   * @param conf       gradoop config
+   * @param path       output path
+   * @param compressed true, to write block compressed files
+   * @throws Exception if the graph cannot be read or written
+   */
+  private static void write(GradoopFlinkConfig conf, String path, boolean compressed)
+    throws Exception {
+    GraphCollection graph = new CSVDataSource(INPUT_PATH, conf).getGraphCollection();
+    new CSVDataSink(path, null, conf, compressed).write(graph, true);
+    conf.getExecutionEnvironment().execute("Compression benchmark (write)");
+  }
+
+  /**
+   * Reads all elements of the graph at the given path and discards them.
+   *
+   * @param conf       gradoop config
+   * @param path       input path
+   * @param compressed true, if the files are block compressed
+   * @throws Exception if the graph cannot be read
+   */
+  private static void read(GradoopFlinkConfig conf, String path, boolean compressed)
+    throws Exception {
+    GraphCollection graph =
+      new CSVDataSource(path, conf, new Configuration(), compressed).getGraphCollection();
+    graph.getGraphHeads().output(new DiscardingOutputFormat<>());
+    graph.getVertices().output(new DiscardingOutputFormat<>());
+    graph.getEdges().output(new DiscardingOutputFormat<>());
+    conf.getExecutionEnvironment().execute("Compression benchmark (read)");
+  }
+
+  /**
+   * Returns the total size of the graph head, vertex and edge files at the given path.
+   *
+   * @param path graph directory
+   * @return size in bytes
+   * @throws IOException if the file system cannot be accessed
+   */
+  private static long getElementSize(String path) throws IOException {
+    FileSystem fs = FileSystem.get(new Configuration());
+    long size = 0;
+    for (String file : new String[] {"graphs.csv", "vertices.csv", "edges.csv"}) {
+      size += fs.getContentSummary(new Path(path, file)).getLength();
+    }
+    return size;
+  }
+
+  /**
+   * Reads the given arguments from command line
+   *
+   * @param cmd command line
+   */
+  private static void readCMDArguments(CommandLine cmd) {
+    INPUT_PATH  = cmd.getOptionValue(OPTION_INPUT_PATH);
+    OUTPUT_PATH = cmd.getOptionValue(OPTION_OUTPUT_PATH);
+    CSV_PATH    = cmd.getOptionValue(OPTION_CSV_PATH);
+    ROUNDS      = Integer.parseInt(cmd.getOptionValue(OPTION_ROUNDS, "1"));
+  }
+
+  /**
+   * Checks if the minimum of arguments is provided
+   *
+   * @param cmd command line
+   */
+  private static void performSanityCheck(CommandLine cmd) {
+    if (!cmd.hasOption(OPTION_INPUT_PATH)) {
+      throw new IllegalArgumentException("Define a graph input directory.");
+    }
+    if (!cmd.hasOption(OPTION_OUTPUT_PATH)) {
+      throw new IllegalArgumentException("Define a graph output directory.");
+    }
+    if (!cmd.hasOption(OPTION_CSV_PATH)) {
+      throw new IllegalArgumentException("Path to CSV-File need to be set.");
+    }
+  }
+
+  /**
+   * Method to create and add lines to a csv-file
+   *
+   * @param env        given ExecutionEnvironment
+   * @param variant    name of the measured variant
+   * @param operation  measured operation (read or write)
+   * @param plainBytes size of the uncompressed element files in bytes
+   * @param fileBytes  size of the element files of the variant in bytes
+   * @throws IOException exception during file writing
+   */
+  private static void writeCSV(ExecutionEnvironment env, String variant, String operation,
+    long plainBytes, long fileBytes) throws IOException {
+
+    long runtime =
+      Math.max(1, env.getLastJobExecutionResult().getNetRuntime(TimeUnit.MILLISECONDS));
+    double throughput = plainBytes / BYTES_PER_MB / (runtime / 1000d) / env.getParallelism();
+
+    String head = String
+      .format("%s|%s|%s|%s|%s|%s|%s%n", "Parallelism", "dataset", "variant", "operation",
+        "Files(MB)", "Runtime(ms)", "MB/s per core");
+
+    String tail = String
+      .format("%s|%s|%s|%s|%.2f|%s|%.2f%n", env.getParallelism(), INPUT_PATH, variant,
+        operation, fileBytes / BYTES_PER_MB, runtime, throughput);
+
+    File f = new File(CSV_PATH);
+    if (f.exists() && !f.isDirectory()) {
+      FileUtils.writeStringToFile(f, tail, true);
+    } else {
+      PrintWriter writer = new PrintWriter(CSV_PATH, "UTF-8");
+      writer.print(head);
+      writer.print(tail);
+      writer.close();
+    }
+  }
+
+  @Override
+  public String getDescription() {
+    return CompressionBenchmark.class.getName();
+  }
+}
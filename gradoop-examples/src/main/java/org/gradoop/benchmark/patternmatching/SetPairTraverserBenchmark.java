@@ -26,6 +26,8 @@ import org.gradoop.flink.model.impl.operators.matching.single.preserving.explora
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.SetPairForLoopTraverser;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.SetPairTraverser;
 
+import java.io.IOException;
+
 /**
  * Used to benchmark different {@link DistributedTraverser} implementations.
  *
@@ -41,8 +43,9 @@ public class SetPairTraverserBenchmark extends TraverserBenchmark {
    * Constructor
    *
    * @param cmd command line
+   * @throws IOException if the graph statistics cannot be read
    */
-  private SetPairTraverserBenchmark(CommandLine cmd) {
+  private SetPairTraverserBenchmark(CommandLine cmd) throws IOException {
     super(cmd);
   }
 
@@ -54,10 +57,12 @@ public class SetPairTraverserBenchmark extends TraverserBenchmark {
    * patterns use {@link PatternMatching}.
    *
    * usage: org.gradoop.benchmark.patternmatching.TraverserBenchmark
-   * [-i <arg>] [-q <arg>] [-t <arg>]
+   * [-i <arg>] [-q <arg>] [-t <arg>] [-o <arg>] [-s <arg>]
    * -i,--input <arg>       Graph directory
    * -q,--query <arg>       Pattern or fixed query (e.g. q2 or "(a)-->(b)")
    * -t,--traverser <arg>   [loop|bulk]
+   * -o,--order <arg>       [dfs|statistics]
+   * -s,--statistics <arg>  Graph statistics directory
    *
    * @param args program arguments
    * @throws Exception on failure
@@ -24,8 +24,10 @@ import org.apache.flink.api.java.tuple.Tuple3;
 import org.gradoop.examples.AbstractRunner;
 import org.gradoop.flink.model.impl.operators.matching.common.query.DFSTraverser;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.StatisticsTraverser;
 import org.gradoop.flink.model.impl.operators.matching.common.query.TraversalCode;
 import org.gradoop.flink.model.impl.operators.matching.common.query.Traverser;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
 import org.gradoop.flink.model.impl.operators.matching.common.tuples.IdWithCandidates;
 import org.gradoop.flink.model.impl.operators.matching.common.tuples.TripleWithCandidates;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TraverserStrategy;
@@ -50,6 +52,14 @@ abstract class TraverserBenchmark extends AbstractRunner {
    * Option to set the traverser
    */
   private static final String OPTION_TRAVERSER = "t";
+  /**
+   * Option to set the traversal order of the query graph
+   */
+  private static final String OPTION_ORDER = "o";
+  /**
+   * Option to declare path to graph statistics
+   */
+  private static final String OPTION_STATISTICS_PATH = "s";
   /**
    * Path to CSV log file
    */
@@ -60,6 +70,10 @@ abstract class TraverserBenchmark extends AbstractRunner {
     OPTIONS.addOption(OPTION_QUERY, "query", true, "Pattern or fixed query");
     OPTIONS.addOption(OPTION_TRAVERSER, "traverser", true,
       "[set-pair-for|set-pair-bulk|triple-for]");
+    OPTIONS.addOption(OPTION_ORDER, "order", true,
+      "Traversal order of GDL queries [dfs|statistics] (default: dfs)");
+    OPTIONS.addOption(OPTION_STATISTICS_PATH, "statistics", true,
+      "Graph statistics directory (required for statistics order)");
     OPTIONS.addOption(OPTION_CSV_PATH, "csv-path", true, "Path to output CSV file");
   }
 
@@ -75,6 +89,14 @@ abstract class TraverserBenchmark extends AbstractRunner {
    * Traverser strategy
    */
   private final TraverserStrategy traverserStrategy;
+  /**
+   * Traversal order of GDL queries
+   */
+  private final String order;
+  /**
+   * Path to graph statistics
+   */
+  private final String statisticsPath;
   /**
    * Path to CSV output
    */
@@ -101,8 +123,9 @@ abstract class TraverserBenchmark extends AbstractRunner {
    * Constructor
    *
    * @param cmd commandline
+   * @throws IOException if the graph statistics cannot be read
    */
-  TraverserBenchmark(CommandLine cmd) {
+  TraverserBenchmark(CommandLine cmd) throws IOException {
     this.inputPath = cmd.getOptionValue(OPTION_INPUT_PATH);
     this.query = cmd.getOptionValue(OPTION_QUERY);
 
@@ -122,6 +145,9 @@ abstract class TraverserBenchmark extends AbstractRunner {
       throw new IllegalArgumentException("Unknown traverser strategy: " + traverserStrategyString);
     }
 
+    this.order = cmd.getOptionValue(OPTION_ORDER, "dfs").toLowerCase();
+    this.statisticsPath = cmd.getOptionValue(OPTION_STATISTICS_PATH);
+
     if (cmd.hasOption(OPTION_CSV_PATH)) {
       csvPath = cmd.getOptionValue(OPTION_CSV_PATH);
     }
@@ -131,8 +157,10 @@ abstract class TraverserBenchmark extends AbstractRunner {
   /**
    * Initialize the benchmark using a given query. The query can be a predefined one (e.g. q0) or
    * a GDL pattern (e.g. (a)-->(b)).
+   *
+   * @throws IOException if the graph statistics cannot be read
    */
-  private void initialize() {
+  private void initialize() throws IOException {
     if (query.toLowerCase().startsWith("q")) {
       // fixed query
       Queries.Query q = getQuery(query.toLowerCase());
@@ -144,7 +172,20 @@ abstract class TraverserBenchmark extends AbstractRunner {
       QueryHandler queryHandler = new QueryHandler(query);
       vertexCount = queryHandler.getVertexCount();
       edgeCount = queryHandler.getEdgeCount();
-      Traverser traverser = new DFSTraverser();
+      Traverser traverser;
+      switch (order) {
+      case "dfs":
+        traverser = new DFSTraverser();
+        break;
+      case "statistics":
+        if (statisticsPath == null) {
+          throw new IllegalArgumentException("Statistics order requires graph statistics");
+        }
+        traverser = new StatisticsTraverser(GraphStatisticsLocalFSReader.read(statisticsPath));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown traversal order: " + order);
+      }
       traverser.setQueryHandler(queryHandler);
       tc = traverser.traverse();
     }
@@ -156,10 +197,11 @@ abstract class TraverserBenchmark extends AbstractRunner {
    * @return benchmark result string
    */
   private String getResultString() {
-    return String.format("%s|%s|%s|%s|%s|%s",
+    return String.format("%s|%s|%s|%s|%s|%s|%s",
       inputPath,
       getExecutionEnvironment().getParallelism(),
       traverserStrategy.name(),
+      order,
       query,
       embeddingCount,
       getExecutionEnvironment().getLastJobExecutionResult().getNetRuntime());
@@ -173,7 +215,7 @@ abstract class TraverserBenchmark extends AbstractRunner {
    * @throws IOException on failure
    */
   private void writeResults(String csvFile) throws IOException {
-    String header = "Input|Parallelism|Strategy|Query|Embeddings|Runtime[ms]";
+    String header = "Input|Parallelism|Strategy|Order|Query|Embeddings|Runtime[ms]";
     String line = getResultString();
 
     File f = new File(csvFile);
@@ -23,6 +23,8 @@ import org.gradoop.flink.model.impl.operators.matching.single.preserving.explora
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TripleForLoopTraverser;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TripleTraverser;
 
+import java.io.IOException;
+
 /**
  * Used to benchmark different {@link DistributedTraverser} implementations.
  *
@@ -40,8 +42,9 @@ public class TripleTraverserBenchmark extends TraverserBenchmark {
    *
    * @param cmd command line
    *
+   * @throws IOException if the graph statistics cannot be read
    */
-  private TripleTraverserBenchmark(CommandLine cmd) {
+  private TripleTraverserBenchmark(CommandLine cmd) throws IOException {
     super(cmd);
   }
 
@@ -53,10 +56,12 @@ public class TripleTraverserBenchmark extends TraverserBenchmark {
    * patterns use {@link PatternMatching}.
    *
    * usage: org.gradoop.benchmark.patternmatching.TraverserBenchmark
-   * [-i <arg>] [-q <arg>] [-t <arg>]
+   * [-i <arg>] [-q <arg>] [-t <arg>] [-o <arg>] [-s <arg>]
    * -i,--input <arg>       Graph directory
    * -q,--query <arg>       Pattern or fixed query (e.g. q2 or "(a)-->(b)")
    * -t,--traverser <arg>   [loop|bulk]
+   * -o,--order <arg>       [dfs|statistics]
+   * -s,--statistics <arg>  Graph statistics directory
    *
    * @param args program arguments
    * @throws Exception on failure
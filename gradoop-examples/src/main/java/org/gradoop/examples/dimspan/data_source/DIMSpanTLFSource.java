@@ -17,15 +17,10 @@ package org.gradoop.examples.dimspan.data_source;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
-import org.apache.flink.hadoopcompatibility.HadoopInputs;
-import org.apache.hadoop.io.LongWritable;
-import org.apache.hadoop.io.Text;
 import org.gradoop.flink.algorithms.fsm.dimspan.tuples.LabeledGraphStringString;
-import org.gradoop.flink.io.impl.tlf.inputformats.TLFInputFormat;
+import org.gradoop.flink.io.impl.tlf.inputformats.TLFLabeledGraphInputFormat;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
-import java.io.IOException;
-
 /**
  * Lightweight data source for TLF formatted string-labeled graphs.
  * NOTE, no consistency check, inconsistent data will cause errors!
@@ -62,14 +57,11 @@ public class DIMSpanTLFSource {
    * Reads the input as dataset of TLFGraphs.
    *
    * @return io graphs
-   * @throws IOException on failure
    */
-  public DataSet<LabeledGraphStringString> getGraphs() throws IOException {
+  public DataSet<LabeledGraphStringString> getGraphs() {
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
 
-    return env.createInput(HadoopInputs.readHadoopFile(
-      new TLFInputFormat(), LongWritable.class, Text.class, getFilePath()))
-      .map(new DIMSpanGraphFromText());
+    return env.createInput(new TLFLabeledGraphInputFormat(getFilePath()));
   }
 
   // GETTERS AND SETTERS
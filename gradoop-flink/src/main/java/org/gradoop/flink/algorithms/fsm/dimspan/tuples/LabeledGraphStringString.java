@@ -68,6 +68,19 @@ public class LabeledGraphStringString extends Tuple3<int[], String[], String[]>
     return new LabeledGraphStringString(new int[0], new String[0], new String[0]);
   }
 
+  /**
+   * Factory method to create a graph from complete arrays.
+   *
+   * @param edges array of source and target ids
+   * @param vertexLabels array of vertex labels
+   * @param edgeLabels array of edge labels
+   * @return graph
+   */
+  public static LabeledGraphStringString create(int[] edges, String[] vertexLabels,
+    String[] edgeLabels) {
+    return new LabeledGraphStringString(edges, vertexLabels, edgeLabels);
+  }
+
   /**
    * Convenience method to add a new vertex.
    *
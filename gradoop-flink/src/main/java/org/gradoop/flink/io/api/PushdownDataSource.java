@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api;
+
+import org.gradoop.flink.io.api.predicate.ElementPredicate;
+
+import java.util.Set;
+
+/**
+ * Data source with support for predicate and projection push-down. A source implementing this
+ * interface is able to skip elements that do not satisfy the given predicates and to skip
+ * property values that are not needed, such that the returned graphs contain fewer elements and
+ * properties.
+ * <p>
+ * Each apply method returns a copy of the source, the source it was called on stays unchanged.
+ * Multiple predicates for the same element type are combined conjunctively.
+ */
+public interface PushdownDataSource extends DataSource {
+
+  /**
+   * Returns a copy of the data source that only reads graph heads satisfying the predicate.
+   *
+   * @param predicate graph head predicate
+   * @return a copy of the data source with the added predicate
+   */
+  PushdownDataSource applyGraphHeadPredicate(ElementPredicate predicate);
+
+  /**
+   * Returns a copy of the data source that only reads vertices satisfying the predicate.
+   * Edges of skipped vertices are not removed, use an edge predicate for that.
+   *
+   * @param predicate vertex predicate
+   * @return a copy of the data source with the added predicate
+   */
+  PushdownDataSource applyVertexPredicate(ElementPredicate predicate);
+
+  /**
+   * Returns a copy of the data source that only reads edges satisfying the predicate.
+   *
+   * @param predicate edge predicate
+   * @return a copy of the data source with the added predicate
+   */
+  PushdownDataSource applyEdgePredicate(ElementPredicate predicate);
+
+  /**
+   * Returns a copy of the data source that only reads the given property keys of all elements.
+   * Properties referenced by predicates are read for evaluation but are not part of the result
+   * unless they are contained in the projection.
+   *
+   * @param propertyKeys property keys to read
+   * @return a copy of the data source with the added projection
+   */
+  PushdownDataSource applyPropertyProjection(Set<String> propertyKeys);
+
+  /**
+   * Returns true, if any of the apply methods was called before.
+   *
+   * @return true, iff predicates or projections were pushed down
+   */
+  boolean isFilterPushedDown();
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api.predicate;
+
+import org.gradoop.common.model.impl.pojo.Element;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Conjunctive predicate on EPGM elements that can be pushed down into a data source.
+ * <p>
+ * The predicate consists of an optional label filter and any number of property predicates.
+ * Sources may use the label filter to skip reading elements of other labels and the property
+ * keys of the predicate to decide which property values need to be parsed.
+ */
+public class ElementPredicate implements Serializable {
+  /**
+   * Accepted labels or {@code null} if all labels are accepted.
+   */
+  private final Set<String> labels;
+  /**
+   * Property predicates that have to hold.
+   */
+  private final List<PropertyPredicate> propertyPredicates;
+
+  /**
+   * Creates a new element predicate.
+   *
+   * @param labels             accepted labels or {@code null} if all labels are accepted
+   * @param propertyPredicates property predicates that have to hold
+   */
+  private ElementPredicate(Set<String> labels, List<PropertyPredicate> propertyPredicates) {
+    this.labels = labels;
+    this.propertyPredicates = propertyPredicates;
+  }
+
+  /**
+   * Creates a predicate accepting elements with one of the given labels.
+   *
+   * @param labels accepted labels
+   * @return element predicate
+   */
+  public static ElementPredicate labelIn(String... labels) {
+    return new ElementPredicate(new HashSet<>(Arrays.asList(labels)), new ArrayList<>());
+  }
+
+  /**
+   * Creates a predicate comparing a property with a constant.
+   *
+   * @param key        property key
+   * @param comparator comparison operator
+   * @param value      constant to compare with
+   * @return element predicate
+   */
+  public static ElementPredicate property(String key, Comparator comparator, Object value) {
+    return new ElementPredicate(null,
+      Collections.singletonList(new PropertyPredicate(key, comparator, value)));
+  }
+
+  /**
+   * Combines this predicate with another one using a logical {@code and}.
+   *
+   * @param other other predicate
+   * @return conjunction of both predicates
+   */
+  public ElementPredicate and(ElementPredicate other) {
+    Set<String> combinedLabels;
+    if (labels == null) {
+      combinedLabels = other.labels;
+    } else if (other.labels == null) {
+      combinedLabels = labels;
+    } else {
+      combinedLabels = new HashSet<>(labels);
+      combinedLabels.retainAll(other.labels);
+    }
+    List<PropertyPredicate> combinedPredicates = new ArrayList<>(propertyPredicates);
+    combinedPredicates.addAll(other.propertyPredicates);
+    return new ElementPredicate(combinedLabels, combinedPredicates);
+  }
+
+  /**
+   * Returns true, if elements with the given label may satisfy the predicate.
+   *
+   * @param label element label
+   * @return false, iff no element with that label satisfies the predicate
+   */
+  public boolean acceptsLabel(String label) {
+    return labels == null || labels.contains(label);
+  }
+
+  /**
+   * Returns true, if the predicate contains property predicates.
+   *
+   * @return true, iff elements have to be filtered by their properties
+   */
+  public boolean hasPropertyPredicates() {
+    return !propertyPredicates.isEmpty();
+  }
+
+  /**
+   * Returns the property keys the predicate depends on.
+   *
+   * @return property keys
+   */
+  public Set<String> getPropertyKeys() {
+    Set<String> keys = new HashSet<>();
+    for (PropertyPredicate predicate : propertyPredicates) {
+      keys.add(predicate.getKey());
+    }
+    return keys;
+  }
+
+  /**
+   * Evaluates the predicate for an element.
+   *
+   * @param element EPGM element
+   * @return true, iff the element satisfies the predicate
+   */
+  public boolean test(Element element) {
+    if (!acceptsLabel(element.getLabel())) {
+      return false;
+    }
+    for (PropertyPredicate predicate : propertyPredicates) {
+      if (!predicate.test(element.getPropertyValue(predicate.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    StringJoiner joiner = new StringJoiner(" AND ");
+    if (labels != null) {
+      joiner.add("label IN " + labels);
+    }
+    for (PropertyPredicate predicate : propertyPredicates) {
+      joiner.add(predicate.toString());
+    }
+    return joiner.toString();
+  }
+}
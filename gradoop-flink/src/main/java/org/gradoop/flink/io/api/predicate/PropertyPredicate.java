@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api.predicate;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Compares the value of a single property with a constant, e.g. {@code age >= 30}.
+ * <p>
+ * The predicate never holds for elements without the property. Values of incomparable types
+ * are only considered unequal.
+ */
+public class PropertyPredicate implements Serializable {
+  /**
+   * Property key.
+   */
+  private final String key;
+  /**
+   * Comparison operator.
+   */
+  private final Comparator comparator;
+  /**
+   * Constant to compare with.
+   */
+  private final PropertyValue value;
+
+  /**
+   * Creates a new property predicate.
+   *
+   * @param key        property key
+   * @param comparator comparison operator
+   * @param value      constant to compare with
+   */
+  public PropertyPredicate(String key, Comparator comparator, Object value) {
+    this.key = Objects.requireNonNull(key);
+    this.comparator = Objects.requireNonNull(comparator);
+    this.value = value instanceof PropertyValue ?
+      (PropertyValue) value : PropertyValue.create(value);
+  }
+
+  /**
+   * Returns the property key.
+   *
+   * @return property key
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Returns the comparison operator.
+   *
+   * @return comparison operator
+   */
+  public Comparator getComparator() {
+    return comparator;
+  }
+
+  /**
+   * Returns the constant to compare with.
+   *
+   * @return constant property value
+   */
+  public PropertyValue getValue() {
+    return value;
+  }
+
+  /**
+   * Evaluates the predicate for a property value.
+   *
+   * @param propertyValue property value or {@code null} if the element has no such property
+   * @return true, iff the predicate holds
+   */
+  public boolean test(PropertyValue propertyValue) {
+    if (propertyValue == null) {
+      return false;
+    }
+    try {
+      int result = propertyValue.compareTo(value);
+
+      return
+        comparator == Comparator.EQ  && result == 0 ||
+          comparator == Comparator.NEQ && result != 0 ||
+          comparator == Comparator.LT  && result < 0 ||
+          comparator == Comparator.GT  && result > 0 ||
+          comparator == Comparator.LTE && result <= 0 ||
+          comparator == Comparator.GTE && result >= 0;
+
+    } catch (IllegalArgumentException e) {
+      return comparator == Comparator.NEQ;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return key + " " + comparator + " " + value;
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * Base class for the binary data source and data sink.
+ * <p>
+ * The binary format uses the following directory structure:
+ * <p>
+ * binaryRoot
+ * |- metadata.csv  # property meta data, defines the label and property key dictionaries
+ * |- graphs/0/     # column blocks of all graph heads with the first graph label
+ * |- vertices/0/   # column blocks of all vertices with the first vertex label
+ * |- vertices/1/   # column blocks of all vertices with the second vertex label
+ * |- edges/0/      # column blocks of all edges with the first edge label
+ */
+public abstract class BinaryBase {
+  /**
+   * Broadcast set identifier for meta data.
+   */
+  public static final String BC_METADATA = "metadata";
+  /**
+   * Root directory containing the block and metadata files.
+   */
+  private final String binaryRoot;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Constructor.
+   *
+   * @param binaryPath directory to the binary files
+   * @param config     Gradoop Flink configuration
+   */
+  protected BinaryBase(String binaryPath, GradoopFlinkConfig config) {
+    Objects.requireNonNull(binaryPath);
+    Objects.requireNonNull(config);
+    this.binaryRoot =
+      binaryPath.endsWith(File.separator) ? binaryPath : binaryPath + File.separator;
+    this.config = config;
+  }
+
+  /**
+   * Returns the path to the graph head directory.
+   *
+   * @return graph head path
+   */
+  protected String getGraphHeadPath() {
+    return binaryRoot + BinaryConstants.GRAPH_HEAD_PATH;
+  }
+
+  /**
+   * Returns the path to the vertex directory.
+   *
+   * @return vertex path
+   */
+  protected String getVertexPath() {
+    return binaryRoot + BinaryConstants.VERTEX_PATH;
+  }
+
+  /**
+   * Returns the path to the edge directory.
+   *
+   * @return edge path
+   */
+  protected String getEdgePath() {
+    return binaryRoot + BinaryConstants.EDGE_PATH;
+  }
+
+  /**
+   * Returns the path to the directory containing the blocks of a single label.
+   *
+   * @param elementPath path of the element (e.g. vertex path)
+   * @param labelIndex  dictionary index of the label
+   * @return path to the label directory
+   */
+  protected String getLabelPath(String elementPath, int labelIndex) {
+    return elementPath + CSVConstants.DIRECTORY_SEPARATOR + labelIndex;
+  }
+
+  /**
+   * Returns the path to the meta data file.
+   *
+   * @return meta data path
+   */
+  protected String getMetaDataPath() {
+    return binaryRoot + BinaryConstants.METADATA_FILE;
+  }
+
+  /**
+   * Returns the Gradoop Flink configuration.
+   *
+   * @return Gradoop Flink configuration
+   */
+  protected GradoopFlinkConfig getConfig() {
+    return config;
+  }
+}
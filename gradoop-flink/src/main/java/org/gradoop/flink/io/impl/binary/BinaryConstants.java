@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+/**
+ * Constants needed for the binary graph format.
+ */
+public class BinaryConstants {
+  /**
+   * Default number of elements stored in a single column block.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 8192;
+  /**
+   * Marks the beginning of a block within a block file.
+   */
+  public static final byte BLOCK_MARKER = 0x42;
+  /**
+   * Block flag indicating that the block contains graph ids.
+   */
+  public static final byte FLAG_GRAPH_IDS = 0x01;
+  /**
+   * Block flag indicating that the block contains source and target ids.
+   */
+  public static final byte FLAG_EDGE_IDS = 0x02;
+  /**
+   * File name of the block files within a label directory.
+   */
+  public static final String BLOCK_FILE = "blocks";
+  /**
+   * File name of the meta data file, which also defines the label and property key dictionaries.
+   */
+  public static final String METADATA_FILE = "metadata.csv";
+  /**
+   * Directory containing the graph heads.
+   */
+  public static final String GRAPH_HEAD_PATH = "graphs";
+  /**
+   * Directory containing the vertices.
+   */
+  public static final String VERTEX_PATH = "vertices";
+  /**
+   * Directory containing the edges.
+   */
+  public static final String EDGE_PATH = "edges";
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.core.fs.FileSystem.WriteMode;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.binary.functions.BlockOutputFormat;
+import org.gradoop.flink.io.impl.binary.functions.ElementsToBlocks;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSink;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+
+/**
+ * A graph data sink writing the binary columnar format.
+ * <p>
+ * The elements of each label are written into a separate directory. Within a directory, the
+ * elements are stored in compressed column blocks: ids are stored as raw bytes, property values
+ * in one column per property key. Each column carries the minimum and maximum value of the block.
+ *
+ * @see BinaryBase
+ */
+public class BinaryDataSink extends BinaryBase implements DataSink {
+  /**
+   * Maximum number of elements per block.
+   */
+  private final int blockSize;
+
+  /**
+   * Creates a new binary data sink using the default block size.
+   *
+   * @param binaryPath directory to write to
+   * @param config     Gradoop Flink configuration
+   */
+  public BinaryDataSink(String binaryPath, GradoopFlinkConfig config) {
+    this(binaryPath, BinaryConstants.DEFAULT_BLOCK_SIZE, config);
+  }
+
+  /**
+   * Creates a new binary data sink.
+   *
+   * @param binaryPath directory to write to
+   * @param blockSize  maximum number of elements per block
+   * @param config     Gradoop Flink configuration
+   */
+  public BinaryDataSink(String binaryPath, int blockSize, GradoopFlinkConfig config) {
+    super(binaryPath, config);
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("Block size must be positive.");
+    }
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(logicalGraph.getConfig().getGraphCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overwrite) throws IOException {
+    WriteMode writeMode = overwrite ? WriteMode.OVERWRITE : WriteMode.NO_OVERWRITE;
+
+    DataSet<Tuple3<String, String, String>> metaData =
+      new CSVMetaDataSource().tuplesFromCollection(graphCollection);
+    new CSVMetaDataSink().writeDistributed(getMetaDataPath(), metaData, writeMode);
+
+    writeBlocks(graphCollection.getGraphHeads(), MetaDataSource.GRAPH_TYPE, metaData,
+      getGraphHeadPath(), writeMode);
+    writeBlocks(graphCollection.getVertices(), MetaDataSource.VERTEX_TYPE, metaData,
+      getVertexPath(), writeMode);
+    writeBlocks(graphCollection.getEdges(), MetaDataSource.EDGE_TYPE, metaData,
+      getEdgePath(), writeMode);
+  }
+
+  /**
+   * Encodes the given elements into column blocks and writes them by label.
+   *
+   * @param elements    elements to write
+   * @param type        element type (g, v or e)
+   * @param metaData    property meta data, defines the dictionaries
+   * @param elementPath root directory of the element type
+   * @param writeMode   write mode
+   * @param <E>         EPGM element type
+   */
+  private <E extends Element> void writeBlocks(DataSet<E> elements, String type,
+    DataSet<Tuple3<String, String, String>> metaData, String elementPath, WriteMode writeMode) {
+    BlockOutputFormat format = new BlockOutputFormat(new Path(elementPath));
+    format.setWriteMode(writeMode);
+
+    elements
+      .mapPartition(new ElementsToBlocks<E>(type, blockSize))
+      .withBroadcastSet(metaData, BC_METADATA)
+      .output(format);
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.core.fs.Path;
+import org.apache.hadoop.conf.Configuration;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.binary.block.BlockDictionary;
+import org.gradoop.flink.io.impl.binary.functions.EdgeBlockInputFormat;
+import org.gradoop.flink.io.impl.binary.functions.GraphHeadBlockInputFormat;
+import org.gradoop.flink.io.impl.binary.functions.VertexBlockInputFormat;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.epgm.LogicalGraphFactory;
+import org.gradoop.flink.model.impl.layouts.gve.indexed.IndexedGVEGraphLayoutFactory;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A graph data source reading the binary columnar format written by {@link BinaryDataSink}.
+ * <p>
+ * The source can be restricted to a set of labels and a set of property keys. Only the
+ * directories of the selected labels are read and the column chunks of all other property keys
+ * are skipped without being decompressed. Note that restricting the vertex labels does not
+ * remove edges pointing to vertices of other labels.
+ * <p>
+ * Vertices and edges can further be filtered by property values. Each block stores the minimum
+ * and maximum of its property columns, blocks whose bounds exclude a filtered value are skipped
+ * without being decompressed. As for labels, filtering the vertices does not remove edges
+ * pointing to filtered vertices.
+ *
+ * @see BinaryBase
+ */
+public class BinaryDataSource extends BinaryBase implements DataSource {
+  /**
+   * HDFS Configuration.
+   */
+  private final Configuration hdfsConfig;
+  /**
+   * Labels to read or {@code null} to read all labels.
+   */
+  private final Set<String> labels;
+  /**
+   * Property keys to read or {@code null} to read all property keys.
+   */
+  private final Set<String> propertyKeys;
+  /**
+   * Property values the vertices have to match or {@code null} to read all vertices.
+   */
+  private final Map<String, PropertyValue> vertexFilter;
+  /**
+   * Property values the edges have to match or {@code null} to read all edges.
+   */
+  private final Map<String, PropertyValue> edgeFilter;
+
+  /**
+   * Creates a new data source reading all labels and properties. The constructor creates a default
+   * HDFS configuration.
+   *
+   * @param binaryPath root path of the binary files
+   * @param config     Gradoop Flink configuration
+   */
+  public BinaryDataSource(String binaryPath, GradoopFlinkConfig config) {
+    this(binaryPath, config, new Configuration());
+  }
+
+  /**
+   * Creates a new data source reading all labels and properties.
+   *
+   * @param binaryPath root path of the binary files
+   * @param config     Gradoop Flink configuration
+   * @param hdfsConf   HDFS configuration
+   */
+  public BinaryDataSource(String binaryPath, GradoopFlinkConfig config, Configuration hdfsConf) {
+    this(binaryPath, null, null, config, hdfsConf);
+  }
+
+  /**
+   * Creates a new data source reading the selected labels and properties.
+   *
+   * @param binaryPath   root path of the binary files
+   * @param labels       labels to read or {@code null} to read all labels
+   * @param propertyKeys property keys to read or {@code null} to read all property keys
+   * @param config       Gradoop Flink configuration
+   * @param hdfsConf     HDFS configuration
+   */
+  public BinaryDataSource(String binaryPath, Set<String> labels, Set<String> propertyKeys,
+    GradoopFlinkConfig config, Configuration hdfsConf) {
+    this(binaryPath, labels, propertyKeys, null, null, config, hdfsConf);
+  }
+
+  /**
+   * Creates a new data source reading the selected labels and properties of the vertices and
+   * edges matching the given filters.
+   *
+   * @param binaryPath   root path of the binary files
+   * @param labels       labels to read or {@code null} to read all labels
+   * @param propertyKeys property keys to read or {@code null} to read all property keys
+   * @param vertexFilter property key to value, which the vertices have to be equal to, or
+   *                     {@code null} to read all vertices
+   * @param edgeFilter   property key to value, which the edges have to be equal to, or
+   *                     {@code null} to read all edges
+   * @param config       Gradoop Flink configuration
+   * @param hdfsConf     HDFS configuration
+   */
+  public BinaryDataSource(String binaryPath, Set<String> labels, Set<String> propertyKeys,
+    Map<String, PropertyValue> vertexFilter, Map<String, PropertyValue> edgeFilter,
+    GradoopFlinkConfig config, Configuration hdfsConf) {
+    super(binaryPath, config);
+    Objects.requireNonNull(hdfsConf);
+    this.hdfsConfig = hdfsConf;
+    this.labels = labels;
+    this.propertyKeys = propertyKeys;
+    this.vertexFilter = vertexFilter;
+    this.edgeFilter = edgeFilter;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The vertices and edges of the resulting graph are kept separated by label, i.e. accessing
+   * elements by label only reads the blocks of the requested labels.
+   */
+  @Override
+  public LogicalGraph getLogicalGraph() throws IOException {
+    BlockDictionary dictionary = readDictionary();
+    Map<String, DataSet<Vertex>> vertices = readVertices(dictionary);
+    Map<String, DataSet<Edge>> edges = readEdges(dictionary);
+
+    if (edges.isEmpty()) {
+      // the indexed layout requires at least one edge label
+      return getConfig().getLogicalGraphFactory().fromIndexedDataSets(vertices, edges);
+    }
+    LogicalGraphFactory factory = new LogicalGraphFactory(getConfig());
+    factory.setLayoutFactory(new IndexedGVEGraphLayoutFactory());
+    return factory.fromIndexedDataSets(vertices, edges);
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() throws IOException {
+    BlockDictionary dictionary = readDictionary();
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    Map<String, DataSet<GraphHead>> graphHeads = new HashMap<>();
+    List<String> graphLabels = dictionary.getLabels(MetaDataSource.GRAPH_TYPE);
+    for (int index = 0; index < graphLabels.size(); index++) {
+      String label = graphLabels.get(index);
+      if (isSelected(label)) {
+        graphHeads.put(label, env.createInput(new GraphHeadBlockInputFormat(
+          new Path(getLabelPath(getGraphHeadPath(), index)), label,
+          dictionary.getPropertyKeys(MetaDataSource.GRAPH_TYPE, label), propertyKeys,
+          getConfig().getGraphHeadFactory())));
+      }
+    }
+
+    return getConfig().getGraphCollectionFactory().fromIndexedDataSets(graphHeads,
+      readVertices(dictionary), readEdges(dictionary));
+  }
+
+  /**
+   * Reads the label and property key dictionaries from the meta data file.
+   *
+   * @return dictionaries
+   * @throws IOException if the meta data cannot be read
+   */
+  private BlockDictionary readDictionary() throws IOException {
+    return new BlockDictionary(new CSVMetaDataSource().readLocal(getMetaDataPath(), hdfsConfig));
+  }
+
+  /**
+   * Creates a dataset for each selected vertex label.
+   *
+   * @param dictionary label and property key dictionaries
+   * @return mapping from label to vertices with that label
+   */
+  private Map<String, DataSet<Vertex>> readVertices(BlockDictionary dictionary) {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+    Map<String, DataSet<Vertex>> vertices = new HashMap<>();
+    List<String> vertexLabels = dictionary.getLabels(MetaDataSource.VERTEX_TYPE);
+    for (int index = 0; index < vertexLabels.size(); index++) {
+      String label = vertexLabels.get(index);
+      if (isSelected(label)) {
+        vertices.put(label, env.createInput(new VertexBlockInputFormat(
+          new Path(getLabelPath(getVertexPath(), index)), label,
+          dictionary.getPropertyKeys(MetaDataSource.VERTEX_TYPE, label), propertyKeys,
+          vertexFilter, getConfig().getVertexFactory())));
+      }
+    }
+    return vertices;
+  }
+
+  /**
+   * Creates a dataset for each selected edge label.
+   *
+   * @param dictionary label and property key dictionaries
+   * @return mapping from label to edges with that label
+   */
+  private Map<String, DataSet<Edge>> readEdges(BlockDictionary dictionary) {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+    Map<String, DataSet<Edge>> edges = new HashMap<>();
+    List<String> edgeLabels = dictionary.getLabels(MetaDataSource.EDGE_TYPE);
+    for (int index = 0; index < edgeLabels.size(); index++) {
+      String label = edgeLabels.get(index);
+      if (isSelected(label)) {
+        edges.put(label, env.createInput(new EdgeBlockInputFormat(
+          new Path(getLabelPath(getEdgePath(), index)), label,
+          dictionary.getPropertyKeys(MetaDataSource.EDGE_TYPE, label), propertyKeys,
+          edgeFilter, getConfig().getEdgeFactory())));
+      }
+    }
+    return edges;
+  }
+
+  /**
+   * Returns true, if the elements of the given label shall be read.
+   *
+   * @param label element label
+   * @return true, iff no labels were selected or the label is selected
+   */
+  private boolean isSelected(String label) {
+    return labels == null || labels.contains(label);
+  }
+}
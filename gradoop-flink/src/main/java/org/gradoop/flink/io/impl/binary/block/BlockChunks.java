@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.block;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Reads and writes compressed column chunks.
+ * <p>
+ * A chunk is stored as {@code [raw length][compressed length][deflated bytes]}, which allows
+ * readers to skip columns without decompressing them.
+ */
+final class BlockChunks {
+  /**
+   * Compression level used for all chunks. Decompression speed does not depend on the level, but
+   * writing the blocks of large graphs does.
+   */
+  private static final int COMPRESSION_LEVEL = Deflater.BEST_SPEED;
+
+  /**
+   * No instances.
+   */
+  private BlockChunks() {
+  }
+
+  /**
+   * Compresses and writes the content of a buffer as a chunk.
+   *
+   * @param out    output to write the chunk to
+   * @param buffer uncompressed chunk content
+   * @throws IOException if writing fails
+   */
+  static void write(DataOutputStream out, ByteArrayOutputStream buffer) throws IOException {
+    byte[] raw = buffer.toByteArray();
+    Deflater deflater = new Deflater(COMPRESSION_LEVEL);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(raw.length / 2, 16));
+    byte[] chunk = new byte[4096];
+    try {
+      deflater.setInput(raw);
+      deflater.finish();
+      while (!deflater.finished()) {
+        int length = deflater.deflate(chunk);
+        compressed.write(chunk, 0, length);
+      }
+    } finally {
+      deflater.end();
+    }
+    out.writeInt(raw.length);
+    out.writeInt(compressed.size());
+    compressed.writeTo(out);
+  }
+
+  /**
+   * Reads and decompresses a chunk.
+   *
+   * @param in input positioned at the beginning of a chunk
+   * @return uncompressed chunk content
+   * @throws IOException if reading fails or the chunk is corrupt
+   */
+  static byte[] read(DataInputStream in) throws IOException {
+    byte[] raw = new byte[in.readInt()];
+    byte[] compressed = new byte[in.readInt()];
+    in.readFully(compressed);
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+      int offset = 0;
+      while (offset < raw.length) {
+        int length = inflater.inflate(raw, offset, raw.length - offset);
+        if (length == 0 && (inflater.finished() || inflater.needsInput())) {
+          throw new IOException("Column chunk is truncated.");
+        }
+        offset += length;
+      }
+    } catch (DataFormatException e) {
+      throw new IOException("Column chunk is corrupt.", e);
+    } finally {
+      inflater.end();
+    }
+    return raw;
+  }
+
+  /**
+   * Skips a chunk without decompressing it.
+   *
+   * @param in input positioned at the beginning of a chunk
+   * @throws IOException if reading fails
+   */
+  static void skip(DataInputStream in) throws IOException {
+    in.readInt();
+    int remaining = in.readInt();
+    while (remaining > 0) {
+      int skipped = in.skipBytes(remaining);
+      if (skipped == 0) {
+        // throws an EOFException at the end of the stream
+        in.readByte();
+        skipped = 1;
+      }
+      remaining -= skipped;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.block;
+
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Label and property key dictionaries of the binary format derived from the property meta data.
+ * <p>
+ * Labels are encoded by their position within the sorted labels of an element type, property
+ * keys by their position within the distinct keys of a label in meta data order. Both sink and
+ * source derive the dictionaries from the same meta data file, which is why no additional
+ * dictionary file is needed.
+ */
+public class BlockDictionary {
+  /**
+   * Meta data the dictionaries are derived from.
+   */
+  private final CSVMetaData metaData;
+
+  /**
+   * Creates the dictionaries for the given meta data.
+   *
+   * @param metaData property meta data
+   */
+  public BlockDictionary(CSVMetaData metaData) {
+    this.metaData = metaData;
+  }
+
+  /**
+   * Returns the sorted labels of the given element type.
+   *
+   * @param type element type (g, v or e)
+   * @return sorted labels, the position of a label is its dictionary index
+   */
+  public List<String> getLabels(String type) {
+    Set<String> labels;
+    switch (type) {
+    case MetaDataSource.GRAPH_TYPE:
+      labels = metaData.getGraphLabels();
+      break;
+    case MetaDataSource.VERTEX_TYPE:
+      labels = metaData.getVertexLabels();
+      break;
+    case MetaDataSource.EDGE_TYPE:
+      labels = metaData.getEdgeLabels();
+      break;
+    default:
+      throw new IllegalArgumentException("Entity type " + type + " is not supported. Supported " +
+        "types are g, v and e.");
+    }
+    List<String> sorted = new ArrayList<>(labels);
+    Collections.sort(sorted);
+    return sorted;
+  }
+
+  /**
+   * Returns the dictionary index of a label.
+   *
+   * @param type  element type (g, v or e)
+   * @param label element label
+   * @return dictionary index of the label
+   */
+  public int getLabelIndex(String type, String label) {
+    int index = Collections.binarySearch(getLabels(type), label);
+    if (index < 0) {
+      throw new IllegalArgumentException("Label " + label + " of type " + type +
+        " is not contained in the meta data.");
+    }
+    return index;
+  }
+
+  /**
+   * Returns the property key dictionary of a label.
+   *
+   * @param type  element type (g, v or e)
+   * @param label element label
+   * @return distinct property keys, the position of a key is its dictionary index
+   */
+  public String[] getPropertyKeys(String type, String label) {
+    Set<String> keys = new LinkedHashSet<>();
+    for (PropertyMetaData propertyMetaData : metaData.getPropertyMetaData(type, label)) {
+      keys.add(propertyMetaData.getKey());
+    }
+    return keys.toArray(new String[0]);
+  }
+}
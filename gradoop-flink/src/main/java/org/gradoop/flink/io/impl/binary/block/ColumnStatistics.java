@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.block;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Minimum and maximum value of a property column within a single block.
+ * <p>
+ * The bounds are only maintained as long as all values of the column share the same comparable
+ * type. Columns containing nested values (lists, maps, sets) or values of different types have no
+ * bounds.
+ */
+public class ColumnStatistics {
+  /**
+   * Smallest value of the column or {@code null} if there are no bounds.
+   */
+  private PropertyValue min;
+  /**
+   * Largest value of the column or {@code null} if there are no bounds.
+   */
+  private PropertyValue max;
+  /**
+   * True, if the column contains a value that prevents maintaining bounds.
+   */
+  private boolean unbounded;
+
+  /**
+   * Creates empty statistics.
+   */
+  public ColumnStatistics() {
+  }
+
+  /**
+   * Creates statistics with the given bounds.
+   *
+   * @param min smallest value or {@code null} if there are no bounds
+   * @param max largest value or {@code null} if there are no bounds
+   */
+  public ColumnStatistics(PropertyValue min, PropertyValue max) {
+    this.min = min;
+    this.max = max;
+    this.unbounded = min == null || max == null;
+  }
+
+  /**
+   * Updates the bounds with the given value.
+   *
+   * @param value property value of the column
+   */
+  public void update(PropertyValue value) {
+    if (unbounded) {
+      return;
+    }
+    if (value.isNull() || value.isList() || value.isMap() || value.isSet() ||
+      (min != null && !min.getType().equals(value.getType()))) {
+      unbounded = true;
+      min = null;
+      max = null;
+    } else if (min == null) {
+      min = value.copy();
+      max = value.copy();
+    } else if (value.compareTo(min) < 0) {
+      min = value.copy();
+    } else if (value.compareTo(max) > 0) {
+      max = value.copy();
+    }
+  }
+
+  /**
+   * Returns true, if the column has bounds.
+   *
+   * @return true, iff minimum and maximum are available
+   */
+  public boolean hasBounds() {
+    return !unbounded && min != null;
+  }
+
+  /**
+   * Returns the smallest value of the column.
+   *
+   * @return minimum or {@code null} if there are no bounds
+   */
+  public PropertyValue getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the largest value of the column.
+   *
+   * @return maximum or {@code null} if there are no bounds
+   */
+  public PropertyValue getMax() {
+    return max;
+  }
+
+  /**
+   * Returns true, if a value equal to the given one may be contained in the column.
+   *
+   * @param value property value
+   * @return false, iff the bounds exclude the value
+   */
+  public boolean mayContain(PropertyValue value) {
+    if (!hasBounds() || !min.getType().equals(value.getType())) {
+      return true;
+    }
+    return value.compareTo(min) >= 0 && value.compareTo(max) <= 0;
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.block;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+
+import java.util.Map;
+
+/**
+ * A decoded column block. Columns that were not selected by the reader are not contained.
+ */
+public class ElementBlock {
+  /**
+   * Element ids.
+   */
+  private final GradoopId[] ids;
+  /**
+   * Graph ids of the elements or {@code null} for graph heads.
+   */
+  private final GradoopIdSet[] graphIds;
+  /**
+   * Source ids of the elements or {@code null} if the block contains no edges.
+   */
+  private final GradoopId[] sourceIds;
+  /**
+   * Target ids of the elements or {@code null} if the block contains no edges.
+   */
+  private final GradoopId[] targetIds;
+  /**
+   * Selected properties of the elements.
+   */
+  private final Properties[] properties;
+  /**
+   * Bounds of the selected property columns.
+   */
+  private final Map<String, ColumnStatistics> statistics;
+
+  /**
+   * Creates a decoded block.
+   *
+   * @param ids        element ids
+   * @param graphIds   graph ids or {@code null}
+   * @param sourceIds  source ids or {@code null}
+   * @param targetIds  target ids or {@code null}
+   * @param properties selected properties
+   * @param statistics bounds of the selected property columns
+   */
+  ElementBlock(GradoopId[] ids, GradoopIdSet[] graphIds, GradoopId[] sourceIds,
+    GradoopId[] targetIds, Properties[] properties, Map<String, ColumnStatistics> statistics) {
+    this.ids = ids;
+    this.graphIds = graphIds;
+    this.sourceIds = sourceIds;
+    this.targetIds = targetIds;
+    this.properties = properties;
+    this.statistics = statistics;
+  }
+
+  /**
+   * Returns the number of elements in the block.
+   *
+   * @return number of elements
+   */
+  public int size() {
+    return ids.length;
+  }
+
+  /**
+   * Returns the id of an element.
+   *
+   * @param row element position
+   * @return element id
+   */
+  public GradoopId getId(int row) {
+    return ids[row];
+  }
+
+  /**
+   * Returns the graph ids of an element.
+   *
+   * @param row element position
+   * @return graph ids, empty for graph heads
+   */
+  public GradoopIdSet getGraphIds(int row) {
+    return graphIds == null ? new GradoopIdSet() : graphIds[row];
+  }
+
+  /**
+   * Returns the source id of an edge.
+   *
+   * @param row element position
+   * @return source id
+   */
+  public GradoopId getSourceId(int row) {
+    return sourceIds[row];
+  }
+
+  /**
+   * Returns the target id of an edge.
+   *
+   * @param row element position
+   * @return target id
+   */
+  public GradoopId getTargetId(int row) {
+    return targetIds[row];
+  }
+
+  /**
+   * Returns the selected properties of an element.
+   *
+   * @param row element position
+   * @return element properties
+   */
+  public Properties getProperties(int row) {
+    return properties[row];
+  }
+
+  /**
+   * Returns the bounds of a property column.
+   *
+   * @param key property key
+   * @return column bounds or {@code null} if the column was not read or contains no values
+   */
+  public ColumnStatistics getStatistics(String key) {
+    return statistics.get(key);
+  }
+}
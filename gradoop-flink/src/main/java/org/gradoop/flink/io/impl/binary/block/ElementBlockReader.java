@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.block;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decodes column blocks written by {@link ElementBlockWriter}. Property columns that are not
+ * selected are skipped without being decompressed.
+ * <p>
+ * If a property filter is given, the column bounds of each block are checked before any column is
+ * decompressed. Blocks that cannot contain an element matching the filter are skipped and
+ * returned as empty blocks. The filtered property columns are always decoded, callers remove them
+ * after filtering if they are not selected.
+ */
+public class ElementBlockReader {
+  /**
+   * Property key dictionary of the label.
+   */
+  private final String[] propertyKeys;
+  /**
+   * Property keys to read or {@code null} to read all properties.
+   */
+  private final Set<String> selectedKeys;
+  /**
+   * Property values the elements have to match or {@code null} to read all blocks.
+   */
+  private final Map<String, PropertyValue> propertyFilter;
+
+  /**
+   * Creates a new block reader.
+   *
+   * @param propertyKeys property key dictionary of the label
+   * @param selectedKeys property keys to read or {@code null} to read all properties
+   */
+  public ElementBlockReader(String[] propertyKeys, Set<String> selectedKeys) {
+    this(propertyKeys, selectedKeys, null);
+  }
+
+  /**
+   * Creates a new block reader skipping blocks that do not match the given filter.
+   *
+   * @param propertyKeys   property key dictionary of the label
+   * @param selectedKeys   property keys to read or {@code null} to read all properties
+   * @param propertyFilter property key to value, which the elements have to be equal to, or
+   *                       {@code null} to read all blocks
+   */
+  public ElementBlockReader(String[] propertyKeys, Set<String> selectedKeys,
+    Map<String, PropertyValue> propertyFilter) {
+    this.propertyKeys = propertyKeys;
+    this.selectedKeys = selectedKeys;
+    this.propertyFilter = propertyFilter;
+  }
+
+  /**
+   * Reads the next block from the given input.
+   *
+   * @param in input positioned at the beginning of a block or at the end of the stream
+   * @return decoded block, an empty block if the block was skipped by the property filter or
+   * {@code null} if the end of the stream is reached
+   * @throws IOException if reading fails or the block is corrupt
+   */
+  public ElementBlock read(DataInputStream in) throws IOException {
+    int marker = in.read();
+    if (marker < 0) {
+      return null;
+    }
+    if (marker != BinaryConstants.BLOCK_MARKER) {
+      throw new IOException("Invalid block marker: " + marker);
+    }
+    int length = in.readInt();
+    if (propertyFilter == null) {
+      return decode(in);
+    }
+    byte[] body = new byte[length];
+    in.readFully(body);
+    if (!mayMatch(new DataInputStream(new ByteArrayInputStream(body)))) {
+      return new ElementBlock(new GradoopId[0], null, null, null, new Properties[0],
+        Collections.emptyMap());
+    }
+    return decode(new DataInputStream(new ByteArrayInputStream(body)));
+  }
+
+  /**
+   * Checks the column bounds of a block against the property filter without decompressing any
+   * column.
+   *
+   * @param in input positioned after the block length
+   * @return false, iff no element of the block can match the filter
+   * @throws IOException if reading fails
+   */
+  private boolean mayMatch(DataInputStream in) throws IOException {
+    byte flags = in.readByte();
+    in.readInt();
+    BlockChunks.skip(in);
+    if ((flags & BinaryConstants.FLAG_GRAPH_IDS) != 0) {
+      BlockChunks.skip(in);
+    }
+    if ((flags & BinaryConstants.FLAG_EDGE_IDS) != 0) {
+      BlockChunks.skip(in);
+      BlockChunks.skip(in);
+    }
+    int filteredColumns = 0;
+    int columnCount = in.readInt();
+    for (int column = 0; column < columnCount; column++) {
+      PropertyValue value = propertyFilter.get(propertyKeys[in.readInt()]);
+      ColumnStatistics bounds = readBounds(in);
+      if (value != null) {
+        if (!bounds.mayContain(value)) {
+          return false;
+        }
+        filteredColumns++;
+      }
+      BlockChunks.skip(in);
+    }
+    // no element of the block has a filtered property without a column
+    return filteredColumns == propertyFilter.size();
+  }
+
+  /**
+   * Decodes a block.
+   *
+   * @param in input positioned after the block length
+   * @return decoded block
+   * @throws IOException if reading fails or the block is corrupt
+   */
+  private ElementBlock decode(DataInputStream in) throws IOException {
+    byte flags = in.readByte();
+    int size = in.readInt();
+
+    GradoopId[] ids = readIds(BlockChunks.read(in), size);
+    GradoopIdSet[] graphIds = null;
+    GradoopId[] sourceIds = null;
+    GradoopId[] targetIds = null;
+    if ((flags & BinaryConstants.FLAG_GRAPH_IDS) != 0) {
+      graphIds = readGraphIds(BlockChunks.read(in), size);
+    }
+    if ((flags & BinaryConstants.FLAG_EDGE_IDS) != 0) {
+      sourceIds = readIds(BlockChunks.read(in), size);
+      targetIds = readIds(BlockChunks.read(in), size);
+    }
+
+    Properties[] properties = new Properties[size];
+    for (int row = 0; row < size; row++) {
+      properties[row] = Properties.create();
+    }
+    Map<String, ColumnStatistics> statistics = new HashMap<>();
+    int columnCount = in.readInt();
+    for (int column = 0; column < columnCount; column++) {
+      String key = propertyKeys[in.readInt()];
+      ColumnStatistics bounds = readBounds(in);
+      if (selectedKeys == null || selectedKeys.contains(key) ||
+        (propertyFilter != null && propertyFilter.containsKey(key))) {
+        statistics.put(key, bounds);
+        readColumn(BlockChunks.read(in), key, properties);
+      } else {
+        BlockChunks.skip(in);
+      }
+    }
+    return new ElementBlock(ids, graphIds, sourceIds, targetIds, properties, statistics);
+  }
+
+  /**
+   * Decodes a column of raw ids.
+   *
+   * @param chunk column content
+   * @param size  number of elements
+   * @return decoded ids
+   */
+  private GradoopId[] readIds(byte[] chunk, int size) {
+    GradoopId[] ids = new GradoopId[size];
+    for (int row = 0; row < size; row++) {
+      int offset = row * GradoopId.ID_SIZE;
+      ids[row] = GradoopId.fromByteArray(Arrays.copyOfRange(chunk, offset,
+        offset + GradoopId.ID_SIZE));
+    }
+    return ids;
+  }
+
+  /**
+   * Decodes a column of graph id sets.
+   *
+   * @param chunk column content
+   * @param size  number of elements
+   * @return decoded graph id sets
+   * @throws IOException if the column is corrupt
+   */
+  private GradoopIdSet[] readGraphIds(byte[] chunk, int size) throws IOException {
+    GradoopIdSet[] graphIds = new GradoopIdSet[size];
+    DataInputStream column = new DataInputStream(new ByteArrayInputStream(chunk));
+    for (int row = 0; row < size; row++) {
+      byte[] bytes = new byte[column.readInt()];
+      column.readFully(bytes);
+      graphIds[row] = GradoopIdSet.fromByteArray(bytes);
+    }
+    return graphIds;
+  }
+
+  /**
+   * Decodes a property column into the given properties.
+   *
+   * @param chunk      column content
+   * @param key        property key of the column
+   * @param properties properties of the block elements
+   * @throws IOException if the column is corrupt
+   */
+  private void readColumn(byte[] chunk, String key, Properties[] properties) throws IOException {
+    DataInputStream column = new DataInputStream(new ByteArrayInputStream(chunk));
+    for (Properties elementProperties : properties) {
+      int length = column.readInt();
+      if (length > 0) {
+        byte[] rawBytes = new byte[length];
+        column.readFully(rawBytes);
+        elementProperties.set(key, PropertyValue.fromRawBytes(rawBytes));
+      }
+    }
+  }
+
+  /**
+   * Reads the bounds of a property column.
+   *
+   * @param in block input
+   * @return column bounds
+   * @throws IOException if reading fails
+   */
+  private ColumnStatistics readBounds(DataInputStream in) throws IOException {
+    if (!in.readBoolean()) {
+      return new ColumnStatistics(null, null);
+    }
+    byte[] min = new byte[in.readInt()];
+    in.readFully(min);
+    byte[] max = new byte[in.readInt()];
+    in.readFully(max);
+    return new ColumnStatistics(PropertyValue.fromRawBytes(min), PropertyValue.fromRawBytes(max));
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.block;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Collects elements of a single label and encodes them as a column block.
+ * <p>
+ * A block is stored as
+ * <pre>
+ * [marker][block length][flags][row count]
+ * [id chunk][graph id chunk]?[source id chunk][target id chunk]?
+ * [column count]([key index][bounds][value chunk])*
+ * </pre>
+ * Ids are stored as raw 12 byte values. Each property key of the label forms a column whose
+ * values are stored in their raw {@link PropertyValue} representation, which includes the type.
+ * Columns without any value in the block are omitted.
+ */
+public class ElementBlockWriter {
+  /**
+   * Property key dictionary of the label.
+   */
+  private final String[] propertyKeys;
+  /**
+   * Maximum number of elements per block.
+   */
+  private final int capacity;
+  /**
+   * Buffer of the id column.
+   */
+  private final ByteArrayOutputStream idBuffer;
+  /**
+   * Buffer of the graph id column.
+   */
+  private final ByteArrayOutputStream graphIdBuffer;
+  /**
+   * Data output view on the graph id buffer.
+   */
+  private final DataOutputStream graphIdColumn;
+  /**
+   * Buffer of the source id column.
+   */
+  private final ByteArrayOutputStream sourceIdBuffer;
+  /**
+   * Buffer of the target id column.
+   */
+  private final ByteArrayOutputStream targetIdBuffer;
+  /**
+   * Buffers of the property columns, indexed by property key.
+   */
+  private final ByteArrayOutputStream[] columnBuffers;
+  /**
+   * Data output views on the property column buffers.
+   */
+  private final DataOutputStream[] columns;
+  /**
+   * Bounds of the property columns.
+   */
+  private final ColumnStatistics[] statistics;
+  /**
+   * Number of values per property column.
+   */
+  private final int[] valueCounts;
+  /**
+   * Flags of the current block.
+   */
+  private byte flags;
+  /**
+   * Number of elements in the current block.
+   */
+  private int size;
+
+  /**
+   * Creates a new block writer.
+   *
+   * @param propertyKeys property key dictionary of the label
+   * @param capacity     maximum number of elements per block
+   */
+  public ElementBlockWriter(String[] propertyKeys, int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Block capacity must be positive.");
+    }
+    this.propertyKeys = propertyKeys;
+    this.capacity = capacity;
+    this.idBuffer = new ByteArrayOutputStream();
+    this.graphIdBuffer = new ByteArrayOutputStream();
+    this.graphIdColumn = new DataOutputStream(graphIdBuffer);
+    this.sourceIdBuffer = new ByteArrayOutputStream();
+    this.targetIdBuffer = new ByteArrayOutputStream();
+    this.columnBuffers = new ByteArrayOutputStream[propertyKeys.length];
+    this.columns = new DataOutputStream[propertyKeys.length];
+    this.statistics = new ColumnStatistics[propertyKeys.length];
+    this.valueCounts = new int[propertyKeys.length];
+    for (int i = 0; i < propertyKeys.length; i++) {
+      columnBuffers[i] = new ByteArrayOutputStream();
+      columns[i] = new DataOutputStream(columnBuffers[i]);
+    }
+    reset();
+  }
+
+  /**
+   * Adds an element to the current block.
+   *
+   * @param element element with the label of this writer
+   * @throws IOException if the element cannot be encoded
+   */
+  public void add(Element element) throws IOException {
+    if (size == 0) {
+      flags = 0;
+      if (element instanceof GraphElement) {
+        flags |= BinaryConstants.FLAG_GRAPH_IDS;
+      }
+      if (element instanceof Edge) {
+        flags |= BinaryConstants.FLAG_EDGE_IDS;
+      }
+    }
+    idBuffer.write(element.getId().toByteArray());
+    if ((flags & BinaryConstants.FLAG_GRAPH_IDS) != 0) {
+      byte[] graphIds = ((GraphElement) element).getGraphIds().toByteArray();
+      graphIdColumn.writeInt(graphIds.length);
+      graphIdColumn.write(graphIds);
+    }
+    if ((flags & BinaryConstants.FLAG_EDGE_IDS) != 0) {
+      sourceIdBuffer.write(((Edge) element).getSourceId().toByteArray());
+      targetIdBuffer.write(((Edge) element).getTargetId().toByteArray());
+    }
+    for (int i = 0; i < propertyKeys.length; i++) {
+      PropertyValue value = element.getPropertyValue(propertyKeys[i]);
+      if (value == null) {
+        columns[i].writeInt(0);
+      } else {
+        byte[] rawBytes = value.getRawBytes();
+        columns[i].writeInt(rawBytes.length);
+        columns[i].write(rawBytes);
+        statistics[i].update(value);
+        valueCounts[i]++;
+      }
+    }
+    size++;
+  }
+
+  /**
+   * Returns the number of elements in the current block.
+   *
+   * @return number of elements
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns true, if the current block reached its capacity.
+   *
+   * @return true, iff the block should be flushed
+   */
+  public boolean isFull() {
+    return size >= capacity;
+  }
+
+  /**
+   * Encodes the current block and starts a new one.
+   *
+   * @return encoded block including marker and length
+   * @throws IOException if the block cannot be encoded
+   */
+  public byte[] flush() throws IOException {
+    ByteArrayOutputStream blockBuffer = new ByteArrayOutputStream();
+    DataOutputStream block = new DataOutputStream(blockBuffer);
+    block.writeByte(flags);
+    block.writeInt(size);
+    BlockChunks.write(block, idBuffer);
+    if ((flags & BinaryConstants.FLAG_GRAPH_IDS) != 0) {
+      BlockChunks.write(block, graphIdBuffer);
+    }
+    if ((flags & BinaryConstants.FLAG_EDGE_IDS) != 0) {
+      BlockChunks.write(block, sourceIdBuffer);
+      BlockChunks.write(block, targetIdBuffer);
+    }
+    int columnCount = 0;
+    for (int valueCount : valueCounts) {
+      columnCount += valueCount > 0 ? 1 : 0;
+    }
+    block.writeInt(columnCount);
+    for (int i = 0; i < propertyKeys.length; i++) {
+      if (valueCounts[i] > 0) {
+        block.writeInt(i);
+        writeBounds(block, statistics[i]);
+        BlockChunks.write(block, columnBuffers[i]);
+      }
+    }
+    block.flush();
+
+    ByteArrayOutputStream resultBuffer = new ByteArrayOutputStream(blockBuffer.size() + 5);
+    DataOutputStream result = new DataOutputStream(resultBuffer);
+    result.writeByte(BinaryConstants.BLOCK_MARKER);
+    result.writeInt(blockBuffer.size());
+    blockBuffer.writeTo(result);
+    result.flush();
+    reset();
+    return resultBuffer.toByteArray();
+  }
+
+  /**
+   * Writes the bounds of a property column.
+   *
+   * @param out              block output
+   * @param columnStatistics bounds of the column
+   * @throws IOException if writing fails
+   */
+  private void writeBounds(DataOutputStream out, ColumnStatistics columnStatistics)
+    throws IOException {
+    out.writeBoolean(columnStatistics.hasBounds());
+    if (columnStatistics.hasBounds()) {
+      byte[] min = columnStatistics.getMin().getRawBytes();
+      byte[] max = columnStatistics.getMax().getRawBytes();
+      out.writeInt(min.length);
+      out.write(min);
+      out.writeInt(max.length);
+      out.write(max);
+    }
+  }
+
+  /**
+   * Clears all buffers.
+   */
+  private void reset() {
+    idBuffer.reset();
+    graphIdBuffer.reset();
+    sourceIdBuffer.reset();
+    targetIdBuffer.reset();
+    for (int i = 0; i < propertyKeys.length; i++) {
+      columnBuffers[i].reset();
+      statistics[i] = new ColumnStatistics();
+      valueCounts[i] = 0;
+    }
+    flags = 0;
+    size = 0;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.functions;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.api.common.io.OutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+import org.gradoop.flink.io.impl.csv.indexed.functions.MultipleFileOutputFormat;
+
+import java.io.IOException;
+
+/**
+ * Writes encoded column blocks into one directory per label.
+ */
+public class BlockOutputFormat extends MultipleFileOutputFormat<Tuple2<String, byte[]>> {
+
+  /**
+   * Creates a new block output format.
+   *
+   * @param outputPath root directory of the element type
+   */
+  public BlockOutputFormat(Path outputPath) {
+    super(outputPath);
+  }
+
+  @Override
+  protected OutputFormat<Tuple2<String, byte[]>> createFormatForDirectory(Path directory) {
+    BlockFileFormat format = new BlockFileFormat(directory);
+    // initializeGlobal() takes care of OVERWRITE, see IndexedCSVFileFormat
+    format.setWriteMode(FileSystem.WriteMode.NO_OVERWRITE);
+    format.configure(configuration);
+    return format;
+  }
+
+  @Override
+  protected String getDirectoryForRecord(Tuple2<String, byte[]> record) {
+    return record.f0 + Path.SEPARATOR + BinaryConstants.BLOCK_FILE;
+  }
+
+  /**
+   * Appends encoded blocks to a single file.
+   */
+  private static class BlockFileFormat extends FileOutputFormat<Tuple2<String, byte[]>> {
+
+    /**
+     * Creates a new block file format.
+     *
+     * @param outputPath path of the block file
+     */
+    BlockFileFormat(Path outputPath) {
+      super(outputPath);
+    }
+
+    @Override
+    public void writeRecord(Tuple2<String, byte[]> record) throws IOException {
+      stream.write(record.f1);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.functions;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.binary.block.ElementBlock;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the edge block files of a single label.
+ */
+public class EdgeBlockInputFormat extends ElementBlockInputFormat<Edge> {
+  /**
+   * Used to instantiate the edges.
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+
+  /**
+   * Constructor.
+   *
+   * @param labelPath    directory containing the block files of the label
+   * @param label        label of all edges in the block files
+   * @param propertyKeys property key dictionary of the label
+   * @param selectedKeys property keys to read or {@code null} to read all properties
+   * @param edgeFactory  EPGM edge factory
+   */
+  public EdgeBlockInputFormat(Path labelPath, String label, String[] propertyKeys,
+    Set<String> selectedKeys, EPGMEdgeFactory<Edge> edgeFactory) {
+    this(labelPath, label, propertyKeys, selectedKeys, null, edgeFactory);
+  }
+
+  /**
+   * Constructor reading only edges matching the given filter.
+   *
+   * @param labelPath      directory containing the block files of the label
+   * @param label          label of all edges in the block files
+   * @param propertyKeys   property key dictionary of the label
+   * @param selectedKeys   property keys to read or {@code null} to read all properties
+   * @param propertyFilter property key to value, which the edges have to be equal to, or
+   *                       {@code null} to read all edges
+   * @param edgeFactory    EPGM edge factory
+   */
+  public EdgeBlockInputFormat(Path labelPath, String label, String[] propertyKeys,
+    Set<String> selectedKeys, Map<String, PropertyValue> propertyFilter,
+    EPGMEdgeFactory<Edge> edgeFactory) {
+    super(labelPath, label, propertyKeys, selectedKeys, propertyFilter);
+    this.edgeFactory = edgeFactory;
+  }
+
+  @Override
+  protected Edge createElement(String elementLabel, ElementBlock elementBlock, int elementRow) {
+    return edgeFactory.initEdge(
+      elementBlock.getId(elementRow),
+      elementLabel,
+      elementBlock.getSourceId(elementRow),
+      elementBlock.getTargetId(elementRow),
+      elementBlock.getProperties(elementRow),
+      elementBlock.getGraphIds(elementRow));
+  }
+
+  @Override
+  public TypeInformation<Edge> getProducedType() {
+    return TypeExtractor.createTypeInfo(edgeFactory.getType());
+  }
+}
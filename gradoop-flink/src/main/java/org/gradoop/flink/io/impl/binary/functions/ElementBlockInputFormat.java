@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.functions;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.binary.block.ElementBlock;
+import org.gradoop.flink.io.impl.binary.block.ElementBlockReader;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the block files of a single label. Block files are not split, each file is read by a
+ * single task.
+ * <p>
+ * If a property filter is given, only elements having all filtered properties with the given
+ * values are returned. Blocks whose column bounds exclude a filtered value are skipped without
+ * being decompressed. Filtered properties that are not selected are removed from the returned
+ * elements.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class ElementBlockInputFormat<E extends Element> extends FileInputFormat<E>
+  implements ResultTypeQueryable<E> {
+  /**
+   * Label of all elements in the block files.
+   */
+  private final String label;
+  /**
+   * Property key dictionary of the label.
+   */
+  private final String[] propertyKeys;
+  /**
+   * Property keys to read or {@code null} to read all properties.
+   */
+  private final HashSet<String> selectedKeys;
+  /**
+   * Property values the elements have to match or {@code null} to read all elements.
+   */
+  private final HashMap<String, PropertyValue> propertyFilter;
+  /**
+   * Filtered property keys that are not selected.
+   */
+  private final HashSet<String> filterOnlyKeys;
+  /**
+   * Buffered input on the current split.
+   */
+  private transient DataInputStream input;
+  /**
+   * Decodes the blocks of the current split.
+   */
+  private transient ElementBlockReader reader;
+  /**
+   * Current block.
+   */
+  private transient ElementBlock block;
+  /**
+   * Position of the next element within the current block.
+   */
+  private transient int row;
+
+  /**
+   * Creates a new block input format.
+   *
+   * @param labelPath    directory containing the block files of the label
+   * @param label        label of all elements in the block files
+   * @param propertyKeys property key dictionary of the label
+   * @param selectedKeys property keys to read or {@code null} to read all properties
+   */
+  protected ElementBlockInputFormat(Path labelPath, String label, String[] propertyKeys,
+    Set<String> selectedKeys) {
+    this(labelPath, label, propertyKeys, selectedKeys, null);
+  }
+
+  /**
+   * Creates a new block input format reading only elements matching the given filter.
+   *
+   * @param labelPath      directory containing the block files of the label
+   * @param label          label of all elements in the block files
+   * @param propertyKeys   property key dictionary of the label
+   * @param selectedKeys   property keys to read or {@code null} to read all properties
+   * @param propertyFilter property key to value, which the elements have to be equal to, or
+   *                       {@code null} to read all elements
+   */
+  protected ElementBlockInputFormat(Path labelPath, String label, String[] propertyKeys,
+    Set<String> selectedKeys, Map<String, PropertyValue> propertyFilter) {
+    super(labelPath);
+    this.unsplittable = true;
+    setNestedFileEnumeration(true);
+    this.label = label;
+    this.propertyKeys = propertyKeys;
+    this.selectedKeys = selectedKeys == null ? null : new HashSet<>(selectedKeys);
+    this.propertyFilter = propertyFilter == null ? null : new HashMap<>(propertyFilter);
+    this.filterOnlyKeys = new HashSet<>();
+    if (selectedKeys != null && propertyFilter != null) {
+      filterOnlyKeys.addAll(propertyFilter.keySet());
+      filterOnlyKeys.removeAll(selectedKeys);
+    }
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    input = new DataInputStream(new BufferedInputStream(stream));
+    reader = new ElementBlockReader(propertyKeys, selectedKeys, propertyFilter);
+    block = null;
+    row = 0;
+  }
+
+  @Override
+  public boolean reachedEnd() throws IOException {
+    while (true) {
+      while (block == null || row >= block.size()) {
+        block = reader.read(input);
+        row = 0;
+        if (block == null) {
+          return true;
+        }
+      }
+      if (propertyFilter == null || matches(block.getProperties(row))) {
+        return false;
+      }
+      row++;
+    }
+  }
+
+  @Override
+  public E nextRecord(E reuse) throws IOException {
+    if (reachedEnd()) {
+      return null;
+    }
+    for (String key : filterOnlyKeys) {
+      block.getProperties(row).remove(key);
+    }
+    return createElement(label, block, row++);
+  }
+
+  @Override
+  public void close() throws IOException {
+    super.close();
+    input = null;
+    block = null;
+  }
+
+  /**
+   * Returns true, if the given properties contain all filtered properties with equal values.
+   *
+   * @param properties properties of an element
+   * @return true, iff the element matches the property filter
+   */
+  private boolean matches(Properties properties) {
+    for (Map.Entry<String, PropertyValue> entry : propertyFilter.entrySet()) {
+      if (!entry.getValue().equals(properties.get(entry.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Creates an element from a row of a block.
+   *
+   * @param elementLabel label of the element
+   * @param elementBlock decoded block
+   * @param elementRow   position of the element within the block
+   * @return element
+   */
+  protected abstract E createElement(String elementLabel, ElementBlock elementBlock,
+    int elementRow);
+}
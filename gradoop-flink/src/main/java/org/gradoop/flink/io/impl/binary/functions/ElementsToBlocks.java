@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.functions;
+
+import org.apache.flink.api.common.functions.RichMapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.flink.io.impl.binary.BinaryBase;
+import org.gradoop.flink.io.impl.binary.block.BlockDictionary;
+import org.gradoop.flink.io.impl.binary.block.ElementBlockWriter;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the elements of a partition into column blocks. Each output tuple contains the
+ * dictionary index of the label and an encoded block of elements with that label.
+ *
+ * @param <E> EPGM element type
+ */
+public class ElementsToBlocks<E extends Element>
+  extends RichMapPartitionFunction<E, Tuple2<String, byte[]>> {
+  /**
+   * Element type (g, v or e).
+   */
+  private final String type;
+  /**
+   * Maximum number of elements per block.
+   */
+  private final int blockSize;
+  /**
+   * Label and property key dictionaries.
+   */
+  private transient BlockDictionary dictionary;
+
+  /**
+   * Constructor.
+   *
+   * @param type      element type (g, v or e)
+   * @param blockSize maximum number of elements per block
+   */
+  public ElementsToBlocks(String type, int blockSize) {
+    this.type = type;
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<Tuple3<String, String, String>> metaData = getRuntimeContext()
+      .getBroadcastVariable(BinaryBase.BC_METADATA);
+    dictionary = new BlockDictionary(new CSVMetaDataSource().fromTuples(metaData));
+  }
+
+  @Override
+  public void mapPartition(Iterable<E> elements, Collector<Tuple2<String, byte[]>> out)
+    throws Exception {
+    Map<String, Tuple2<String, ElementBlockWriter>> writers = new HashMap<>();
+
+    for (E element : elements) {
+      Tuple2<String, ElementBlockWriter> writer = writers.get(element.getLabel());
+      if (writer == null) {
+        writer = Tuple2.of(
+          String.valueOf(dictionary.getLabelIndex(type, element.getLabel())),
+          new ElementBlockWriter(dictionary.getPropertyKeys(type, element.getLabel()), blockSize));
+        writers.put(element.getLabel(), writer);
+      }
+      writer.f1.add(element);
+      if (writer.f1.isFull()) {
+        out.collect(Tuple2.of(writer.f0, writer.f1.flush()));
+      }
+    }
+
+    for (Tuple2<String, ElementBlockWriter> writer : writers.values()) {
+      if (writer.f1.size() > 0) {
+        out.collect(Tuple2.of(writer.f0, writer.f1.flush()));
+      }
+    }
+  }
+}
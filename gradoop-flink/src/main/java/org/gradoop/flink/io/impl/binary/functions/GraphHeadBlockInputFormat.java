@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.functions;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.api.entities.EPGMGraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.flink.io.impl.binary.block.ElementBlock;
+
+import java.util.Set;
+
+/**
+ * Reads the graph head block files of a single label.
+ */
+public class GraphHeadBlockInputFormat extends ElementBlockInputFormat<GraphHead> {
+  /**
+   * Used to instantiate the graph heads.
+   */
+  private final EPGMGraphHeadFactory<GraphHead> graphHeadFactory;
+
+  /**
+   * Constructor.
+   *
+   * @param labelPath        directory containing the block files of the label
+   * @param label            label of all graph heads in the block files
+   * @param propertyKeys     property key dictionary of the label
+   * @param selectedKeys     property keys to read or {@code null} to read all properties
+   * @param graphHeadFactory EPGM graph head factory
+   */
+  public GraphHeadBlockInputFormat(Path labelPath, String label, String[] propertyKeys,
+    Set<String> selectedKeys, EPGMGraphHeadFactory<GraphHead> graphHeadFactory) {
+    super(labelPath, label, propertyKeys, selectedKeys);
+    this.graphHeadFactory = graphHeadFactory;
+  }
+
+  @Override
+  protected GraphHead createElement(String elementLabel, ElementBlock elementBlock,
+    int elementRow) {
+    return graphHeadFactory.initGraphHead(
+      elementBlock.getId(elementRow),
+      elementLabel,
+      elementBlock.getProperties(elementRow));
+  }
+
+  @Override
+  public TypeInformation<GraphHead> getProducedType() {
+    return TypeExtractor.createTypeInfo(graphHeadFactory.getType());
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.core.fs.BlockLocation;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads the text records of block compressed files, see {@link BlockCompression} for the layout.
+ * <p>
+ * Input splits are aligned to block boundaries using the block index of each file, compressed
+ * files are therefore read by parallel readers just like uncompressed ones.
+ */
+public class BlockCompressedInputFormat extends FileInputFormat<String>
+  implements ResultTypeQueryable<String> {
+  /**
+   * Size of the read buffer.
+   */
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+  /**
+   * Reads the blocks of the current split.
+   */
+  private transient DataInputStream in;
+  /**
+   * Decompresses the blocks.
+   */
+  private transient Inflater inflater;
+  /**
+   * Buffer for the compressed block.
+   */
+  private transient byte[] compressed;
+  /**
+   * Buffer for the uncompressed block.
+   */
+  private transient byte[] raw;
+  /**
+   * Number of uncompressed bytes in the current block.
+   */
+  private transient int rawLength;
+  /**
+   * Read position within the current uncompressed block.
+   */
+  private transient int rawPosition;
+  /**
+   * Number of bytes of the split which have not been read yet.
+   */
+  private transient long remaining;
+
+  /**
+   * Constructor
+   *
+   * @param path path of a block compressed file or a directory containing such files
+   */
+  public BlockCompressedInputFormat(String path) {
+    super(new Path(path));
+  }
+
+  @Override
+  public FileInputSplit[] createInputSplits(int minNumSplits) throws IOException {
+    List<FileStatus> files = new ArrayList<>();
+    long totalLength = 0;
+    for (Path path : getFilePaths()) {
+      FileSystem fs = path.getFileSystem();
+      totalLength += collectFiles(fs, fs.getFileStatus(path), files);
+    }
+    long splitSize = Math.max(1, totalLength / Math.max(1, minNumSplits));
+
+    List<FileInputSplit> splits = new ArrayList<>();
+    for (FileStatus file : files) {
+      FileSystem fs = file.getPath().getFileSystem();
+      long[] offsets = BlockCompression.readIndex(fs, file);
+      int first = 0;
+      while (first < offsets.length - 1) {
+        int end = first + 1;
+        while (end < offsets.length - 1 && offsets[end] - offsets[first] < splitSize) {
+          end++;
+        }
+        long start = offsets[first];
+        long length = offsets[end] - start;
+        splits.add(new FileInputSplit(splits.size(), file.getPath(), start, length,
+          getHosts(fs, file, start, length)));
+        first = end;
+      }
+    }
+    return splits.toArray(new FileInputSplit[0]);
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    in = new DataInputStream(new BufferedInputStream(stream, READ_BUFFER_SIZE));
+    inflater = new Inflater();
+    compressed = new byte[0];
+    raw = new byte[0];
+    rawLength = 0;
+    rawPosition = 0;
+    remaining = splitLength;
+  }
+
+  @Override
+  public boolean reachedEnd() throws IOException {
+    while (rawPosition >= rawLength) {
+      if (remaining <= 0) {
+        return true;
+      }
+      readBlock();
+    }
+    return false;
+  }
+
+  @Override
+  public String nextRecord(String reuse) throws IOException {
+    if (reachedEnd()) {
+      return null;
+    }
+    int length = ((raw[rawPosition] & 0xFF) << 24) | ((raw[rawPosition + 1] & 0xFF) << 16) |
+      ((raw[rawPosition + 2] & 0xFF) << 8) | (raw[rawPosition + 3] & 0xFF);
+    rawPosition += Integer.BYTES;
+    String record = new String(raw, rawPosition, length, StandardCharsets.UTF_8);
+    rawPosition += length;
+    return record;
+  }
+
+  @Override
+  public void close() throws IOException {
+    super.close();
+    if (inflater != null) {
+      inflater.end();
+      inflater = null;
+    }
+  }
+
+  @Override
+  public TypeInformation<String> getProducedType() {
+    return BasicTypeInfo.STRING_TYPE_INFO;
+  }
+
+  /**
+   * Reads and decompresses the next block of the split.
+   *
+   * @throws IOException if the block is corrupt
+   */
+  private void readBlock() throws IOException {
+    int uncompressedLength = in.readInt();
+    int compressedLength = in.readInt();
+    if (compressed.length < compressedLength) {
+      compressed = new byte[compressedLength];
+    }
+    if (raw.length < uncompressedLength) {
+      raw = new byte[uncompressedLength];
+    }
+    in.readFully(compressed, 0, compressedLength);
+    inflater.reset();
+    inflater.setInput(compressed, 0, compressedLength);
+    try {
+      int inflated = 0;
+      while (inflated < uncompressedLength && !inflater.finished()) {
+        inflated += inflater.inflate(raw, inflated, uncompressedLength - inflated);
+      }
+      if (inflated != uncompressedLength) {
+        throw new IOException("Truncated block in " + currentSplit.getPath());
+      }
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt block in " + currentSplit.getPath(), e);
+    }
+    rawLength = uncompressedLength;
+    rawPosition = 0;
+    remaining -= BlockCompression.BLOCK_HEADER_SIZE + compressedLength;
+  }
+
+  /**
+   * Adds the accepted files of the given file or directory to the list.
+   *
+   * @param fs     file system
+   * @param status file or directory
+   * @param files  accepted files
+   * @return total length of the added files
+   * @throws IOException if the directory cannot be listed
+   */
+  private long collectFiles(FileSystem fs, FileStatus status, List<FileStatus> files)
+    throws IOException {
+    if (!status.isDir()) {
+      files.add(status);
+      return status.getLen();
+    }
+    long length = 0;
+    for (FileStatus child : fs.listStatus(status.getPath())) {
+      if (acceptFile(child)) {
+        length += collectFiles(fs, child, files);
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Returns the hosts storing the beginning of the given range of a file.
+   *
+   * @param fs     file system
+   * @param file   file
+   * @param start  start of the range
+   * @param length length of the range
+   * @return hosts
+   * @throws IOException if the block locations cannot be determined
+   */
+  private String[] getHosts(FileSystem fs, FileStatus file, long start, long length)
+    throws IOException {
+    BlockLocation[] locations = fs.getFileBlockLocations(file, start, length);
+    return locations.length > 0 ? locations[0].getHosts() : new String[0];
+  }
+}
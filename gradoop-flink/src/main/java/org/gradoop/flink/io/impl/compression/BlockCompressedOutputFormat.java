@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.api.java.io.TextOutputFormat;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Writes records as text into block compressed files, see {@link BlockCompression} for the
+ * layout. Each record is formatted by a {@link TextOutputFormat.TextFormatter}.
+ *
+ * @param <T> record type
+ */
+public class BlockCompressedOutputFormat<T> extends FileOutputFormat<T> {
+  /**
+   * Formats a record as text.
+   */
+  private final TextOutputFormat.TextFormatter<T> formatter;
+  /**
+   * Number of uncompressed bytes after which a block is written.
+   */
+  private final int blockSize;
+  /**
+   * Uncompressed records of the current block.
+   */
+  private transient DataOutputSerializer block;
+  /**
+   * Buffer for the compressed block.
+   */
+  private transient byte[] compressed;
+  /**
+   * Compresses the blocks.
+   */
+  private transient Deflater deflater;
+  /**
+   * Offsets of the written blocks.
+   */
+  private transient List<Long> blockOffsets;
+  /**
+   * Output stream of the file.
+   */
+  private transient DataOutputStream out;
+  /**
+   * Number of bytes written to the file.
+   */
+  private transient long position;
+
+  /**
+   * Creates a new output format using the {@link BlockCompression#DEFAULT_BLOCK_SIZE}.
+   *
+   * @param outputPath output path
+   * @param formatter  formats a record as text
+   */
+  public BlockCompressedOutputFormat(Path outputPath, TextOutputFormat.TextFormatter<T> formatter) {
+    this(outputPath, formatter, BlockCompression.DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Creates a new output format.
+   *
+   * @param outputPath output path
+   * @param formatter  formats a record as text
+   * @param blockSize  number of uncompressed bytes per block
+   */
+  public BlockCompressedOutputFormat(Path outputPath, TextOutputFormat.TextFormatter<T> formatter,
+    int blockSize) {
+    super(outputPath);
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+    }
+    this.formatter = formatter;
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    block = new DataOutputSerializer(blockSize + blockSize / 4);
+    compressed = new byte[blockSize];
+    deflater = new Deflater(Deflater.BEST_SPEED);
+    blockOffsets = new ArrayList<>();
+    out = new DataOutputStream(stream);
+    out.write(BlockCompression.HEADER_MAGIC);
+    position = BlockCompression.HEADER_MAGIC.length;
+  }
+
+  @Override
+  public void writeRecord(T record) throws IOException {
+    byte[] bytes = formatter.format(record).getBytes(StandardCharsets.UTF_8);
+    block.writeInt(bytes.length);
+    block.write(bytes);
+    if (block.length() >= blockSize) {
+      writeBlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (out != null) {
+      writeBlock();
+      for (long offset : blockOffsets) {
+        out.writeLong(offset);
+      }
+      out.writeInt(blockOffsets.size());
+      out.writeLong(BlockCompression.FOOTER_MAGIC);
+      out.flush();
+      out = null;
+      deflater.end();
+    }
+    super.close();
+  }
+
+  /**
+   * Compresses and writes the current block.
+   *
+   * @throws IOException if the block cannot be written
+   */
+  private void writeBlock() throws IOException {
+    int rawLength = block.length();
+    if (rawLength == 0) {
+      return;
+    }
+    deflater.reset();
+    deflater.setInput(block.getSharedBuffer(), 0, rawLength);
+    deflater.finish();
+    int compressedLength = 0;
+    while (!deflater.finished()) {
+      if (compressedLength == compressed.length) {
+        compressed = Arrays.copyOf(compressed, 2 * compressed.length);
+      }
+      compressedLength +=
+        deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+    }
+    blockOffsets.add(position);
+    out.writeInt(rawLength);
+    out.writeInt(compressedLength);
+    out.write(compressed, 0, compressedLength);
+    position += BlockCompression.BLOCK_HEADER_SIZE + compressedLength;
+    block.clear();
+  }
+}
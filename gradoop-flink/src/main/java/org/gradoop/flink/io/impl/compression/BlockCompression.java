@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.core.fs.FSDataInputStream;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Layout of block compressed files.
+ * <p>
+ * A file starts with the {@link #HEADER_MAGIC}, followed by a sequence of blocks and the block
+ * index:
+ * <pre>
+ * file   := header block* index
+ * block  := raw-length:int compressed-length:int deflated(record*)
+ * record := length:int utf8-bytes
+ * index  := block-offset:long* block-count:int footer-magic:long
+ * </pre>
+ * Blocks only contain complete records and are compressed independently, a reader can therefore
+ * start at any block offset stored in the index.
+ */
+public class BlockCompression {
+  /**
+   * Default number of uncompressed bytes per block.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+  /**
+   * Magic bytes at the beginning of a block compressed file.
+   */
+  static final byte[] HEADER_MAGIC = {'G', 'B', 'C', '1'};
+  /**
+   * Magic number at the end of a block compressed file.
+   */
+  static final long FOOTER_MAGIC = 0x4742434944580001L;
+  /**
+   * Size of the block count and footer magic.
+   */
+  static final int FOOTER_SIZE = Integer.BYTES + Long.BYTES;
+  /**
+   * Size of the block header, i.e. the raw and compressed length.
+   */
+  static final int BLOCK_HEADER_SIZE = 2 * Integer.BYTES;
+
+  /**
+   * Reads the block offsets from the index of a block compressed file.
+   *
+   * @param fs   file system
+   * @param file block compressed file
+   * @return block offsets, the last entry is the offset of the index itself
+   * @throws IOException if the file is not a block compressed file
+   */
+  static long[] readIndex(FileSystem fs, FileStatus file) throws IOException {
+    long length = file.getLen();
+    if (length < HEADER_MAGIC.length + FOOTER_SIZE) {
+      throw new IOException("Not a block compressed file: " + file.getPath());
+    }
+    try (FSDataInputStream stream = fs.open(file.getPath())) {
+      DataInputStream in = new DataInputStream(stream);
+      byte[] header = new byte[HEADER_MAGIC.length];
+      in.readFully(header);
+      stream.seek(length - FOOTER_SIZE);
+      int blockCount = in.readInt();
+      if (!Arrays.equals(header, HEADER_MAGIC) || in.readLong() != FOOTER_MAGIC) {
+        throw new IOException("Not a block compressed file: " + file.getPath());
+      }
+      long indexOffset = length - FOOTER_SIZE - (long) blockCount * Long.BYTES;
+      long[] offsets = new long[blockCount + 1];
+      stream.seek(indexOffset);
+      for (int i = 0; i < blockCount; i++) {
+        offsets[i] = in.readLong();
+      }
+      offsets[blockCount] = indexOffset;
+      return offsets;
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.api.java.io.TextOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple;
+
+/**
+ * Formats a {@link Tuple} as a single line of delimited fields, like the
+ * {@link org.apache.flink.api.java.io.CsvOutputFormat} does.
+ *
+ * @param <T> tuple type
+ */
+public class DelimitedTupleFormatter<T extends Tuple> implements TextOutputFormat.TextFormatter<T> {
+  /**
+   * Delimiter between the fields.
+   */
+  private final String fieldDelimiter;
+
+  /**
+   * Constructor
+   *
+   * @param fieldDelimiter delimiter between the fields
+   */
+  public DelimitedTupleFormatter(String fieldDelimiter) {
+    this.fieldDelimiter = fieldDelimiter;
+  }
+
+  @Override
+  public String format(T tuple) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < tuple.getArity(); i++) {
+      if (i > 0) {
+        builder.append(fieldDelimiter);
+      }
+      Object field = tuple.getField(i);
+      if (field != null) {
+        builder.append(field);
+      }
+    }
+    return builder.toString();
+  }
+}
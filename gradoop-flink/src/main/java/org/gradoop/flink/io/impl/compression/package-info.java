@@ -0,0 +1,21 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Contains the block compressed file format used by the CSV and TLF data sources and sinks. Records
+ * are grouped into independently deflated blocks and an index of the block offsets is stored at
+ * the end of each file, which allows splitting compressed files across parallel readers.
+ */
+package org.gradoop.flink.io.impl.compression;
@@ -62,6 +62,10 @@ public abstract class CSVBase {
    * CSV file for meta data.
    */
   private static final String METADATA_FILE = "metadata" + CSV_FILE_SUFFIX;
+  /**
+   * CSV file for the number of partitions of a partitioned layout.
+   */
+  private static final String PARTITIONING_FILE = "partitioning" + CSV_FILE_SUFFIX;
   /**
    * Root directory containing the CSV and metadata files.
    */
@@ -190,10 +194,28 @@ public abstract class CSVBase {
       CSVConstants.SIMPLE_FILE;
   }
 
+  /**
+   * Returns the root directory containing the CSV and metadata files.
+   *
+   * @return root directory
+   */
+  protected String getCsvRoot() {
+    return csvRoot;
+  }
+
   protected String getMetaDataPath() {
     return csvRoot + METADATA_FILE;
   }
 
+  /**
+   * Returns the path to the file storing the number of partitions of a partitioned layout.
+   *
+   * @return partitioning file path
+   */
+  protected String getPartitioningPath() {
+    return csvRoot + PARTITIONING_FILE;
+  }
+
   protected GradoopFlinkConfig getConfig() {
     return config;
   }
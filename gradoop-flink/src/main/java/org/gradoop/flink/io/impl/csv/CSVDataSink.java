@@ -15,15 +15,27 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import org.apache.flink.api.common.typeinfo.TypeHint;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.MapOperator;
+import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.hadoop.conf.Configuration;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.compression.BlockCompressedOutputFormat;
+import org.gradoop.flink.io.impl.compression.BlockCompression;
+import org.gradoop.flink.io.impl.compression.DelimitedTupleFormatter;
 import org.gradoop.flink.io.impl.csv.functions.EdgeToCSVEdge;
 import org.gradoop.flink.io.impl.csv.functions.GraphHeadToCSVGraphHead;
 import org.gradoop.flink.io.impl.csv.functions.VertexToCSVVertex;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSink;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
 import org.gradoop.flink.io.impl.csv.tuples.CSVEdge;
 import org.gradoop.flink.io.impl.csv.tuples.CSVGraphHead;
 import org.gradoop.flink.io.impl.csv.tuples.CSVVertex;
@@ -41,6 +53,10 @@ public class CSVDataSink extends CSVBase implements DataSink {
    * Path to meta data file that is used to write the output.
    */
   private final String metaDataPath;
+  /**
+   * True, if the element files are written block compressed.
+   */
+  private final boolean compressed;
 
   /**
    * Creates a new CSV data sink. Computes the meta data based on the given graph.
@@ -49,8 +65,7 @@ public class CSVDataSink extends CSVBase implements DataSink {
    * @param config  Gradoop Flink configuration
    */
   public CSVDataSink(String csvPath, GradoopFlinkConfig config) {
-    super(csvPath, config);
-    this.metaDataPath = null;
+    this(csvPath, null, config, false);
   }
 
   /**
@@ -61,8 +76,25 @@ public class CSVDataSink extends CSVBase implements DataSink {
    * @param config       Gradoop Flink configuration
    */
   public CSVDataSink(String csvPath, String metaDataPath, GradoopFlinkConfig config) {
+    this(csvPath, metaDataPath, config, false);
+  }
+
+  /**
+   * Creates a new CSV data sink. Uses the specified meta data to write the CSV output if a path
+   * is given, otherwise computes the meta data based on the given graph.
+   *
+   * @param csvPath      directory to write CSV files to
+   * @param metaDataPath path to meta data CSV file or {@code null}
+   * @param config       Gradoop Flink configuration
+   * @param compressed   true, to write block compressed element files (see
+   *                     {@link BlockCompression}), which have to be read with a compressed
+   *                     {@link CSVDataSource}
+   */
+  public CSVDataSink(String csvPath, String metaDataPath, GradoopFlinkConfig config,
+    boolean compressed) {
     super(csvPath, config);
     this.metaDataPath = metaDataPath;
+    this.compressed = compressed;
   }
 
   @Override
@@ -86,38 +118,61 @@ public class CSVDataSink extends CSVBase implements DataSink {
       FileSystem.WriteMode.OVERWRITE : FileSystem.WriteMode.NO_OVERWRITE;
 
     DataSet<Tuple3<String, String, String>> metaData;
+    CSVMetaDataTable metaDataTable = null;
     CSVMetaDataSource source = new CSVMetaDataSource();
     if (!reuseMetadata()) {
       metaData = source.tuplesFromCollection(graphCollection);
     } else {
-      metaData = source.readDistributed(metaDataPath, getConfig());
+      // the schema is known, ship it with the functions instead of broadcasting it
+      metaDataTable = source.readLocalTable(metaDataPath, new Configuration());
+      metaData = getConfig().getExecutionEnvironment().fromCollection(metaDataTable.getTuples(),
+        new TypeHint<Tuple3<String, String, String>>() {
+        }.getTypeInfo());
     }
 
-    DataSet<CSVGraphHead> csvGraphHeads = graphCollection.getGraphHeads()
-      .map(new GraphHeadToCSVGraphHead())
-      .withBroadcastSet(metaData, BC_METADATA);
+    MapOperator<GraphHead, CSVGraphHead> csvGraphHeads = graphCollection.getGraphHeads()
+      .map(new GraphHeadToCSVGraphHead(metaDataTable));
 
-    DataSet<CSVVertex> csvVertices = graphCollection.getVertices()
-      .map(new VertexToCSVVertex())
-      .withBroadcastSet(metaData, BC_METADATA);
+    MapOperator<Vertex, CSVVertex> csvVertices = graphCollection.getVertices()
+      .map(new VertexToCSVVertex(metaDataTable));
 
-    DataSet<CSVEdge> csvEdges = graphCollection.getEdges()
-      .map(new EdgeToCSVEdge())
-      .withBroadcastSet(metaData, BC_METADATA);
+    MapOperator<Edge, CSVEdge> csvEdges = graphCollection.getEdges()
+      .map(new EdgeToCSVEdge(metaDataTable));
+
+    if (metaDataTable == null) {
+      csvGraphHeads.withBroadcastSet(metaData, BC_METADATA);
+      csvVertices.withBroadcastSet(metaData, BC_METADATA);
+      csvEdges.withBroadcastSet(metaData, BC_METADATA);
+    }
 
     // Write metadata only if the path is not the same or reuseMetadata is false.
     if (!getMetaDataPath().equals(metaDataPath) || !reuseMetadata()) {
       new CSVMetaDataSink().writeDistributed(getMetaDataPath(), metaData, writeMode);
     }
 
-    csvGraphHeads.writeAsCsv(getGraphHeadCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
-
-    csvVertices.writeAsCsv(getVertexCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
+    writeCSV(csvGraphHeads, getGraphHeadCSVPath(), writeMode);
+    writeCSV(csvVertices, getVertexCSVPath(), writeMode);
+    writeCSV(csvEdges, getEdgeCSVPath(), writeMode);
+  }
 
-    csvEdges.writeAsCsv(getEdgeCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
+  /**
+   * Writes the CSV tuples either as plain or as block compressed text.
+   *
+   * @param tuples    CSV tuples
+   * @param path      output path
+   * @param writeMode write mode
+   * @param <T>       CSV tuple type
+   */
+  private <T extends Tuple> void writeCSV(DataSet<T> tuples, String path,
+    FileSystem.WriteMode writeMode) {
+    if (compressed) {
+      BlockCompressedOutputFormat<T> format = new BlockCompressedOutputFormat<>(new Path(path),
+        new DelimitedTupleFormatter<>(CSVConstants.TOKEN_DELIMITER));
+      format.setWriteMode(writeMode);
+      tuples.output(format);
+    } else {
+      tuples.writeAsCsv(path, CSVConstants.ROW_DELIMITER, CSVConstants.TOKEN_DELIMITER, writeMode);
+    }
   }
 
   /**
@@ -16,19 +16,28 @@
 package org.gradoop.flink.io.impl.csv;
 
 import org.apache.flink.api.java.DataSet;
-import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.hadoop.conf.Configuration;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.compression.BlockCompressedInputFormat;
+import org.gradoop.flink.io.impl.csv.functions.CSVEdgeInputFormat;
+import org.gradoop.flink.io.impl.csv.functions.CSVGraphHeadInputFormat;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToGraphHead;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
+import org.gradoop.flink.io.impl.csv.functions.CSVVertexInputFormat;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
+import java.io.IOException;
+import java.util.Objects;
+
 /**
  * A graph data source for CSV files.
  * <p>
@@ -40,8 +49,21 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
  * |- edges.csv    # all edge data
  * |- graphs.csv   # all graph head data
  * |- metadata.csv # Meta data for all data contained in the graph
+ * <p>
+ * The meta data is read when the data source is accessed, the elements are parsed by the
+ * byte-level input formats {@link CSVVertexInputFormat}, {@link CSVEdgeInputFormat} and
+ * {@link CSVGraphHeadInputFormat}. Block compressed element files written by a compressed
+ * {@link CSVDataSink} are read by the {@link BlockCompressedInputFormat} and parsed line by line.
  */
 public class CSVDataSource extends CSVBase implements DataSource {
+  /**
+   * HDFS Configuration.
+   */
+  private final Configuration hdfsConfig;
+  /**
+   * True, if the element files are block compressed.
+   */
+  private final boolean compressed;
 
   /**
    * Creates a new CSV data source.
@@ -50,7 +72,34 @@ public class CSVDataSource extends CSVBase implements DataSource {
    * @param config  Gradoop Flink configuration
    */
   public CSVDataSource(String csvPath, GradoopFlinkConfig config) {
+    this(csvPath, config, new Configuration());
+  }
+
+  /**
+   * Creates a new CSV data source.
+   *
+   * @param csvPath  path to the directory containing the CSV files
+   * @param config   Gradoop Flink configuration
+   * @param hdfsConf HDFS configuration
+   */
+  public CSVDataSource(String csvPath, GradoopFlinkConfig config, Configuration hdfsConf) {
+    this(csvPath, config, hdfsConf, false);
+  }
+
+  /**
+   * Creates a new CSV data source.
+   *
+   * @param csvPath    path to the directory containing the CSV files
+   * @param config     Gradoop Flink configuration
+   * @param hdfsConf   HDFS configuration
+   * @param compressed true, if the element files are block compressed
+   */
+  public CSVDataSource(String csvPath, GradoopFlinkConfig config, Configuration hdfsConf,
+    boolean compressed) {
     super(csvPath, config);
+    Objects.requireNonNull(hdfsConf);
+    this.hdfsConfig = hdfsConf;
+    this.compressed = compressed;
   }
 
   /**
@@ -60,7 +109,7 @@ public class CSVDataSource extends CSVBase implements DataSource {
    * {@inheritDoc}
    */
   @Override
-  public LogicalGraph getLogicalGraph() {
+  public LogicalGraph getLogicalGraph() throws IOException {
     GraphCollection collection = getGraphCollection();
     return getConfig().getLogicalGraphFactory()
       .fromDataSets(
@@ -68,25 +117,29 @@ public class CSVDataSource extends CSVBase implements DataSource {
   }
 
   @Override
-  public GraphCollection getGraphCollection() {
-    DataSet<Tuple3<String, String, String>> metaData =
-      new CSVMetaDataSource().readDistributed(getMetaDataPath(), getConfig());
+  public GraphCollection getGraphCollection() throws IOException {
+    CSVMetaDataTable metaData =
+      new CSVMetaDataSource().readLocalTable(getMetaDataPath(), hdfsConfig);
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
 
-    DataSet<GraphHead> graphHeads = getConfig().getExecutionEnvironment()
-      .readTextFile(getGraphHeadCSVPath())
-      .map(new CSVLineToGraphHead(getConfig().getGraphHeadFactory()))
-      .withBroadcastSet(metaData, BC_METADATA);
+    if (compressed) {
+      return getConfig().getGraphCollectionFactory().fromDataSets(
+        env.createInput(new BlockCompressedInputFormat(getGraphHeadCSVPath()))
+          .map(new CSVLineToGraphHead(getConfig().getGraphHeadFactory(), null, metaData)),
+        env.createInput(new BlockCompressedInputFormat(getVertexCSVPath()))
+          .map(new CSVLineToVertex(getConfig().getVertexFactory(), null, metaData)),
+        env.createInput(new BlockCompressedInputFormat(getEdgeCSVPath()))
+          .map(new CSVLineToEdge(getConfig().getEdgeFactory(), null, metaData)));
+    }
 
-    DataSet<Vertex> vertices = getConfig().getExecutionEnvironment()
-      .readTextFile(getVertexCSVPath())
-      .map(new CSVLineToVertex(getConfig().getVertexFactory()))
-      .withBroadcastSet(metaData, BC_METADATA);
+    DataSet<GraphHead> graphHeads = env.createInput(new CSVGraphHeadInputFormat(
+      getGraphHeadCSVPath(), getConfig().getGraphHeadFactory(), metaData));
 
-    DataSet<Edge> edges = getConfig().getExecutionEnvironment()
-      .readTextFile(getEdgeCSVPath())
-      .map(new CSVLineToEdge(getConfig().getEdgeFactory()))
-      .withBroadcastSet(metaData, BC_METADATA);
+    DataSet<Vertex> vertices = env.createInput(new CSVVertexInputFormat(
+      getVertexCSVPath(), getConfig().getVertexFactory(), metaData));
 
+    DataSet<Edge> edges = env.createInput(new CSVEdgeInputFormat(
+      getEdgeCSVPath(), getConfig().getEdgeFactory(), metaData));
 
     return getConfig().getGraphCollectionFactory().fromDataSets(graphHeads, vertices, edges);
   }
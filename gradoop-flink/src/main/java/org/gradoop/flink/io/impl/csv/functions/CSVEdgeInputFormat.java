@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
+
+/**
+ * Reads {@link Edge} instances from CSV files without materializing the lines.
+ *
+ * The lines need to be encoded in the following format:
+ *
+ * {@code edge-id;[graph-ids];source-id;target-id;edge-label;value_1|value_2|...|value_n}
+ */
+public class CSVEdgeInputFormat extends CSVElementInputFormat<Edge> {
+
+  /**
+   * Constructor
+   *
+   * @param path            path of the edge CSV file or directory
+   * @param epgmEdgeFactory EPGM edge factory
+   * @param metaData        parser table of the CSV graph
+   */
+  public CSVEdgeInputFormat(String path, EPGMEdgeFactory<Edge> epgmEdgeFactory,
+    CSVMetaDataTable metaData) {
+    super(path, MetaDataSource.EDGE_TYPE, epgmEdgeFactory.getType(), metaData);
+  }
+
+  @Override
+  Edge readElement(Edge reuse, byte[] bytes, int start, int end) {
+    int[] tokens = tokenize(bytes, start, end, 6);
+    reuse.setId(parseId(bytes, tokens[0], tokens[1]));
+    reuse.setGraphIds(parseGraphIds(reuse.getGraphIds(), bytes, tokens[2], tokens[3]));
+    reuse.setSourceId(parseId(bytes, tokens[4], tokens[5]));
+    reuse.setTargetId(parseId(bytes, tokens[6], tokens[7]));
+    reuse.setLabel(parseLabel(bytes, tokens[8], tokens[9]));
+    reuse.setProperties(parseProperties(reuse.getProperties(), bytes, tokens[10], tokens[11]));
+    return reuse;
+  }
+}
@@ -0,0 +1,612 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.common.io.DelimitedInputFormat;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.io.InputSplitAssigner;
+import org.apache.flink.core.fs.BlockLocation;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Type;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splittable input format that parses lines of the Gradoop CSV layout directly into
+ * {@link Element} instances.
+ * <p>
+ * In contrast to {@code readTextFile} followed by a {@link CSVLineToElement} function, lines are
+ * never materialized as {@link String}s. Tokens are located in the read buffer of the input split,
+ * escape sequences of the {@link StringEscaper} are resolved in place and ids, labels and values of
+ * numeric, boolean and string properties are decoded directly from the bytes. Values of all other
+ * property types are handed to the parser provided by the meta data. Records passed in by the
+ * runtime are reused.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class CSVElementInputFormat<E extends Element> extends DelimitedInputFormat<E>
+  implements ResultTypeQueryable<E> {
+  /**
+   * Escape character used by the {@link StringEscaper}.
+   */
+  private static final byte ESCAPE_CHARACTER = '\\';
+  /**
+   * Delimiter between the tokens of a line.
+   */
+  private static final byte TOKEN_DELIMITER = (byte) CSVConstants.TOKEN_DELIMITER.charAt(0);
+  /**
+   * Delimiter between property values.
+   */
+  private static final byte VALUE_DELIMITER = (byte) CSVConstants.VALUE_DELIMITER.charAt(0);
+  /**
+   * Delimiter between graph ids.
+   */
+  private static final byte LIST_DELIMITER = (byte) CSVConstants.LIST_DELIMITER.charAt(0);
+  /**
+   * Number of characters of a hexadecimal {@link GradoopId}.
+   */
+  private static final int ID_LENGTH = 24;
+  /**
+   * Maximum number of digits that are decoded without risking a {@code long} overflow.
+   */
+  private static final int MAX_FAST_DIGITS = 18;
+  /**
+   * Maximum number of tokens of a line, i.e. the number of tokens of an edge line.
+   */
+  private static final int MAX_TOKENS = 6;
+  /**
+   * Property types that are decoded directly from the bytes.
+   */
+  private static final Type[] DIRECT_TYPES = {
+    Type.SHORT, Type.INTEGER, Type.LONG, Type.BOOLEAN, Type.STRING
+  };
+  /**
+   * Element type as used by the meta data, see
+   * {@link org.gradoop.flink.io.api.metadata.MetaDataSource}.
+   */
+  private final String elementType;
+  /**
+   * Class of the produced elements.
+   */
+  private final Class<E> elementClass;
+  /**
+   * Parser table of the CSV graph.
+   */
+  private final CSVMetaDataTable metaDataTable;
+  /**
+   * Number of partition files or {@code 0} if the files are split arbitrarily.
+   */
+  private int partitionCount = 0;
+  /**
+   * Known labels of the element type.
+   */
+  private transient String[] labels;
+  /**
+   * UTF-8 representation of the known labels -> index of the label.
+   */
+  private transient Map<LabelBytes, Integer> labelIndices;
+  /**
+   * Reused key to look up the label of the current line.
+   */
+  private transient LabelBytes labelKey;
+  /**
+   * Property meta data per known label.
+   */
+  private transient PropertyMetaData[][] columns;
+  /**
+   * Directly decoded type per known label and column, {@code null} if the meta data parser is
+   * used.
+   */
+  private transient Type[][] columnTypes;
+  /**
+   * Index of the label of the element that is currently parsed, {@code -1} if unknown.
+   */
+  private transient int labelIndex;
+  /**
+   * Start and end offsets of the tokens of the current line.
+   */
+  private transient int[] tokens;
+  /**
+   * Buffer for unescaped bytes.
+   */
+  private transient byte[] unescaped;
+
+  /**
+   * Constructor
+   *
+   * @param path         path of the CSV file or directory
+   * @param elementType  element type as used by the meta data
+   * @param elementClass class of the produced elements
+   * @param metaData     parser table of the CSV graph
+   */
+  CSVElementInputFormat(String path, String elementType, Class<E> elementClass,
+    CSVMetaDataTable metaData) {
+    super(new Path(path), null);
+    this.elementType = elementType;
+    this.elementClass = elementClass;
+    this.metaDataTable = metaData;
+  }
+
+  /**
+   * Reads the given number of partition files, i.e. the files {@code 1} to {@code partitionCount}
+   * of the input directory, without splitting them. The i-th file is read by the i-th parallel
+   * instance of the source, see {@link PartitionInputSplitAssigner}.
+   *
+   * @param partitionCount number of partition files
+   */
+  public void setPartitionCount(int partitionCount) {
+    if (partitionCount < 1) {
+      throw new IllegalArgumentException("The partition count must be positive.");
+    }
+    this.partitionCount = partitionCount;
+  }
+
+  @Override
+  public FileInputSplit[] createInputSplits(int minNumSplits) throws IOException {
+    if (partitionCount == 0) {
+      return super.createInputSplits(minNumSplits);
+    }
+    Path path = getFilePaths()[0];
+    FileSystem fs = path.getFileSystem();
+    FileInputSplit[] splits = new FileInputSplit[partitionCount];
+    for (int i = 0; i < partitionCount; i++) {
+      // a single partition is written as file instead of a directory
+      Path file = partitionCount == 1 && !fs.getFileStatus(path).isDir() ?
+        path : new Path(path, String.valueOf(i + 1));
+      FileStatus status = fs.getFileStatus(file);
+      BlockLocation[] blocks = fs.getFileBlockLocations(status, 0, status.getLen());
+      splits[i] = new FileInputSplit(i, file, 0, status.getLen(),
+        blocks.length > 0 ? blocks[0].getHosts() : new String[0]);
+    }
+    return splits;
+  }
+
+  @Override
+  public InputSplitAssigner getInputSplitAssigner(FileInputSplit[] splits) {
+    return partitionCount == 0 ?
+      super.getInputSplitAssigner(splits) : new PartitionInputSplitAssigner(splits);
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    if (labels == null) {
+      initMetaData();
+    }
+  }
+
+  @Override
+  public E readRecord(E reuse, byte[] bytes, int offset, int numBytes) throws IOException {
+    int end = offset + numBytes;
+    // lines written on windows are terminated by \r\n
+    if (end > offset && bytes[end - 1] == '\r') {
+      end--;
+    }
+    try {
+      return readElement(reuse, bytes, offset, end);
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new IOException("Malformed CSV line: " +
+        new String(bytes, offset, end - offset, StandardCharsets.UTF_8), e);
+    }
+  }
+
+  @Override
+  public TypeInformation<E> getProducedType() {
+    return TypeExtractor.createTypeInfo(elementClass);
+  }
+
+  /**
+   * Parses the line between {@code start} and {@code end} into the reused element.
+   *
+   * @param reuse element to be reused
+   * @param bytes read buffer
+   * @param start offset of the first byte of the line
+   * @param end   offset behind the last byte of the line
+   * @return parsed element
+   */
+  abstract E readElement(E reuse, byte[] bytes, int start, int end);
+
+  /**
+   * Locates the first {@code limit} tokens of a line. The last token spans the remainder of the
+   * line. The start offset of the i-th token is stored at {@code 2 * i}, its end offset at
+   * {@code 2 * i + 1}.
+   *
+   * @param bytes read buffer
+   * @param start offset of the first byte of the line
+   * @param end   offset behind the last byte of the line
+   * @param limit number of tokens
+   * @return token offsets
+   */
+  int[] tokenize(byte[] bytes, int start, int end, int limit) {
+    int[] offsets = tokens;
+    int token = 0;
+    offsets[0] = start;
+    for (int i = start; i < end && token < limit - 1; i++) {
+      if (bytes[i] == ESCAPE_CHARACTER) {
+        i++;
+      } else if (bytes[i] == TOKEN_DELIMITER) {
+        offsets[2 * token + 1] = i;
+        token++;
+        offsets[2 * token] = i + 1;
+      }
+    }
+    if (token < limit - 1) {
+      throw new IllegalArgumentException(
+        "Expected " + limit + " tokens but found " + (token + 1));
+    }
+    offsets[2 * token + 1] = end;
+    return offsets;
+  }
+
+  /**
+   * Decodes a hexadecimal {@link GradoopId}.
+   *
+   * @param bytes read buffer
+   * @param start offset of the first character
+   * @param end   offset behind the last character
+   * @return gradoop id
+   */
+  GradoopId parseId(byte[] bytes, int start, int end) {
+    if (end - start != ID_LENGTH) {
+      throw new IllegalArgumentException("invalid hexadecimal representation of a GradoopId: [" +
+        new String(bytes, start, end - start, StandardCharsets.UTF_8) + "]");
+    }
+    byte[] id = new byte[ID_LENGTH / 2];
+    for (int i = 0; i < id.length; i++) {
+      id[i] = (byte) ((hexDigit(bytes[start + 2 * i]) << 4) | hexDigit(bytes[start + 2 * i + 1]));
+    }
+    return GradoopId.fromByteArray(id);
+  }
+
+  /**
+   * Decodes a list of graph ids, e.g. {@code [id1,id2]}, into the given set.
+   *
+   * @param reuse set to be reused, may be {@code null}
+   * @param bytes read buffer
+   * @param start offset of the opening bracket
+   * @param end   offset behind the closing bracket
+   * @return set of graph ids
+   */
+  GradoopIdSet parseGraphIds(GradoopIdSet reuse, byte[] bytes, int start, int end) {
+    GradoopIdSet graphIds = reuse == null ? new GradoopIdSet() : reuse;
+    graphIds.clear();
+    int idStart = start + 1;
+    int idsEnd = end - 1;
+    for (int i = idStart; i <= idsEnd; i++) {
+      if (i == idsEnd || bytes[i] == LIST_DELIMITER) {
+        int from = idStart;
+        int to = i;
+        while (from < to && bytes[from] == ' ') {
+          from++;
+        }
+        while (to > from && bytes[to - 1] == ' ') {
+          to--;
+        }
+        if (to > from) {
+          graphIds.add(parseId(bytes, from, to));
+        }
+        idStart = i + 1;
+      }
+    }
+    return graphIds;
+  }
+
+  /**
+   * Decodes an escaped label. Known labels are resolved to the instance held by the meta data,
+   * which also selects the property meta data used by
+   * {@link #parseProperties(Properties, byte[], int, int)}.
+   *
+   * @param bytes read buffer
+   * @param start offset of the first byte of the label
+   * @param end   offset behind the last byte of the label
+   * @return label
+   */
+  String parseLabel(byte[] bytes, int start, int end) {
+    int length = unescape(bytes, start, end);
+    Integer index = labelIndices.get(labelKey.wrap(unescaped, length));
+    if (index != null) {
+      labelIndex = index;
+      return labels[index];
+    }
+    labelIndex = -1;
+    return new String(unescaped, 0, length, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Decodes the property values of an element according to the meta data of the label which was
+   * parsed last.
+   *
+   * @param reuse properties to be reused, may be {@code null}
+   * @param bytes read buffer
+   * @param start offset of the first byte of the property values
+   * @param end   offset behind the last byte of the property values
+   * @return properties
+   */
+  Properties parseProperties(Properties reuse, byte[] bytes, int start, int end) {
+    Properties properties = reuse == null ? Properties.create() : reuse;
+    properties.clear();
+    int column = 0;
+    int valueStart = start;
+    for (int i = start; i <= end; i++) {
+      if (i == end || bytes[i] == VALUE_DELIMITER) {
+        if (i > valueStart) {
+          if (labelIndex < 0 || column >= columns[labelIndex].length) {
+            throw new IllegalArgumentException("No meta data for property value " + column);
+          }
+          PropertyMetaData metaData = columns[labelIndex][column];
+          properties.set(metaData.getKey(),
+            parseValue(metaData, columnTypes[labelIndex][column], bytes, valueStart, i));
+        }
+        column++;
+        valueStart = i + 1;
+      } else if (bytes[i] == ESCAPE_CHARACTER) {
+        i++;
+      }
+    }
+    return properties;
+  }
+
+  /**
+   * Decodes a single property value.
+   *
+   * @param metaData meta data of the property
+   * @param type     directly decoded type or {@code null} to use the meta data parser
+   * @param bytes    read buffer
+   * @param start    offset of the first byte of the value
+   * @param end      offset behind the last byte of the value
+   * @return property value
+   */
+  private Object parseValue(PropertyMetaData metaData, Type type, byte[] bytes, int start,
+    int end) {
+    if (type == Type.STRING) {
+      return new String(unescaped, 0, unescape(bytes, start, end), StandardCharsets.UTF_8);
+    } else if (type == Type.BOOLEAN) {
+      return end - start == 4 &&
+        (bytes[start] | 0x20) == 't' && (bytes[start + 1] | 0x20) == 'r' &&
+        (bytes[start + 2] | 0x20) == 'u' && (bytes[start + 3] | 0x20) == 'e';
+    } else if (type != null && end - start <= MAX_FAST_DIGITS) {
+      long value = parseLong(bytes, start, end);
+      if (type == Type.LONG) {
+        return value;
+      } else if (type == Type.INTEGER && value >= Integer.MIN_VALUE &&
+        value <= Integer.MAX_VALUE) {
+        return (int) value;
+      } else if (type == Type.SHORT && value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+        return (short) value;
+      }
+    }
+    return metaData.getValueParser()
+      .apply(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a signed decimal number of at most {@link #MAX_FAST_DIGITS} digits.
+   *
+   * @param bytes read buffer
+   * @param start offset of the first byte
+   * @param end   offset behind the last byte
+   * @return decoded number
+   */
+  private static long parseLong(byte[] bytes, int start, int end) {
+    boolean negative = bytes[start] == '-';
+    int i = negative || bytes[start] == '+' ? start + 1 : start;
+    if (i == end) {
+      throw new NumberFormatException("No digits found");
+    }
+    long value = 0;
+    for (; i < end; i++) {
+      int digit = bytes[i] - '0';
+      if (digit < 0 || digit > 9) {
+        throw new NumberFormatException(
+          "For input string: \"" + new String(bytes, start, end - start, StandardCharsets.UTF_8) +
+          "\"");
+      }
+      value = value * 10 + digit;
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * Resolves the escape sequences between {@code start} and {@code end} into the reused buffer.
+   *
+   * @param bytes read buffer
+   * @param start offset of the first byte
+   * @param end   offset behind the last byte
+   * @return number of unescaped bytes
+   */
+  private int unescape(byte[] bytes, int start, int end) {
+    if (unescaped.length < end - start) {
+      unescaped = new byte[Math.max(end - start, 2 * unescaped.length)];
+    }
+    int length = 0;
+    for (int i = start; i < end; i++) {
+      byte b = bytes[i];
+      if (b == ESCAPE_CHARACTER && i + 1 < end) {
+        i++;
+        b = unescapeCharacter(bytes[i]);
+      }
+      unescaped[length++] = b;
+    }
+    return length;
+  }
+
+  /**
+   * Returns the character represented by an escaped character, see
+   * {@link StringEscaper#unescape(String)}.
+   *
+   * @param b escaped character
+   * @return unescaped character
+   */
+  private static byte unescapeCharacter(byte b) {
+    switch (b) {
+    case 't':
+      return '\t';
+    case 'b':
+      return '\b';
+    case 'n':
+      return '\n';
+    case 'r':
+      return '\r';
+    case 'f':
+      return '\f';
+    default:
+      return b;
+    }
+  }
+
+  /**
+   * Returns the value of a hexadecimal digit.
+   *
+   * @param b hexadecimal digit
+   * @return value of the digit
+   */
+  private static int hexDigit(byte b) {
+    if (b >= '0' && b <= '9') {
+      return b - '0';
+    } else if (b >= 'a' && b <= 'f') {
+      return b - 'a' + 10;
+    } else if (b >= 'A' && b <= 'F') {
+      return b - 'A' + 10;
+    }
+    throw new IllegalArgumentException("Invalid hexadecimal digit: " + (char) b);
+  }
+
+  /**
+   * Builds the lookup structures for the labels and properties of the element type.
+   */
+  private void initMetaData() {
+    CSVMetaData metaData = metaDataTable.getMetaData();
+    List<String> typeLabels = new ArrayList<>();
+    for (Tuple3<String, String, String> tuple : metaDataTable.getTuples()) {
+      if (tuple.f0.equals(elementType)) {
+        typeLabels.add(StringEscaper.unescape(tuple.f1));
+      }
+    }
+    labels = typeLabels.toArray(new String[0]);
+    labelIndices = new HashMap<>();
+    labelKey = new LabelBytes();
+    columns = new PropertyMetaData[labels.length][];
+    columnTypes = new Type[labels.length][];
+    for (int i = 0; i < labels.length; i++) {
+      byte[] label = labels[i].getBytes(StandardCharsets.UTF_8);
+      labelIndices.put(new LabelBytes().wrap(label, label.length), i);
+      columns[i] = metaData.getPropertyMetaData(elementType, labels[i])
+        .toArray(new PropertyMetaData[0]);
+      columnTypes[i] = new Type[columns[i].length];
+      for (int j = 0; j < columns[i].length; j++) {
+        columnTypes[i][j] = getDirectType(columns[i][j].getTypeString());
+      }
+    }
+    tokens = new int[2 * MAX_TOKENS];
+    unescaped = new byte[256];
+  }
+
+  /**
+   * Returns the type of a property if its values are decoded directly from the bytes.
+   *
+   * @param typeString type string of the meta data
+   * @return directly decoded type or {@code null}
+   */
+  private static Type getDirectType(String typeString) {
+    for (Type type : DIRECT_TYPES) {
+      if (type.toString().equalsIgnoreCase(typeString)) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * View of the first bytes of a buffer, used as key to look up labels without decoding them.
+   * The hash code is computed once when the buffer is wrapped.
+   */
+  private static final class LabelBytes {
+    /**
+     * Wrapped buffer.
+     */
+    private byte[] buffer;
+    /**
+     * Number of relevant bytes in the buffer.
+     */
+    private int length;
+    /**
+     * Hash code of the relevant bytes.
+     */
+    private int hash;
+
+    /**
+     * Wraps the first {@code length} bytes of the given buffer.
+     *
+     * @param buffer buffer
+     * @param length number of relevant bytes in the buffer
+     * @return this key
+     */
+    LabelBytes wrap(byte[] buffer, int length) {
+      this.buffer = buffer;
+      this.length = length;
+      int h = 1;
+      for (int i = 0; i < length; i++) {
+        h = 31 * h + buffer[i];
+      }
+      this.hash = h;
+      return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof LabelBytes)) {
+        return false;
+      }
+      LabelBytes that = (LabelBytes) o;
+      if (hash != that.hash || length != that.length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (buffer[i] != that.buffer[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
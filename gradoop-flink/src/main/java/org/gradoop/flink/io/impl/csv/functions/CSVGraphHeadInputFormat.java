@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.gradoop.common.model.api.entities.EPGMGraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
+
+/**
+ * Reads {@link GraphHead} instances from CSV files without materializing the lines.
+ *
+ * The lines need to be encoded in the following format:
+ *
+ * {@code graph-id;graph-label;value_1|value_2|...|value_n}
+ */
+public class CSVGraphHeadInputFormat extends CSVElementInputFormat<GraphHead> {
+
+  /**
+   * Constructor
+   *
+   * @param path                 path of the graph head CSV file or directory
+   * @param epgmGraphHeadFactory EPGM graph head factory
+   * @param metaData             parser table of the CSV graph
+   */
+  public CSVGraphHeadInputFormat(String path, EPGMGraphHeadFactory<GraphHead> epgmGraphHeadFactory,
+    CSVMetaDataTable metaData) {
+    super(path, MetaDataSource.GRAPH_TYPE, epgmGraphHeadFactory.getType(), metaData);
+  }
+
+  @Override
+  GraphHead readElement(GraphHead reuse, byte[] bytes, int start, int end) {
+    int[] tokens = tokenize(bytes, start, end, 3);
+    reuse.setId(parseId(bytes, tokens[0], tokens[1]));
+    reuse.setLabel(parseLabel(bytes, tokens[2], tokens[3]));
+    reuse.setProperties(parseProperties(reuse.getProperties(), bytes, tokens[4], tokens[5]));
+    return reuse;
+  }
+}
@@ -20,6 +20,9 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
+
+import java.util.Set;
 
 /**
  * Creates an {@link Edge} from a CSV string. The function uses a
@@ -44,6 +47,30 @@ public class CSVLineToEdge extends CSVLineToElement<Edge> {
     this.edgeFactory = epgmEdgeFactory;
   }
 
+  /**
+   * Constructor
+   *
+   * @param epgmEdgeFactory EPGM edge factory
+   * @param propertyKeys property keys to parse or {@code null} to parse all properties
+   */
+  public CSVLineToEdge(EPGMEdgeFactory<Edge> epgmEdgeFactory, Set<String> propertyKeys) {
+    super(propertyKeys);
+    this.edgeFactory = epgmEdgeFactory;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param epgmEdgeFactory EPGM edge factory
+   * @param propertyKeys property keys to parse or {@code null} to parse all properties
+   * @param metaData parser table of the CSV graph
+   */
+  public CSVLineToEdge(EPGMEdgeFactory<Edge> epgmEdgeFactory, Set<String> propertyKeys,
+    CSVMetaDataTable metaData) {
+    super(propertyKeys, metaData);
+    this.edgeFactory = epgmEdgeFactory;
+  }
+
   @Override
   public Edge map(String csvLine) throws Exception {
     String[] tokens = split(csvLine, 6);
@@ -27,12 +27,16 @@ import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.io.impl.csv.CSVDataSource;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Base class for reading an {@link Element} from CSV. Handles the {@link MetaData} which is
- * required to parse the property values.
+ * required to parse the property values. The meta data is either shipped with the function as
+ * {@link CSVMetaDataTable} or read from the broadcast set {@link CSVDataSource#BC_METADATA}.
  *
  * @param <E> EPGM element type
  */
@@ -41,6 +45,14 @@ abstract class CSVLineToElement<E extends Element> extends RichMapFunction<Strin
    * Stores the properties for the {@link Element} to be parsed.
    */
   private final Properties properties;
+  /**
+   * Property keys to parse or {@code null} if all properties are parsed.
+   */
+  private final HashSet<String> propertyKeys;
+  /**
+   * Parser table shipped with the function or {@code null} if the meta data is broadcast.
+   */
+  private final CSVMetaDataTable metaDataTable;
   /**
    * Meta data that provides parsers for a specific {@link Element}.
    */
@@ -50,20 +62,44 @@ abstract class CSVLineToElement<E extends Element> extends RichMapFunction<Strin
    * Constructor
    */
   CSVLineToElement() {
-    this.properties = Properties.create();
+    this(null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param propertyKeys property keys to parse or {@code null} to parse all properties
+   */
+  CSVLineToElement(Set<String> propertyKeys) {
+    this(propertyKeys, null);
   }
 
+  /**
+   * Constructor
+   *
+   * @param propertyKeys  property keys to parse or {@code null} to parse all properties
+   * @param metaDataTable parser table or {@code null} to read the broadcast meta data
+   */
+  CSVLineToElement(Set<String> propertyKeys, CSVMetaDataTable metaDataTable) {
+    this.properties = Properties.create();
+    this.propertyKeys = propertyKeys == null ? null : new HashSet<>(propertyKeys);
+    this.metaDataTable = metaDataTable;
+  }
 
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
-    this.metaData = new CSVMetaDataSource().fromTuples(getRuntimeContext()
-      .getBroadcastVariable(CSVDataSource.BC_METADATA));
+    if (metaDataTable != null) {
+      this.metaData = metaDataTable.getMetaData();
+    } else {
+      this.metaData = new CSVMetaDataSource().fromTuples(getRuntimeContext()
+        .getBroadcastVariable(CSVDataSource.BC_METADATA));
+    }
   }
 
   /**
    * Parses the given property values according to the meta data associated with the specified
-   * label.
+   * label. Values of property keys that are not selected are skipped without being parsed.
    *
    * @param type                element type
    * @param label               element label
@@ -76,7 +112,8 @@ abstract class CSVLineToElement<E extends Element> extends RichMapFunction<Strin
     List<PropertyMetaData> metaDataList = metaData.getPropertyMetaData(type, label);
     properties.clear();
     for (int i = 0; i < propertyValues.length; i++) {
-      if (propertyValues[i].length() > 0) {
+      if (propertyValues[i].length() > 0 &&
+        (propertyKeys == null || propertyKeys.contains(metaDataList.get(i).getKey()))) {
         properties.set(metaDataList.get(i).getKey(),
           metaDataList.get(i).getValueParser().apply(propertyValues[i]));
       }
@@ -20,6 +20,9 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
+
+import java.util.Set;
 
 /**
  * Creates a {@link GraphHead} from a CSV string. The function uses a
@@ -44,6 +47,31 @@ public class CSVLineToGraphHead extends CSVLineToElement<GraphHead> {
     this.graphHeadFactory = graphHeadFactory;
   }
 
+  /**
+   * Constructor
+   *
+   * @param graphHeadFactory The factory class that is used to create the graph heads.
+   * @param propertyKeys property keys to parse or {@code null} to parse all properties
+   */
+  public CSVLineToGraphHead(EPGMGraphHeadFactory<GraphHead> graphHeadFactory,
+    Set<String> propertyKeys) {
+    super(propertyKeys);
+    this.graphHeadFactory = graphHeadFactory;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param graphHeadFactory The factory class that is used to create the graph heads.
+   * @param propertyKeys property keys to parse or {@code null} to parse all properties
+   * @param metaData parser table of the CSV graph
+   */
+  public CSVLineToGraphHead(EPGMGraphHeadFactory<GraphHead> graphHeadFactory,
+    Set<String> propertyKeys, CSVMetaDataTable metaData) {
+    super(propertyKeys, metaData);
+    this.graphHeadFactory = graphHeadFactory;
+  }
+
   @Override
   public GraphHead map(String csvLine) throws Exception {
     String[] tokens = split(csvLine, 3);
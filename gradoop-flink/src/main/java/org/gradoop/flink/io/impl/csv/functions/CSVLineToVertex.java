@@ -20,6 +20,9 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
+
+import java.util.Set;
 
 /**
  * Creates a {@link Vertex} from a CSV string. The function uses a
@@ -44,6 +47,30 @@ public class CSVLineToVertex extends CSVLineToElement<Vertex> {
     this.vertexFactory = epgmVertexFactory;
   }
 
+  /**
+   * Constructor
+   *
+   * @param epgmVertexFactory EPGM vertex factory
+   * @param propertyKeys property keys to parse or {@code null} to parse all properties
+   */
+  public CSVLineToVertex(EPGMVertexFactory<Vertex> epgmVertexFactory, Set<String> propertyKeys) {
+    super(propertyKeys);
+    this.vertexFactory = epgmVertexFactory;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param epgmVertexFactory EPGM vertex factory
+   * @param propertyKeys property keys to parse or {@code null} to parse all properties
+   * @param metaData parser table of the CSV graph
+   */
+  public CSVLineToVertex(EPGMVertexFactory<Vertex> epgmVertexFactory, Set<String> propertyKeys,
+    CSVMetaDataTable metaData) {
+    super(propertyKeys, metaData);
+    this.vertexFactory = epgmVertexFactory;
+  }
+
   @Override
   public Vertex map(String csvLine) throws Exception {
     String[] tokens = split(csvLine, 4);
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
+
+/**
+ * Reads {@link Vertex} instances from CSV files without materializing the lines.
+ *
+ * The lines need to be encoded in the following format:
+ *
+ * {@code vertex-id;[graph-ids];vertex-label;value_1|value_2|...|value_n}
+ */
+public class CSVVertexInputFormat extends CSVElementInputFormat<Vertex> {
+
+  /**
+   * Constructor
+   *
+   * @param path              path of the vertex CSV file or directory
+   * @param epgmVertexFactory EPGM vertex factory
+   * @param metaData          parser table of the CSV graph
+   */
+  public CSVVertexInputFormat(String path, EPGMVertexFactory<Vertex> epgmVertexFactory,
+    CSVMetaDataTable metaData) {
+    super(path, MetaDataSource.VERTEX_TYPE, epgmVertexFactory.getType(), metaData);
+  }
+
+  @Override
+  Vertex readElement(Vertex reuse, byte[] bytes, int start, int end) {
+    int[] tokens = tokenize(bytes, start, end, 4);
+    reuse.setId(parseId(bytes, tokens[0], tokens[1]));
+    reuse.setGraphIds(parseGraphIds(reuse.getGraphIds(), bytes, tokens[2], tokens[3]));
+    reuse.setLabel(parseLabel(bytes, tokens[4], tokens[5]));
+    reuse.setProperties(parseProperties(reuse.getProperties(), bytes, tokens[6], tokens[7]));
+    return reuse;
+  }
+}
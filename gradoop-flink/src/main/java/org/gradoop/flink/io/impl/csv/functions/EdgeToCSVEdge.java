@@ -19,6 +19,7 @@ import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
 import org.gradoop.flink.io.impl.csv.tuples.CSVEdge;
 
 /**
@@ -35,6 +36,22 @@ public class EdgeToCSVEdge extends ElementToCSV<Edge, CSVEdge> {
    */
   private final CSVEdge csvEdge = new CSVEdge();
 
+  /**
+   * Constructor, reads the meta data from the broadcast set.
+   */
+  public EdgeToCSVEdge() {
+    this(null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param metaData parser table of the CSV graph or {@code null} to read the broadcast meta data
+   */
+  public EdgeToCSVEdge(CSVMetaDataTable metaData) {
+    super(metaData);
+  }
+
   @Override
   public CSVEdge map(Edge edge) throws Exception {
     csvEdge.setId(edge.getId().toString());
@@ -26,12 +26,15 @@ import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.io.impl.csv.CSVDataSource;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
 
 import java.util.Collection;
 import java.util.stream.Collectors;
 
 /**
- * Base class to convert an EPGM element into a CSV representation.
+ * Base class to convert an EPGM element into a CSV representation. The meta data is either
+ * shipped with the function as {@link CSVMetaDataTable} or read from the broadcast set
+ * {@link CSVDataSource#BC_METADATA}.
  *
  * @param <E> EPGM element type
  * @param <T> output tuple type
@@ -42,16 +45,33 @@ public abstract class ElementToCSV<E extends Element, T extends Tuple>
    * Constant for an empty string.
    */
   private static final String EMPTY_STRING = "";
+  /**
+   * Parser table shipped with the function or {@code null} if the meta data is broadcast.
+   */
+  private final CSVMetaDataTable metaDataTable;
   /**
    * Meta data that provides parsers for a specific {@link Element}.
    */
   private CSVMetaData metaData;
 
+  /**
+   * Constructor
+   *
+   * @param metaDataTable parser table or {@code null} to read the broadcast meta data
+   */
+  ElementToCSV(CSVMetaDataTable metaDataTable) {
+    this.metaDataTable = metaDataTable;
+  }
+
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
-    this.metaData = new CSVMetaDataSource().fromTuples(getRuntimeContext()
-      .getBroadcastVariable(CSVDataSource.BC_METADATA));
+    if (metaDataTable != null) {
+      this.metaData = metaDataTable.getMetaData();
+    } else {
+      this.metaData = new CSVMetaDataSource().fromTuples(getRuntimeContext()
+        .getBroadcastVariable(CSVDataSource.BC_METADATA));
+    }
   }
 
   /**
@@ -19,6 +19,7 @@ import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
 import org.gradoop.flink.io.impl.csv.tuples.CSVGraphHead;
 
 /**
@@ -35,6 +36,22 @@ public class GraphHeadToCSVGraphHead extends ElementToCSV<GraphHead, CSVGraphHea
    */
   private final CSVGraphHead csvGraphHead = new CSVGraphHead();
 
+  /**
+   * Constructor, reads the meta data from the broadcast set.
+   */
+  public GraphHeadToCSVGraphHead() {
+    this(null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param metaData parser table of the CSV graph or {@code null} to read the broadcast meta data
+   */
+  public GraphHeadToCSVGraphHead(CSVMetaDataTable metaData) {
+    super(metaData);
+  }
+
   @Override
   public CSVGraphHead map(GraphHead graphHead) throws Exception {
     csvGraphHead.setId(graphHead.getId().toString());
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.core.io.InputSplit;
+import org.apache.flink.core.io.InputSplitAssigner;
+
+/**
+ * Assigns the i-th input split to the i-th parallel instance of a source. Each split is assigned
+ * exactly once. This keeps the partitioning of partition files intact, i.e. partitions of
+ * different sources having the same index are read by the same parallel instance.
+ */
+public class PartitionInputSplitAssigner implements InputSplitAssigner {
+  /**
+   * Input splits indexed by the parallel instance reading them.
+   */
+  private final InputSplit[] splits;
+  /**
+   * Marks the splits which have already been assigned.
+   */
+  private final boolean[] assigned;
+
+  /**
+   * Constructor
+   *
+   * @param splits input splits indexed by the parallel instance reading them
+   */
+  public PartitionInputSplitAssigner(InputSplit[] splits) {
+    this.splits = splits;
+    this.assigned = new boolean[splits.length];
+  }
+
+  @Override
+  public synchronized InputSplit getNextInputSplit(String host, int taskId) {
+    if (taskId < 0 || taskId >= splits.length || assigned[taskId]) {
+      return null;
+    }
+    assigned[taskId] = true;
+    return splits[taskId];
+  }
+}
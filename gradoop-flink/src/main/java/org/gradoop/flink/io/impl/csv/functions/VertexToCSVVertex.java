@@ -19,6 +19,7 @@ import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
 import org.gradoop.flink.io.impl.csv.tuples.CSVVertex;
 
 /**
@@ -35,6 +36,22 @@ public class VertexToCSVVertex extends ElementToCSV<Vertex, CSVVertex> {
    */
   private final CSVVertex csvVertex = new CSVVertex();
 
+  /**
+   * Constructor, reads the meta data from the broadcast set.
+   */
+  public VertexToCSVVertex() {
+    this(null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param metaData parser table of the CSV graph or {@code null} to read the broadcast meta data
+   */
+  public VertexToCSVVertex(CSVMetaDataTable metaData) {
+    super(metaData);
+  }
+
   @Override
   public CSVVertex map(Vertex vertex) throws Exception {
     csvVertex.setId(vertex.getId().toString());
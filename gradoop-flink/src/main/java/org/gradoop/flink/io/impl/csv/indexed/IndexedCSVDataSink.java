@@ -15,11 +15,18 @@
  */
 package org.gradoop.flink.io.impl.csv.indexed;
 
+import org.apache.flink.api.common.typeinfo.TypeHint;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.MapOperator;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.core.fs.FileSystem.WriteMode;
 import org.apache.flink.core.fs.Path;
+import org.apache.hadoop.conf.Configuration;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.compression.BlockCompression;
 import org.gradoop.flink.io.impl.csv.CSVBase;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.io.impl.csv.functions.EdgeToCSVEdge;
@@ -28,6 +35,7 @@ import org.gradoop.flink.io.impl.csv.functions.VertexToCSVVertex;
 import org.gradoop.flink.io.impl.csv.indexed.functions.IndexedCSVFileFormat;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSink;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
 import org.gradoop.flink.io.impl.csv.tuples.CSVEdge;
 import org.gradoop.flink.io.impl.csv.tuples.CSVGraphHead;
 import org.gradoop.flink.io.impl.csv.tuples.CSVVertex;
@@ -45,6 +53,10 @@ public class IndexedCSVDataSink extends CSVBase implements DataSink {
    * Path to meta data file that is used to write the output.
    */
   private final String metaDataPath;
+  /**
+   * True, if the element files are written block compressed.
+   */
+  private final boolean compressed;
 
   /**
    * Creates a new indexed CSV data sink. Computes the meta data based on the given graph.
@@ -64,8 +76,25 @@ public class IndexedCSVDataSink extends CSVBase implements DataSink {
    * @param config       Gradoop Flink configuration
    */
   public IndexedCSVDataSink(String csvPath, String metaDataPath, GradoopFlinkConfig config) {
+    this(csvPath, metaDataPath, config, false);
+  }
+
+  /**
+   * Creates an new indexed CSV data sink. Uses the specified meta data to write the CSV output
+   * and optionally writes the element files block compressed, see {@link BlockCompression}.
+   * Compressed files have to be read by an {@link IndexedCSVDataSource} created with the
+   * compression flag set.
+   *
+   * @param csvPath      directory to write CSV files to
+   * @param metaDataPath path to meta data CSV file, may be {@code null}
+   * @param config       Gradoop Flink configuration
+   * @param compressed   true, to write block compressed element files
+   */
+  public IndexedCSVDataSink(String csvPath, String metaDataPath, GradoopFlinkConfig config,
+    boolean compressed) {
     super(csvPath, config);
     this.metaDataPath = metaDataPath;
+    this.compressed = compressed;
   }
 
   @Override
@@ -89,24 +118,32 @@ public class IndexedCSVDataSink extends CSVBase implements DataSink {
       WriteMode.OVERWRITE : WriteMode.NO_OVERWRITE;
 
     DataSet<Tuple3<String, String, String>> metaData;
+    CSVMetaDataTable metaDataTable = null;
     CSVMetaDataSource source = new CSVMetaDataSource();
     if (!reuseMetadata()) {
       metaData = source.tuplesFromCollection(graphCollection);
     } else {
-      metaData = source.readDistributed(metaDataPath, getConfig());
+      // the schema is known, ship it with the functions instead of broadcasting it
+      metaDataTable = source.readLocalTable(metaDataPath, new Configuration());
+      metaData = getConfig().getExecutionEnvironment().fromCollection(metaDataTable.getTuples(),
+        new TypeHint<Tuple3<String, String, String>>() {
+        }.getTypeInfo());
     }
 
-    DataSet<CSVGraphHead> csvGraphHeads = graphCollection.getGraphHeads()
-      .map(new GraphHeadToCSVGraphHead())
-      .withBroadcastSet(metaData, BC_METADATA);
+    MapOperator<GraphHead, CSVGraphHead> csvGraphHeads = graphCollection.getGraphHeads()
+      .map(new GraphHeadToCSVGraphHead(metaDataTable));
 
-    DataSet<CSVVertex> csvVertices = graphCollection.getVertices()
-      .map(new VertexToCSVVertex())
-      .withBroadcastSet(metaData, BC_METADATA);
+    MapOperator<Vertex, CSVVertex> csvVertices = graphCollection.getVertices()
+      .map(new VertexToCSVVertex(metaDataTable));
 
-    DataSet<CSVEdge> csvEdges = graphCollection.getEdges()
-      .map(new EdgeToCSVEdge())
-      .withBroadcastSet(metaData, BC_METADATA);
+    MapOperator<Edge, CSVEdge> csvEdges = graphCollection.getEdges()
+      .map(new EdgeToCSVEdge(metaDataTable));
+
+    if (metaDataTable == null) {
+      csvGraphHeads.withBroadcastSet(metaData, BC_METADATA);
+      csvVertices.withBroadcastSet(metaData, BC_METADATA);
+      csvEdges.withBroadcastSet(metaData, BC_METADATA);
+    }
 
     if (!getMetaDataPath().equals(metaDataPath) || !reuseMetadata()) {
       new CSVMetaDataSink().writeDistributed(getMetaDataPath(), metaData, writeMode);
@@ -118,6 +155,7 @@ public class IndexedCSVDataSink extends CSVBase implements DataSink {
       CSVConstants.TOKEN_DELIMITER);
 
     graphHeadFormat.setWriteMode(writeMode);
+    graphHeadFormat.setCompressed(compressed);
     csvGraphHeads.output(graphHeadFormat);
 
     IndexedCSVFileFormat<CSVVertex> vertexFormat = new IndexedCSVFileFormat<>(
@@ -126,6 +164,7 @@ public class IndexedCSVDataSink extends CSVBase implements DataSink {
       CSVConstants.TOKEN_DELIMITER);
 
     vertexFormat.setWriteMode(writeMode);
+    vertexFormat.setCompressed(compressed);
     csvVertices.output(vertexFormat);
 
     IndexedCSVFileFormat<CSVEdge> edgeFormat = new IndexedCSVFileFormat<>(
@@ -134,6 +173,7 @@ public class IndexedCSVDataSink extends CSVBase implements DataSink {
       CSVConstants.TOKEN_DELIMITER);
 
     edgeFormat.setWriteMode(writeMode);
+    edgeFormat.setCompressed(compressed);
     csvEdges.output(edgeFormat);
   }
 
@@ -15,33 +15,40 @@
  */
 package org.gradoop.flink.io.impl.csv.indexed;
 
+import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
-import org.apache.flink.api.java.tuple.Tuple2;
-import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.hadoop.conf.Configuration;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.pojo.VertexFactory;
-import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.PushdownDataSource;
+import org.gradoop.flink.io.api.predicate.ElementPredicate;
+import org.gradoop.flink.io.impl.compression.BlockCompressedInputFormat;
 import org.gradoop.flink.io.impl.csv.CSVBase;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToGraphHead;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
-import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.model.impl.epgm.LogicalGraphFactory;
+import org.gradoop.flink.model.impl.functions.epgm.ByElementPredicate;
+import org.gradoop.flink.model.impl.functions.epgm.PropertyRemover;
+import org.gradoop.flink.model.impl.layouts.gve.indexed.IndexedGVEGraphLayoutFactory;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * A graph data source for CSV files indexed by label.
@@ -54,12 +61,36 @@ import java.util.stream.Collectors;
  * |- knows.csv      # contains all edges with label 'knows'
  * |- studyAt.csv    # contains all edges with label 'studyAt'
  * |- metadata.csv   # Meta data for all data contained in the graph
+ * <p>
+ * Label predicates are evaluated before reading, i.e. files of labels that are not accepted are
+ * not read at all. Property predicates are evaluated directly after parsing and a property
+ * projection prevents parsing the values of all other property keys.
  */
-public class IndexedCSVDataSource extends CSVBase implements DataSource {
+public class IndexedCSVDataSource extends CSVBase implements PushdownDataSource {
   /**
    * HDFS Configuration.
    */
   private final Configuration hdfsConfig;
+  /**
+   * Graph head predicate or {@code null} if all graph heads are read.
+   */
+  private final ElementPredicate graphHeadPredicate;
+  /**
+   * Vertex predicate or {@code null} if all vertices are read.
+   */
+  private final ElementPredicate vertexPredicate;
+  /**
+   * Edge predicate or {@code null} if all edges are read.
+   */
+  private final ElementPredicate edgePredicate;
+  /**
+   * Property keys to read or {@code null} if all properties are read.
+   */
+  private final Set<String> propertyKeys;
+  /**
+   * True, if the element files are block compressed.
+   */
+  private final boolean compressed;
 
   /**
    * Creates a new data source. The constructor creates a default HDFS configuration.
@@ -79,49 +110,231 @@ public class IndexedCSVDataSource extends CSVBase implements DataSource {
    * @param hdfsConf HDFS configuration
    */
   public IndexedCSVDataSource(String csvPath, GradoopFlinkConfig conf, Configuration hdfsConf) {
+    this(csvPath, conf, hdfsConf, false);
+  }
+
+  /**
+   * Creates a new data source.
+   *
+   * @param csvPath    root path of csv files
+   * @param conf       gradoop configuration
+   * @param hdfsConf   HDFS configuration
+   * @param compressed true, if the element files are block compressed
+   */
+  public IndexedCSVDataSource(String csvPath, GradoopFlinkConfig conf, Configuration hdfsConf,
+    boolean compressed) {
+    this(csvPath, conf, hdfsConf, compressed, null, null, null, null);
+  }
+
+  /**
+   * Creates a new data source with pushed down predicates and projection.
+   *
+   * @param csvPath            root path of csv files
+   * @param conf               gradoop configuration
+   * @param hdfsConf           HDFS configuration
+   * @param compressed         true, if the element files are block compressed
+   * @param graphHeadPredicate graph head predicate or {@code null}
+   * @param vertexPredicate    vertex predicate or {@code null}
+   * @param edgePredicate      edge predicate or {@code null}
+   * @param propertyKeys       property keys to read or {@code null}
+   */
+  private IndexedCSVDataSource(String csvPath, GradoopFlinkConfig conf, Configuration hdfsConf,
+    boolean compressed, ElementPredicate graphHeadPredicate, ElementPredicate vertexPredicate,
+    ElementPredicate edgePredicate, Set<String> propertyKeys) {
     super(csvPath, conf);
     Objects.requireNonNull(hdfsConf);
     this.hdfsConfig = hdfsConf;
+    this.graphHeadPredicate = graphHeadPredicate;
+    this.vertexPredicate = vertexPredicate;
+    this.edgePredicate = edgePredicate;
+    this.propertyKeys = propertyKeys;
+    this.compressed = compressed;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The vertices and edges of the resulting graph are kept separated by label, i.e. accessing
+   * elements by label (e.g. by the leaf nodes of a Cypher query plan) only reads the files of the
+   * requested labels. Graph head files are not read at all.
+   */
   @Override
   public LogicalGraph getLogicalGraph() throws IOException {
-    return getGraphCollection().reduce(new ReduceCombination());
+    CSVMetaDataTable metaData =
+      new CSVMetaDataSource().readLocalTable(getMetaDataPath(), hdfsConfig);
+
+    Map<String, DataSet<Vertex>> vertices = readVertices(metaData);
+    Map<String, DataSet<Edge>> edges = readEdges(metaData);
+
+    // labels rejected by the predicates are represented by empty datasets of the layout
+    LogicalGraphFactory factory = new LogicalGraphFactory(getConfig());
+    factory.setLayoutFactory(new IndexedGVEGraphLayoutFactory());
+    return factory.fromIndexedDataSets(vertices, edges);
   }
 
   @Override
   public GraphCollection getGraphCollection() throws IOException {
-    CSVMetaDataSource source = new CSVMetaDataSource();
-    CSVMetaData metaData = source.readLocal(getMetaDataPath(), hdfsConfig);
-    DataSet<Tuple3<String, String, String>> metaDataBroadcast =
-      source.readDistributed(getMetaDataPath(), getConfig());
+    CSVMetaDataTable metaData =
+      new CSVMetaDataSource().readLocalTable(getMetaDataPath(), hdfsConfig);
 
-    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
     GraphHeadFactory graphHeadFactory = getConfig().getGraphHeadFactory();
+
+    Map<String, DataSet<GraphHead>> graphHeads = new HashMap<>();
+    for (String label : metaData.getMetaData().getGraphLabels()) {
+      if (graphHeadPredicate == null || graphHeadPredicate.acceptsLabel(label)) {
+        graphHeads.put(label, readElements(getGraphHeadCSVPath(label),
+          new CSVLineToGraphHead(graphHeadFactory, getParsedKeys(graphHeadPredicate), metaData),
+          label, graphHeadPredicate));
+      }
+    }
+    Map<String, DataSet<Vertex>> vertices = readVertices(metaData);
+
+    if (graphHeads.isEmpty()) {
+      // all labels were rejected by the graph head predicate
+      return getConfig().getGraphCollectionFactory().createEmptyCollection();
+    }
+    return getConfig().getGraphCollectionFactory().fromIndexedDataSets(graphHeads,
+      vertices, readEdges(metaData));
+  }
+
+  @Override
+  public PushdownDataSource applyGraphHeadPredicate(ElementPredicate predicate) {
+    return new IndexedCSVDataSource(getCsvRoot(), getConfig(), hdfsConfig, compressed,
+      combine(graphHeadPredicate, predicate), vertexPredicate, edgePredicate, propertyKeys);
+  }
+
+  @Override
+  public PushdownDataSource applyVertexPredicate(ElementPredicate predicate) {
+    return new IndexedCSVDataSource(getCsvRoot(), getConfig(), hdfsConfig, compressed,
+      graphHeadPredicate, combine(vertexPredicate, predicate), edgePredicate, propertyKeys);
+  }
+
+  @Override
+  public PushdownDataSource applyEdgePredicate(ElementPredicate predicate) {
+    return new IndexedCSVDataSource(getCsvRoot(), getConfig(), hdfsConfig, compressed,
+      graphHeadPredicate, vertexPredicate, combine(edgePredicate, predicate), propertyKeys);
+  }
+
+  @Override
+  public PushdownDataSource applyPropertyProjection(Set<String> projection) {
+    Set<String> keys = new HashSet<>(projection);
+    if (propertyKeys != null) {
+      keys.retainAll(propertyKeys);
+    }
+    return new IndexedCSVDataSource(getCsvRoot(), getConfig(), hdfsConfig, compressed,
+      graphHeadPredicate, vertexPredicate, edgePredicate, keys);
+  }
+
+  @Override
+  public boolean isFilterPushedDown() {
+    return graphHeadPredicate != null || vertexPredicate != null || edgePredicate != null ||
+      propertyKeys != null;
+  }
+
+  /**
+   * Creates a dataset for each vertex label contained in the meta data and accepted by the
+   * vertex predicate.
+   *
+   * @param metaData parser table of the CSV graph
+   * @return mapping from label to vertices with that label
+   */
+  private Map<String, DataSet<Vertex>> readVertices(CSVMetaDataTable metaData) {
     VertexFactory vertexFactory = getConfig().getVertexFactory();
+
+    Map<String, DataSet<Vertex>> vertices = new HashMap<>();
+    for (String label : metaData.getMetaData().getVertexLabels()) {
+      if (vertexPredicate == null || vertexPredicate.acceptsLabel(label)) {
+        vertices.put(label, readElements(getVertexCSVPath(label),
+          new CSVLineToVertex(vertexFactory, getParsedKeys(vertexPredicate), metaData),
+          label, vertexPredicate));
+      }
+    }
+    return vertices;
+  }
+
+  /**
+   * Creates a dataset for each edge label contained in the meta data and accepted by the edge
+   * predicate.
+   *
+   * @param metaData parser table of the CSV graph
+   * @return mapping from label to edges with that label
+   */
+  private Map<String, DataSet<Edge>> readEdges(CSVMetaDataTable metaData) {
     EdgeFactory edgeFactory = getConfig().getEdgeFactory();
 
-    Map<String, DataSet<GraphHead>> graphHeads = metaData.getGraphLabels().stream()
-      .map(label -> Tuple2.of(label, env.readTextFile(getGraphHeadCSVPath(label))
-        .map(new CSVLineToGraphHead(graphHeadFactory))
-        .withBroadcastSet(metaDataBroadcast, BC_METADATA)
-        .filter(graphHead -> graphHead.getLabel().equals(label))))
-      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
-
-    Map<String, DataSet<Vertex>> vertices = metaData.getVertexLabels().stream()
-      .map(label -> Tuple2.of(label, env.readTextFile(getVertexCSVPath(label))
-        .map(new CSVLineToVertex(vertexFactory))
-        .withBroadcastSet(metaDataBroadcast, BC_METADATA)
-        .filter(vertex -> vertex.getLabel().equals(label))))
-      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
-
-    Map<String, DataSet<Edge>> edges = metaData.getEdgeLabels().stream()
-      .map(label -> Tuple2.of(label, env.readTextFile(getEdgeCSVPath(label))
-        .map(new CSVLineToEdge(edgeFactory))
-        .withBroadcastSet(metaDataBroadcast, BC_METADATA)
-        .filter(edge -> edge.getLabel().equals(label))))
-      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
-
-    return getConfig().getGraphCollectionFactory().fromIndexedDataSets(graphHeads, vertices, edges);
+    Map<String, DataSet<Edge>> edges = new HashMap<>();
+    for (String label : metaData.getMetaData().getEdgeLabels()) {
+      if (edgePredicate == null || edgePredicate.acceptsLabel(label)) {
+        edges.put(label, readElements(getEdgeCSVPath(label),
+          new CSVLineToEdge(edgeFactory, getParsedKeys(edgePredicate), metaData),
+          label, edgePredicate));
+      }
+    }
+    return edges;
+  }
+
+  /**
+   * Reads the elements of a single label and applies the property predicates.
+   *
+   * @param path          path to the csv file of the label
+   * @param lineToElement function parsing a csv line
+   * @param label         element label
+   * @param predicate     element predicate or {@code null}
+   * @param <E>           EPGM element type
+   * @return elements with the given label satisfying the predicate
+   */
+  private <E extends Element> DataSet<E> readElements(String path,
+    MapFunction<String, E> lineToElement, String label, ElementPredicate predicate) {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    DataSet<String> lines = compressed ?
+      env.createInput(new BlockCompressedInputFormat(path)) : env.readTextFile(path);
+
+    DataSet<E> elements = lines
+      .map(lineToElement)
+      .filter(element -> element.getLabel().equals(label));
+
+    if (predicate != null && predicate.hasPropertyPredicates()) {
+      elements = elements.filter(new ByElementPredicate<>(predicate));
+      if (propertyKeys != null) {
+        // keys were only parsed to evaluate the predicate
+        for (String key : predicate.getPropertyKeys()) {
+          if (!propertyKeys.contains(key)) {
+            elements = elements.map(new PropertyRemover<>(key));
+          }
+        }
+      }
+    }
+    return elements;
+  }
+
+  /**
+   * Returns the property keys that have to be parsed to evaluate the given predicate and to
+   * provide the projected properties.
+   *
+   * @param predicate element predicate or {@code null}
+   * @return property keys to parse or {@code null} if all properties have to be parsed
+   */
+  private Set<String> getParsedKeys(ElementPredicate predicate) {
+    if (propertyKeys == null) {
+      return null;
+    }
+    Set<String> keys = new HashSet<>(propertyKeys);
+    if (predicate != null) {
+      keys.addAll(predicate.getPropertyKeys());
+    }
+    return keys;
+  }
+
+  /**
+   * Combines two predicates conjunctively.
+   *
+   * @param current current predicate or {@code null}
+   * @param added   added predicate
+   * @return conjunction of both predicates
+   */
+  private static ElementPredicate combine(ElementPredicate current, ElementPredicate added) {
+    Objects.requireNonNull(added);
+    return current == null ? added : current.and(added);
   }
 }
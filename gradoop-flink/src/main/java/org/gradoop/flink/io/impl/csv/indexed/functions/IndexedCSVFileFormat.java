@@ -15,11 +15,15 @@
  */
 package org.gradoop.flink.io.impl.csv.indexed.functions;
 
+import org.apache.flink.api.common.io.FileOutputFormat;
 import org.apache.flink.api.common.io.OutputFormat;
 import org.apache.flink.api.java.io.CsvOutputFormat;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.core.fs.FileSystem;
 import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.impl.compression.BlockCompressedOutputFormat;
+import org.gradoop.flink.io.impl.compression.BlockCompression;
+import org.gradoop.flink.io.impl.compression.DelimitedTupleFormatter;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.io.impl.csv.tuples.CSVElement;
 
@@ -63,6 +67,11 @@ public class IndexedCSVFileFormat<T extends Tuple & CSVElement>
    */
   private String charsetName = null;
 
+  /**
+   * True, if the files are written block compressed.
+   */
+  private boolean compressed = false;
+
   /**
    * Creates a new instance of an IndexedCSVFileFormat. Use the default record delimiter '\n'
    * and the default field delimiter ','.
@@ -114,17 +123,35 @@ public class IndexedCSVFileFormat<T extends Tuple & CSVElement>
     this.charsetName = charsetName;
   }
 
+  /**
+   * Sets whether the files are written block compressed, see {@link BlockCompression}. Compressed
+   * files are always UTF-8 encoded and do not use the record delimiter.
+   *
+   * @param compressed true, to write block compressed files
+   */
+  public void setCompressed(boolean compressed) {
+    this.compressed = compressed;
+  }
+
   @Override
   protected OutputFormat<T> createFormatForDirectory(Path directory) {
-    CsvOutputFormat<T> format = new CsvOutputFormat<>(directory, recordDelimiter, fieldDelimiter);
+    FileOutputFormat<T> format;
+    if (compressed) {
+      format = new BlockCompressedOutputFormat<>(directory,
+        new DelimitedTupleFormatter<>(fieldDelimiter));
+    } else {
+      CsvOutputFormat<T> csvFormat =
+        new CsvOutputFormat<>(directory, recordDelimiter, fieldDelimiter);
+      if (charsetName != null) {
+        csvFormat.setCharsetName(charsetName);
+      }
+      format = csvFormat;
+    }
     // OVERWRITE in a distributed fs would delete the label directory including already written
     // files of other workers. In a local fs it does not delete the directory but it would not
     // overwrite files of workers not having a specific label.
     // initializeGlobal() takes care of OVERWRITE.
     format.setWriteMode(FileSystem.WriteMode.NO_OVERWRITE);
-    if (charsetName != null) {
-      format.setCharsetName(charsetName);
-    }
     format.configure(configuration);
     return format;
   }
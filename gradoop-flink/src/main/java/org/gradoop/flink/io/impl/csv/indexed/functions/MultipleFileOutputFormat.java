@@ -86,7 +86,7 @@ public abstract class MultipleFileOutputFormat<IT>
    *
    * @param rootPath The root directory where all files will be stored.
    */
-  MultipleFileOutputFormat(Path rootPath) {
+  protected MultipleFileOutputFormat(Path rootPath) {
     this.rootOutputPath = rootPath;
     formatsPerSubdirectory = new HashMap<>();
   }
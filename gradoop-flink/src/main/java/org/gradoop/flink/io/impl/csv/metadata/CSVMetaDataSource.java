@@ -99,8 +99,35 @@ public class CSVMetaDataSource implements MetaDataSource<CSVMetaData> {
 
   @Override
   public CSVMetaData readLocal(String path, Configuration hdfsConfig) throws IOException {
-    FileSystem fs = FileSystem.get(hdfsConfig);
+    return fromTuples(readLocalTuples(path, hdfsConfig));
+  }
+
+  /**
+   * Reads the meta data from the specified file into a parser table that can be shipped with the
+   * functions parsing or writing CSV lines.
+   *
+   * @param path       path to the meta data file
+   * @param hdfsConfig HDFS configuration
+   * @return parser table
+   * @throws IOException if the file cannot be read
+   */
+  public CSVMetaDataTable readLocalTable(String path, Configuration hdfsConfig)
+    throws IOException {
+    return new CSVMetaDataTable(readLocalTuples(path, hdfsConfig));
+  }
+
+  /**
+   * Reads the meta data tuples, i.e. {@code (type, label, properties)}, from the specified file.
+   *
+   * @param path       path to the meta data file
+   * @param hdfsConfig HDFS configuration
+   * @return meta data tuples
+   * @throws IOException if the file cannot be read
+   */
+  public List<Tuple3<String, String, String>> readLocalTuples(String path,
+    Configuration hdfsConfig) throws IOException {
     Path file = new Path(path);
+    FileSystem fs = file.getFileSystem(hdfsConfig);
     Charset charset = Charset.forName("UTF-8");
 
     if (!fs.exists(file)) {
@@ -108,10 +135,10 @@ public class CSVMetaDataSource implements MetaDataSource<CSVMetaData> {
     } else {
 
       try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(file), charset))) {
-        return fromTuples(br.lines()
+        return br.lines()
           .map(line -> StringEscaper.split(line, CSVConstants.TOKEN_DELIMITER, 3))
           .map(tokens -> Tuple3.of(tokens[0], tokens[1], tokens[2]))
-          .collect(Collectors.toList()));
+          .collect(Collectors.toList());
       }
     }
   }
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.metadata;
+
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, serializable parser table of a CSV graph which is read once on the client and
+ * shipped with the closure of the functions and input formats that parse or write CSV lines.
+ * <p>
+ * This replaces broadcasting the meta data tuples to every task. The table maps each label to
+ * the {@link PropertyMetaData} of its properties by position. As the value parsers themselves
+ * are not serializable, the table is shipped as meta data tuples and compiled into a
+ * {@link CSVMetaData} once per function instance on first access.
+ */
+public class CSVMetaDataTable implements Serializable {
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Meta data tuples, i.e. {@code (type, label, properties)}.
+   */
+  private final ArrayList<Tuple3<String, String, String>> tuples;
+  /**
+   * Compiled meta data, created on first access.
+   */
+  private transient CSVMetaData metaData;
+
+  /**
+   * Constructor
+   *
+   * @param tuples meta data tuples, i.e. {@code (type, label, properties)}
+   */
+  public CSVMetaDataTable(List<Tuple3<String, String, String>> tuples) {
+    this.tuples = new ArrayList<>(tuples);
+  }
+
+  /**
+   * Returns the meta data tuples of the table.
+   *
+   * @return unmodifiable list of meta data tuples
+   */
+  public List<Tuple3<String, String, String>> getTuples() {
+    return Collections.unmodifiableList(tuples);
+  }
+
+  /**
+   * Returns the compiled meta data including the property value parsers.
+   *
+   * @return meta data
+   */
+  public CSVMetaData getMetaData() {
+    if (metaData == null) {
+      metaData = new CSVMetaDataSource().fromTuples(tuples);
+    }
+    return metaData;
+  }
+
+  /**
+   * Returns the property meta data of the given element type and label by position.
+   *
+   * @param type  element type
+   * @param label element label
+   * @return property meta data
+   */
+  public List<PropertyMetaData> getPropertyMetaData(String type, String label) {
+    return getMetaData().getPropertyMetaData(type, label);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.partitioned;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.core.fs.FileSystem;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.csv.CSVBase;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.functions.EdgeToCSVEdge;
+import org.gradoop.flink.io.impl.csv.functions.GraphHeadToCSVGraphHead;
+import org.gradoop.flink.io.impl.csv.functions.VertexToCSVVertex;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSink;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+
+/**
+ * A graph data sink for CSV files which are hash partitioned by element identifiers.
+ * <p>
+ * The sink uses the layout of the {@link org.gradoop.flink.io.impl.csv.CSVDataSink} but writes
+ * the vertices hash partitioned by their id and the edges hash partitioned by their source id into
+ * a fixed number of partition files. The number of partitions is stored next to the meta data.
+ * A {@link PartitionedCSVDataSource} exposes the partitions as pre-partitioned data sets, i.e.
+ * joins between vertex ids and edge source ids (e.g. neighborhood operators) are executed without
+ * repartitioning the input, if the job parallelism equals the number of partitions.
+ */
+public class PartitionedCSVDataSink extends CSVBase implements DataSink {
+  /**
+   * Number of partition files per element type.
+   */
+  private final int partitionCount;
+
+  /**
+   * Creates a new partitioned CSV data sink using the parallelism of the execution environment as
+   * number of partitions.
+   *
+   * @param csvPath directory to write to
+   * @param config  Gradoop Flink configuration
+   */
+  public PartitionedCSVDataSink(String csvPath, GradoopFlinkConfig config) {
+    this(csvPath, config, Math.max(1, config.getExecutionEnvironment().getParallelism()));
+  }
+
+  /**
+   * Creates a new partitioned CSV data sink.
+   *
+   * @param csvPath        directory to write to
+   * @param config         Gradoop Flink configuration
+   * @param partitionCount number of partition files per element type
+   */
+  public PartitionedCSVDataSink(String csvPath, GradoopFlinkConfig config, int partitionCount) {
+    super(csvPath, config);
+    if (partitionCount < 1) {
+      throw new IllegalArgumentException("The partition count must be positive.");
+    }
+    this.partitionCount = partitionCount;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(logicalGraph.getConfig().getGraphCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overwrite) throws IOException {
+    FileSystem.WriteMode writeMode = overwrite ?
+      FileSystem.WriteMode.OVERWRITE : FileSystem.WriteMode.NO_OVERWRITE;
+
+    DataSet<Tuple3<String, String, String>> metaData =
+      new CSVMetaDataSource().tuplesFromCollection(graphCollection);
+
+    new CSVMetaDataSink().writeDistributed(getMetaDataPath(), metaData, writeMode);
+
+    getConfig().getExecutionEnvironment().fromElements(partitionCount)
+      .writeAsText(getPartitioningPath(), writeMode)
+      .setParallelism(1);
+
+    graphCollection.getGraphHeads()
+      .map(new GraphHeadToCSVGraphHead())
+      .withBroadcastSet(metaData, BC_METADATA)
+      .writeAsCsv(getGraphHeadCSVPath(), CSVConstants.ROW_DELIMITER,
+        CSVConstants.TOKEN_DELIMITER, writeMode);
+
+    // the i-th parallel instance writes the i-th partition file
+    graphCollection.getVertices()
+      .partitionByHash(new Id<>()).setParallelism(partitionCount)
+      .map(new VertexToCSVVertex()).setParallelism(partitionCount)
+      .withBroadcastSet(metaData, BC_METADATA)
+      .writeAsCsv(getVertexCSVPath(), CSVConstants.ROW_DELIMITER,
+        CSVConstants.TOKEN_DELIMITER, writeMode)
+      .setParallelism(partitionCount);
+
+    graphCollection.getEdges()
+      .partitionByHash(new SourceId<>()).setParallelism(partitionCount)
+      .map(new EdgeToCSVEdge()).setParallelism(partitionCount)
+      .withBroadcastSet(metaData, BC_METADATA)
+      .writeAsCsv(getEdgeCSVPath(), CSVConstants.ROW_DELIMITER,
+        CSVConstants.TOKEN_DELIMITER, writeMode)
+      .setParallelism(partitionCount);
+  }
+}
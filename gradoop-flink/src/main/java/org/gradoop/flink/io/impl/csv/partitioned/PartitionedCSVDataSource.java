@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.partitioned;
+
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.operators.DataSource;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.impl.csv.CSVBase;
+import org.gradoop.flink.io.impl.csv.functions.CSVEdgeInputFormat;
+import org.gradoop.flink.io.impl.csv.functions.CSVGraphHeadInputFormat;
+import org.gradoop.flink.io.impl.csv.functions.CSVVertexInputFormat;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A graph data source for CSV files written by a {@link PartitionedCSVDataSink}.
+ * <p>
+ * Each partition file is read by a single parallel instance, i.e. the parallelism of the vertex
+ * and edge sources equals the number of partitions. The sources declare their partitioning by
+ * {@link org.apache.flink.api.java.io.SplitDataProperties}: vertices are partitioned by id and
+ * edges by source id using the same partitioning method. The optimizer therefore joins vertex ids
+ * with edge source ids without repartitioning, if both inputs are read by this source, the join
+ * parallelism equals the number of partitions and the join keys are given as field expressions,
+ * e.g. {@code vertices.join(edges).where("id").equalTo("sourceId")}.
+ * <p>
+ * Operators keying by a {@link org.apache.flink.api.java.functions.KeySelector}, e.g.
+ * {@link org.gradoop.flink.model.impl.functions.epgm.Id}, or mapping the elements before
+ * grouping or joining do not benefit from the partitioning, because the optimizer cannot relate
+ * the extracted keys to the declared partitioning and repartitions their inputs.
+ */
+public class PartitionedCSVDataSource extends CSVBase
+  implements org.gradoop.flink.io.api.DataSource {
+  /**
+   * Prefix of the partitioning method id, the number of partitions is appended.
+   */
+  private static final String PARTITION_METHOD = "GradoopIdHash";
+  /**
+   * HDFS Configuration.
+   */
+  private final Configuration hdfsConfig;
+
+  /**
+   * Creates a new partitioned CSV data source.
+   *
+   * @param csvPath path to the directory containing the CSV files
+   * @param config  Gradoop Flink configuration
+   */
+  public PartitionedCSVDataSource(String csvPath, GradoopFlinkConfig config) {
+    this(csvPath, config, new Configuration());
+  }
+
+  /**
+   * Creates a new partitioned CSV data source.
+   *
+   * @param csvPath  path to the directory containing the CSV files
+   * @param config   Gradoop Flink configuration
+   * @param hdfsConf HDFS configuration
+   */
+  public PartitionedCSVDataSource(String csvPath, GradoopFlinkConfig config,
+    Configuration hdfsConf) {
+    super(csvPath, config);
+    Objects.requireNonNull(hdfsConf);
+    this.hdfsConfig = hdfsConf;
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() throws IOException {
+    GraphCollection collection = getGraphCollection();
+    return getConfig().getLogicalGraphFactory()
+      .fromDataSets(
+        collection.getGraphHeads().first(1), collection.getVertices(), collection.getEdges());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() throws IOException {
+    CSVMetaDataTable metaData =
+      new CSVMetaDataSource().readLocalTable(getMetaDataPath(), hdfsConfig);
+    int partitionCount = readPartitionCount();
+    String partitionMethod = PARTITION_METHOD + partitionCount;
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    DataSource<GraphHead> graphHeads = env.createInput(new CSVGraphHeadInputFormat(
+      getGraphHeadCSVPath(), getConfig().getGraphHeadFactory(), metaData));
+
+    CSVVertexInputFormat vertexFormat = new CSVVertexInputFormat(
+      getVertexCSVPath(), getConfig().getVertexFactory(), metaData);
+    vertexFormat.setPartitionCount(partitionCount);
+    DataSource<Vertex> vertices = env.createInput(vertexFormat);
+    vertices.setParallelism(partitionCount);
+    vertices.getSplitDataProperties().splitsPartitionedBy(partitionMethod, "id");
+
+    CSVEdgeInputFormat edgeFormat = new CSVEdgeInputFormat(
+      getEdgeCSVPath(), getConfig().getEdgeFactory(), metaData);
+    edgeFormat.setPartitionCount(partitionCount);
+    DataSource<Edge> edges = env.createInput(edgeFormat);
+    edges.setParallelism(partitionCount);
+    edges.getSplitDataProperties().splitsPartitionedBy(partitionMethod, "sourceId");
+
+    return getConfig().getGraphCollectionFactory().fromDataSets(graphHeads, vertices, edges);
+  }
+
+  /**
+   * Reads the number of partitions stored by the {@link PartitionedCSVDataSink}.
+   *
+   * @return number of partitions
+   * @throws IOException if the partitioning file cannot be read
+   */
+  private int readPartitionCount() throws IOException {
+    Path file = new Path(getPartitioningPath());
+    FileSystem fs = file.getFileSystem(hdfsConfig);
+
+    if (!fs.exists(file)) {
+      throw new FileNotFoundException(getPartitioningPath());
+    }
+    try (BufferedReader br = new BufferedReader(
+      new InputStreamReader(fs.open(file), StandardCharsets.UTF_8))) {
+      String line = br.readLine();
+      if (line == null) {
+        throw new IOException("Missing partition count in " + getPartitioningPath());
+      }
+      return Integer.parseInt(line.trim());
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist;
+
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.edgelist.functions.BinaryEdgeListInputFormat;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+
+/**
+ * Data source to create a {@link LogicalGraph} from a binary edge list, i.e. a file containing
+ * one pair of little-endian {@code long} values (source id, target id) per edge. Local files are
+ * memory-mapped, see {@link BinaryEdgeListInputFormat}.
+ */
+public class BinaryEdgeListDataSource implements DataSource {
+  /**
+   * Path to edge list file
+   */
+  private final String edgeListPath;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Creates a new data source. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param edgeListPath Path to binary edge list file
+   * @param config       Gradoop Flink configuration
+   */
+  public BinaryEdgeListDataSource(String edgeListPath, GradoopFlinkConfig config) {
+    this.edgeListPath = edgeListPath;
+    this.config = config;
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() throws IOException {
+    return EdgeListDataSource.createGraph(config.getExecutionEnvironment()
+      .createInput(new BinaryEdgeListInputFormat(edgeListPath)), config);
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() throws IOException {
+    return config.getGraphCollectionFactory().fromGraph(getLogicalGraph());
+  }
+}
@@ -15,26 +15,28 @@
  */
 package org.gradoop.flink.io.impl.edgelist;
 
+import org.apache.flink.api.common.operators.base.ReduceOperatorBase.CombineHint;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.apache.flink.api.java.tuple.Tuple1;
 import org.apache.flink.api.java.tuple.Tuple2;
-import org.apache.flink.api.java.utils.DataSetUtils;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSource;
-import org.gradoop.flink.io.impl.edgelist.functions.CreateImportEdge;
-import org.gradoop.flink.io.impl.edgelist.functions.CreateImportVertex;
-import org.gradoop.flink.io.impl.graph.GraphDataSource;
-import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
-import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
+import org.gradoop.flink.io.impl.edgelist.functions.CreateEdgeFromLongIds;
+import org.gradoop.flink.io.impl.edgelist.functions.CreateVertexFromLongId;
+import org.gradoop.flink.io.impl.edgelist.functions.LongIdEncoder;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Data source to create a {@link LogicalGraph} from an edge list.
+ * Data source to create a {@link LogicalGraph} from an edge list. Vertex ids have to be numeric
+ * ({@code long}), they are parsed without creating intermediate strings and directly encoded into
+ * the EPGM identifiers, see {@link LongIdEncoder}.
  *
  * 0 1
  * 2 0
@@ -78,11 +80,6 @@ public class EdgeListDataSource implements DataSource {
 
   @Override
   public LogicalGraph getLogicalGraph() throws IOException {
-    return getGraphCollection().reduce(new ReduceCombination());
-  }
-
-  @Override
-  public GraphCollection getGraphCollection() throws IOException {
 
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
 
@@ -95,30 +92,47 @@ public class EdgeListDataSource implements DataSource {
       .fieldDelimiter(getTokenSeparator())
       .types(Long.class, Long.class);
 
+    return createGraph(lineTuples, getConfig());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() throws IOException {
+    return getConfig().getGraphCollectionFactory().fromGraph(getLogicalGraph());
+  }
+
+  /**
+   * Creates a logical graph from (sourceId, targetId) pairs. The EPGM vertex identifiers are
+   * derived from the vertex ids by a {@link LongIdEncoder}, i.e. the edges are created by a map
+   * and the vertices by a hash-combined distinct on the vertex ids.
+   *
+   * @param edgeTuples (sourceId, targetId) pairs
+   * @param config     Gradoop Flink configuration
+   * @return logical graph
+   */
+  static LogicalGraph createGraph(DataSet<Tuple2<Long, Long>> edgeTuples,
+    GradoopFlinkConfig config) {
+    LongIdEncoder idEncoder = new LongIdEncoder(ThreadLocalRandom.current().nextInt());
+
     //--------------------------------------------------------------------------
     // generate vertices
     //--------------------------------------------------------------------------
 
-    DataSet<ImportVertex<Long>> importVertices = lineTuples
+    DataSet<Vertex> vertices = edgeTuples
       .<Tuple1<Long>>project(0)
-      .union(lineTuples.project(1))
-      .distinct()
-      .map(new CreateImportVertex<>());
+      .union(edgeTuples.project(1))
+      .groupBy(0)
+      .reduce((first, second) -> first)
+      .setCombineHint(CombineHint.HASH)
+      .map(new CreateVertexFromLongId(config.getVertexFactory(), idEncoder));
 
     //--------------------------------------------------------------------------
     // generate edges
     //--------------------------------------------------------------------------
 
-    DataSet<ImportEdge<Long>> importEdges = DataSetUtils
-      .zipWithUniqueId(lineTuples)
-      .map(new CreateImportEdge<>());
-
-    //--------------------------------------------------------------------------
-    // create graph data source
-    //--------------------------------------------------------------------------
+    DataSet<Edge> edges = edgeTuples
+      .map(new CreateEdgeFromLongIds(config.getEdgeFactory(), idEncoder));
 
-    return new GraphDataSource<>(importVertices, importEdges, getConfig())
-      .getGraphCollection();
+    return config.getLogicalGraphFactory().fromDataSets(vertices, edges);
   }
 
   GradoopFlinkConfig getConfig() {
@@ -15,22 +15,21 @@
  */
 package org.gradoop.flink.io.impl.edgelist;
 
+import org.apache.flink.api.common.operators.base.ReduceOperatorBase.CombineHint;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple4;
-import org.apache.flink.api.java.utils.DataSetUtils;
-import org.gradoop.flink.io.impl.edgelist.functions.CreateImportEdge;
-import org.gradoop.flink.io.impl.edgelist.functions.CreateLabeledImportVertex;
-import org.gradoop.flink.io.impl.graph.GraphDataSource;
-import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
-import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
-import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.impl.edgelist.functions.CreateEdgeFromLongIds;
+import org.gradoop.flink.io.impl.edgelist.functions.CreateLabeledVertexFromLongId;
+import org.gradoop.flink.io.impl.edgelist.functions.LongIdEncoder;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Data source to create a {@link LogicalGraph} from an edge list. Vertices are annotated with a
@@ -76,11 +75,6 @@ public class VertexLabeledEdgeListDataSource extends EdgeListDataSource {
 
   @Override
   public LogicalGraph getLogicalGraph() throws IOException {
-    return getGraphCollection().reduce(new ReduceCombination());
-  }
-
-  @Override
-  public GraphCollection getGraphCollection() throws IOException {
 
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
 
@@ -93,29 +87,29 @@ public class VertexLabeledEdgeListDataSource extends EdgeListDataSource {
       .fieldDelimiter(getTokenSeparator())
       .types(Long.class, String.class, Long.class, String.class);
 
+    LongIdEncoder idEncoder = new LongIdEncoder(ThreadLocalRandom.current().nextInt());
+
     //--------------------------------------------------------------------------
     // generate vertices
     //--------------------------------------------------------------------------
 
-    DataSet<ImportVertex<Long>> importVertices = lineTuples
+    DataSet<Vertex> vertices = lineTuples
       .<Tuple2<Long, String>>project(0, 1)
       .union(lineTuples.<Tuple2<Long, String>>project(2, 3))
-      .distinct(0)
-      .map(new CreateLabeledImportVertex<>(propertyKey));
+      .groupBy(0)
+      .reduce((first, second) -> first)
+      .setCombineHint(CombineHint.HASH)
+      .map(new CreateLabeledVertexFromLongId(getConfig().getVertexFactory(), idEncoder,
+        propertyKey));
 
     //--------------------------------------------------------------------------
     // generate edges
     //--------------------------------------------------------------------------
 
-    DataSet<ImportEdge<Long>> importEdges = DataSetUtils
-      .zipWithUniqueId(lineTuples.<Tuple2<Long, Long>>project(0, 2))
-      .map(new CreateImportEdge<>());
-
-    //--------------------------------------------------------------------------
-    // create graph data source
-    //--------------------------------------------------------------------------
+    DataSet<Edge> edges = lineTuples
+      .<Tuple2<Long, Long>>project(0, 2)
+      .map(new CreateEdgeFromLongIds(getConfig().getEdgeFactory(), idEncoder));
 
-    return new GraphDataSource<>(importVertices, importEdges, getConfig())
-      .getGraphCollection();
+    return getConfig().getLogicalGraphFactory().fromDataSets(vertices, edges);
   }
 }
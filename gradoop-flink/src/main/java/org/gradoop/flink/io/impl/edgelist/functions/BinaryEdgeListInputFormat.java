@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads binary edge lists, i.e. files containing one pair of little-endian {@code long} values
+ * (source id, target id) per edge without any delimiters.
+ * <p>
+ * A split reads all records starting within its byte range. Files of the local file system are
+ * memory-mapped, files of distributed file systems are read from the input stream.
+ */
+public class BinaryEdgeListInputFormat extends FileInputFormat<Tuple2<Long, Long>>
+  implements ResultTypeQueryable<Tuple2<Long, Long>> {
+  /**
+   * Number of bytes per edge.
+   */
+  private static final int RECORD_SIZE = 2 * Long.BYTES;
+  /**
+   * Number of bytes mapped at once, a multiple of the record size.
+   */
+  private static final int MAP_SIZE = 64 * 1024 * 1024;
+  /**
+   * Size of the read buffer for streamed files.
+   */
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+  /**
+   * Scheme of the local file system.
+   */
+  private static final String LOCAL_SCHEME = "file";
+  /**
+   * Channel of a memory-mapped file or {@code null} if the file is streamed.
+   */
+  private transient FileChannel channel;
+  /**
+   * Currently mapped part of the file.
+   */
+  private transient MappedByteBuffer mapped;
+  /**
+   * Reads a streamed file.
+   */
+  private transient DataInputStream in;
+  /**
+   * File position of the next record.
+   */
+  private transient long position;
+  /**
+   * File position after the last record of the split.
+   */
+  private transient long limit;
+
+  /**
+   * Constructor
+   *
+   * @param path path of a binary edge list file or a directory containing such files
+   */
+  public BinaryEdgeListInputFormat(String path) {
+    super(new Path(path));
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    FileSystem fs = split.getPath().getFileSystem();
+    long fileLength = fs.getFileStatus(split.getPath()).getLen();
+
+    position = align(splitStart);
+    limit = fileLength - fileLength % RECORD_SIZE;
+    if (splitLength != READ_WHOLE_SPLIT_FLAG) {
+      limit = Math.min(align(splitStart + splitLength), limit);
+    }
+
+    if (LOCAL_SCHEME.equals(fs.getUri().getScheme())) {
+      channel = FileChannel.open(Paths.get(split.getPath().toUri().getPath()),
+        StandardOpenOption.READ);
+      mapped = null;
+    } else {
+      stream.seek(position);
+      in = new DataInputStream(new BufferedInputStream(stream, READ_BUFFER_SIZE));
+    }
+  }
+
+  @Override
+  public boolean reachedEnd() {
+    return position >= limit;
+  }
+
+  @Override
+  public Tuple2<Long, Long> nextRecord(Tuple2<Long, Long> reuse) throws IOException {
+    if (channel != null) {
+      if (mapped == null || !mapped.hasRemaining()) {
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, position,
+          Math.min(MAP_SIZE, limit - position));
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+      }
+      reuse.f0 = mapped.getLong();
+      reuse.f1 = mapped.getLong();
+    } else {
+      reuse.f0 = Long.reverseBytes(in.readLong());
+      reuse.f1 = Long.reverseBytes(in.readLong());
+    }
+    position += RECORD_SIZE;
+    return reuse;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+    mapped = null;
+    in = null;
+    super.close();
+  }
+
+  @Override
+  public TypeInformation<Tuple2<Long, Long>> getProducedType() {
+    return new TupleTypeInfo<>(BasicTypeInfo.LONG_TYPE_INFO, BasicTypeInfo.LONG_TYPE_INFO);
+  }
+
+  /**
+   * Returns the position of the first record starting at or after the given file position.
+   *
+   * @param filePosition file position
+   * @return aligned file position
+   */
+  private static long align(long filePosition) {
+    long offset = filePosition % RECORD_SIZE;
+    return offset == 0 ? filePosition : filePosition + RECORD_SIZE - offset;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.util.GradoopConstants;
+
+/**
+ * (sourceId, targetId) => Edge
+ *
+ * Source and target identifiers are derived from the vertex ids by a {@link LongIdEncoder}.
+ */
+public class CreateEdgeFromLongIds
+  implements MapFunction<Tuple2<Long, Long>, Edge>, ResultTypeQueryable<Edge> {
+  /**
+   * Used to create new EPGM edges
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+  /**
+   * Derives the EPGM identifiers
+   */
+  private final LongIdEncoder idEncoder;
+
+  /**
+   * Constructor
+   *
+   * @param edgeFactory edge factory
+   * @param idEncoder   derives the EPGM identifiers
+   */
+  public CreateEdgeFromLongIds(EPGMEdgeFactory<Edge> edgeFactory, LongIdEncoder idEncoder) {
+    this.edgeFactory = edgeFactory;
+    this.idEncoder = idEncoder;
+  }
+
+  @Override
+  public Edge map(Tuple2<Long, Long> edgeTuple) throws Exception {
+    return edgeFactory.initEdge(GradoopId.get(), GradoopConstants.DEFAULT_EDGE_LABEL,
+      idEncoder.getId(edgeTuple.f0), idEncoder.getId(edgeTuple.f1), Properties.create());
+  }
+
+  @Override
+  public TypeInformation<Edge> getProducedType() {
+    return TypeExtractor.createTypeInfo(edgeFactory.getType());
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.util.GradoopConstants;
+
+/**
+ * (vertexId) => Vertex
+ *
+ * The EPGM identifier is derived from the vertex id by a {@link LongIdEncoder}.
+ */
+public class CreateVertexFromLongId
+  implements MapFunction<Tuple1<Long>, Vertex>, ResultTypeQueryable<Vertex> {
+  /**
+   * Used to create new EPGM vertices
+   */
+  private final EPGMVertexFactory<Vertex> vertexFactory;
+  /**
+   * Derives the EPGM identifiers
+   */
+  private final LongIdEncoder idEncoder;
+
+  /**
+   * Constructor
+   *
+   * @param vertexFactory vertex factory
+   * @param idEncoder     derives the EPGM identifiers
+   */
+  public CreateVertexFromLongId(EPGMVertexFactory<Vertex> vertexFactory,
+    LongIdEncoder idEncoder) {
+    this.vertexFactory = vertexFactory;
+    this.idEncoder = idEncoder;
+  }
+
+  @Override
+  public Vertex map(Tuple1<Long> vertexId) throws Exception {
+    return vertexFactory.initVertex(idEncoder.getId(vertexId.f0),
+      GradoopConstants.DEFAULT_VERTEX_LABEL);
+  }
+
+  @Override
+  public TypeInformation<Vertex> getProducedType() {
+    return TypeExtractor.createTypeInfo(vertexFactory.getType());
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.Serializable;
+
+/**
+ * Encodes primitive {@code long} vertex identifiers into EPGM identifiers.
+ * <p>
+ * The first four bytes of the resulting identifier contain a salt chosen per import, the
+ * remaining eight bytes contain the {@code long} value (big-endian). Identifiers are therefore
+ * unique within an import by construction and the edges can be connected to their vertices without
+ * joining them with an identifier mapping.
+ */
+public class LongIdEncoder implements Serializable {
+
+  /**
+   * Number of bytes of the salt.
+   */
+  private static final int SALT_SIZE = 4;
+
+  /**
+   * Salt stored in the first bytes of each identifier.
+   */
+  private final int salt;
+
+  /**
+   * Constructor
+   *
+   * @param salt salt stored in the first bytes of each identifier
+   */
+  public LongIdEncoder(int salt) {
+    this.salt = salt;
+  }
+
+  /**
+   * Returns the EPGM identifier for the given vertex identifier.
+   *
+   * @param id vertex identifier
+   * @return EPGM identifier
+   */
+  public GradoopId getId(long id) {
+    byte[] bytes = new byte[GradoopId.ID_SIZE];
+    for (int i = 0; i < SALT_SIZE; i++) {
+      bytes[i] = (byte) (salt >>> (8 * (SALT_SIZE - 1 - i)));
+    }
+    for (int i = 0; i < Long.BYTES; i++) {
+      bytes[SALT_SIZE + i] = (byte) (id >>> (8 * (Long.BYTES - 1 - i)));
+    }
+    return GradoopId.fromByteArray(bytes);
+  }
+}
@@ -20,11 +20,14 @@ import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.log4j.Logger;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.graph.functions.ImportIdHasher;
 import org.gradoop.flink.io.impl.graph.functions.InitEdge;
+import org.gradoop.flink.io.impl.graph.functions.InitHashedEdge;
 import org.gradoop.flink.io.impl.graph.functions.InitVertex;
 import org.gradoop.flink.io.impl.graph.functions.UpdateEdge;
 import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
@@ -32,7 +35,9 @@ import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.tuple.Project3To0And1;
+import org.gradoop.flink.model.impl.functions.tuple.Value1Of3;
 import org.gradoop.flink.model.impl.functions.tuple.Value2Of3;
+import org.gradoop.flink.model.impl.operators.count.Count;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
@@ -44,11 +49,24 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * to be represented by a data set of {@link ImportVertex} and a data set of
  * {@link ImportEdge}. This class transforms the external graph into an EPGM
  * {@link LogicalGraph}.
+ * <p>
+ * By default, vertices get random identifiers and the edges are joined twice with the resulting
+ * mapping of import to EPGM identifiers. Alternatively, the vertex identifiers can be derived from
+ * a hash of the import identifiers (see {@link ImportIdHasher}), which turns the edge import into a
+ * simple map. In that mode, the hashed vertex identifiers are verified by a separate job before
+ * importing the graph. If two vertices share an identifier, the import falls back to random
+ * identifiers. Note that, unlike the join based import, edges referring to vertices which are not
+ * imported are not removed in that mode.
  *
  * @param <K> External vertex/edge identifier type
  */
 public class GraphDataSource<K extends Comparable<K>> implements DataSource {
 
+  /**
+   * Logger
+   */
+  private static final Logger LOG = Logger.getLogger(GraphDataSource.class);
+
   /**
    * Vertices to import.
    */
@@ -69,6 +87,10 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
    */
   private final GradoopFlinkConfig config;
 
+  /**
+   * True, if the vertex identifiers are derived from the import identifiers.
+   */
+  private final boolean hashIds;
 
   /**
    * Creates a new graph reader with no lineage information stored at the
@@ -98,9 +120,30 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
   public GraphDataSource(DataSet<ImportVertex<K>> importVertices,
     DataSet<ImportEdge<K>> importEdges, String lineagePropertyKey,
     GradoopFlinkConfig config) {
+    this(importVertices, importEdges, lineagePropertyKey, false, config);
+  }
+
+  /**
+   * Creates a new graph reader.
+   *
+   * If the given {@code lineagePropertyKey} is {@code null}, no lineage info
+   * is stored.
+   *
+   * @param importVertices      vertices to import
+   * @param importEdges         edges to import
+   * @param lineagePropertyKey  property key to store import identifiers
+   *                            (can be {@code null})
+   * @param hashIds             true, to derive the vertex identifiers from the
+   *                            import identifiers
+   * @param config              gradoop config
+   */
+  public GraphDataSource(DataSet<ImportVertex<K>> importVertices,
+    DataSet<ImportEdge<K>> importEdges, String lineagePropertyKey,
+    boolean hashIds, GradoopFlinkConfig config) {
     this.importVertices     = checkNotNull(importVertices);
     this.importEdges        = checkNotNull(importEdges);
     this.lineagePropertyKey = lineagePropertyKey;
+    this.hashIds            = hashIds;
     this.config             = checkNotNull(config);
   }
 
@@ -115,6 +158,24 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
     TypeInformation<K> externalIdType = ((TupleTypeInfo<?>) importVertices
       .getType()).getTypeAt(0);
 
+    if (hashIds) {
+      DataSet<Tuple3<K, GradoopId, Vertex>> hashedVertexTriples = importVertices
+        .map(new InitVertex<K>(
+          config.getVertexFactory(), lineagePropertyKey, externalIdType, true));
+
+      if (!hasIdCollisions(hashedVertexTriples.map(new Value1Of3<K, GradoopId, Vertex>()))) {
+        DataSet<Vertex> epgmVertices = hashedVertexTriples
+          .map(new Value2Of3<K, GradoopId, Vertex>());
+
+        DataSet<Edge> epgmEdges = importEdges
+          .map(new InitHashedEdge<K>(
+            config.getEdgeFactory(), lineagePropertyKey, externalIdType));
+
+        return config.getLogicalGraphFactory().fromDataSets(epgmVertices, epgmEdges);
+      }
+      LOG.warn("Hashed vertex identifiers are not unique, falling back to random identifiers.");
+    }
+
     DataSet<Tuple3<K, GradoopId, Vertex>> vertexTriples = importVertices
       .map(new InitVertex<K>(
         config.getVertexFactory(), lineagePropertyKey, externalIdType));
@@ -141,4 +202,23 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
   public GraphCollection getGraphCollection() throws IOException {
     return config.getGraphCollectionFactory().fromGraph(getLogicalGraph());
   }
+
+  /**
+   * Checks if any identifier is assigned to more than one vertex. The check is executed
+   * eagerly.
+   *
+   * @param vertexIds vertex identifiers
+   * @return true, iff the identifiers are not unique
+   */
+  private boolean hasIdCollisions(DataSet<GradoopId> vertexIds) {
+    try {
+      return !Count.groupBy(vertexIds)
+        .filter(idWithCount -> idWithCount.f1 > 1)
+        .first(1)
+        .collect()
+        .isEmpty();
+    } catch (Exception e) {
+      throw new RuntimeException("Error while verifying the hashed vertex identifiers", e);
+    }
+  }
 }
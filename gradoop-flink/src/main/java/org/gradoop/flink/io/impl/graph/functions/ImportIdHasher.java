@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.graph.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Derives deterministic EPGM identifiers from import identifiers. The identifier is built from
+ * the first {@link GradoopId#ID_SIZE} bytes of the MD5 digest of the string representation of the
+ * import identifier, i.e. equal import identifiers are mapped to equal EPGM identifiers on every
+ * worker without exchanging a mapping.
+ * <p>
+ * Different import identifiers may collide, which has to be checked before relying on the ids.
+ *
+ * @param <K> Import Edge/Vertex identifier type
+ */
+public class ImportIdHasher<K extends Comparable<K>> implements Serializable {
+
+  /**
+   * Hash algorithm.
+   */
+  private static final String ALGORITHM = "MD5";
+
+  /**
+   * Digest, created lazily on each worker.
+   */
+  private transient MessageDigest digest;
+
+  /**
+   * Returns the EPGM identifier for the given import identifier.
+   *
+   * @param importId import identifier
+   * @return deterministic EPGM identifier
+   */
+  public GradoopId getId(K importId) {
+    if (digest == null) {
+      try {
+        digest = MessageDigest.getInstance(ALGORITHM);
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("Every Java platform supports " + ALGORITHM, e);
+      }
+    }
+    byte[] hash = digest.digest(importId.toString().getBytes(StandardCharsets.UTF_8));
+    return GradoopId.fromByteArray(Arrays.copyOf(hash, GradoopId.ID_SIZE));
+  }
+}
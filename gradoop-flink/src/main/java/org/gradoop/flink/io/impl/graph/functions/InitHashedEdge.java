@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.graph.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
+
+/**
+ * Initializes an EPGM edge from the given {@link ImportEdge}. Source and target vertex
+ * identifiers are derived from the import vertex identifiers by the {@link ImportIdHasher}, which
+ * makes joining the edges with the vertices unnecessary.
+ *
+ * @param <K> Import Edge/Vertex identifier type
+ */
+@FunctionAnnotation.ForwardedFields(
+  "f3->label;" +     // edge label
+  "f4->properties")  // edge properties
+public class InitHashedEdge<K extends Comparable<K>>
+  extends InitElement<Edge, K>
+  implements MapFunction<ImportEdge<K>, Edge>, ResultTypeQueryable<Edge> {
+
+  /**
+   * Used to create new EPGM edge.
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+
+  /**
+   * Derives the vertex identifiers.
+   */
+  private final ImportIdHasher<K> hasher;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param epgmEdgeFactory     edge factory
+   * @param lineagePropertyKey  property key to store import identifier
+   *                            (can be {@code null})
+   * @param keyTypeInfo         type info for the import edge identifier
+   */
+  public InitHashedEdge(EPGMEdgeFactory<Edge> epgmEdgeFactory, String lineagePropertyKey,
+    TypeInformation<K> keyTypeInfo) {
+    super(lineagePropertyKey, keyTypeInfo);
+    this.edgeFactory = epgmEdgeFactory;
+    this.hasher      = new ImportIdHasher<>();
+  }
+
+  @Override
+  public Edge map(ImportEdge<K> importEdge) throws Exception {
+    Edge edge = edgeFactory.initEdge(GradoopId.get(), importEdge.getLabel(),
+      hasher.getId(importEdge.getSourceId()), hasher.getId(importEdge.getTargetId()),
+      importEdge.getProperties());
+
+    return updateLineage(edge, importEdge.getId());
+  }
+
+  @Override
+  public TypeInformation<Edge> getProducedType() {
+    return TypeExtractor.createTypeInfo(edgeFactory.getType());
+  }
+}
@@ -52,6 +52,11 @@ public class InitVertex<K extends Comparable<K>>
    */
   private final Tuple3<K, GradoopId, Vertex> reuseTuple;
 
+  /**
+   * Derives the vertex identifiers or {@code null} if random identifiers are used.
+   */
+  private final ImportIdHasher<K> hasher;
+
   /**
    * Creates a new map function
    * @param epgmVertexFactory       vertex factory
@@ -61,9 +66,24 @@ public class InitVertex<K extends Comparable<K>>
    */
   public InitVertex(EPGMVertexFactory<Vertex> epgmVertexFactory,
     String lineagePropertyKey, TypeInformation<K> externalIdType) {
+    this(epgmVertexFactory, lineagePropertyKey, externalIdType, false);
+  }
+
+  /**
+   * Creates a new map function
+   * @param epgmVertexFactory   vertex factory
+   * @param lineagePropertyKey  property key to store import identifier
+   *                            (can be {@code null})
+   * @param externalIdType      type info for the import vertex identifier
+   * @param hashIds             true, if the vertex identifiers are derived from the import
+   *                            identifiers by the {@link ImportIdHasher}
+   */
+  public InitVertex(EPGMVertexFactory<Vertex> epgmVertexFactory,
+    String lineagePropertyKey, TypeInformation<K> externalIdType, boolean hashIds) {
     super(lineagePropertyKey, externalIdType);
     this.vertexFactory      = epgmVertexFactory;
     this.reuseTuple         = new Tuple3<>();
+    this.hasher             = hashIds ? new ImportIdHasher<>() : null;
   }
 
   /**
@@ -79,8 +99,10 @@ public class InitVertex<K extends Comparable<K>>
     Exception {
     reuseTuple.f0 = importVertex.getId();
 
-    Vertex vertex = vertexFactory.createVertex(importVertex.getLabel(),
-      importVertex.getProperties());
+    Vertex vertex = hasher == null ?
+      vertexFactory.createVertex(importVertex.getLabel(), importVertex.getProperties()) :
+      vertexFactory.initVertex(hasher.getId(importVertex.getId()), importVertex.getLabel(),
+        importVertex.getProperties());
 
     reuseTuple.f1 = vertex.getId();
     reuseTuple.f2 = updateLineage(vertex, importVertex.getId());
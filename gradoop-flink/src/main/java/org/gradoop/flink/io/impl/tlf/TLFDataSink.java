@@ -17,7 +17,10 @@ package org.gradoop.flink.io.impl.tlf;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
 import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.compression.BlockCompressedOutputFormat;
+import org.gradoop.flink.io.impl.compression.BlockCompression;
 import org.gradoop.flink.io.impl.tlf.functions.EdgeLabelList;
 import org.gradoop.flink.io.impl.tlf.functions.ElementLabelEncoder;
 import org.gradoop.flink.io.impl.tlf.functions.TLFDictionaryFileFormat;
@@ -34,10 +37,16 @@ import java.util.Map;
 
 /**
  * Writes an EPGM representation into one TLF file. The format
- * is documented at {@link TLFFileFormat}.
+ * is documented at {@link TLFFileFormat}. Optionally, the graphs are written block compressed,
+ * see {@link BlockCompression}, dictionaries are always written as plain text.
  */
 public class TLFDataSink extends TLFBase implements DataSink {
 
+  /**
+   * True, if the TLF file is written block compressed.
+   */
+  private final boolean compressed;
+
   /**
    * Creates a new data sink. Paths can be local (file://) or HDFS (hdfs://).
    *
@@ -45,7 +54,7 @@ public class TLFDataSink extends TLFBase implements DataSink {
    * @param config Gradoop Flink configuration
    */
   public TLFDataSink(String tlfPath, GradoopFlinkConfig config) {
-    super(tlfPath, "", "", config);
+    this(tlfPath, "", "", config);
   }
 
   /**
@@ -58,7 +67,22 @@ public class TLFDataSink extends TLFBase implements DataSink {
    */
   public TLFDataSink(String tlfPath, String tlfVertexDictionaryPath,
     String tlfEdgeDictionaryPath, GradoopFlinkConfig config) {
+    this(tlfPath, tlfVertexDictionaryPath, tlfEdgeDictionaryPath, config, false);
+  }
+
+  /**
+   * Creates a new data sink. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param tlfPath tlf data file
+   * @param tlfVertexDictionaryPath tlf vertex dictionary file
+   * @param tlfEdgeDictionaryPath tlf edge dictionary file
+   * @param config Gradoop Flink configuration
+   * @param compressed true, to write the tlf data file block compressed
+   */
+  public TLFDataSink(String tlfPath, String tlfVertexDictionaryPath,
+    String tlfEdgeDictionaryPath, GradoopFlinkConfig config, boolean compressed) {
     super(tlfPath, tlfVertexDictionaryPath, tlfEdgeDictionaryPath, config);
+    this.compressed = compressed;
   }
 
   @Override
@@ -144,12 +168,28 @@ public class TLFDataSink extends TLFBase implements DataSink {
             TLFConstants.EDGE_DICTIONARY);
       }
       // write the TLF format adjusted graphs to file
-      simpleLabelTransaction
-        .writeAsFormattedText(getTLFPath(), writeMode, new TLFFileFormat());
+      writeTLF(simpleLabelTransaction, writeMode);
       // if there was no dictionary used the graphs can simply be written
     } else {
-      graphTransactions
-        .writeAsFormattedText(getTLFPath(), writeMode, new TLFFileFormat());
+      writeTLF(graphTransactions, writeMode);
+    }
+  }
+
+  /**
+   * Writes the graph transactions to the tlf data file.
+   *
+   * @param graphTransactions graph transactions
+   * @param writeMode write mode
+   */
+  private void writeTLF(DataSet<GraphTransaction> graphTransactions,
+    FileSystem.WriteMode writeMode) {
+    if (compressed) {
+      BlockCompressedOutputFormat<GraphTransaction> format =
+        new BlockCompressedOutputFormat<>(new Path(getTLFPath()), new TLFFileFormat());
+      format.setWriteMode(writeMode);
+      graphTransactions.output(format);
+    } else {
+      graphTransactions.writeAsFormattedText(getTLFPath(), writeMode, new TLFFileFormat());
     }
   }
 }
@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.io.impl.tlf;
 
+import org.apache.flink.api.common.typeinfo.TypeHint;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.apache.flink.api.java.tuple.Tuple2;
@@ -23,6 +24,7 @@ import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.mapred.TextInputFormat;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.compression.BlockCompressedInputFormat;
 import org.gradoop.flink.io.impl.tlf.functions.Dictionary;
 import org.gradoop.flink.io.impl.tlf.functions.DictionaryEntry;
 import org.gradoop.flink.io.impl.tlf.functions.EdgeLabelDecoder;
@@ -42,10 +44,16 @@ import java.util.Map;
 /**
  * Creates an EPGM instance from one TLF file. The exact format is
  * documented in
- * {@link TLFFileFormat}.
+ * {@link TLFFileFormat}. Block compressed files written by a compressed {@link TLFDataSink} are
+ * split on block boundaries by the {@link BlockCompressedInputFormat}.
  */
 public class TLFDataSource extends TLFBase implements DataSource {
 
+  /**
+   * True, if the tlf data file is block compressed.
+   */
+  private final boolean compressed;
+
   /**
    * Creates a new data source. Paths can be local (file://) or HDFS (hdfs://).
    *
@@ -53,7 +61,7 @@ public class TLFDataSource extends TLFBase implements DataSource {
    * @param config Gradoop Flink configuration
    */
   public TLFDataSource(String tlfPath, GradoopFlinkConfig config) {
-    super(tlfPath, "", "", config);
+    this(tlfPath, "", "", config);
   }
 
   /**
@@ -66,7 +74,22 @@ public class TLFDataSource extends TLFBase implements DataSource {
    */
   public TLFDataSource(String tlfPath, String tlfVertexDictionaryPath,
     String tlfEdgeDictionaryPath, GradoopFlinkConfig config) {
+    this(tlfPath, tlfVertexDictionaryPath, tlfEdgeDictionaryPath, config, false);
+  }
+
+  /**
+   * Creates a new data source. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param tlfPath tlf data file
+   * @param tlfVertexDictionaryPath tlf vertex dictionary file
+   * @param tlfEdgeDictionaryPath tlf edge dictionary file
+   * @param config Gradoop Flink configuration
+   * @param compressed true, if the tlf data file is block compressed
+   */
+  public TLFDataSource(String tlfPath, String tlfVertexDictionaryPath,
+    String tlfEdgeDictionaryPath, GradoopFlinkConfig config, boolean compressed) {
     super(tlfPath, tlfVertexDictionaryPath, tlfEdgeDictionaryPath, config);
+    this.compressed = compressed;
     ExecutionEnvironment env = config.getExecutionEnvironment();
     if (hasVertexDictionary()) {
       DataSet<Map<Integer, String>> dictionary = env.createInput(HadoopInputs.readHadoopFile(
@@ -100,11 +123,19 @@ public class TLFDataSource extends TLFBase implements DataSource {
 
     DataSet<Tuple2<LongWritable, Text>> input = null;
 
-    try {
-      input = env.createInput(HadoopInputs.readHadoopFile(
-        new TLFInputFormat(), LongWritable.class, Text.class, getTLFPath()));
-    } catch (IOException e) {
-      e.printStackTrace();
+    if (compressed) {
+      // each record of a block compressed file is a single graph
+      input = env.createInput(new BlockCompressedInputFormat(getTLFPath()))
+        .map(graph -> Tuple2.of(new LongWritable(), new Text(graph)))
+        .returns(new TypeHint<Tuple2<LongWritable, Text>>() {
+        });
+    } else {
+      try {
+        input = env.createInput(HadoopInputs.readHadoopFile(
+          new TLFInputFormat(), LongWritable.class, Text.class, getTLFPath()));
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
     }
 
     // load tlf graphs from file
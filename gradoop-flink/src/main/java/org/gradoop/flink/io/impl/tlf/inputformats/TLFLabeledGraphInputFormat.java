@@ -0,0 +1,391 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.inputformats;
+
+import org.apache.flink.api.common.io.DelimitedInputFormat;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.algorithms.fsm.dimspan.tuples.LabeledGraphStringString;
+import org.gradoop.flink.io.impl.tlf.TLFConstants;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splittable input format that parses TLF graphs directly into the
+ * {@link LabeledGraphStringString} representation used as input of
+ * {@link org.gradoop.flink.algorithms.fsm.dimspan.DIMSpan}.
+ * <p>
+ * Records are delimited by the TLF start tag and decoded from the read buffer of the input split,
+ * i.e. neither graph strings nor lines nor tokens are materialized as {@link String}s and no
+ * {@link org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction} is created.
+ * Vertex ids are mapped to the position of the vertex within its graph by a hash table that is
+ * sized by the number of vertices, not by the largest vertex id. Edges are collected in reused
+ * buffers. Labels are decoded once per parallel instance and shared between graphs.
+ * <p>
+ * Note, that dictionary files of the TLF format are not taken into account, i.e. labels are
+ * read as they are stored in the graph file.
+ */
+public class TLFLabeledGraphInputFormat extends DelimitedInputFormat<LabeledGraphStringString>
+  implements ResultTypeQueryable<LabeledGraphStringString> {
+  /**
+   * Line break.
+   */
+  private static final byte LINE_BREAK = '\n';
+  /**
+   * Carriage return, ignored at line ends.
+   */
+  private static final byte CARRIAGE_RETURN = '\r';
+  /**
+   * Separator between the tokens of a line.
+   */
+  private static final byte COLUMN_SEPARATOR = ' ';
+  /**
+   * First character of a vertex line.
+   */
+  private static final byte VERTEX_SYMBOL = (byte) TLFConstants.VERTEX_SYMBOL.charAt(0);
+  /**
+   * First character of an edge line.
+   */
+  private static final byte EDGE_SYMBOL = (byte) TLFConstants.EDGE_SYMBOL.charAt(0);
+  /**
+   * Number of slots of the label cache, a power of two.
+   */
+  private static final int LABEL_CACHE_SLOTS = 1 << 14;
+  /**
+   * Maximum number of cached labels, further labels are decoded on each occurrence.
+   */
+  private static final int MAX_CACHED_LABELS = LABEL_CACHE_SLOTS >> 1;
+  /**
+   * Initial capacity of the vertex and edge buffers.
+   */
+  private static final int INITIAL_CAPACITY = 16;
+  /**
+   * Multiplier spreading the vertex ids over the slots of the position table.
+   */
+  private static final int ID_HASH_MULTIPLIER = 0x9E3779B9;
+  /**
+   * UTF-8 representation of the cached labels.
+   */
+  private transient byte[][] cachedBytes;
+  /**
+   * Cached labels.
+   */
+  private transient String[] cachedLabels;
+  /**
+   * Number of cached labels.
+   */
+  private transient int cachedCount;
+  /**
+   * TLF vertex ids of the position table, a hash table with linear probing.
+   */
+  private transient int[] slotIds;
+  /**
+   * Position within the graph per slot of the position table, {@code -1} if the slot is empty.
+   */
+  private transient int[] slotPositions;
+  /**
+   * TLF ids of the vertices of the current graph.
+   */
+  private transient int[] vertexIds;
+  /**
+   * Slots of the vertices of the current graph within the position table.
+   */
+  private transient int[] vertexSlots;
+  /**
+   * Labels of the vertices of the current graph.
+   */
+  private transient String[] vertexLabels;
+  /**
+   * Source and target positions of the edges of the current graph.
+   */
+  private transient int[] edges;
+  /**
+   * Labels of the edges of the current graph.
+   */
+  private transient String[] edgeLabels;
+  /**
+   * Offset behind the last parsed token.
+   */
+  private transient int position;
+
+  /**
+   * Constructor
+   *
+   * @param path path of the TLF file or directory
+   */
+  public TLFLabeledGraphInputFormat(String path) {
+    super(new Path(path), null);
+    setDelimiter(TLFConstants.START_TAG);
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    if (cachedBytes == null) {
+      cachedBytes = new byte[LABEL_CACHE_SLOTS][];
+      cachedLabels = new String[LABEL_CACHE_SLOTS];
+      slotIds = new int[2 * INITIAL_CAPACITY];
+      slotPositions = new int[2 * INITIAL_CAPACITY];
+      Arrays.fill(slotPositions, -1);
+      vertexIds = new int[INITIAL_CAPACITY];
+      vertexSlots = new int[INITIAL_CAPACITY];
+      vertexLabels = new String[INITIAL_CAPACITY];
+      edges = new int[2 * INITIAL_CAPACITY];
+      edgeLabels = new String[INITIAL_CAPACITY];
+    }
+  }
+
+  @Override
+  public LabeledGraphStringString readRecord(LabeledGraphStringString reuse, byte[] bytes,
+    int offset, int numBytes) throws IOException {
+    // the file starts with a start tag
+    if (numBytes == 0) {
+      return null;
+    }
+    int end = offset + numBytes;
+    // skip the graph id
+    int lineStart = nextLine(bytes, offset, end);
+
+    int vertexCount = 0;
+    int edgeCount = 0;
+
+    try {
+      while (lineStart < end) {
+        int lineEnd = lineStart;
+        while (lineEnd < end && bytes[lineEnd] != LINE_BREAK) {
+          lineEnd++;
+        }
+        int contentEnd = lineEnd;
+        if (contentEnd > lineStart && bytes[contentEnd - 1] == CARRIAGE_RETURN) {
+          contentEnd--;
+        }
+
+        if (contentEnd > lineStart) {
+          position = lineStart + 1;
+          if (bytes[lineStart] == VERTEX_SYMBOL) {
+            int id = readInt(bytes, contentEnd);
+            ensureVertexCapacity(vertexCount);
+            int slot = getSlot(id);
+            if (slotPositions[slot] >= 0) {
+              throw new IOException("Duplicate vertex id " + id + " at offset " + lineStart);
+            }
+            slotIds[slot] = id;
+            slotPositions[slot] = vertexCount;
+            vertexIds[vertexCount] = id;
+            vertexSlots[vertexCount] = slot;
+            vertexLabels[vertexCount] = readLabel(bytes, contentEnd);
+            vertexCount++;
+          } else if (bytes[lineStart] == EDGE_SYMBOL) {
+            int sourceId = readInt(bytes, contentEnd);
+            int targetId = readInt(bytes, contentEnd);
+            if (edgeCount == edgeLabels.length) {
+              edges = Arrays.copyOf(edges, 4 * edgeCount);
+              edgeLabels = Arrays.copyOf(edgeLabels, 2 * edgeCount);
+            }
+            edges[2 * edgeCount] = getVertexPosition(sourceId, lineStart);
+            edges[2 * edgeCount + 1] = getVertexPosition(targetId, lineStart);
+            edgeLabels[edgeCount] = readLabel(bytes, contentEnd);
+            edgeCount++;
+          }
+        }
+        lineStart = lineEnd + 1;
+      }
+    } finally {
+      for (int i = 0; i < vertexCount; i++) {
+        slotPositions[vertexSlots[i]] = -1;
+      }
+    }
+
+    return LabeledGraphStringString.create(
+      Arrays.copyOf(edges, 2 * edgeCount),
+      Arrays.copyOf(vertexLabels, vertexCount),
+      Arrays.copyOf(edgeLabels, edgeCount));
+  }
+
+  @Override
+  public TypeInformation<LabeledGraphStringString> getProducedType() {
+    return TypeExtractor.createTypeInfo(LabeledGraphStringString.class);
+  }
+
+  /**
+   * Returns the offset of the line following the given offset.
+   *
+   * @param bytes read buffer
+   * @param offset offset within the current line
+   * @param end end of the record
+   * @return start of the next line or the end of the record
+   */
+  private int nextLine(byte[] bytes, int offset, int end) {
+    while (offset < end && bytes[offset] != LINE_BREAK) {
+      offset++;
+    }
+    return offset < end ? offset + 1 : end;
+  }
+
+  /**
+   * Reads the next non-negative integer token of the current line.
+   *
+   * @param bytes read buffer
+   * @param end end of the current line
+   * @return integer value
+   * @throws IOException if the token is missing or not a non-negative integer
+   */
+  private int readInt(byte[] bytes, int end) throws IOException {
+    skipSeparators(bytes, end);
+    int start = position;
+    long value = 0;
+    while (position < end && bytes[position] != COLUMN_SEPARATOR) {
+      int digit = bytes[position] - '0';
+      if (digit < 0 || digit > 9 || value > Integer.MAX_VALUE) {
+        throw new IOException("Invalid vertex id at offset " + start);
+      }
+      value = value * 10 + digit;
+      position++;
+    }
+    if (position == start || value > Integer.MAX_VALUE) {
+      throw new IOException("Invalid vertex id at offset " + start);
+    }
+    return (int) value;
+  }
+
+  /**
+   * Reads the label token of the current line. Labels are looked up in the label cache before they
+   * are decoded.
+   *
+   * @param bytes read buffer
+   * @param end end of the current line
+   * @return label
+   */
+  private String readLabel(byte[] bytes, int end) {
+    skipSeparators(bytes, end);
+    int start = position;
+    int hash = 1;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    int mask = LABEL_CACHE_SLOTS - 1;
+    int slot = (hash ^ (hash >>> 16)) & mask;
+    while (cachedBytes[slot] != null) {
+      if (labelEquals(cachedBytes[slot], bytes, start, end)) {
+        return cachedLabels[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    String label = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    if (cachedCount < MAX_CACHED_LABELS) {
+      cachedBytes[slot] = Arrays.copyOfRange(bytes, start, end);
+      cachedLabels[slot] = label;
+      cachedCount++;
+    }
+    return label;
+  }
+
+  /**
+   * Advances the current position behind the column separators in front of the next token.
+   *
+   * @param bytes read buffer
+   * @param end end of the current line
+   */
+  private void skipSeparators(byte[] bytes, int end) {
+    while (position < end && bytes[position] == COLUMN_SEPARATOR) {
+      position++;
+    }
+  }
+
+  /**
+   * Compares a cached label to a range of the read buffer.
+   *
+   * @param cached UTF-8 representation of the cached label
+   * @param bytes read buffer
+   * @param start start of the label
+   * @param end end of the label
+   * @return true, if the bytes are equal
+   */
+  private static boolean labelEquals(byte[] cached, byte[] bytes, int start, int end) {
+    if (cached.length != end - start) {
+      return false;
+    }
+    for (int i = 0; i < cached.length; i++) {
+      if (cached[i] != bytes[start + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Grows the vertex buffers and the position table to store another vertex. The position table
+   * is kept at most half full.
+   *
+   * @param vertexCount number of vertices of the current graph
+   */
+  private void ensureVertexCapacity(int vertexCount) {
+    if (vertexCount == vertexIds.length) {
+      vertexIds = Arrays.copyOf(vertexIds, 2 * vertexCount);
+      vertexSlots = Arrays.copyOf(vertexSlots, 2 * vertexCount);
+      vertexLabels = Arrays.copyOf(vertexLabels, 2 * vertexCount);
+    }
+    if (2 * (vertexCount + 1) > slotPositions.length) {
+      slotIds = new int[2 * slotPositions.length];
+      slotPositions = new int[slotIds.length];
+      Arrays.fill(slotPositions, -1);
+      for (int i = 0; i < vertexCount; i++) {
+        int slot = getSlot(vertexIds[i]);
+        slotIds[slot] = vertexIds[i];
+        slotPositions[slot] = i;
+        vertexSlots[i] = slot;
+      }
+    }
+  }
+
+  /**
+   * Returns the slot of the given vertex id within the position table, i.e. the slot containing
+   * the id or the empty slot the id has to be stored in.
+   *
+   * @param id TLF id of the vertex
+   * @return slot
+   */
+  private int getSlot(int id) {
+    int mask = slotPositions.length - 1;
+    int hash = id * ID_HASH_MULTIPLIER;
+    int slot = (hash ^ (hash >>> 16)) & mask;
+    while (slotPositions[slot] >= 0 && slotIds[slot] != id) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * Returns the position of a vertex within the current graph.
+   *
+   * @param id TLF id of the vertex
+   * @param lineStart offset of the edge line referencing the vertex
+   * @return position of the vertex
+   * @throws IOException if the vertex was not declared in front of the edge
+   */
+  private int getVertexPosition(int id, int lineStart) throws IOException {
+    int vertexPosition = slotPositions[getSlot(id)];
+    if (vertexPosition < 0) {
+      throw new IOException("Unknown vertex id " + id + " at offset " + lineStart);
+    }
+    return vertexPosition;
+  }
+}
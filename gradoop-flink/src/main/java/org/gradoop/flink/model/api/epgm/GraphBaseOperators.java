@@ -59,4 +59,13 @@ public interface GraphBaseOperators {
    * @throws IOException if the data sink can't be written
    */
   void writeTo(DataSink dataSink, boolean overWrite) throws IOException;
+
+  /**
+   * Removes the data materialized for logical graph/graph collection by {@code cache()} or
+   * {@code persist()}. The logical graph/graph collection must not be used afterwards. Does
+   * nothing if it was not materialized.
+   *
+   * @throws IOException if the materialized data can't be removed
+   */
+  void unpersist() throws IOException;
 }
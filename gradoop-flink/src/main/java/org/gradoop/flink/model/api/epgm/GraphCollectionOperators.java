@@ -34,6 +34,7 @@ import org.gradoop.flink.model.impl.operators.combination.Combination;
 import org.gradoop.flink.model.impl.operators.exclusion.Exclusion;
 import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.PatternMatchingAlgorithm;
 import org.gradoop.flink.model.impl.operators.overlap.Overlap;
+import org.gradoop.flink.model.impl.operators.persistence.PersistenceLevel;
 
 /**
  * Defines the operators that are available on a {@link GraphCollection}.
@@ -223,6 +224,37 @@ public interface GraphCollectionOperators extends GraphBaseOperators {
   // Auxiliary operators
   //----------------------------------------------------------------------------
 
+  /**
+   * Materializes the collection using {@link PersistenceLevel#SERIALIZED} in the temporary
+   * directory of the local file system.
+   *
+   * @return equal graph collection reading the materialized data
+   * @see #persist(PersistenceLevel, String)
+   */
+  GraphCollection cache();
+
+  /**
+   * Materializes the collection using the given storage format in the temporary directory of the
+   * local file system.
+   *
+   * @param level storage format
+   * @return equal graph collection reading the materialized data
+   * @see #persist(PersistenceLevel, String)
+   */
+  GraphCollection persist(PersistenceLevel level);
+
+  /**
+   * Materializes the collection in the given directory. The execution environment is executed
+   * immediately, subsequent programs using the returned collection start from the materialized
+   * data instead of re-computing the collection. The data is removed by calling
+   * {@link #unpersist()} on the returned collection.
+   *
+   * @param level storage format
+   * @param directory directory that is accessible by all task managers
+   * @return equal graph collection reading the materialized data
+   */
+  GraphCollection persist(PersistenceLevel level, String directory);
+
   /**
    * Calls the given unary collection to collection operator for the collection.
    *
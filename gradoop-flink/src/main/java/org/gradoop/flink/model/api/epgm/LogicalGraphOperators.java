@@ -17,6 +17,7 @@ package org.gradoop.flink.model.api.epgm;
 
 import org.apache.flink.api.common.functions.FilterFunction;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.types.Row;
 import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
@@ -37,6 +38,7 @@ import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
+import org.gradoop.flink.model.impl.operators.persistence.PersistenceLevel;
 import org.gradoop.flink.model.impl.operators.sampling.SamplingAlgorithm;
 import org.gradoop.flink.model.impl.operators.subgraph.Subgraph;
 
@@ -187,6 +189,63 @@ public interface LogicalGraphOperators extends GraphBaseOperators {
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
     GraphStatistics graphStatistics);
 
+  /**
+   * Evaluates the given queries using the Cypher query engine. Common sub plans of the queries
+   * are shared and evaluated only once when all results are computed within the same job.
+   *
+   * @param queries         Cypher queries
+   * @param graphStatistics statistics about the data graph
+   * @return one graph collection containing matching subgraphs per query
+   */
+  List<GraphCollection> query(List<String> queries, GraphStatistics graphStatistics);
+
+  /**
+   * Evaluates the given queries using the Cypher query engine. Common sub plans of the queries
+   * are shared and evaluated only once when all results are computed within the same job.
+   *
+   * @param queries         Cypher queries
+   * @param attachData      attach original vertex and edge data to the result
+   * @param vertexStrategy  morphism setting for vertex mapping
+   * @param edgeStrategy    morphism setting for edge mapping
+   * @param graphStatistics statistics about the data graph
+   * @return one graph collection containing matching subgraphs per query
+   */
+  List<GraphCollection> query(List<String> queries, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics);
+
+  /**
+   * Evaluates the given query using the Cypher query engine and returns the bindings of the given
+   * columns as rows. A column is either a query variable, which is bound to the id of the matched
+   * vertex or edge, or a property selector like {@code p.name}, which is bound to the property
+   * value of the matched element. In contrast to {@link #query(String)}, no graph heads are
+   * created and the matches are not joined with the elements of the logical graph.
+   *
+   * <pre>
+   * <code>
+   * DataSet&lt;Row&gt; rows = graph.queryRows(
+   *   "MATCH (p:Person)-[:knows]->(q:Person) WHERE p.age &gt; 30",
+   *   Arrays.asList("p.name", "q.name"));
+   * </code>
+   * </pre>
+   *
+   * @param query   Cypher query
+   * @param columns variables and property selectors
+   * @return one row per match
+   */
+  DataSet<Row> queryRows(String query, List<String> columns);
+
+  /**
+   * Evaluates the given query using the Cypher query engine and returns the bindings of the given
+   * columns as rows.
+   *
+   * @param query           Cypher query
+   * @param columns         variables and property selectors
+   * @param graphStatistics statistics about the data graph
+   * @return one row per match
+   * @see #queryRows(String, List)
+   */
+  DataSet<Row> queryRows(String query, List<String> columns, GraphStatistics graphStatistics);
+
   /**
    * Creates a copy of the logical graph.
    * <p>
@@ -520,6 +579,37 @@ public interface LogicalGraphOperators extends GraphBaseOperators {
    */
   GraphCollection splitBy(String propertyKey);
 
+  /**
+   * Materializes the graph using {@link PersistenceLevel#SERIALIZED} in the temporary directory
+   * of the local file system.
+   *
+   * @return equal logical graph reading the materialized data
+   * @see #persist(PersistenceLevel, String)
+   */
+  LogicalGraph cache();
+
+  /**
+   * Materializes the graph using the given storage format in the temporary directory of the
+   * local file system.
+   *
+   * @param level storage format
+   * @return equal logical graph reading the materialized data
+   * @see #persist(PersistenceLevel, String)
+   */
+  LogicalGraph persist(PersistenceLevel level);
+
+  /**
+   * Materializes the graph in the given directory. The execution environment is executed
+   * immediately, subsequent programs using the returned graph start from the materialized data
+   * instead of re-computing the graph. The data is removed by calling {@link #unpersist()} on the
+   * returned graph.
+   *
+   * @param level storage format
+   * @param directory directory that is accessible by all task managers
+   * @return equal logical graph reading the materialized data
+   */
+  LogicalGraph persist(PersistenceLevel level, String directory);
+
   /**
    * Creates a logical graph using the given unary graph operator.
    *
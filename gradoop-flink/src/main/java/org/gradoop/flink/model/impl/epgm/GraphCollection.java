@@ -55,6 +55,8 @@ import org.gradoop.flink.model.impl.operators.intersection.IntersectionBroadcast
 import org.gradoop.flink.model.impl.operators.limit.Limit;
 import org.gradoop.flink.model.impl.operators.matching.transactional.TransactionalPatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.PatternMatchingAlgorithm;
+import org.gradoop.flink.model.impl.operators.persistence.Persist;
+import org.gradoop.flink.model.impl.operators.persistence.PersistenceLevel;
 import org.gradoop.flink.model.impl.operators.selection.Selection;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToIdString;
@@ -339,6 +341,21 @@ public class GraphCollection implements
     return callForGraph(op);
   }
 
+  @Override
+  public GraphCollection cache() {
+    return persist(PersistenceLevel.SERIALIZED);
+  }
+
+  @Override
+  public GraphCollection persist(PersistenceLevel level) {
+    return callForCollection(new Persist(level));
+  }
+
+  @Override
+  public GraphCollection persist(PersistenceLevel level, String directory) {
+    return callForCollection(new Persist(level, directory));
+  }
+
   //----------------------------------------------------------------------------
   // Utility methods
   //----------------------------------------------------------------------------
@@ -388,6 +405,11 @@ public class GraphCollection implements
     dataSink.write(this, overWrite);
   }
 
+  @Override
+  public void unpersist() throws IOException {
+    Persist.unpersist(this);
+  }
+
   /**
    * Prints this graph collection to the console.
    *
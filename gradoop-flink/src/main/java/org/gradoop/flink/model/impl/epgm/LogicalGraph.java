@@ -18,6 +18,7 @@ package org.gradoop.flink.model.impl.epgm;
 import com.google.common.collect.Lists;
 import org.apache.flink.api.common.functions.FilterFunction;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.types.Row;
 import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
@@ -51,11 +52,14 @@ import org.gradoop.flink.model.impl.operators.grouping.Grouping;
 import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherMultiPatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
 import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
 import org.gradoop.flink.model.impl.operators.neighborhood.ReduceEdgeNeighborhood;
 import org.gradoop.flink.model.impl.operators.neighborhood.ReduceVertexNeighborhood;
 import org.gradoop.flink.model.impl.operators.overlap.Overlap;
+import org.gradoop.flink.model.impl.operators.persistence.Persist;
+import org.gradoop.flink.model.impl.operators.persistence.PersistenceLevel;
 import org.gradoop.flink.model.impl.operators.rollup.EdgeRollUp;
 import org.gradoop.flink.model.impl.operators.rollup.VertexRollUp;
 import org.gradoop.flink.model.impl.operators.sampling.SamplingAlgorithm;
@@ -219,6 +223,32 @@ public class LogicalGraph implements BaseGraph<GraphHead, Vertex, Edge, LogicalG
       vertexStrategy, edgeStrategy, graphStatistics));
   }
 
+  @Override
+  public List<GraphCollection> query(List<String> queries, GraphStatistics graphStatistics) {
+    return query(queries, true,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, graphStatistics);
+  }
+
+  @Override
+  public List<GraphCollection> query(List<String> queries, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    return new CypherMultiPatternMatching(queries, attachData,
+      vertexStrategy, edgeStrategy, graphStatistics).execute(this);
+  }
+
+  @Override
+  public DataSet<Row> queryRows(String query, List<String> columns) {
+    return queryRows(query, columns, new GraphStatistics(1, 1, 1, 1));
+  }
+
+  @Override
+  public DataSet<Row> queryRows(String query, List<String> columns,
+    GraphStatistics graphStatistics) {
+    return new CypherPatternMatching(query, false,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, graphStatistics)
+      .executeRows(this, columns);
+  }
+
   @Override
   public LogicalGraph copy() {
     return callForGraph(new Cloning());
@@ -437,6 +467,21 @@ public class LogicalGraph implements BaseGraph<GraphHead, Vertex, Edge, LogicalG
     return callForCollection(new Split(new PropertyGetter<>(Lists.newArrayList(propertyKey))));
   }
 
+  @Override
+  public LogicalGraph cache() {
+    return persist(PersistenceLevel.SERIALIZED);
+  }
+
+  @Override
+  public LogicalGraph persist(PersistenceLevel level) {
+    return callForGraph(new Persist(level));
+  }
+
+  @Override
+  public LogicalGraph persist(PersistenceLevel level, String directory) {
+    return callForGraph(new Persist(level, directory));
+  }
+
   //----------------------------------------------------------------------------
   // Utility methods
   //----------------------------------------------------------------------------
@@ -461,6 +506,11 @@ public class LogicalGraph implements BaseGraph<GraphHead, Vertex, Edge, LogicalG
     dataSink.write(this, overWrite);
   }
 
+  @Override
+  public void unpersist() throws IOException {
+    Persist.unpersist(this);
+  }
+
   /**
    * Prints the GDL formatted graph to the standard output.
    *
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.functions.epgm;
+
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.flink.io.api.predicate.ElementPredicate;
+import org.gradoop.flink.model.impl.functions.filters.CombinableFilter;
+
+/**
+ * Accepts all elements satisfying the given element predicate.
+ *
+ * @param <E> EPGM element
+ */
+public class ByElementPredicate<E extends Element> implements CombinableFilter<E> {
+  /**
+   * Predicate to be filtered on.
+   */
+  private final ElementPredicate predicate;
+
+  /**
+   * Valued constructor.
+   *
+   * @param predicate element predicate
+   */
+  public ByElementPredicate(ElementPredicate predicate) {
+    this.predicate = predicate;
+  }
+
+  @Override
+  public boolean filter(E e) throws Exception {
+    return predicate.test(e);
+  }
+}
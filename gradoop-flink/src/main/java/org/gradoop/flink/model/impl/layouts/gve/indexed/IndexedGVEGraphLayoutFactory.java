@@ -22,6 +22,7 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.layouts.LogicalGraphLayout;
 import org.gradoop.flink.model.impl.layouts.gve.GVEGraphLayoutFactory;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
@@ -38,6 +39,9 @@ public class IndexedGVEGraphLayoutFactory extends GVEGraphLayoutFactory {
     Objects.requireNonNull(graphHeads);
     Objects.requireNonNull(vertices);
     Objects.requireNonNull(edges);
-    return new IndexedGVELayout(graphHeads, vertices, edges);
+    return new IndexedGVELayout(graphHeads, vertices, edges,
+      createGraphHeadDataSet(Collections.EMPTY_LIST),
+      createVertexDataSet(Collections.EMPTY_LIST),
+      createEdgeDataSet(Collections.EMPTY_LIST));
   }
 }
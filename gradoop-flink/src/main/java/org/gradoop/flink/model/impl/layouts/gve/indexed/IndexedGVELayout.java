@@ -44,6 +44,18 @@ public class IndexedGVELayout extends GVELayout implements
    * Mapping from edge label to edges with that label.
    */
   private final Map<String, DataSet<Edge>> edges;
+  /**
+   * Empty graph head dataset returned for unknown labels.
+   */
+  private final DataSet<GraphHead> noGraphHeads;
+  /**
+   * Empty vertex dataset returned for unknown labels.
+   */
+  private final DataSet<Vertex> noVertices;
+  /**
+   * Empty edge dataset returned for unknown labels.
+   */
+  private final DataSet<Edge> noEdges;
 
   /**
    * Creates a new Indexed GVE Layout.
@@ -51,21 +63,27 @@ public class IndexedGVELayout extends GVELayout implements
    * @param graphHeads mapping from label to graph heads
    * @param vertices mapping from label to vertices
    * @param edges mapping from label to edges
+   * @param noGraphHeads empty graph head dataset
+   * @param noVertices empty vertex dataset
+   * @param noEdges empty edge dataset
    */
   IndexedGVELayout(Map<String, DataSet<GraphHead>> graphHeads,
     Map<String, DataSet<Vertex>> vertices,
-    Map<String, DataSet<Edge>> edges) {
+    Map<String, DataSet<Edge>> edges,
+    DataSet<GraphHead> noGraphHeads,
+    DataSet<Vertex> noVertices,
+    DataSet<Edge> noEdges) {
     super(
-      graphHeads.values().stream().reduce(DataSet::union)
-        .orElseThrow(() -> new RuntimeException("Error during graph head union")),
-      vertices.values().stream().reduce(DataSet::union)
-        .orElseThrow(() -> new RuntimeException("Error during vertex union")),
-      edges.values().stream().reduce(DataSet::union)
-        .orElseThrow(() -> new RuntimeException("Error during edge union"))
+      graphHeads.values().stream().reduce(DataSet::union).orElse(noGraphHeads),
+      vertices.values().stream().reduce(DataSet::union).orElse(noVertices),
+      edges.values().stream().reduce(DataSet::union).orElse(noEdges)
     );
     this.graphHeads = graphHeads;
     this.vertices = vertices;
     this.edges = edges;
+    this.noGraphHeads = noGraphHeads;
+    this.noVertices = noVertices;
+    this.noEdges = noEdges;
   }
 
   @Override
@@ -73,18 +91,36 @@ public class IndexedGVELayout extends GVELayout implements
     return true;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * If no graph heads with the given label exist, an empty dataset is returned without reading
+   * any of the indexed datasets.
+   */
   @Override
   public DataSet<GraphHead> getGraphHeadsByLabel(String label) {
-    return graphHeads.get(label);
+    return graphHeads.getOrDefault(label, noGraphHeads);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * If no vertices with the given label exist, an empty dataset is returned without reading any
+   * of the indexed datasets.
+   */
   @Override
   public DataSet<Vertex> getVerticesByLabel(String label) {
-    return vertices.get(label);
+    return vertices.getOrDefault(label, noVertices);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * If no edges with the given label exist, an empty dataset is returned without reading any
+   * of the indexed datasets.
+   */
   @Override
   public DataSet<Edge> getEdgesByLabel(String label) {
-    return edges.get(label);
+    return edges.getOrDefault(label, noEdges);
   }
 }
@@ -0,0 +1,530 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.cypher.capf.query;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.CollectionEnvironment;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.LocalEnvironment;
+import org.apache.flink.api.java.io.TypeSerializerInputFormat;
+import org.apache.flink.api.java.io.TypeSerializerOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.api.Table;
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.metadata.MetaData;
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.count.Count;
+import org.gradoop.flink.model.impl.operators.cypher.capf.query.functions.EdgeLabelFilter;
+import org.gradoop.flink.model.impl.operators.cypher.capf.query.functions.EdgeToTuple;
+import org.gradoop.flink.model.impl.operators.cypher.capf.query.functions.IdOfF1;
+import org.gradoop.flink.model.impl.operators.cypher.capf.query.functions.PropertyEncoder;
+import org.gradoop.flink.model.impl.operators.cypher.capf.query.functions.ReplaceSourceId;
+import org.gradoop.flink.model.impl.operators.cypher.capf.query.functions.ReplaceTargetId;
+import org.gradoop.flink.model.impl.operators.cypher.capf.query.functions.TupleToRow;
+import org.gradoop.flink.model.impl.operators.cypher.capf.query.functions.UniqueIdWithOffset;
+import org.gradoop.flink.model.impl.operators.cypher.capf.query.functions.VertexLabelFilter;
+import org.gradoop.flink.model.impl.operators.cypher.capf.query.functions.VertexToRow;
+import org.gradoop.flink.model.impl.operators.cypher.capf.result.CAPFQueryResult;
+import org.opencypher.flink.api.CAPFSession;
+import org.opencypher.flink.api.CAPFSession$;
+import org.opencypher.flink.api.io.CAPFNodeTable;
+import org.opencypher.flink.api.io.CAPFRelationshipTable;
+import org.opencypher.flink.impl.table.FlinkCypherTable;
+import org.opencypher.okapi.api.graph.PropertyGraph;
+import org.opencypher.okapi.api.io.conversion.NodeMapping;
+import org.opencypher.okapi.api.io.conversion.RelationshipMapping;
+import org.opencypher.okapi.relational.api.io.EntityTable;
+import scala.collection.JavaConversions;
+import scala.collection.mutable.Seq;
+import scala.reflect.ClassTag$;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.gradoop.flink.model.impl.operators.cypher.capf.query.CAPFQueryConstants.EDGE_ID;
+import static org.gradoop.flink.model.impl.operators.cypher.capf.query.CAPFQueryConstants.END_NODE;
+import static org.gradoop.flink.model.impl.operators.cypher.capf.query.CAPFQueryConstants.NODE_ID;
+import static org.gradoop.flink.model.impl.operators.cypher.capf.query.CAPFQueryConstants.OFFSET;
+import static org.gradoop.flink.model.impl.operators.cypher.capf.query.CAPFQueryConstants.PROPERTY_PREFIX;
+import static org.gradoop.flink.model.impl.operators.cypher.capf.query.CAPFQueryConstants.START_NODE;
+
+/**
+ * A graph that is prepared for the execution of cypher queries via the CAPF (Cypher for Apache
+ * Flink) API.
+ *
+ * Preparing a graph for CAPF requires the graph's metadata, which has to be computed in a separate
+ * Flink job if it is not provided, the assignment of long ids to all vertices and edges and the
+ * creation of one Flink table per vertex and edge label. A session performs these steps once when
+ * the first query is executed and serves all further queries from the same node and relationship
+ * tables, so that repeated queries on the same graph only pay for the query itself.
+ *
+ * The vertices and edges with their long ids, from which the tables are built, are materialized
+ * in a separate Flink job when the first query is executed. Jobs executing query results read the
+ * materialized data instead of recomputing the ids from the graph. The materialized data is
+ * written to a subdirectory of the given directory and removed by {@link #close()}.
+ * <p>
+ * The first call of {@link #cypher(String)} is eager: the execution environment is executed to
+ * materialize the data. Note, that this also executes all other sinks defined in the environment
+ * so far. Sinks of the application should therefore be defined after the first query.
+ * <p>
+ * If no directory is given, the temporary directory of the local file system is used. This is
+ * only supported by local and collection environments. On a cluster, a directory that is
+ * accessible by all task managers, e.g. on HDFS, has to be provided.
+ */
+public class CAPFGraphSession implements Closeable {
+
+  /**
+   * Name of the operators assigning long ids to vertices and edges.
+   */
+  static final String ASSIGN_IDS = "Assign CAPF ids";
+
+  /**
+   * File containing the materialized vertices with their long ids.
+   */
+  private static final String VERTICES = "vertices";
+
+  /**
+   * File containing the materialized edges with their long ids.
+   */
+  private static final String EDGES = "edges";
+
+  /**
+   * File containing the materialized edges with long ids for source and target.
+   */
+  private static final String EDGE_TUPLES = "edgeTuples";
+
+  /**
+   * The graph the queries are executed on.
+   */
+  private LogicalGraph graph;
+
+  /**
+   * MetaData object
+   */
+  private MetaData metaData;
+
+  /**
+   * The CAPF session the queries will be executed in.
+   */
+  private final CAPFSession session;
+
+  /**
+   * Path of the materialized vertices and edges, {@code null} if they are not materialized.
+   */
+  private final Path path;
+
+  /**
+   * The CAPF representation of the graph, {@code null} until the first query is executed.
+   */
+  private PropertyGraph propertyGraph;
+
+  /**
+   * The number of vertices by label, ordered alphabetically.
+   */
+  private DataSet<Long> vertexCount;
+
+  /**
+   * Mapping between the long ids and the original vertices.
+   */
+  private DataSet<Tuple2<Long, Vertex>> verticesWithIds;
+
+  /**
+   * Mapping between the long ids and the original edges.
+   */
+  private DataSet<Tuple2<Long, Edge>> edgesWithIds;
+
+  /**
+   * Constructor, only supported by local execution environments.
+   *
+   * @param graph the graph the queries are executed on
+   */
+  public CAPFGraphSession(LogicalGraph graph) {
+    this(graph, null);
+  }
+
+  /**
+   * Constructor, only supported by local execution environments.
+   *
+   * @param graph    the graph the queries are executed on
+   * @param metaData metaData object of the graph, computed from the graph if {@code null}
+   */
+  public CAPFGraphSession(LogicalGraph graph, MetaData metaData) {
+    this(graph, metaData, getLocalDirectory(graph.getConfig().getExecutionEnvironment()));
+  }
+
+  /**
+   * Constructor
+   *
+   * @param graph     the graph the queries are executed on
+   * @param metaData  metaData object of the graph, computed from the graph if {@code null}
+   * @param directory directory to materialize the vertices and edges with their long ids in
+   */
+  public CAPFGraphSession(LogicalGraph graph, MetaData metaData, String directory) {
+    this(graph, metaData, CAPFSession$.MODULE$.create(
+      new org.apache.flink.api.scala.ExecutionEnvironment(
+        graph.getConfig().getExecutionEnvironment())),
+      new Path(directory, "gradoop-capf-" + UUID.randomUUID()));
+  }
+
+  /**
+   * Constructor
+   *
+   * @param graph    the graph the queries are executed on
+   * @param metaData metaData object of the graph, computed from the graph if {@code null}
+   * @param session  the CAPF session the queries will be executed in
+   * @param path     path to materialize the vertices and edges in, {@code null} to compute them
+   *                 within each job
+   */
+  CAPFGraphSession(LogicalGraph graph, MetaData metaData, CAPFSession session, Path path) {
+    this.graph = graph;
+    this.metaData = metaData;
+    this.session = session;
+    this.path = path;
+  }
+
+  /**
+   * Execute a cypher query on the graph of this session. The first call executes the execution
+   * environment, including all sinks defined so far, to compute the metaData and to materialize
+   * the vertices and edges.
+   *
+   * @param query the query string
+   * @return the result of the query, either a graph collection or a flink table, {@code null} if
+   * the graph does not contain any vertices
+   * @throws Exception if the execution or IO fails.
+   */
+  public CAPFQueryResult cypher(String query) throws Exception {
+    PropertyGraph g = getPropertyGraph();
+
+    // if there are no nodes, no edges can exit either, so we can terminate early
+    if (g == null) {
+      return null;
+    }
+
+    // construct a CAPFQueryResult from the CAPFResult returned by CAPF
+    return new CAPFQueryResult(
+      g.cypher(
+        query,
+        g.cypher$default$2(),
+        g.cypher$default$3(),
+        g.cypher$default$4()
+      ),
+      verticesWithIds,
+      edgesWithIds,
+      graph.getConfig()
+    );
+  }
+
+  /**
+   * Returns the metaData of the graph, computes it if necessary.
+   *
+   * @return metaData object
+   * @throws Exception if the computation of the metaData fails
+   */
+  public MetaData getMetaData() throws Exception {
+    if (metaData == null) {
+      graph = transformGraphProperties(graph);
+      metaData = new CSVMetaDataSource()
+        .fromTuples(new CSVMetaDataSource().tuplesFromGraph(graph).collect());
+    }
+    return metaData;
+  }
+
+  /**
+   * Removes the materialized vertices and edges. The session must not be used afterwards.
+   *
+   * @throws IOException if the files cannot be removed
+   */
+  @Override
+  public void close() throws IOException {
+    if (path != null && path.getFileSystem().exists(path)) {
+      path.getFileSystem().delete(path, true);
+    }
+  }
+
+  /**
+   * Returns the CAPF representation of the graph, creates the node and relationship tables on the
+   * first call.
+   *
+   * @return CAPF graph or {@code null}, if the graph does not contain any vertices
+   * @throws Exception if the computation of the metaData or the materialization fails
+   */
+  private PropertyGraph getPropertyGraph() throws Exception {
+    if (propertyGraph != null) {
+      return propertyGraph;
+    }
+    getMetaData();
+
+    if (metaData.getVertexLabels().isEmpty()) {
+      return null;
+    }
+
+    // assign unique long ids to all vertices and edges
+    verticesWithIds = graph.getVertices()
+      .map(new UniqueIdWithOffset<>())
+      .name(ASSIGN_IDS);
+    vertexCount = Count.count(graph.getVertices());
+    edgesWithIds = graph.getEdges()
+      .map(new UniqueIdWithOffset<>())
+      .withBroadcastSet(vertexCount, OFFSET)
+      .name(ASSIGN_IDS);
+
+    // replace source and target with long ids
+    DataSet<Tuple5<Long, Long, Long, String, Properties>> edgeTuples = edgesWithIds
+      .map(new EdgeToTuple())
+      .join(verticesWithIds)
+      .where(1).equalTo(new IdOfF1<>()).with(new ReplaceSourceId())
+      .join(verticesWithIds)
+      .where(2).equalTo(new IdOfF1<>()).with(new ReplaceTargetId());
+
+    if (path != null) {
+      write(verticesWithIds, VERTICES);
+      write(edgesWithIds, EDGES);
+      write(edgeTuples, EDGE_TUPLES);
+      graph.getConfig().getExecutionEnvironment().execute("Materialize CAPF tables");
+
+      verticesWithIds = read(verticesWithIds, VERTICES);
+      edgesWithIds = read(edgesWithIds, EDGES);
+      edgeTuples = read(edgeTuples, EDGE_TUPLES);
+    }
+
+    // create flink tables of nodes as required by CAPF
+    List<CAPFNodeTable> nodeTables = createNodeTables();
+
+    // create flink tables of relationships as required by CAPF
+    List<CAPFRelationshipTable> relTables = createRelationshipTables(edgeTuples);
+
+    if (nodeTables.size() > 0) {
+      List<EntityTable<FlinkCypherTable.FlinkTable>> tables = new ArrayList<>(
+        nodeTables.subList(1, nodeTables.size()));
+      tables.addAll(relTables);
+
+      Seq<EntityTable<FlinkCypherTable.FlinkTable>> tableSeq =
+        JavaConversions.asScalaBuffer(tables);
+
+      propertyGraph = session.readFrom(nodeTables.get(0), tableSeq);
+    }
+    return propertyGraph;
+  }
+
+  /**
+   * Returns the temporary directory of the local file system, if the given environment executes
+   * jobs locally.
+   *
+   * @param env execution environment
+   * @return temporary directory
+   */
+  private static String getLocalDirectory(ExecutionEnvironment env) {
+    if (!(env instanceof LocalEnvironment) && !(env instanceof CollectionEnvironment)) {
+      throw new IllegalArgumentException("A directory that is accessible by all task managers " +
+        "is required to materialize the CAPF tables on a cluster.");
+    }
+    return new File(System.getProperty("java.io.tmpdir")).toURI().toString();
+  }
+
+  /**
+   * Adds a sink writing the elements of a dataset to the session directory using their type
+   * serializer.
+   *
+   * @param elements elements to write
+   * @param name file name of the elements
+   * @param <T> element type
+   */
+  private <T> void write(DataSet<T> elements, String name) {
+    TypeSerializerOutputFormat<T> outputFormat = new TypeSerializerOutputFormat<>();
+    outputFormat.setInputType(elements.getType(), elements.getExecutionEnvironment().getConfig());
+    elements.write(outputFormat, new Path(path, name).toString(), FileSystem.WriteMode.OVERWRITE);
+  }
+
+  /**
+   * Reads elements written by {@link #write(DataSet, String)}.
+   *
+   * @param elements dataset the elements were written from
+   * @param name file name of the elements
+   * @param <T> element type
+   * @return dataset reading the written elements
+   */
+  private <T> DataSet<T> read(DataSet<T> elements, String name) {
+    TypeInformation<T> type = elements.getType();
+    TypeSerializerInputFormat<T> inputFormat = new TypeSerializerInputFormat<>(type);
+    inputFormat.setFilePath(new Path(path, name));
+    return elements.getExecutionEnvironment().createInput(inputFormat, type);
+  }
+
+  /**
+   * Transform vertex and edge properties with types not yet supported by CAPF into string
+   * representations.
+   *
+   * @param graph the graph
+   * @return a graph with transformed vertex and edge properties
+   */
+  private LogicalGraph transformGraphProperties(LogicalGraph graph) {
+    DataSet<Vertex> transformedVertices = graph.getVertices()
+      .map(new PropertyEncoder<>());
+    DataSet<Edge> transformedEdges = graph.getEdges()
+      .map(new PropertyEncoder<>());
+
+    return graph.getFactory().fromDataSets(transformedVertices, transformedEdges);
+  }
+
+  /**
+   * Method to transform the vertices with their long ids into the flink table format
+   * required by CAPF: one table per vertex label and each property in a unique row field.
+   *
+   * @return a list of node tables, one table per vertex label
+   */
+  private List<CAPFNodeTable> createNodeTables() {
+    List<CAPFNodeTable> nodeTables = new ArrayList<>();
+
+    // construct a table for each vertex label
+    for (String label : metaData.getVertexLabels()) {
+      List<PropertyMetaData> propertyTypes = metaData.getVertexPropertyMetaData(label);
+
+      // list of all row field types
+      TypeInformation<?>[] types = new TypeInformation<?>[propertyTypes.size() + 1];
+      List<String> propKeys = new ArrayList<>(propertyTypes.size());
+
+      // first field is long id
+      types[0] = TypeInformation.of(Long.class);
+
+      for (int i = 0; i < propertyTypes.size(); i++) {
+        PropertyMetaData pmd = propertyTypes.get(i);
+        propKeys.add(pmd.getKey());
+        types[i + 1] = TypeInformation.of(MetaData.getClassFromTypeString(pmd.getTypeString()));
+      }
+
+      RowTypeInfo info = new RowTypeInfo(types);
+
+      // zip all vertices of one label with a globally unique id
+      DataSet<Tuple2<Long, Vertex>> verticesByLabelWithIds =
+        verticesWithIds.filter(new VertexLabelFilter(label));
+
+      // map vertices to row and wrap in scala DataSet
+      org.apache.flink.api.scala.DataSet<Row> scalaRowDataSet =
+        new org.apache.flink.api.scala.DataSet<>(
+          verticesByLabelWithIds.map(new VertexToRow(propKeys)).returns(info),
+          ClassTag$.MODULE$.apply(Row.class)
+        );
+
+      // build table schema string, naming each field in the table
+      StringBuilder schemaStringBuilder = new StringBuilder(NODE_ID);
+      NodeMapping nodeMapping = NodeMapping.withSourceIdKey(NODE_ID)
+        .withImpliedLabel(label);
+
+      for (String propKey : propKeys) {
+        schemaStringBuilder.append(", ").append(PROPERTY_PREFIX).append(propKey);
+
+        nodeMapping = nodeMapping.withPropertyKey(propKey, PROPERTY_PREFIX + propKey);
+      }
+
+      String schemaString = schemaStringBuilder.toString();
+
+      // create table, add to node table list
+      Table vertexTable = session.tableEnv()
+        .fromDataSet(scalaRowDataSet).as(schemaString);
+
+      nodeTables.add(CAPFNodeTable.fromMapping(nodeMapping, vertexTable));
+    }
+
+    return nodeTables;
+  }
+
+  /**
+   * Method to transform the edges with long ids into the flink table format required by
+   * CAPF: one table per edge label and each property in a unique row field.
+   *
+   * @param edgeTuples edges with long ids for the edge, its source and its target
+   * @return a list of edge tables, one table per edge label
+   */
+  private List<CAPFRelationshipTable> createRelationshipTables(
+    DataSet<Tuple5<Long, Long, Long, String, Properties>> edgeTuples) {
+    List<CAPFRelationshipTable> relTables = new ArrayList<>();
+
+    // construct a table for each edge label
+    for (String label : metaData.getEdgeLabels()) {
+      List<PropertyMetaData> propertyTypes = metaData.getEdgePropertyMetaData(label);
+
+      // list of all row field types
+      TypeInformation<?>[] types = new TypeInformation<?>[propertyTypes.size() + 3];
+      List<String> propKeys = new ArrayList<>(propertyTypes.size());
+
+      // first fields are id, source id and target id
+      types[0] = TypeInformation.of(Long.class); // id
+      types[1] = TypeInformation.of(Long.class); // source
+      types[2] = TypeInformation.of(Long.class); // target
+
+      // other fields are properties
+      for (int i = 0; i < propertyTypes.size(); i++) {
+        PropertyMetaData pmd = propertyTypes.get(i);
+        propKeys.add(pmd.getKey());
+        types[i + 3] = TypeInformation.of(MetaData.getClassFromTypeString(pmd.getTypeString()));
+      }
+
+      RowTypeInfo info = new RowTypeInfo(types);
+
+      // zip all edges of one label with a globally unique id
+      DataSet<Tuple5<Long, Long, Long, String, Properties>> edgesByLabel = edgeTuples
+        .filter(new EdgeLabelFilter(label));
+
+      // map vertices to row and wrap in scala DataSet
+      org.apache.flink.api.scala.DataSet<Row> scalaRowDataSet =
+        new org.apache.flink.api.scala.DataSet<>(
+          edgesByLabel.map(new TupleToRow(propKeys)).returns(info),
+          ClassTag$.MODULE$.apply(Row.class)
+        );
+
+      // build table schema string, naming each field in the table
+      StringBuilder schemaStringBuilder = new StringBuilder();
+      schemaStringBuilder
+        .append(EDGE_ID).append(", ")
+        .append(START_NODE).append(", ")
+        .append(END_NODE);
+
+      RelationshipMapping relMapping = RelationshipMapping.withSourceIdKey(EDGE_ID)
+        .withSourceStartNodeKey(START_NODE)
+        .withSourceEndNodeKey(END_NODE)
+        .withRelType(label);
+
+      for (String propKey : propKeys) {
+        schemaStringBuilder.append(", ").append(PROPERTY_PREFIX).append(propKey);
+        relMapping = relMapping.withPropertyKey(propKey, PROPERTY_PREFIX + propKey);
+      }
+
+      String schemaString = schemaStringBuilder.toString();
+
+      // create table, add to relationship table list
+      Table edgeTable = session.tableEnv()
+        .fromDataSet(scalaRowDataSet).as(schemaString);
+
+      relTables.add(CAPFRelationshipTable.fromMapping(relMapping, edgeTable));
+    }
+
+    return relTables;
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.tuples.WithCount;
+
+/**
+ * Counts the number of elements per query candidate within a partition. The candidates are
+ * shifted by an offset, which allows counting vertex and edge candidates in a single job.
+ *
+ * (..., candidates, ...) => [(offset + candidate, count)]
+ *
+ * @param <T> tuple type containing the candidates
+ */
+public class CountCandidates<T extends Tuple>
+  implements MapPartitionFunction<T, WithCount<Integer>> {
+  /**
+   * Tuple field containing the candidates
+   */
+  private final int candidatesField;
+  /**
+   * Number of query elements
+   */
+  private final int candidateCount;
+  /**
+   * Offset added to the candidates
+   */
+  private final int offset;
+  /**
+   * Reduce object instantiations
+   */
+  private final WithCount<Integer> reuseTuple;
+
+  /**
+   * Constructor
+   *
+   * @param candidatesField tuple field containing the candidates
+   * @param candidateCount number of query elements
+   */
+  public CountCandidates(int candidatesField, int candidateCount) {
+    this(candidatesField, candidateCount, 0);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param candidatesField tuple field containing the candidates
+   * @param candidateCount number of query elements
+   * @param offset offset added to the candidates
+   */
+  public CountCandidates(int candidatesField, int candidateCount, int offset) {
+    this.candidatesField = candidatesField;
+    this.candidateCount = candidateCount;
+    this.offset = offset;
+    this.reuseTuple = new WithCount<>();
+  }
+
+  @Override
+  public void mapPartition(Iterable<T> values, Collector<WithCount<Integer>> out) throws Exception {
+    long[] counts = new long[candidateCount];
+    for (T value : values) {
+      boolean[] candidates = value.getField(candidatesField);
+      for (int i = 0; i < candidateCount; i++) {
+        if (candidates[i]) {
+          counts[i]++;
+        }
+      }
+    }
+    for (int i = 0; i < candidateCount; i++) {
+      reuseTuple.setObject(offset + i);
+      reuseTuple.setCount(counts[i]);
+      out.collect(reuseTuple);
+    }
+  }
+}
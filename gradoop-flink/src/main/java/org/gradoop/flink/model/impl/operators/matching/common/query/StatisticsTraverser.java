@@ -0,0 +1,224 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.query;
+
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.s1ck.gdl.model.Edge;
+import org.s1ck.gdl.model.Vertex;
+
+import java.util.Objects;
+
+/**
+ * Implementation of a {@link Traverser} that orders the traversal steps by their estimated
+ * intermediate result sizes.
+ *
+ * The traversal greedily continues with the query edge leading to the smallest number of
+ * embeddings, where edges that close a cycle are preferred. The root vertex is chosen such that
+ * the sum of all estimated intermediate result sizes is minimal.
+ *
+ * Estimations are based on {@link GraphStatistics} and can be refined with the number of
+ * candidates per query element that are known after pre-processing the data graph.
+ */
+public class StatisticsTraverser implements RootedTraverser {
+  /**
+   * Query handler to access the query graph.
+   */
+  private QueryHandler queryHandler;
+  /**
+   * Statistics about the data graph
+   */
+  private final GraphStatistics graphStatistics;
+  /**
+   * query vertex id -> number of candidate vertices (optional)
+   */
+  private long[] vertexCandidateCounts;
+  /**
+   * query edge id -> number of candidate edges (optional)
+   */
+  private long[] edgeCandidateCounts;
+
+  /**
+   * Creates a new traverser.
+   *
+   * @param graphStatistics statistics about the data graph
+   */
+  public StatisticsTraverser(GraphStatistics graphStatistics) {
+    Objects.requireNonNull(graphStatistics, "Missing graph statistics");
+    this.graphStatistics = graphStatistics;
+  }
+
+  @Override
+  public void setQueryHandler(QueryHandler queryHandler) {
+    this.queryHandler = queryHandler;
+  }
+
+  @Override
+  public QueryHandler getQueryHandler() {
+    return queryHandler;
+  }
+
+  /**
+   * Sets the number of candidates for each query vertex and query edge. The arrays are indexed
+   * by the query element ids, {@code null} if the counts are unknown.
+   *
+   * @param vertexCandidateCounts query vertex id -> number of candidates
+   * @param edgeCandidateCounts query edge id -> number of candidates
+   */
+  public void setCandidateCounts(long[] vertexCandidateCounts, long[] edgeCandidateCounts) {
+    this.vertexCandidateCounts = vertexCandidateCounts;
+    this.edgeCandidateCounts = edgeCandidateCounts;
+  }
+
+  @Override
+  public TraversalCode traverse() {
+    TraversalCode best = null;
+    double bestCost = Double.MAX_VALUE;
+    for (Vertex vertex : queryHandler.getVertices()) {
+      TraversalCode traversalCode = traverse(vertex.getId());
+      double cost = estimateCost(vertex.getId(), traversalCode);
+      if (best == null || cost < bestCost) {
+        best = traversalCode;
+        bestCost = cost;
+      }
+    }
+    return best;
+  }
+
+  @Override
+  public TraversalCode traverse(long rootVertex) {
+    boolean[] vertexVisited = new boolean[queryHandler.getVertexCount()];
+    boolean[] edgeVisited = new boolean[queryHandler.getEdgeCount()];
+    TraversalCode traversalCode = new TraversalCode();
+    vertexVisited[(int) rootVertex] = true;
+
+    for (int i = 0; i < edgeVisited.length; i++) {
+      Step next = null;
+      double nextFactor = Double.MAX_VALUE;
+
+      for (Edge edge : queryHandler.getEdges()) {
+        boolean visitedSource = vertexVisited[(int) edge.getSourceVertexId()];
+        boolean visitedTarget = vertexVisited[(int) edge.getTargetVertexId()];
+        if (edgeVisited[(int) edge.getId()] || (!visitedSource && !visitedTarget)) {
+          continue;
+        }
+        Step step = new Step(
+          visitedSource ? edge.getSourceVertexId() : edge.getTargetVertexId(),
+          edge.getId(),
+          visitedSource ? edge.getTargetVertexId() : edge.getSourceVertexId(),
+          visitedSource);
+        double factor = estimateFactor(step, visitedSource && visitedTarget);
+        if (factor < nextFactor) {
+          next = step;
+          nextFactor = factor;
+        }
+      }
+      if (next == null) {
+        // the remaining query graph is not connected to the traversed part
+        break;
+      }
+      traversalCode.add(next);
+      edgeVisited[(int) next.getVia()] = true;
+      vertexVisited[(int) next.getTo()] = true;
+    }
+
+    return traversalCode;
+  }
+
+  /**
+   * Estimates the sum of all intermediate result sizes when following the traversal code.
+   *
+   * @param rootVertex start vertex of the traversal
+   * @param traversalCode traversal code
+   * @return estimated cost
+   */
+  private double estimateCost(long rootVertex, TraversalCode traversalCode) {
+    boolean[] vertexVisited = new boolean[queryHandler.getVertexCount()];
+    vertexVisited[(int) rootVertex] = true;
+    double size = getVertexCardinality(rootVertex);
+    double cost = size;
+    for (Step step : traversalCode.getSteps()) {
+      size *= estimateFactor(step, vertexVisited[(int) step.getTo()]);
+      cost += size;
+      vertexVisited[(int) step.getTo()] = true;
+    }
+    return cost;
+  }
+
+  /**
+   * Estimates the factor by which the number of embeddings changes when performing the given
+   * traversal step. Steps that close a cycle are filters, the factor is therefore at most 1.
+   *
+   * @param step traversal step
+   * @param isClosing true, iff both vertices of the step have been visited before
+   * @return estimated factor
+   */
+  private double estimateFactor(Step step, boolean isClosing) {
+    double edges = getEdgeCardinality(step.getVia());
+    String label = queryHandler.getEdgeById(step.getVia()).getLabel();
+    long sources = getDistinctVertexCount(label, step.isOutgoing());
+
+    if (isClosing) {
+      long targets = getDistinctVertexCount(label, !step.isOutgoing());
+      return Math.min(1d, edges / ((double) sources * targets));
+    }
+    return edges / sources;
+  }
+
+  /**
+   * Returns the number of distinct source or target vertices of the edges with the given label.
+   *
+   * @param edgeLabel edge label
+   * @param isSource true, for source vertices
+   * @return number of distinct vertices, at least 1
+   */
+  private long getDistinctVertexCount(String edgeLabel, boolean isSource) {
+    long count = isSource ? graphStatistics.getDistinctSourceVertexCount(edgeLabel) :
+      graphStatistics.getDistinctTargetVertexCount(edgeLabel);
+    if (count <= 0) {
+      count = isSource ? graphStatistics.getDistinctSourceVertexCount() :
+        graphStatistics.getDistinctTargetVertexCount();
+    }
+    return Math.max(1L, count);
+  }
+
+  /**
+   * Returns the (estimated) number of candidates for the given query vertex.
+   *
+   * @param vertexId query vertex id
+   * @return number of candidates
+   */
+  private long getVertexCardinality(long vertexId) {
+    if (vertexCandidateCounts != null) {
+      return vertexCandidateCounts[(int) vertexId];
+    }
+    long count = graphStatistics.getVertexCount(queryHandler.getVertexById(vertexId).getLabel());
+    return count > 0 ? count : graphStatistics.getVertexCount();
+  }
+
+  /**
+   * Returns the (estimated) number of candidates for the given query edge.
+   *
+   * @param edgeId query edge id
+   * @return number of candidates
+   */
+  private long getEdgeCardinality(long edgeId) {
+    if (edgeCandidateCounts != null) {
+      return edgeCandidateCounts[(int) edgeId];
+    }
+    long count = graphStatistics.getEdgeCount(queryHandler.getEdgeById(edgeId).getLabel());
+    return count > 0 ? count : graphStatistics.getEdgeCount();
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.adaptive;
+
+import org.apache.log4j.Logger;
+import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.LimitClause;
+import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.ExplorativePatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TraverserStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.DualSimulation;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * Evaluates a pattern matching query with the engine that is estimated to be the cheapest one for
+ * the given query and search graph.
+ *
+ * The operator inspects the shape of the query (e.g. cyclic, variable length paths, predicates)
+ * to determine the engines supporting it and estimates their costs using the
+ * {@link EngineCostModel}. The decision is logged and can be retrieved via
+ * {@link #getDecision()} after the operator has been applied.
+ *
+ * Subgraph homomorphisms and isomorphisms are computed by the Cypher engine or the explorative
+ * engine. A dual simulation is computed if no match strategies are specified.
+ */
+public class AdaptivePatternMatching implements UnaryGraphToCollectionOperator {
+  /**
+   * Logger
+   */
+  private static final Logger LOG = Logger.getLogger(AdaptivePatternMatching.class);
+  /**
+   * GDL based query string
+   */
+  private final String query;
+  /**
+   * True, if the original vertex and edge data shall be attached to the result
+   */
+  private final boolean attachData;
+  /**
+   * Morphism setting for vertex mapping ({@code null} for dual simulation)
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism setting for edge mapping ({@code null} for dual simulation)
+   */
+  private final MatchStrategy edgeStrategy;
+  /**
+   * Statistics about the search graph
+   */
+  private final GraphStatistics graphStatistics;
+  /**
+   * Estimates the engine costs
+   */
+  private final EngineCostModel costModel;
+  /**
+   * Decision of the last execution
+   */
+  private EngineDecision decision;
+
+  /**
+   * Creates a new operator computing subgraph homomorphisms or isomorphisms.
+   *
+   * @param query           GDL query graph
+   * @param attachData      true, if original data shall be attached to the result
+   * @param vertexStrategy  morphism setting for vertex mapping
+   * @param edgeStrategy    morphism setting for edge mapping
+   * @param graphStatistics statistics about the search graph
+   */
+  public AdaptivePatternMatching(String query, boolean attachData, MatchStrategy vertexStrategy,
+    MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    if (vertexStrategy == null || edgeStrategy == null) {
+      throw new IllegalArgumentException("Match strategies must not be null");
+    }
+    this.query = query;
+    this.attachData = attachData;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+    this.graphStatistics = graphStatistics;
+    this.costModel = new EngineCostModel(graphStatistics);
+  }
+
+  /**
+   * Creates a new operator computing a dual simulation.
+   *
+   * @param query           GDL query graph
+   * @param attachData      true, if original data shall be attached to the result
+   * @param graphStatistics statistics about the search graph
+   */
+  public AdaptivePatternMatching(String query, boolean attachData,
+    GraphStatistics graphStatistics) {
+    this.query = query;
+    this.attachData = attachData;
+    this.vertexStrategy = null;
+    this.edgeStrategy = null;
+    this.graphStatistics = graphStatistics;
+    this.costModel = new EngineCostModel(graphStatistics);
+  }
+
+  @Override
+  public GraphCollection execute(LogicalGraph graph) {
+    decision = decide(graph);
+    LOG.info(String.format("Evaluating query %s with %s", query, decision));
+    return createOperator(decision.getEngine()).execute(graph);
+  }
+
+  /**
+   * Chooses the engine for evaluating the query on the given graph without executing it.
+   *
+   * @param graph search graph
+   * @return decision
+   */
+  public EngineDecision decide(LogicalGraph graph) {
+    LimitClause limitClause = LimitClause.parse(query);
+    QueryHandler queryHandler = new QueryHandler(LimitClause.strip(query));
+    QueryShape shape = new QueryShape(queryHandler);
+
+    Map<MatchingEngine, Long> costs;
+    if (isSimulation()) {
+      costs = limitClause != null ? new EnumMap<>(MatchingEngine.class) :
+        costModel.estimateSimulationCosts(graph, queryHandler, shape);
+    } else {
+      costs = costModel.estimateMorphismCosts(graph, queryHandler, shape,
+        vertexStrategy, edgeStrategy);
+      // only the Cypher engine supports limit clauses
+      if (limitClause != null) {
+        costs.keySet().retainAll(EnumSet.of(MatchingEngine.CYPHER));
+      }
+    }
+    return new EngineDecision(shape, costs);
+  }
+
+  /**
+   * Returns the decision of the last execution.
+   *
+   * @return decision or {@code null} if the operator has not been executed yet
+   */
+  public EngineDecision getDecision() {
+    return decision;
+  }
+
+  /**
+   * Checks if the operator computes a dual simulation.
+   *
+   * @return true, if no match strategies are specified
+   */
+  private boolean isSimulation() {
+    return vertexStrategy == null;
+  }
+
+  /**
+   * Creates the operator implementing the given engine.
+   *
+   * @param engine matching engine
+   * @return pattern matching operator
+   */
+  private PatternMatching createOperator(MatchingEngine engine) {
+    switch (engine) {
+    case CYPHER:
+      return new CypherPatternMatching(query, attachData, vertexStrategy, edgeStrategy,
+        graphStatistics);
+    case EXPLORATIVE_SET_PAIR_BULK_ITERATION:
+      return createExplorative(TraverserStrategy.SET_PAIR_BULK_ITERATION);
+    case EXPLORATIVE_SET_PAIR_FOR_LOOP_ITERATION:
+      return createExplorative(TraverserStrategy.SET_PAIR_FOR_LOOP_ITERATION);
+    case EXPLORATIVE_TRIPLES_FOR_LOOP_ITERATION:
+      return createExplorative(TraverserStrategy.TRIPLES_FOR_LOOP_ITERATION);
+    case DUAL_SIMULATION_BULK_ITERATION:
+      return new DualSimulation(query, attachData, true);
+    case DUAL_SIMULATION_DELTA_ITERATION:
+      return new DualSimulation(query, attachData, false);
+    default:
+      throw new IllegalArgumentException("Unsupported matching engine: " + engine);
+    }
+  }
+
+  /**
+   * Creates an explorative pattern matching operator.
+   *
+   * @param traverserStrategy iteration strategy
+   * @return operator
+   */
+  private PatternMatching createExplorative(TraverserStrategy traverserStrategy) {
+    return new ExplorativePatternMatching.Builder()
+      .setQuery(query)
+      .setAttachData(attachData)
+      .setMatchStrategy(vertexStrategy)
+      .setTraverserStrategy(traverserStrategy)
+      .build();
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.adaptive;
+
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Estimates the costs of evaluating a query with the different matching engines.
+ *
+ * Costs are measured in the number of records processed by an engine. The sizes of candidate
+ * sets and partial matches are taken from the Cypher query plan, which is computed without
+ * executing it. Partial matches are assumed to be the same for all engines computing subgraph
+ * homomorphisms or isomorphisms, the engines differ in the way they access the graph:
+ *
+ * <ul>
+ *   <li>The Cypher engine scans the vertices or edges once per query element and joins the
+ *   candidates of each element once.</li>
+ *   <li>The explorative engines create the candidates of all query elements in a single pass over
+ *   the graph, but join the candidate sets in every traversal step.</li>
+ *   <li>The dual simulation processes all triple candidates in every iteration (bulk) or only the
+ *   triples of changed vertices at the cost of maintaining a solution set (delta).</li>
+ * </ul>
+ */
+public class EngineCostModel {
+  /**
+   * Costs of synchronizing the workers in a superstep of a bulk iteration
+   */
+  public static final long SUPERSTEP_COSTS = 10_000L;
+  /**
+   * Costs of deploying the operators of an unrolled loop step. Since every step adds operators
+   * to the job, the costs of the i-th step are {@code i * UNROLLED_STEP_COSTS}.
+   */
+  public static final long UNROLLED_STEP_COSTS = 2_500L;
+  /**
+   * Costs of building and probing the solution set index of a delta iteration per record
+   */
+  public static final double SOLUTION_SET_FACTOR = 2.0;
+  /**
+   * Fraction of triples that is processed in a superstep of a delta iteration
+   */
+  public static final double DELTA_FRACTION = 0.25;
+
+  /**
+   * Statistics about the search graph
+   */
+  private final GraphStatistics graphStatistics;
+
+  /**
+   * Creates a new cost model.
+   *
+   * @param graphStatistics statistics about the search graph
+   */
+  public EngineCostModel(GraphStatistics graphStatistics) {
+    this.graphStatistics = graphStatistics;
+  }
+
+  /**
+   * Estimates the costs of the engines computing subgraph homomorphisms or isomorphisms.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param shape query shape
+   * @param vertexStrategy morphism setting for vertex mapping
+   * @param edgeStrategy morphism setting for edge mapping
+   * @return costs of the applicable engines
+   */
+  public Map<MatchingEngine, Long> estimateMorphismCosts(LogicalGraph graph,
+    QueryHandler queryHandler, QueryShape shape, MatchStrategy vertexStrategy,
+    MatchStrategy edgeStrategy) {
+    PlanCosts plan = estimatePlan(graph, queryHandler, vertexStrategy, edgeStrategy);
+    double vertices = graphStatistics.getVertexCount();
+    double edges = graphStatistics.getEdgeCount();
+    int steps = shape.getEdgeCount();
+
+    Map<MatchingEngine, Long> costs = new EnumMap<>(MatchingEngine.class);
+    costs.put(MatchingEngine.CYPHER, Math.round(
+      plan.vertexLeaves * vertices + plan.edgeLeaves * edges +
+      plan.vertexCandidates + plan.edgeCandidates + plan.intermediates));
+
+    if (vertexStrategy == edgeStrategy && shape.isConnected() && !shape.hasVariableLength() &&
+      shape.hasInlinePredicatesOnly()) {
+      double setPairCosts = vertices + edges + plan.intermediates +
+        steps * (plan.vertexCandidates + plan.edgeCandidates);
+      double tripleCosts = vertices + 2 * edges + plan.intermediates +
+        steps * plan.edgeCandidates;
+
+      costs.put(MatchingEngine.EXPLORATIVE_SET_PAIR_BULK_ITERATION,
+        Math.round(setPairCosts + bulkIterationCosts(steps)));
+      costs.put(MatchingEngine.EXPLORATIVE_SET_PAIR_FOR_LOOP_ITERATION,
+        Math.round(setPairCosts + unrolledLoopCosts(steps)));
+      costs.put(MatchingEngine.EXPLORATIVE_TRIPLES_FOR_LOOP_ITERATION,
+        Math.round(tripleCosts + unrolledLoopCosts(steps)));
+    }
+    return costs;
+  }
+
+  /**
+   * Estimates the costs of the dual simulation engines.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param shape query shape
+   * @return costs of the applicable engines
+   */
+  public Map<MatchingEngine, Long> estimateSimulationCosts(LogicalGraph graph,
+    QueryHandler queryHandler, QueryShape shape) {
+    Map<MatchingEngine, Long> costs = new EnumMap<>(MatchingEngine.class);
+    if (!shape.isConnected() || shape.hasVariableLength() || !shape.hasInlinePredicatesOnly()) {
+      return costs;
+    }
+    PlanCosts plan = estimatePlan(graph, queryHandler,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.HOMOMORPHISM);
+    double preProcessing = graphStatistics.getVertexCount() + 2 * graphStatistics.getEdgeCount();
+    // the simulation converges after at most diameter + 1 iterations in practice
+    int iterations = shape.getDiameter() + 1;
+
+    costs.put(MatchingEngine.DUAL_SIMULATION_BULK_ITERATION, Math.round(preProcessing +
+      iterations * plan.edgeCandidates + bulkIterationCosts(iterations)));
+    costs.put(MatchingEngine.DUAL_SIMULATION_DELTA_ITERATION, Math.round(preProcessing +
+      SOLUTION_SET_FACTOR * plan.edgeCandidates +
+      (iterations - 1) * DELTA_FRACTION * plan.edgeCandidates +
+      bulkIterationCosts(iterations)));
+    return costs;
+  }
+
+  /**
+   * Computes the Cypher query plan and collects the estimated sizes of its results.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param vertexStrategy morphism setting for vertex mapping
+   * @param edgeStrategy morphism setting for edge mapping
+   * @return estimated sizes
+   */
+  private PlanCosts estimatePlan(LogicalGraph graph, QueryHandler queryHandler,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    QueryPlan plan = new GreedyPlanner(graph, queryHandler, graphStatistics,
+      vertexStrategy, edgeStrategy).plan().getQueryPlan();
+    PlanCosts costs = new PlanCosts();
+    visit(plan.getRoot(), queryHandler, costs);
+    return costs;
+  }
+
+  /**
+   * Adds the estimated result size of the given node and its children to the plan costs.
+   *
+   * @param node plan node
+   * @param queryHandler query handler
+   * @param costs plan costs
+   */
+  private void visit(PlanNode node, QueryHandler queryHandler, PlanCosts costs) {
+    long cardinality = new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)
+      .getCardinality();
+    if (node instanceof FilterAndProjectVerticesNode) {
+      costs.vertexLeaves++;
+      costs.vertexCandidates += cardinality;
+    } else if (node instanceof FilterAndProjectEdgesNode) {
+      costs.edgeLeaves++;
+      costs.edgeCandidates += cardinality;
+    } else {
+      costs.intermediates += cardinality;
+    }
+
+    if (node instanceof BinaryNode) {
+      visit(((BinaryNode) node).getLeftChild(), queryHandler, costs);
+      visit(((BinaryNode) node).getRightChild(), queryHandler, costs);
+    }
+    if (node instanceof UnaryNode) {
+      visit(((UnaryNode) node).getChildNode(), queryHandler, costs);
+    }
+  }
+
+  /**
+   * Returns the synchronization costs of a bulk iteration.
+   *
+   * @param supersteps number of supersteps
+   * @return costs
+   */
+  private static double bulkIterationCosts(int supersteps) {
+    return (double) supersteps * SUPERSTEP_COSTS;
+  }
+
+  /**
+   * Returns the deployment costs of an unrolled loop.
+   *
+   * @param steps number of loop steps
+   * @return costs
+   */
+  private static double unrolledLoopCosts(int steps) {
+    return steps * (steps + 1) / 2.0 * UNROLLED_STEP_COSTS;
+  }
+
+  /**
+   * Estimated result sizes of a Cypher query plan.
+   */
+  private static class PlanCosts {
+    /**
+     * Number of vertex scans
+     */
+    private int vertexLeaves;
+    /**
+     * Number of edge scans
+     */
+    private int edgeLeaves;
+    /**
+     * Total number of vertex candidates
+     */
+    private double vertexCandidates;
+    /**
+     * Total number of edge candidates
+     */
+    private double edgeCandidates;
+    /**
+     * Total number of partial matches produced by joins, expansions and filters
+     */
+    private double intermediates;
+  }
+}
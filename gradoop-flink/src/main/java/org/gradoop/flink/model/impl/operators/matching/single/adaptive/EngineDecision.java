@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.adaptive;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The engine chosen by {@link AdaptivePatternMatching} together with the estimated costs of all
+ * applicable engines.
+ */
+public class EngineDecision {
+  /**
+   * Query shape the decision is based on
+   */
+  private final QueryShape shape;
+  /**
+   * Estimated costs of the applicable engines
+   */
+  private final Map<MatchingEngine, Long> costs;
+  /**
+   * The engine with the lowest estimated costs
+   */
+  private final MatchingEngine engine;
+
+  /**
+   * Chooses the engine with the lowest estimated costs. Ties are resolved by the order of the
+   * {@link MatchingEngine} constants.
+   *
+   * @param shape query shape
+   * @param costs estimated costs of the applicable engines
+   */
+  public EngineDecision(QueryShape shape, Map<MatchingEngine, Long> costs) {
+    if (costs.isEmpty()) {
+      throw new IllegalArgumentException("No matching engine supports the query: " + shape);
+    }
+    this.shape = shape;
+    this.costs = new EnumMap<>(costs);
+    MatchingEngine cheapest = null;
+    for (Map.Entry<MatchingEngine, Long> entry : this.costs.entrySet()) {
+      if (cheapest == null || entry.getValue() < this.costs.get(cheapest)) {
+        cheapest = entry.getKey();
+      }
+    }
+    this.engine = cheapest;
+  }
+
+  /**
+   * Returns the chosen engine.
+   *
+   * @return engine
+   */
+  public MatchingEngine getEngine() {
+    return engine;
+  }
+
+  /**
+   * Returns the shape of the query.
+   *
+   * @return query shape
+   */
+  public QueryShape getShape() {
+    return shape;
+  }
+
+  /**
+   * Returns the estimated costs of all applicable engines.
+   *
+   * @return engine -> estimated costs
+   */
+  public Map<MatchingEngine, Long> getCosts() {
+    return Collections.unmodifiableMap(costs);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("EngineDecision{engine=%s, costs=%s, shape=%s}", engine, costs, shape);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.adaptive;
+
+/**
+ * Pattern matching engines {@link AdaptivePatternMatching} can dispatch to.
+ */
+public enum MatchingEngine {
+  /**
+   * Cypher query engine with cost-based join ordering
+   */
+  CYPHER,
+  /**
+   * Explorative traversal using a bulk iteration over vertex and edge candidates
+   */
+  EXPLORATIVE_SET_PAIR_BULK_ITERATION,
+  /**
+   * Explorative traversal using an unrolled loop over vertex and edge candidates
+   */
+  EXPLORATIVE_SET_PAIR_FOR_LOOP_ITERATION,
+  /**
+   * Explorative traversal using an unrolled loop over triple candidates
+   */
+  EXPLORATIVE_TRIPLES_FOR_LOOP_ITERATION,
+  /**
+   * Dual simulation using a bulk iteration
+   */
+  DUAL_SIMULATION_BULK_ITERATION,
+  /**
+   * Dual simulation using a delta iteration
+   */
+  DUAL_SIMULATION_DELTA_ITERATION;
+
+  /**
+   * Checks if the engine computes a dual simulation instead of subgraph homomorphisms or
+   * isomorphisms.
+   *
+   * @return true, if the engine is a simulation engine
+   */
+  public boolean isSimulation() {
+    return this == DUAL_SIMULATION_BULK_ITERATION || this == DUAL_SIMULATION_DELTA_ITERATION;
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.adaptive;
+
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
+import org.s1ck.gdl.model.GraphElement;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.Map;
+
+/**
+ * Describes the properties of a query graph which determine the applicable matching engines.
+ */
+public class QueryShape {
+  /**
+   * Property key used by GDL to represent label predicates
+   */
+  private static final String LABEL_KEY = "__label__";
+  /**
+   * Number of query vertices
+   */
+  private final int vertexCount;
+  /**
+   * Number of query edges
+   */
+  private final int edgeCount;
+  /**
+   * Number of weakly connected components of the query graph
+   */
+  private final int componentCount;
+  /**
+   * Diameter of the query graph
+   */
+  private final int diameter;
+  /**
+   * True, if the query graph contains an undirected cycle
+   */
+  private final boolean cyclic;
+  /**
+   * True, if the query contains a variable length path
+   */
+  private final boolean variableLength;
+  /**
+   * True, if all predicates are label or property equality predicates defined at the query
+   * elements, e.g. {@code (a:Person {name: "Alice"})}
+   */
+  private final boolean inlinePredicatesOnly;
+
+  /**
+   * Creates the shape of the given query.
+   *
+   * @param queryHandler query handler
+   */
+  public QueryShape(QueryHandler queryHandler) {
+    this.vertexCount = queryHandler.getVertexCount();
+    this.edgeCount = queryHandler.getEdgeCount();
+    this.componentCount = queryHandler.getComponents().size();
+    this.diameter = queryHandler.getDiameter();
+    // a forest with n vertices and c components has n - c edges
+    this.cyclic = edgeCount > vertexCount - componentCount;
+    this.variableLength = queryHandler.getEdges().stream()
+      .anyMatch(edge -> edge.hasVariableLength() || edge.getUpperBound() != 1);
+    this.inlinePredicatesOnly = queryHandler.getPredicates().getPredicates().stream()
+      .allMatch(clause -> isInlinePredicate(queryHandler, clause));
+  }
+
+  /**
+   * Returns the number of query vertices.
+   *
+   * @return vertex count
+   */
+  public int getVertexCount() {
+    return vertexCount;
+  }
+
+  /**
+   * Returns the number of query edges.
+   *
+   * @return edge count
+   */
+  public int getEdgeCount() {
+    return edgeCount;
+  }
+
+  /**
+   * Returns the number of weakly connected components of the query graph.
+   *
+   * @return component count
+   */
+  public int getComponentCount() {
+    return componentCount;
+  }
+
+  /**
+   * Returns the diameter of the query graph.
+   *
+   * @return diameter
+   */
+  public int getDiameter() {
+    return diameter;
+  }
+
+  /**
+   * Checks if the query graph is weakly connected.
+   *
+   * @return true, if the query graph is connected
+   */
+  public boolean isConnected() {
+    return componentCount == 1;
+  }
+
+  /**
+   * Checks if the query graph contains an undirected cycle.
+   *
+   * @return true, if the query graph is cyclic
+   */
+  public boolean isCyclic() {
+    return cyclic;
+  }
+
+  /**
+   * Checks if the query contains a variable length path.
+   *
+   * @return true, if there is a variable length path
+   */
+  public boolean hasVariableLength() {
+    return variableLength;
+  }
+
+  /**
+   * Checks if all predicates are label or property equality predicates defined at the query
+   * elements.
+   *
+   * @return true, if there are no further predicates
+   */
+  public boolean hasInlinePredicatesOnly() {
+    return inlinePredicatesOnly;
+  }
+
+  /**
+   * Checks if the given CNF clause is a label or property equality predicate that is part of the
+   * query element definition. Only those predicates are evaluated by the explorative and the
+   * simulation engines.
+   *
+   * @param queryHandler query handler
+   * @param clause CNF clause
+   * @return true, if the clause is defined at a query element
+   */
+  private static boolean isInlinePredicate(QueryHandler queryHandler, CNFElement clause) {
+    if (clause.size() != 1) {
+      return false;
+    }
+    ComparisonExpression comparison = clause.getPredicates().get(0);
+    if (comparison.getComparator() != Comparator.EQ) {
+      return false;
+    }
+    QueryComparable lhs = comparison.getLhs();
+    QueryComparable rhs = comparison.getRhs();
+    PropertySelectorComparable selector;
+    if (lhs instanceof PropertySelectorComparable && rhs instanceof LiteralComparable) {
+      selector = (PropertySelectorComparable) lhs;
+    } else if (rhs instanceof PropertySelectorComparable && lhs instanceof LiteralComparable) {
+      selector = (PropertySelectorComparable) rhs;
+    } else {
+      return false;
+    }
+    if (selector.getPropertyKey().equals(LABEL_KEY)) {
+      return true;
+    }
+    String variable = selector.getVariable();
+    GraphElement element = queryHandler.isVertex(variable) ?
+      queryHandler.getVertexByVariable(variable) : queryHandler.getEdgeByVariable(variable);
+    Map<String, Object> properties = element.getProperties();
+    return properties != null && properties.containsKey(selector.getPropertyKey());
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "QueryShape{vertices=%d, edges=%d, components=%d, diameter=%d, cyclic=%s, " +
+        "variableLength=%s, inlinePredicatesOnly=%s}",
+      vertexCount, edgeCount, componentCount, diameter, cyclic, variableLength,
+      inlinePredicatesOnly);
+  }
+}
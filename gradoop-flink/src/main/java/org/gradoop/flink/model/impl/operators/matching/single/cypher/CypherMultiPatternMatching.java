@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.apache.log4j.Logger;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.ExecutionCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates a batch of Cypher queries on the same graph.
+ *
+ * Each query is planned individually, but common sub plans of the resulting query plans (e.g.
+ * identical vertex and edge scans or join sub trees) are added to the Flink program only once.
+ * When the resulting graph collections are written within the same Flink job, the shared parts
+ * are computed once for all queries.
+ */
+public class CypherMultiPatternMatching {
+  /**
+   * Logger
+   */
+  private static final Logger LOG = Logger.getLogger(CypherMultiPatternMatching.class);
+  /**
+   * Cypher query strings
+   */
+  private final List<String> queries;
+  /**
+   * True, if original data shall be attached to the results
+   */
+  private final boolean attachData;
+  /**
+   * Morphism strategy for vertex mappings
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism strategy for edge mappings
+   */
+  private final MatchStrategy edgeStrategy;
+  /**
+   * Statistics about the data graph
+   */
+  private final GraphStatistics graphStatistics;
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param queries         Cypher query strings
+   * @param attachData      true, if original data shall be attached to the results
+   * @param vertexStrategy  morphism strategy for vertex mappings
+   * @param edgeStrategy    morphism strategy for edge mappings
+   * @param graphStatistics statistics about the data graph
+   */
+  public CypherMultiPatternMatching(List<String> queries, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this.queries = queries;
+    this.attachData = attachData;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+    this.graphStatistics = graphStatistics;
+  }
+
+  /**
+   * Evaluates all queries on the given graph.
+   *
+   * @param graph search graph
+   * @return one graph collection per query, in the order of the queries
+   */
+  public List<GraphCollection> execute(LogicalGraph graph) {
+    return execute(graph, new ExecutionCache());
+  }
+
+  /**
+   * Evaluates all queries on the given graph. Sub plans are shared with all queries that are
+   * executed using the same cache.
+   *
+   * @param graph search graph
+   * @param executionCache cache to share sub plans between queries
+   * @return one graph collection per query, in the order of the queries
+   */
+  public List<GraphCollection> execute(LogicalGraph graph, ExecutionCache executionCache) {
+    List<GraphCollection> results = new ArrayList<>(queries.size());
+    for (String query : queries) {
+      CypherPatternMatching operator = new CypherPatternMatching(query, attachData,
+        vertexStrategy, edgeStrategy, graphStatistics);
+      operator.setExecutionCache(executionCache);
+      results.add(graph.callForCollection(operator));
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(String.format("Reused %d plan nodes for %d queries",
+        executionCache.getReuseCount(), queries.size()));
+    }
+    return results;
+  }
+}
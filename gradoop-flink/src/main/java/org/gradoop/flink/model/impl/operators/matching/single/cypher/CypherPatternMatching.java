@@ -16,25 +16,48 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher;
 
 import com.google.common.collect.Sets;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.types.Row;
 import org.apache.log4j.Logger;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.PostProcessor;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.PrintEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ElementsFromEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.EmbeddingToRow;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.add.AddEmbeddingsElements;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit.LimitEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit.TopKEmbeddings;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectEmbeddingsElements;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.CardinalityObserver;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.CardinalityStore;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.ExecutionCache;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.reduction.CandidateSets;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.reduction.SemiJoinReduction;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.LabelScans;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.LimitClause;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.google.common.collect.Sets.difference;
@@ -65,6 +88,31 @@ public class CypherPatternMatching extends PatternMatching {
    * Statistics about the data graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * Maximum estimated cardinality of a join input that is broadcasted to all workers
+   */
+  private final long broadcastThreshold;
+  /**
+   * Number of semi-join reduction rounds applied before query planning (0 disables the reduction)
+   */
+  private final int reductionRounds;
+  /**
+   * True, if the reduced candidate cardinalities shall be used for query planning
+   */
+  private final boolean cardinalityFeedback;
+  /**
+   * Trailing {@code LIMIT} or {@code ORDER BY ... LIMIT} clause of the query (may be {@code null})
+   */
+  private final LimitClause limitClause;
+  /**
+   * Cardinalities observed in previous executions, updated by this execution (may be
+   * {@code null})
+   */
+  private final CardinalityStore cardinalityStore;
+  /**
+   * Shares plan results with other queries on the same graph (may be {@code null})
+   */
+  private ExecutionCache executionCache;
 
   /**
    * Instantiates a new operator.
@@ -92,11 +140,97 @@ public class CypherPatternMatching extends PatternMatching {
    */
   public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
-    super(query, attachData, LOG);
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      GreedyPlanner.DEFAULT_BROADCAST_THRESHOLD);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param broadcastThreshold  maximum estimated cardinality of a broadcasted join input
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    long broadcastThreshold) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      broadcastThreshold, 0, false);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * If the number of reduction rounds is positive, the candidates of each query variable are
+   * reduced by semi-joins along the query edges before planning. If cardinality feedback is
+   * enabled, the reduced candidates are counted in an additional Flink job and the counts are
+   * used instead of the graph statistics to estimate the query plans.
+   *
+   * The query may end with a {@code LIMIT n} or {@code ORDER BY var.key [ASC|DESC] LIMIT n}
+   * clause, which restricts the number of resulting graphs.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param broadcastThreshold  maximum estimated cardinality of a broadcasted join input
+   * @param reductionRounds     number of semi-join reduction rounds (0 disables the reduction)
+   * @param cardinalityFeedback true, if reduced cardinalities shall be used for planning
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    long broadcastThreshold, int reductionRounds, boolean cardinalityFeedback) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      broadcastThreshold, reductionRounds, cardinalityFeedback, null);
+  }
+
+  /**
+   * Instantiates a new operator that learns from previous executions.
+   *
+   * The query plan is estimated using the cardinalities of the cardinality store, if available.
+   * The actual cardinalities of the plan's scans and joins are counted during execution and can
+   * be transferred to the store by {@link CardinalityStore#update} once the job has finished.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param broadcastThreshold  maximum estimated cardinality of a broadcasted join input
+   * @param reductionRounds     number of semi-join reduction rounds (0 disables the reduction)
+   * @param cardinalityFeedback true, if reduced cardinalities shall be used for planning
+   * @param cardinalityStore    observed cardinalities (may be {@code null})
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    long broadcastThreshold, int reductionRounds, boolean cardinalityFeedback,
+    CardinalityStore cardinalityStore) {
+    super(LimitClause.strip(query), attachData, LOG);
+    this.limitClause = LimitClause.parse(query);
     this.constructionPattern = constructionPattern;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
     this.graphStatistics = graphStatistics;
+    this.broadcastThreshold = broadcastThreshold;
+    this.reductionRounds = reductionRounds;
+    this.cardinalityFeedback = cardinalityFeedback;
+    this.cardinalityStore = cardinalityStore;
+  }
+
+  /**
+   * Sets a cache to share the results of common sub plans with other queries on the same graph.
+   *
+   * @param executionCache execution cache
+   */
+  void setExecutionCache(ExecutionCache executionCache) {
+    this.executionCache = executionCache;
   }
 
   @Override
@@ -108,17 +242,12 @@ public class CypherPatternMatching extends PatternMatching {
   protected GraphCollection executeForPattern(LogicalGraph graph) {
     // Query planning
     QueryHandler queryHandler = getQueryHandler();
-    QueryPlan plan =
-      new GreedyPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy).plan()
-        .getQueryPlan();
+    QueryPlan plan = planQuery(graph, queryHandler, new HashSet<>());
 
     // Query execution
-    DataSet<Embedding> embeddings = plan.execute();
+    DataSet<Embedding> embeddings = executePlan(queryHandler, plan);
     EmbeddingMetaData embeddingMetaData = plan.getRoot().getEmbeddingMetaData();
 
-    embeddings =
-      log(embeddings, new PrintEmbedding(embeddingMetaData), getVertexMapping(), getEdgeMapping());
-
     // Pattern construction (if necessary)
     DataSet<Element> finalElements = this.constructionPattern != null ?
       constructFinalElements(graph, embeddings, embeddingMetaData) :
@@ -136,6 +265,213 @@ public class CypherPatternMatching extends PatternMatching {
       PostProcessor.extractGraphCollection(finalElements, graph.getConfig(), true);
   }
 
+  /**
+   * Evaluates the query on the given graph and returns the bindings of the specified columns
+   * instead of a graph collection. A column is either a query variable, which is bound to the id
+   * of the matched vertex or edge, or a property selector {@code variable.key}, which is bound to
+   * the property value of the matched element ({@link PropertyValue#NULL_VALUE} if the element
+   * does not have the property).
+   *
+   * The requested properties are kept in the embeddings by the query plan. Neither graph heads
+   * nor elements are created, and the matched elements are not joined with the search graph.
+   * Construction patterns are ignored.
+   *
+   * @param graph search graph
+   * @param columns variables and property selectors, e.g. {@code ["p", "p.name"]}
+   * @return one row per match, typed by {@link #getRowType(List)}
+   */
+  public DataSet<Row> executeRows(LogicalGraph graph, List<String> columns) {
+    QueryHandler queryHandler = getQueryHandler();
+    QueryPlan plan = planQuery(graph, queryHandler, getReturnProperties(queryHandler, columns));
+
+    return executePlan(queryHandler, plan)
+      .map(new EmbeddingToRow(plan.getRoot().getEmbeddingMetaData(), columns))
+      .returns(getRowType(columns));
+  }
+
+  /**
+   * Returns the type of the rows computed by {@link #executeRows(LogicalGraph, List)}. Variable
+   * fields are of type {@link GradoopId}, property fields of type {@link PropertyValue}.
+   *
+   * @param columns variables and property selectors
+   * @return row type
+   */
+  public static RowTypeInfo getRowType(List<String> columns) {
+    TypeInformation<?>[] types = new TypeInformation<?>[columns.size()];
+    for (int i = 0; i < columns.size(); i++) {
+      types[i] = columns.get(i).contains(".") ?
+        TypeInformation.of(PropertyValue.class) : TypeInformation.of(GradoopId.class);
+    }
+    return new RowTypeInfo(types, columns.toArray(new String[0]));
+  }
+
+  /**
+   * Computes the query plan, whose embeddings contain the given properties and the property used
+   * by the {@code ORDER BY} clause of the query.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param returnProperties (variable, propertyKey) pairs to keep in the embeddings
+   * @return query plan
+   */
+  private QueryPlan planQuery(LogicalGraph graph, QueryHandler queryHandler,
+    Set<Pair<String, String>> returnProperties) {
+    Set<Pair<String, String>> keptProperties = new HashSet<>(returnProperties);
+    if (limitClause != null && limitClause.isOrdered()) {
+      keptProperties.add(getOrderProperty(queryHandler));
+    }
+    CandidateSets candidates = reduceCandidates(graph, queryHandler);
+    if (candidates == null && executionCache != null) {
+      candidates = scanCandidates(graph, queryHandler);
+    }
+    QueryPlan plan = new GreedyPlanner(graph, queryHandler, graphStatistics,
+      vertexStrategy, edgeStrategy, broadcastThreshold, candidates, keptProperties,
+      cardinalityStore).plan().getQueryPlan();
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(String.format("Query plan:%n%s", plan));
+    }
+    return plan;
+  }
+
+  /**
+   * Executes the query plan and applies the limit clause of the query.
+   *
+   * @param queryHandler query handler
+   * @param plan query plan
+   * @return embeddings
+   */
+  private DataSet<Embedding> executePlan(QueryHandler queryHandler, QueryPlan plan) {
+    if (cardinalityStore != null) {
+      plan.getRoot().setCardinalityObserver(new CardinalityObserver(cardinalityStore));
+    }
+    DataSet<Embedding> embeddings = executionCache != null ?
+      plan.execute(executionCache) : plan.execute();
+    EmbeddingMetaData embeddingMetaData = plan.getRoot().getEmbeddingMetaData();
+
+    if (limitClause != null) {
+      embeddings = limit(embeddings, embeddingMetaData);
+    }
+
+    return log(embeddings, new PrintEmbedding(embeddingMetaData),
+      getVertexMapping(), getEdgeMapping());
+  }
+
+  /**
+   * Validates the requested columns and extracts the properties they refer to.
+   *
+   * @param queryHandler query handler
+   * @param columns variables and property selectors
+   * @return (variable, propertyKey) pairs
+   */
+  private Set<Pair<String, String>> getReturnProperties(QueryHandler queryHandler,
+    List<String> columns) {
+    Set<Pair<String, String>> returnProperties = new HashSet<>();
+    for (String column : columns) {
+      int dot = column.indexOf('.');
+      String variable = dot < 0 ? column : column.substring(0, dot);
+      boolean isElement = queryHandler.isVertex(variable) || (queryHandler.isEdge(variable) &&
+        !queryHandler.getEdgeByVariable(variable).hasVariableLength());
+      if (!isElement) {
+        throw new IllegalArgumentException(
+          "Column does not refer to a vertex or edge variable: " + column);
+      }
+      if (dot >= 0) {
+        returnProperties.add(Pair.of(variable, column.substring(dot + 1)));
+      }
+    }
+    return returnProperties;
+  }
+
+  /**
+   * Validates the {@code ORDER BY} clause of the query and returns the property it refers to.
+   *
+   * @param queryHandler query handler
+   * @return (variable, propertyKey) pair used for ordering
+   */
+  private Pair<String, String> getOrderProperty(QueryHandler queryHandler) {
+    String variable = limitClause.getVariable();
+    boolean isElement = queryHandler.isVertex(variable) || (queryHandler.isEdge(variable) &&
+      !queryHandler.getEdgeByVariable(variable).hasVariableLength());
+    if (!isElement) {
+      throw new IllegalArgumentException(
+        "Cannot order by a property of " + variable + ": " + limitClause);
+    }
+    return Pair.of(variable, limitClause.getPropertyKey());
+  }
+
+  /**
+   * Applies the limit clause of the query to the embeddings computed by the query plan.
+   *
+   * The limit is applied to the output of the root operator, since a limit below a join or filter
+   * would change the result. Each partition forwards at most {@code limit} embeddings before the
+   * global limit is applied, so that only a small number of embeddings is shipped to the final
+   * selection and to the result construction. The property used for ordering is kept in the
+   * embeddings by the query plan, see {@link #planQuery(LogicalGraph, QueryHandler, Set)}.
+   *
+   * @param embeddings embeddings computed by the query plan
+   * @param metaData embedding meta data
+   * @return limited embeddings
+   */
+  private DataSet<Embedding> limit(DataSet<Embedding> embeddings, EmbeddingMetaData metaData) {
+    if (!limitClause.isOrdered()) {
+      return new LimitEmbeddings(embeddings, limitClause.getLimit()).evaluate();
+    }
+    int column = metaData.getPropertyColumn(limitClause.getVariable(),
+      limitClause.getPropertyKey());
+    return new TopKEmbeddings(embeddings, column, limitClause.getLimit(),
+      limitClause.isAscending()).evaluate();
+  }
+
+  /**
+   * Applies the semi-join reduction to the search graph, if enabled.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @return reduced candidates or {@code null}, if the reduction is disabled
+   */
+  private CandidateSets reduceCandidates(LogicalGraph graph, QueryHandler queryHandler) {
+    if (reductionRounds <= 0) {
+      return null;
+    }
+    CandidateSets candidates = new SemiJoinReduction(queryHandler, reductionRounds).reduce(graph);
+    if (cardinalityFeedback) {
+      try {
+        candidates.computeCardinalities();
+      } catch (Exception e) {
+        throw new RuntimeException("Error while counting the reduced candidates", e);
+      }
+      if (LOG.isDebugEnabled()) {
+        LOG.debug(String.format("Reduced candidate cardinalities: %s",
+          candidates.getCardinalities()));
+      }
+    }
+    return candidates;
+  }
+
+  /**
+   * Reads the candidates of all query variables using the label scans of the execution cache, so
+   * that queries on the same graph share their input datasets.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @return candidates
+   */
+  private CandidateSets scanCandidates(LogicalGraph graph, QueryHandler queryHandler) {
+    CNF predicates = queryHandler.getPredicates();
+    Map<String, DataSet<Vertex>> vertices = new HashMap<>();
+    for (org.s1ck.gdl.model.Vertex vertex : queryHandler.getVertices()) {
+      vertices.put(vertex.getVariable(), LabelScans.getVertices(graph, vertex.getVariable(),
+        vertex.getLabel(), predicates, executionCache.getVertexScans(graph)));
+    }
+    Map<String, DataSet<Edge>> edges = new HashMap<>();
+    for (org.s1ck.gdl.model.Edge edge : queryHandler.getEdges()) {
+      edges.put(edge.getVariable(), LabelScans.getEdges(graph, edge.getVariable(),
+        edge.getLabel(), predicates, executionCache.getEdgeScans(graph)));
+    }
+    return new CandidateSets(vertices, edges);
+  }
+
   /**
    * Method to construct final embedded elements
    *
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.types.Row;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+
+import java.util.List;
+
+/**
+ * Extracts the bindings of the specified columns from an {@link Embedding}. A column is either a
+ * query variable, which is bound to the id of the matched element, or a property selector
+ * {@code variable.key}, which is bound to the property value of the matched element.
+ *
+ * embedding -> (id|propertyValue,...)
+ */
+public class EmbeddingToRow implements MapFunction<Embedding, Row> {
+  /**
+   * Embedding column of each id field, -1 for property fields
+   */
+  private final int[] idColumns;
+  /**
+   * Property column of each property field, -1 for id fields
+   */
+  private final int[] propertyColumns;
+  /**
+   * Reduce object instantiations
+   */
+  private final Row reuseRow;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param metaData meta data of the embeddings
+   * @param columns variables and property selectors to extract
+   */
+  public EmbeddingToRow(EmbeddingMetaData metaData, List<String> columns) {
+    this.idColumns = new int[columns.size()];
+    this.propertyColumns = new int[columns.size()];
+    for (int i = 0; i < columns.size(); i++) {
+      String column = columns.get(i);
+      int dot = column.indexOf('.');
+      if (dot < 0) {
+        idColumns[i] = metaData.getEntryColumn(column);
+        propertyColumns[i] = -1;
+      } else {
+        idColumns[i] = -1;
+        propertyColumns[i] =
+          metaData.getPropertyColumn(column.substring(0, dot), column.substring(dot + 1));
+      }
+    }
+    this.reuseRow = new Row(columns.size());
+  }
+
+  @Override
+  public Row map(Embedding embedding) throws Exception {
+    for (int i = 0; i < idColumns.length; i++) {
+      reuseRow.setField(i, idColumns[i] >= 0 ?
+        embedding.getId(idColumns[i]) : embedding.getProperty(propertyColumns[i]));
+    }
+    return reuseRow;
+  }
+}
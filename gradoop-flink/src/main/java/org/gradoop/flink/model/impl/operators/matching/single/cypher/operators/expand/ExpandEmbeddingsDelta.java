@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.DeltaIteration;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.flink.model.impl.functions.tuple.Value1Of2;
+import org.gradoop.flink.model.impl.functions.utils.First;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.FilterNewExpandEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.KeyExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.MergeExpandEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.FrontierDeduplication;
+
+import java.util.List;
+
+/**
+ * Expands an vertex along the edges. The number of hops can be specified via upper and lower bound
+ * The input embedding is appended by 2 Entries, the first one represents the path (edge, vertex,
+ * edge, vertex, ..., edge), the second one the end vertex
+ *
+ * Iteration is done with {@code DeltaIteration}. In contrast to {@link ExpandEmbeddingsBulk}, only
+ * the expand embeddings created in the previous superstep (the frontier) are expanded. Each new
+ * expand embedding is identified by a key according to the specified
+ * {@link FrontierDeduplication}. Expand embeddings whose key is already contained in the solution
+ * set or which are equivalent to another new expand embedding are pruned from the frontier.
+ */
+public class ExpandEmbeddingsDelta extends ExpandEmbeddings {
+  /**
+   * Specifies which expand embeddings are considered equivalent
+   */
+  private final FrontierDeduplication deduplication;
+
+  /**
+   * New Expand One Operator
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the input column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand
+   * @param upperBound specifies the maximum hops we want to expand
+   * @param direction direction of the expansion {@see ExpandDirection}
+   * @param distinctVertexColumns indices of distinct input vertex columns
+   * @param distinctEdgeColumns indices of distinct input edge columns
+   * @param closingColumn defines the column which should be equal with the paths end
+   * @param joinHint join strategy
+   * @param deduplication specifies which expand embeddings are considered equivalent
+   */
+  public ExpandEmbeddingsDelta(DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns, int closingColumn,
+    JoinOperatorBase.JoinHint joinHint, FrontierDeduplication deduplication) {
+
+    super(input, candidateEdges, expandColumn, lowerBound, upperBound, direction,
+      distinctVertexColumns, distinctEdgeColumns, closingColumn, joinHint);
+    this.deduplication = deduplication;
+  }
+
+  /**
+   * New Expand One Operator with default join strategy
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand
+   * @param upperBound specifies the maximum hops we want to expand
+   * @param direction direction of the expansion {@see ExpandDirection}
+   * @param distinctVertexColumns indices of distinct vertex columns
+   * @param distinctEdgeColumns indices of distinct edge columns
+   * @param closingColumn defines the column which should be equal with the paths end
+   * @param deduplication specifies which expand embeddings are considered equivalent
+   */
+  public ExpandEmbeddingsDelta(DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns, int closingColumn,
+    FrontierDeduplication deduplication) {
+
+    this(input, candidateEdges, expandColumn, lowerBound, upperBound, direction,
+      distinctVertexColumns, distinctEdgeColumns, closingColumn,
+      JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES, deduplication);
+  }
+
+  /**
+   * New Expand One Operator with default join strategy and without deduplication
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand
+   * @param upperBound specifies the maximum hops we want to expand
+   * @param direction direction of the expansion {@see ExpandDirection}
+   * @param distinctVertexColumns indices of distinct vertex columns
+   * @param distinctEdgeColumns indices of distinct edge columns
+   * @param closingColumn defines the column which should be equal with the paths end
+   */
+  public ExpandEmbeddingsDelta(DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns, int closingColumn) {
+
+    this(input, candidateEdges, expandColumn, lowerBound, upperBound, direction,
+      distinctVertexColumns, distinctEdgeColumns, closingColumn,
+      JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES, FrontierDeduplication.NONE);
+  }
+
+  @Override
+  protected DataSet<ExpandEmbedding> iterate(DataSet<ExpandEmbedding> initialWorkingSet) {
+    DataSet<Tuple2<byte[], ExpandEmbedding>> initialSolutionSet = initialWorkingSet
+      .map(new KeyExpandEmbedding(deduplication, lowerBound))
+      .name(getName() + " - Key initial expansion")
+      .groupBy(0)
+      .reduceGroup(new First<>())
+      .name(getName() + " - Deduplicate initial expansion");
+
+    if (upperBound <= 1) {
+      return initialSolutionSet.map(new Value1Of2<>());
+    }
+
+    DeltaIteration<Tuple2<byte[], ExpandEmbedding>, ExpandEmbedding> iteration =
+      initialSolutionSet
+        .iterateDelta(initialSolutionSet.map(new Value1Of2<>()), upperBound - 1, 0)
+        .name(getName());
+
+    DataSet<Tuple2<byte[], ExpandEmbedding>> delta = iteration.getWorkset()
+      .join(candidateEdgeTuples, joinHint)
+        .where(2).equalTo(0)
+        .with(new MergeExpandEmbeddings(
+          distinctVertexColumns,
+          distinctEdgeColumns,
+          closingColumn
+        ))
+      .name(getName() + " - Expansion")
+      .map(new KeyExpandEmbedding(deduplication, lowerBound))
+      .name(getName() + " - Key expansion")
+      .coGroup(iteration.getSolutionSet())
+        .where(0).equalTo(0)
+        .with(new FilterNewExpandEmbeddings())
+      .name(getName() + " - Filter known states");
+
+    DataSet<ExpandEmbedding> nextWorkingSet = delta
+      .map(new Value1Of2<>())
+      .name(getName() + " - Next frontier");
+
+    return iteration.closeWith(delta, nextWorkingSet)
+      .map(new Value1Of2<>())
+      .name(getName() + " - Extract expansions");
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+
+import java.util.Iterator;
+
+/**
+ * Co-groups keyed expand embeddings of the current frontier with the solution set of the delta
+ * iteration. A single expand embedding is emitted for each key that is not yet contained in the
+ * solution set.
+ */
+public class FilterNewExpandEmbeddings implements CoGroupFunction<
+  Tuple2<byte[], ExpandEmbedding>,
+  Tuple2<byte[], ExpandEmbedding>,
+  Tuple2<byte[], ExpandEmbedding>> {
+
+  @Override
+  public void coGroup(Iterable<Tuple2<byte[], ExpandEmbedding>> frontier,
+    Iterable<Tuple2<byte[], ExpandEmbedding>> solutionSet,
+    Collector<Tuple2<byte[], ExpandEmbedding>> out) throws Exception {
+
+    if (solutionSet.iterator().hasNext()) {
+      return;
+    }
+
+    Iterator<Tuple2<byte[], ExpandEmbedding>> iterator = frontier.iterator();
+    if (iterator.hasNext()) {
+      out.collect(iterator.next());
+    }
+  }
+}
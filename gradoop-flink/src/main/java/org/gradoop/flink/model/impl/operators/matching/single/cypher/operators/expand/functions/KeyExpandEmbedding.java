@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.FrontierDeduplication;
+
+import java.util.Arrays;
+
+/**
+ * Attaches a key to an expand embedding which identifies its state according to the specified
+ * {@link FrontierDeduplication}. Expand embeddings with the same key are considered equivalent.
+ *
+ * The key consists of the raw bytes of the base embedding ids (each prefixed by its length), the
+ * end vertex id and, depending on the deduplication, the path ids or the path length.
+ *
+ * expandEmbedding -> (key, expandEmbedding)
+ */
+@FunctionAnnotation.ForwardedFields("*->f1")
+public class KeyExpandEmbedding
+  implements MapFunction<ExpandEmbedding, Tuple2<byte[], ExpandEmbedding>> {
+  /**
+   * Specifies which expand embeddings are equivalent
+   */
+  private final FrontierDeduplication deduplication;
+  /**
+   * Paths shorter than this (in elements) are never merged with paths of a different length
+   */
+  private final int minPathLength;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<byte[], ExpandEmbedding> reuseTuple;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param deduplication specifies which expand embeddings are equivalent
+   * @param lowerBound the lower bound path length
+   */
+  public KeyExpandEmbedding(FrontierDeduplication deduplication, int lowerBound) {
+    this.deduplication = deduplication;
+    this.minPathLength = lowerBound * 2 - 1;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public Tuple2<byte[], ExpandEmbedding> map(ExpandEmbedding value) throws Exception {
+    Embedding base = value.getBase();
+    byte[] idData = base.getIdData();
+    byte[] idListData = base.getIdListData();
+
+    GradoopId[] path;
+    int suffixLength;
+    switch (deduplication) {
+    case NONE:
+      path = value.getPath();
+      suffixLength = path.length * GradoopId.ID_SIZE;
+      break;
+    case PATH_SET:
+      path = value.getPath().clone();
+      Arrays.sort(path);
+      suffixLength = path.length * GradoopId.ID_SIZE;
+      break;
+    case SHORTEST_PATH:
+      path = null;
+      // paths below the lower bound must not block longer paths to the same vertex
+      suffixLength = value.pathSize() < minPathLength ? Integer.BYTES : 0;
+      break;
+    default:
+      throw new IllegalArgumentException("Unsupported deduplication: " + deduplication);
+    }
+
+    byte[] key = new byte[2 * Integer.BYTES + idData.length + idListData.length +
+      GradoopId.ID_SIZE + suffixLength];
+    int offset = putInt(key, 0, idData.length);
+    offset = put(key, offset, idData);
+    offset = putInt(key, offset, idListData.length);
+    offset = put(key, offset, idListData);
+    offset = put(key, offset, value.getEnd().toByteArray());
+    if (path != null) {
+      for (GradoopId id : path) {
+        offset = put(key, offset, id.toByteArray());
+      }
+    } else if (suffixLength > 0) {
+      putInt(key, offset, value.pathSize());
+    }
+
+    reuseTuple.f0 = key;
+    reuseTuple.f1 = value;
+    return reuseTuple;
+  }
+
+  /**
+   * Copies the given bytes into the key.
+   *
+   * @param key key to write to
+   * @param offset position in the key
+   * @param bytes bytes to copy
+   * @return position after the copied bytes
+   */
+  private static int put(byte[] key, int offset, byte[] bytes) {
+    System.arraycopy(bytes, 0, key, offset, bytes.length);
+    return offset + bytes.length;
+  }
+
+  /**
+   * Writes the given integer into the key.
+   *
+   * @param key key to write to
+   * @param offset position in the key
+   * @param value integer to write
+   * @return position after the written integer
+   */
+  private static int putInt(byte[] key, int offset, int value) {
+    key[offset] = (byte) (value >>> 24);
+    key[offset + 1] = (byte) (value >>> 16);
+    key[offset + 2] = (byte) (value >>> 8);
+    key[offset + 3] = (byte) value;
+    return offset + Integer.BYTES;
+  }
+}
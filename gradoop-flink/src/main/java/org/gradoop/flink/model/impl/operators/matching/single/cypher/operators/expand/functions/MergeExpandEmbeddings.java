@@ -21,6 +21,8 @@ import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.IdFingerprintSet;
 
 import java.util.List;
 
@@ -46,6 +48,10 @@ public class MergeExpandEmbeddings
    * Specifies a base column that should be equal to the paths end node
    */
   private final int closingColumn;
+  /**
+   * Reused to check the distinctiveness of ids
+   */
+  private final IdFingerprintSet distinctIds;
 
   /**
    * Create a new Combine Expand Embeddings Operator
@@ -59,6 +65,7 @@ public class MergeExpandEmbeddings
     this.distinctVertices = distinctVertices;
     this.distinctEdges = distinctEdges;
     this.closingColumn = closingColumn;
+    this.distinctIds = new IdFingerprintSet();
   }
 
   @Override
@@ -95,19 +102,38 @@ public class MergeExpandEmbeddings
       }
     }
 
-    List<GradoopId> ref;
+    Embedding base = prev.getBase();
 
-    // check for clashes with distinct vertices in the base
-    for (int i : distinctVertices) {
-      ref = prev.getBase().getIdAsList(i);
-      if ((ref.contains(edge.getTarget()) && i != closingColumn) ||
-        ref.contains(edge.getSource())) {
+    // check for clashes with distinct vertices in the base, the target may close a cycle
+    if (!distinctVertices.isEmpty()) {
+      distinctIds.clear();
+      boolean closes = false;
+      for (int i : distinctVertices) {
+        if (i == closingColumn) {
+          closes = true;
+        } else {
+          distinctIds.addAll(base, i);
+        }
+      }
+      if (distinctIds.contains(edge.getTarget())) {
+        return false;
+      }
+      if (closes) {
+        distinctIds.addAll(base, closingColumn);
+      }
+      if (distinctIds.contains(edge.getSource())) {
         return false;
       }
     }
 
     // check for clashes with distinct edges in the base
-    ref = prev.getBase().getIdsAsList(distinctEdges);
-    return !ref.contains(edge.getId());
+    if (!distinctEdges.isEmpty()) {
+      distinctIds.clear();
+      for (int i : distinctEdges) {
+        distinctIds.addAll(base, i);
+      }
+      return !distinctIds.contains(edge.getId());
+    }
+    return true;
   }
 }
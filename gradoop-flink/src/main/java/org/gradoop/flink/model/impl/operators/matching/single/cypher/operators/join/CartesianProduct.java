@@ -19,6 +19,7 @@ import com.google.common.collect.Lists;
 import org.apache.flink.api.common.operators.base.CrossOperatorBase;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
 
@@ -69,6 +70,10 @@ public class CartesianProduct implements PhysicalOperator {
    * Flink cross Hint
    */
   private final CrossOperatorBase.CrossHint crossHint;
+  /**
+   * Meta data of the resulting embeddings
+   */
+  private final EmbeddingMetaData metaData;
   /**
    * Operator name used for Flink operator naming
    */
@@ -96,6 +101,36 @@ public class CartesianProduct implements PhysicalOperator {
     List<Integer> distinctEdgeColumnsRight,
     CrossOperatorBase.CrossHint crossHint) {
 
+    this(left, right, rightColumns,
+      distinctVertexColumnsLeft, distinctVertexColumnsRight,
+      distinctEdgeColumnsLeft, distinctEdgeColumnsRight,
+      crossHint, new EmbeddingMetaData());
+  }
+
+  /**
+   * New value join operator
+   *
+   * @param left left hand side data set
+   * @param right right hand side data set
+   * @param rightColumns size of the right embedding
+   * @param distinctVertexColumnsLeft distinct vertex columns of the left embedding
+   * @param distinctVertexColumnsRight distinct vertex columns of the right embedding
+   * @param distinctEdgeColumnsLeft distinct edge columns of the left embedding
+   * @param distinctEdgeColumnsRight distinct edge columns of the right embedding
+   * @param crossHint cross hint
+   * @param metaData meta data of the resulting embeddings
+   */
+  public CartesianProduct(
+    DataSet<Embedding> left,
+    DataSet<Embedding> right,
+    int rightColumns,
+    List<Integer> distinctVertexColumnsLeft,
+    List<Integer> distinctVertexColumnsRight,
+    List<Integer> distinctEdgeColumnsLeft,
+    List<Integer> distinctEdgeColumnsRight,
+    CrossOperatorBase.CrossHint crossHint,
+    EmbeddingMetaData metaData) {
+
     this.left = left;
     this.right = right;
     this.rightColumns = rightColumns;
@@ -104,6 +139,7 @@ public class CartesianProduct implements PhysicalOperator {
     this.distinctEdgeColumnsLeft = distinctEdgeColumnsLeft;
     this.distinctEdgeColumnsRight = distinctEdgeColumnsRight;
     this.crossHint = crossHint;
+    this.metaData = metaData;
     this.setName("CartesianProduct");
   }
 
@@ -115,7 +151,8 @@ public class CartesianProduct implements PhysicalOperator {
         distinctVertexColumnsLeft,
         distinctVertexColumnsRight,
         distinctEdgeColumnsLeft,
-        distinctEdgeColumnsRight
+        distinctEdgeColumnsRight,
+        metaData
       ))
       .name(getName());
   }
@@ -18,6 +18,7 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.
 import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractJoinColumns;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
@@ -79,6 +80,10 @@ public class JoinEmbeddings implements PhysicalOperator {
    * Flink join Hint
    */
   private final JoinOperatorBase.JoinHint joinHint;
+  /**
+   * Meta data of the resulting embeddings
+   */
+  private final EmbeddingMetaData metaData;
 
   /**
    * Operator name
@@ -164,6 +169,34 @@ public class JoinEmbeddings implements PhysicalOperator {
     List<Integer> distinctVertexColumnsLeft, List<Integer> distinctVertexColumnsRight,
     List<Integer> distinctEdgeColumnsLeft, List<Integer> distinctEdgeColumnsRight,
     JoinOperatorBase.JoinHint joinHint) {
+    this(left, right, rightColumns,
+      leftJoinColumns, rightJoinColumns,
+      distinctVertexColumnsLeft, distinctVertexColumnsRight,
+      distinctEdgeColumnsLeft, distinctEdgeColumnsRight,
+      joinHint, new EmbeddingMetaData());
+  }
+
+  /**
+   * Instantiates a new join operator.
+   *
+   * @param left embeddings of the left side of the join
+   * @param right embeddings of the right side of the join
+   * @param rightColumns number of columns in the right side of the join
+   * @param leftJoinColumns specifies the join columns of the left side
+   * @param rightJoinColumns specifies the join columns of the right side
+   * @param distinctVertexColumnsLeft distinct vertex columns of the left embedding
+   * @param distinctVertexColumnsRight distinct vertex columns of the right embedding
+   * @param distinctEdgeColumnsLeft distinct edge columns of the left embedding
+   * @param distinctEdgeColumnsRight distinct edge columns of the right embedding
+   * @param joinHint join strategy
+   * @param metaData meta data of the joined embeddings
+   */
+  public JoinEmbeddings(DataSet<Embedding> left, DataSet<Embedding> right,
+    int rightColumns,
+    List<Integer> leftJoinColumns, List<Integer> rightJoinColumns,
+    List<Integer> distinctVertexColumnsLeft, List<Integer> distinctVertexColumnsRight,
+    List<Integer> distinctEdgeColumnsLeft, List<Integer> distinctEdgeColumnsRight,
+    JoinOperatorBase.JoinHint joinHint, EmbeddingMetaData metaData) {
     this.left                       = left;
     this.right                      = right;
     this.rightColumns               = rightColumns;
@@ -174,6 +207,7 @@ public class JoinEmbeddings implements PhysicalOperator {
     this.distinctEdgeColumnsLeft    = distinctEdgeColumnsLeft;
     this.distinctEdgeColumnsRight   = distinctEdgeColumnsRight;
     this.joinHint                   = joinHint;
+    this.metaData                   = metaData;
     this.setName("JoinEmbeddings");
   }
 
@@ -184,7 +218,7 @@ public class JoinEmbeddings implements PhysicalOperator {
       .equalTo(new ExtractJoinColumns(rightJoinColumns))
       .with(new MergeEmbeddings(rightColumns, rightJoinColumns,
         distinctVertexColumnsLeft, distinctVertexColumnsRight,
-        distinctEdgeColumnsLeft, distinctEdgeColumnsRight))
+        distinctEdgeColumnsLeft, distinctEdgeColumnsRight, metaData))
       .name(getName());
   }
 
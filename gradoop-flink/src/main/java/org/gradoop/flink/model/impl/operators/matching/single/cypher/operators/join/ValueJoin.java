@@ -19,6 +19,7 @@ import com.google.common.collect.Lists;
 import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractPropertyJoinColumns;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
@@ -84,6 +85,10 @@ public class ValueJoin implements PhysicalOperator {
    * Flink join Hint
    */
   private final JoinOperatorBase.JoinHint joinHint;
+  /**
+   * Meta data of the resulting embeddings
+   */
+  private final EmbeddingMetaData metaData;
   /**
    * Stores the operator name used for flink operator naming
    */
@@ -135,6 +140,33 @@ public class ValueJoin implements PhysicalOperator {
     List<Integer> distinctEdgeColumnsLeft, List<Integer> distinctEdgeColumnsRight,
     JoinOperatorBase.JoinHint joinHint) {
 
+    this(left, right, leftJoinProperties, rightJoinProperties, rightColumns,
+      distinctVertexColumnsLeft, distinctVertexColumnsRight,
+      distinctEdgeColumnsLeft, distinctEdgeColumnsRight,
+      joinHint, new EmbeddingMetaData());
+  }
+
+  /**
+   * New value equi join operator
+   *
+   * @param left left hand side data set
+   * @param right right hand side data set
+   * @param leftJoinProperties join criteria
+   * @param rightJoinProperties join criteria
+   * @param rightColumns size of the right embedding
+   * @param distinctVertexColumnsLeft distinct vertex columns of the left embedding
+   * @param distinctVertexColumnsRight distinct vertex columns of the right embedding
+   * @param distinctEdgeColumnsLeft distinct edge columns of the left embedding
+   * @param distinctEdgeColumnsRight distinct edge columns of the right embedding
+   * @param joinHint join hint
+   * @param metaData meta data of the joined embeddings
+   */
+  public ValueJoin(DataSet<Embedding> left, DataSet<Embedding> right,
+    List<Integer> leftJoinProperties, List<Integer> rightJoinProperties, int rightColumns,
+    List<Integer> distinctVertexColumnsLeft, List<Integer> distinctVertexColumnsRight,
+    List<Integer> distinctEdgeColumnsLeft, List<Integer> distinctEdgeColumnsRight,
+    JoinOperatorBase.JoinHint joinHint, EmbeddingMetaData metaData) {
+
     this.left = left;
     this.right = right;
     this.leftJoinProperties = leftJoinProperties;
@@ -145,6 +177,7 @@ public class ValueJoin implements PhysicalOperator {
     this.distinctEdgeColumnsLeft = distinctEdgeColumnsLeft;
     this.distinctEdgeColumnsRight = distinctEdgeColumnsRight;
     this.joinHint = joinHint;
+    this.metaData = metaData;
     this.setName("ValueJoin");
   }
 
@@ -159,7 +192,8 @@ public class ValueJoin implements PhysicalOperator {
         distinctVertexColumnsLeft,
         distinctVertexColumnsRight,
         distinctEdgeColumnsLeft,
-        distinctEdgeColumnsRight
+        distinctEdgeColumnsRight,
+        metaData
       ))
       .name(getName());
   }
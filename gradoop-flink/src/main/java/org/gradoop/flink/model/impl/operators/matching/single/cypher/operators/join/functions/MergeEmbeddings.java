@@ -15,18 +15,17 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.flink.api.common.functions.FlatJoinFunction;
 import org.apache.flink.api.common.functions.FlatMapFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.util.Collector;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingBuilder;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.JoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.IdFingerprintSet;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.ToIntFunction;
 import java.util.stream.IntStream;
 
@@ -45,13 +44,13 @@ public class MergeEmbeddings implements
    */
   protected final Embedding reuseEmbedding;
   /**
-   * Non-Join columns from the right side.
+   * Writes the merged embeddings into {@link MergeEmbeddings#reuseEmbedding}.
    */
-  private final int[] nonJoinColumnsRight;
+  private final EmbeddingBuilder builder;
   /**
-   * Number of join columns of the right side.
+   * Non-Join columns from the right side.
    */
-  private final int joinColumnsRightSize;
+  private final int[] nonJoinColumnsRight;
   /**
    * Vertex columns of the left embedding that need to have distinct id values.
    */
@@ -76,6 +75,10 @@ public class MergeEmbeddings implements
    * Flag, if vertex distinctiveness needs to be checked.
    */
   private final boolean checkDistinctEdges;
+  /**
+   * Reused to check the distinctiveness of ids.
+   */
+  private final IdFingerprintSet distinctIds;
 
   /**
    * Creates a new UDF instance.
@@ -93,11 +96,34 @@ public class MergeEmbeddings implements
     List<Integer> distinctVertexColumnsRight,
     List<Integer> distinctEdgeColumnsLeft,
     List<Integer> distinctEdgeColumnsRight) {
+    this(rightColumns, joinColumnsRight,
+      distinctVertexColumnsLeft, distinctVertexColumnsRight,
+      distinctEdgeColumnsLeft, distinctEdgeColumnsRight,
+      new EmbeddingMetaData());
+  }
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param rightColumns number of columns in the right embedding
+   * @param joinColumnsRight join columns of the right side
+   * @param distinctVertexColumnsLeft distinct vertex columns of the left embedding
+   * @param distinctVertexColumnsRight distinct vertex columns of the right embedding
+   * @param distinctEdgeColumnsLeft distinct edge columns of the left embedding
+   * @param distinctEdgeColumnsRight distinct edge columns of the right embedding
+   * @param metaData meta data of the merged embeddings, used to size the builder buffers
+   */
+  public MergeEmbeddings(int rightColumns,
+    List<Integer> joinColumnsRight,
+    List<Integer> distinctVertexColumnsLeft,
+    List<Integer> distinctVertexColumnsRight,
+    List<Integer> distinctEdgeColumnsLeft,
+    List<Integer> distinctEdgeColumnsRight,
+    EmbeddingMetaData metaData) {
 
     this.nonJoinColumnsRight = IntStream.range(0, rightColumns)
       .filter(col -> !joinColumnsRight.contains(col))
       .toArray();
-    this.joinColumnsRightSize = joinColumnsRight.size();
 
     ToIntFunction<Integer> f = i -> i;
     this.distinctVertexColumnsLeft = distinctVertexColumnsLeft.stream().mapToInt(f).toArray();
@@ -110,6 +136,8 @@ public class MergeEmbeddings implements
     this.checkDistinctEdges = distinctEdgeColumnsLeft.size() > 0 ||
       distinctEdgeColumnsRight.size() > 0;
     this.reuseEmbedding = new Embedding();
+    this.builder = new EmbeddingBuilder(metaData);
+    this.distinctIds = new IdFingerprintSet();
   }
 
   @Override
@@ -160,9 +188,16 @@ public class MergeEmbeddings implements
    * @param right right embedding
    */
   protected void buildEmbedding(Embedding left, Embedding right) {
-    reuseEmbedding.setIdData(mergeIdData(left, right));
-    reuseEmbedding.setPropertyData(mergePropertyData(left, right));
-    reuseEmbedding.setIdListData(mergeIdListData(left, right));
+    // all entries of left are kept as well as all right entries which aren't join columns,
+    // properties and id lists are kept from both sides
+    builder.reset()
+      .addIdEntries(left)
+      .addIdEntries(right, nonJoinColumnsRight)
+      .addProperties(left)
+      .addProperties(right)
+      .addIdLists(left)
+      .addIdLists(right)
+      .build(reuseEmbedding);
   }
 
   /**
@@ -177,76 +212,24 @@ public class MergeEmbeddings implements
   private boolean isDistinct(int[] columnsLeft, int[] columnsRight,
     Embedding left, Embedding right) {
 
-    Set<GradoopId> ids = new HashSet<>(left.size() + right.size());
-    return isDistinct(ids, columnsLeft, left) && isDistinct(ids, columnsRight, right);
+    distinctIds.clear();
+    return isDistinct(columnsLeft, left) && isDistinct(columnsRight, right);
   }
 
   /**
-   * Checks if the specified embeddings contains distinct ids at the specified columns.
+   * Checks if the specified embeddings contains distinct ids at the specified columns and if
+   * these ids have not been added to {@link MergeEmbeddings#distinctIds} before.
    *
-   * @param ids used to track uniqueness
    * @param columns columns to check for uniqueness
    * @param embedding embedding to check
    * @return true, if the embedding contains distinct Ids at the specified columns
    */
-  private boolean isDistinct(Set<GradoopId> ids, int[] columns, Embedding embedding) {
-    boolean isDistinct = true;
+  private boolean isDistinct(int[] columns, Embedding embedding) {
     for (int column : columns) {
-      isDistinct = ids.addAll(embedding.getIdAsList(column));
-      if (!isDistinct) {
-        break;
+      if (!distinctIds.addAll(embedding, column)) {
+        return false;
       }
     }
-    return isDistinct;
-  }
-
-  /**
-   * Merges the idData columns of left and right
-   * All entries of left are kept as well as all right entries which aren't join columns
-   *
-   * @param left the left hand side embedding
-   * @param right the right hand side embedding
-   * @return the merged data represented as byte array
-   */
-  private byte[] mergeIdData(Embedding left, Embedding right) {
-    byte[] newIdData = new byte[
-      left.getIdData().length +
-      right.getIdData().length -
-      (joinColumnsRightSize * (Embedding.ID_ENTRY_SIZE))
-    ];
-
-    int offset = left.getIdData().length;
-    System.arraycopy(left.getIdData(), 0, newIdData, 0, offset);
-
-    for (int i : nonJoinColumnsRight) {
-      System.arraycopy(right.getRawIdEntry(i), 0, newIdData, offset, Embedding.ID_ENTRY_SIZE);
-      offset += Embedding.ID_ENTRY_SIZE;
-    }
-
-    return newIdData;
-  }
-
-  /**
-   * Merges the propertyData columns of the left and right embeddings
-   * All entries from both sides are kept.
-   *
-   * @param left the left hand side embedding
-   * @param right the right hand side embedding
-   * @return the merged data represented as byte array
-   */
-  private byte[] mergePropertyData(Embedding left, Embedding right) {
-    return ArrayUtils.addAll(left.getPropertyData(), right.getPropertyData());
-  }
-
-  /**
-   * Merges the idListData columns of the left and right embeddings
-   * All entries from both sides are kept.
-   *
-   * @param left the left hand side embedding
-   * @param right the right hand side embedding
-   * @return the merged data represented as byte array
-   */
-  private byte[] mergeIdListData(Embedding left, Embedding right) {
-    return ArrayUtils.addAll(left.getIdListData(), right.getIdListData());
+    return true;
   }
 }
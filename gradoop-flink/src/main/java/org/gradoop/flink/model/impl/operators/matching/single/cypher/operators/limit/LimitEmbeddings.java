@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Returns an arbitrary subset of the input embeddings of the given size.
+ *
+ * Each partition forwards at most {@code limit} embeddings before the final selection, so the
+ * number of embeddings shipped to the final selection is bounded by the parallelism.
+ */
+public class LimitEmbeddings implements PhysicalOperator {
+  /**
+   * Candidate embeddings
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Maximum number of embeddings in the result
+   */
+  private final int limit;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * New embedding limit operator
+   *
+   * @param input candidate embeddings
+   * @param limit maximum number of embeddings in the result (must be positive)
+   */
+  public LimitEmbeddings(DataSet<Embedding> input, int limit) {
+    if (limit < 1) {
+      throw new IllegalArgumentException("Limit must be positive: " + limit);
+    }
+    this.input = input;
+    this.limit = limit;
+    this.setName("LimitEmbeddings");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    // first(n) is a combinable group reduce, i.e. it is applied locally before the global limit
+    return input
+      .first(limit)
+      .name(getName());
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
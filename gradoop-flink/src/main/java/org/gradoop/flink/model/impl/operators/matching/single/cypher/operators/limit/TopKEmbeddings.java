@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit.functions.SelectTopK;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Returns the first {@code k} input embeddings according to the property values at a given
+ * property column of the embeddings.
+ *
+ * Each partition selects its local top {@code k} embeddings before the global top {@code k} are
+ * selected. Missing property values are ordered after all other values.
+ */
+public class TopKEmbeddings implements PhysicalOperator {
+  /**
+   * Candidate embeddings
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Property column of the values used for ordering
+   */
+  private final int column;
+  /**
+   * Number of embeddings in the result
+   */
+  private final int k;
+  /**
+   * True, if the embeddings are ordered ascending
+   */
+  private final boolean ascending;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * New top-k operator
+   *
+   * @param input candidate embeddings
+   * @param column property column of the values used for ordering
+   * @param k number of embeddings in the result (must be positive)
+   * @param ascending true, if the embeddings are ordered ascending
+   */
+  public TopKEmbeddings(DataSet<Embedding> input, int column, int k, boolean ascending) {
+    if (k < 1) {
+      throw new IllegalArgumentException("Number of embeddings must be positive: " + k);
+    }
+    this.input = input;
+    this.column = column;
+    this.k = k;
+    this.ascending = ascending;
+    this.setName("TopKEmbeddings");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    return input
+      .reduceGroup(new SelectTopK(column, k, ascending))
+      .name(getName());
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit.functions;
+
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Selects the {@code k} embeddings with the smallest (or largest) values at a given property
+ * column. Missing values are ordered after all other values.
+ *
+ * The function is combinable, i.e. the top {@code k} embeddings are selected within each partition
+ * before the global top {@code k} embeddings are selected.
+ */
+public class SelectTopK implements GroupReduceFunction<Embedding, Embedding>,
+  GroupCombineFunction<Embedding, Embedding> {
+  /**
+   * Property column of the values used for ordering
+   */
+  private final int column;
+  /**
+   * Number of embeddings to select
+   */
+  private final int k;
+  /**
+   * True, if the smallest values are selected
+   */
+  private final boolean ascending;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param column property column of the values used for ordering
+   * @param k number of embeddings to select (must be positive)
+   * @param ascending true, if the smallest values are selected
+   */
+  public SelectTopK(int column, int k, boolean ascending) {
+    if (k < 1) {
+      throw new IllegalArgumentException("Number of embeddings must be positive: " + k);
+    }
+    this.column = column;
+    this.k = k;
+    this.ascending = ascending;
+  }
+
+  @Override
+  public void reduce(Iterable<Embedding> values, Collector<Embedding> out) throws Exception {
+    // the queue head is the worst of the selected embeddings
+    Comparator<Embedding> order = getOrder();
+    PriorityQueue<Embedding> selected = new PriorityQueue<>(k + 1, order.reversed());
+
+    for (Embedding value : values) {
+      if (selected.size() < k) {
+        selected.add(value.copy());
+      } else if (order.compare(value, selected.peek()) < 0) {
+        selected.poll();
+        selected.add(value.copy());
+      }
+    }
+    for (Embedding value : selected) {
+      out.collect(value);
+    }
+  }
+
+  @Override
+  public void combine(Iterable<Embedding> values, Collector<Embedding> out) throws Exception {
+    reduce(values, out);
+  }
+
+  /**
+   * Returns the order of the embeddings, missing values are ordered last.
+   *
+   * @return embedding order
+   */
+  private Comparator<Embedding> getOrder() {
+    Comparator<PropertyValue> valueOrder = ascending ?
+      Comparator.naturalOrder() : Comparator.reverseOrder();
+    return (left, right) -> {
+      PropertyValue leftValue = left.getProperty(column);
+      PropertyValue rightValue = right.getProperty(column);
+      boolean leftNull = leftValue.isNull();
+      boolean rightNull = rightValue.isNull();
+      if (leftNull || rightNull) {
+        return Boolean.compare(leftNull, rightNull);
+      }
+      return valueOrder.compare(leftValue, rightValue);
+    };
+  }
+}
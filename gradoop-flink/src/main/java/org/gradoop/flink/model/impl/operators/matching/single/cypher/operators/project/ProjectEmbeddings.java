@@ -17,6 +17,7 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.
 
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.functions.ProjectEmbedding;
 
@@ -36,6 +37,10 @@ public class ProjectEmbeddings implements PhysicalOperator {
    * Indices of all properties that will be kept in the projection
    */
   private final List<Integer> propertyWhiteList;
+  /**
+   * Meta data of the projected embeddings
+   */
+  private final EmbeddingMetaData metaData;
 
   /**
    * Operator name used for Flink operator description
@@ -48,7 +53,19 @@ public class ProjectEmbeddings implements PhysicalOperator {
    * @param propertyWhiteList property columns in the embedding that are taken over to the output
    */
   public ProjectEmbeddings(DataSet<Embedding> input, List<Integer> propertyWhiteList) {
+    this(input, propertyWhiteList, new EmbeddingMetaData());
+  }
+
+  /**
+   * Creates a new embedding projection operator
+   * @param input Embeddings that should be projected
+   * @param propertyWhiteList property columns in the embedding that are taken over to the output
+   * @param metaData meta data of the projected embeddings
+   */
+  public ProjectEmbeddings(DataSet<Embedding> input, List<Integer> propertyWhiteList,
+    EmbeddingMetaData metaData) {
     this.input = input;
+    this.metaData = metaData;
     this.propertyWhiteList = propertyWhiteList.stream().sorted().collect(Collectors.toList());
     this.name = "ProjectEmbeddings";
   }
@@ -56,7 +73,7 @@ public class ProjectEmbeddings implements PhysicalOperator {
   @Override
   public DataSet<Embedding> evaluate() {
     return input
-      .map(new ProjectEmbedding(propertyWhiteList))
+      .map(new ProjectEmbedding(propertyWhiteList, metaData))
       .name(getName());
   }
 
@@ -17,6 +17,8 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.
 
 import org.apache.flink.api.common.functions.RichMapFunction;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingBuilder;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 
 import java.util.List;
 
@@ -28,18 +30,41 @@ public class ProjectEmbedding extends RichMapFunction<Embedding, Embedding> {
   /**
    * Indices of the properties that will be kept in the projection
    */
-  private final List<Integer> propertyWhiteList;
+  private final int[] propertyWhiteList;
+  /**
+   * Writes the projected embeddings into the reused output embedding
+   */
+  private final EmbeddingBuilder builder;
+  /**
+   * Reduce object instantiations
+   */
+  private final Embedding reuseEmbedding;
 
   /**
    * Creates a new embedding projection operator
    * @param propertyWhiteList includes all property indexes that whill be kept in the projection
    */
   public ProjectEmbedding(List<Integer> propertyWhiteList) {
-    this.propertyWhiteList = propertyWhiteList;
+    this(propertyWhiteList, new EmbeddingMetaData());
+  }
+
+  /**
+   * Creates a new embedding projection operator
+   * @param propertyWhiteList includes all property indexes that whill be kept in the projection
+   * @param metaData meta data of the projected embeddings, used to size the builder buffers
+   */
+  public ProjectEmbedding(List<Integer> propertyWhiteList, EmbeddingMetaData metaData) {
+    this.propertyWhiteList = propertyWhiteList.stream().mapToInt(i -> i).toArray();
+    this.builder = new EmbeddingBuilder(metaData);
+    this.reuseEmbedding = new Embedding();
   }
 
   @Override
   public Embedding map(Embedding embedding) {
-    return embedding.project(propertyWhiteList);
+    return builder.reset()
+      .addIdEntries(embedding)
+      .addProperties(embedding, propertyWhiteList)
+      .addIdLists(embedding)
+      .build(reuseEmbedding);
   }
 }
@@ -18,6 +18,9 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.e
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Base class for estimators that provides some utility methods.
  */
@@ -30,6 +33,10 @@ abstract class Estimator {
    * Statistics about the search graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * Known cardinalities of the candidate elements of query variables
+   */
+  private final Map<String, Long> variableCardinalities;
 
   /**
    * Creates a new estimator.
@@ -38,8 +45,21 @@ abstract class Estimator {
    * @param graphStatistics graph statistics
    */
   Estimator(QueryHandler queryHandler, GraphStatistics graphStatistics) {
+    this(queryHandler, graphStatistics, Collections.emptyMap());
+  }
+
+  /**
+   * Creates a new estimator.
+   *
+   * @param queryHandler query handler
+   * @param graphStatistics graph statistics
+   * @param variableCardinalities known candidate cardinalities of query variables
+   */
+  Estimator(QueryHandler queryHandler, GraphStatistics graphStatistics,
+    Map<String, Long> variableCardinalities) {
     this.queryHandler = queryHandler;
     this.graphStatistics = graphStatistics;
+    this.variableCardinalities = variableCardinalities;
   }
 
   public QueryHandler getQueryHandler() {
@@ -76,4 +96,28 @@ abstract class Estimator {
     return cardinality > 0 ? cardinality :
       isVertex ? graphStatistics.getVertexCount() : graphStatistics.getEdgeCount();
   }
+
+  /**
+   * Returns the cardinality of the candidate elements of the specified query variable. If the
+   * cardinality is not known, it is estimated based on the label of the variable.
+   *
+   * @param variable query variable
+   * @param isVertex true, iff the variable maps to a vertex
+   * @return number of candidate elements for the given variable
+   */
+  long getVariableCardinality(String variable, boolean isVertex) {
+    Long cardinality = variableCardinalities.get(variable);
+    return cardinality != null ? cardinality :
+      getCardinality(getLabel(variable, isVertex), isVertex);
+  }
+
+  /**
+   * Returns the cardinality of the candidate elements of the specified query variable, if known.
+   *
+   * @param variable query variable
+   * @return known cardinality or {@code null}
+   */
+  Long getKnownCardinality(String variable) {
+    return variableCardinalities.get(variable);
+  }
 }
@@ -23,6 +23,8 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
 
+import java.util.Map;
+
 /**
  * Keeps track of the leaf nodes in a query plan and computes a final selectivity factor resulting
  * from the applied predicates.
@@ -48,6 +50,19 @@ class FilterEstimator extends Estimator {
     this.selectivity = 1f;
   }
 
+  /**
+   * Creates a new estimator.
+   *
+   * @param queryHandler query handler
+   * @param graphStatistics graph statistics
+   * @param variableCardinalities known candidate cardinalities of query variables
+   */
+  FilterEstimator(QueryHandler queryHandler, GraphStatistics graphStatistics,
+    Map<String, Long> variableCardinalities) {
+    super(queryHandler, graphStatistics, variableCardinalities);
+    this.selectivity = 1f;
+  }
+
   /**
    * Updates the selectivity factor according to the given node.
    *
@@ -92,7 +107,7 @@ class FilterEstimator extends Estimator {
    * @param isVertex true, iff the variable maps to a vertex
    */
   private void setCardinality(String variable, boolean isVertex) {
-    cardinality = getCardinality(getLabel(variable, isVertex), isVertex);
+    cardinality = getVariableCardinality(variable, isVertex);
   }
 
   /**
@@ -56,6 +56,20 @@ class JoinEstimator extends Estimator {
     this.distinctValues = new HashMap<>();
   }
 
+  /**
+   * Creates a new estimator.
+   *
+   * @param queryHandler query handler
+   * @param graphStatistics graph statistics
+   * @param variableCardinalities known candidate cardinalities of query variables
+   */
+  JoinEstimator(QueryHandler queryHandler, GraphStatistics graphStatistics,
+    Map<String, Long> variableCardinalities) {
+    super(queryHandler, graphStatistics, variableCardinalities);
+    this.cardinalities = new HashMap<>();
+    this.distinctValues = new HashMap<>();
+  }
+
   /**
    * Updates the cardinalities according to the given join node.
    *
@@ -117,8 +131,7 @@ class JoinEstimator extends Estimator {
    * @param vertexVariable vertex variable
    */
   private void processVertex(String vertexVariable) {
-    String label = getLabel(vertexVariable, true);
-    long cardinality = getCardinality(label, true);
+    long cardinality = getVariableCardinality(vertexVariable, true);
     updateCardinality(vertexVariable, cardinality);
     updateDistinctValues(vertexVariable, cardinality);
   }
@@ -137,10 +150,12 @@ class JoinEstimator extends Estimator {
     if (distinctSourceCount == 0L) {
       distinctSourceCount = getGraphStatistics().getDistinctSourceVertexCount();
     }
+    distinctSourceCount = limitByKnownCardinality(distinctSourceCount, sourceVariable);
     long distinctTargetCount = getGraphStatistics().getDistinctTargetVertexCount(edgeLabel);
     if (distinctTargetCount == 0L) {
       distinctTargetCount = getGraphStatistics().getDistinctTargetVertexCount();
     }
+    distinctTargetCount = limitByKnownCardinality(distinctTargetCount, targetVariable);
 
     Edge queryEdge = getQueryHandler().getEdgeByVariable(edgeVariable);
     if (queryEdge.getUpperBound() > 1) {
@@ -150,12 +165,26 @@ class JoinEstimator extends Estimator {
         distinctSourceCount, distinctTargetCount));
     } else {
       // static case: 1-hop edge
-      updateCardinality(edgeVariable, getCardinality(edgeLabel, false));
+      updateCardinality(edgeVariable, getVariableCardinality(edgeVariable, false));
     }
     updateDistinctValues(sourceVariable, distinctSourceCount);
     updateDistinctValues(targetVariable, distinctTargetCount);
   }
 
+  /**
+   * The number of distinct vertices bound to a variable can not exceed the known number of
+   * candidates for that variable.
+   *
+   * @param distinctCount distinct vertex count according to the statistics
+   * @param vertexVariable vertex variable
+   * @return limited distinct vertex count
+   */
+  private long limitByKnownCardinality(long distinctCount, String vertexVariable) {
+    Long knownCardinality = getKnownCardinality(vertexVariable);
+    return knownCardinality != null ? Math.max(1L, Math.min(distinctCount, knownCardinality)) :
+      distinctCount;
+  }
+
   /**
    * Estimated the total number of paths whose length is between the specified bounds.
    *
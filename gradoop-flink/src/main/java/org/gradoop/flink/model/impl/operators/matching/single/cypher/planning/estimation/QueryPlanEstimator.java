@@ -17,12 +17,19 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.e
 
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.CardinalityStore;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Estimates a given query plan by traversing its nodes and updating the state of specific
@@ -41,6 +48,10 @@ public class QueryPlanEstimator {
    * Estimates the cardinality and selectivity of the leaf nodes.
    */
   private final FilterEstimator filterEstimator;
+  /**
+   * Cardinalities observed in previous executions (may be {@code null})
+   */
+  private final CardinalityStore cardinalityStore;
 
   /**
    * Creates a new plan estimator.
@@ -51,9 +62,48 @@ public class QueryPlanEstimator {
    */
   public QueryPlanEstimator(QueryPlan queryPlan, QueryHandler queryHandler,
     GraphStatistics graphStatistics) {
+    this(queryPlan, queryHandler, graphStatistics, Collections.emptyMap());
+  }
+
+  /**
+   * Creates a new plan estimator that prefers the specified candidate cardinalities of query
+   * variables over the estimations derived from the graph statistics.
+   *
+   * @param queryPlan query plan
+   * @param queryHandler query handler
+   * @param graphStatistics graph statistics
+   * @param variableCardinalities known candidate cardinalities of query variables
+   */
+  public QueryPlanEstimator(QueryPlan queryPlan, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, Map<String, Long> variableCardinalities) {
+    this(queryPlan, queryHandler, graphStatistics, variableCardinalities, null);
+  }
+
+  /**
+   * Creates a new plan estimator that prefers cardinalities observed in previous executions over
+   * the estimations derived from the graph statistics. The specified candidate cardinalities of
+   * query variables take precedence over the observed cardinalities of the leaf nodes.
+   *
+   * @param queryPlan query plan
+   * @param queryHandler query handler
+   * @param graphStatistics graph statistics
+   * @param variableCardinalities known candidate cardinalities of query variables
+   * @param cardinalityStore observed cardinalities (may be {@code null})
+   */
+  public QueryPlanEstimator(QueryPlan queryPlan, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, Map<String, Long> variableCardinalities,
+    CardinalityStore cardinalityStore) {
+    if (cardinalityStore != null) {
+      Map<String, Long> knownCardinalities = new HashMap<>();
+      addLeafCardinalities(queryPlan.getRoot(), cardinalityStore, knownCardinalities);
+      knownCardinalities.putAll(variableCardinalities);
+      variableCardinalities = knownCardinalities;
+    }
     this.queryPlan = queryPlan;
-    this.joinEstimator = new JoinEstimator(queryHandler, graphStatistics);
-    this.filterEstimator = new FilterEstimator(queryHandler, graphStatistics);
+    this.cardinalityStore = cardinalityStore;
+    this.joinEstimator = new JoinEstimator(queryHandler, graphStatistics, variableCardinalities);
+    this.filterEstimator =
+      new FilterEstimator(queryHandler, graphStatistics, variableCardinalities);
   }
 
   /**
@@ -71,6 +121,10 @@ public class QueryPlanEstimator {
    * @return estimated cardinality of the specified plan
    */
   public long getCardinality() {
+    Long observed = getObservedCardinality();
+    if (observed != null) {
+      return observed;
+    }
     traversePlan(queryPlan.getRoot());
 
     long cardinality = joinEstimator.getCardinality();
@@ -83,6 +137,46 @@ public class QueryPlanEstimator {
     return Math.round(cardinality * selectivity);
   }
 
+  /**
+   * Returns the observed cardinality of the plan.
+   *
+   * @return observed cardinality or {@code null} if unknown
+   */
+  private Long getObservedCardinality() {
+    return cardinalityStore != null ?
+      cardinalityStore.getCardinality(queryPlan.getRoot().getSignature()) : null;
+  }
+
+  /**
+   * Adds the observed cardinalities of the vertex and edge leaves in the given sub tree to the
+   * given map. Leaves reading the edges of a path are not included.
+   *
+   * @param node root of the sub tree
+   * @param cardinalityStore observed cardinalities
+   * @param cardinalities variable -> observed cardinality
+   */
+  private static void addLeafCardinalities(PlanNode node, CardinalityStore cardinalityStore,
+    Map<String, Long> cardinalities) {
+    String variable = null;
+    if (node instanceof FilterAndProjectVerticesNode) {
+      variable = node.getEmbeddingMetaData().getVertexVariables().get(0);
+    } else if (node instanceof FilterAndProjectEdgesNode &&
+      !((FilterAndProjectEdgesNode) node).isPath()) {
+      variable = node.getEmbeddingMetaData().getEdgeVariables().get(0);
+    } else if (node instanceof BinaryNode) {
+      addLeafCardinalities(((BinaryNode) node).getLeftChild(), cardinalityStore, cardinalities);
+      addLeafCardinalities(((BinaryNode) node).getRightChild(), cardinalityStore, cardinalities);
+    } else if (node instanceof UnaryNode) {
+      addLeafCardinalities(((UnaryNode) node).getChildNode(), cardinalityStore, cardinalities);
+    }
+    if (variable != null) {
+      Long cardinality = cardinalityStore.getCardinality(node.getSignature());
+      if (cardinality != null) {
+        cardinalities.put(variable, cardinality);
+      }
+    }
+  }
+
   /**
    * Visits the node if necessary and traverses the plan further if possible.
    *
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.functions.CountEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Counts the embeddings produced by the nodes of a query plan. The counts are transferred to the
+ * {@link CardinalityStore} by {@link CardinalityStore#update} and stored under the signatures of
+ * the nodes, see {@link PlanNode#getSignature()}.
+ */
+public class CardinalityObserver {
+  /**
+   * Store receiving the observed cardinalities
+   */
+  private final CardinalityStore store;
+
+  /**
+   * Creates a new observer.
+   *
+   * @param store store receiving the observed cardinalities
+   */
+  public CardinalityObserver(CardinalityStore store) {
+    this.store = store;
+  }
+
+  /**
+   * Adds a counter to the result of the given plan node.
+   *
+   * @param node plan node
+   * @param result embeddings produced by the node
+   * @return embeddings
+   */
+  public DataSet<Embedding> observe(PlanNode node, DataSet<Embedding> result) {
+    String signature = node.getSignature();
+    return result
+      .map(new CountEmbeddings(store.register(signature)))
+      .name("Count " + signature);
+  }
+}
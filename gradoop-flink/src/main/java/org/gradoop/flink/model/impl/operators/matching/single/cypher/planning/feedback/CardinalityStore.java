@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback;
+
+import org.apache.flink.api.common.JobExecutionResult;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Stores the actual cardinalities of plan nodes observed during query execution.
+ *
+ * Cardinalities are keyed by the signatures of the plan nodes, see
+ * {@link PlanNode#getSignature()}, and are preferred over the estimations derived from the graph
+ * statistics when planning a query. The store describes a single search graph and is updated
+ * after each job:
+ *
+ * <pre>
+ * CardinalityStore store = CardinalityStore.read(path);
+ * graph.callForCollection(new CypherPatternMatching(..., store)).writeTo(sink);
+ * env.execute();
+ * store.update(env.getLastJobExecutionResult());
+ * store.write(path);
+ * </pre>
+ *
+ * The store is a client side object. It is not thread safe.
+ */
+public class CardinalityStore {
+  /**
+   * Separates the cardinality and the signature in the file representation
+   */
+  private static final String SEPARATOR = "\t";
+  /**
+   * Prefix of the accumulator names, unique per store instance
+   */
+  private final String accumulatorPrefix;
+  /**
+   * signature -> observed cardinality
+   */
+  private final Map<String, Long> cardinalities;
+  /**
+   * accumulator name -> signature of the observed plan node
+   */
+  private final Map<String, String> observations;
+  /**
+   * Number of registered observations
+   */
+  private int observationCount;
+
+  /**
+   * Creates a new, empty store.
+   */
+  public CardinalityStore() {
+    this.accumulatorPrefix = "cardinality-" + UUID.randomUUID() + "-";
+    this.cardinalities = new HashMap<>();
+    this.observations = new HashMap<>();
+  }
+
+  /**
+   * Reads a store from the given path. Returns an empty store if the path does not exist.
+   *
+   * @param path local or distributed file path
+   * @return store
+   * @throws IOException if the file cannot be read
+   */
+  public static CardinalityStore read(String path) throws IOException {
+    CardinalityStore store = new CardinalityStore();
+    Path filePath = new Path(path);
+    FileSystem fileSystem = filePath.getFileSystem();
+    if (!fileSystem.exists(filePath)) {
+      return store;
+    }
+    try (BufferedReader reader = new BufferedReader(
+      new InputStreamReader(fileSystem.open(filePath), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int separator = line.indexOf(SEPARATOR);
+        if (separator > 0) {
+          store.setCardinality(line.substring(separator + 1),
+            Long.parseLong(line.substring(0, separator)));
+        }
+      }
+    }
+    return store;
+  }
+
+  /**
+   * Writes the store to the given path. An existing file is overwritten.
+   *
+   * @param path local or distributed file path
+   * @throws IOException if the file cannot be written
+   */
+  public void write(String path) throws IOException {
+    Path filePath = new Path(path);
+    try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+      filePath.getFileSystem().create(filePath, FileSystem.WriteMode.OVERWRITE),
+      StandardCharsets.UTF_8))) {
+      for (Map.Entry<String, Long> entry : new TreeMap<>(cardinalities).entrySet()) {
+        writer.write(entry.getValue() + SEPARATOR + entry.getKey());
+        writer.newLine();
+      }
+    }
+  }
+
+  /**
+   * Returns the observed cardinality of the given signature.
+   *
+   * @param signature plan node signature
+   * @return cardinality or {@code null} if unknown
+   */
+  public Long getCardinality(String signature) {
+    return cardinalities.get(signature);
+  }
+
+  /**
+   * Sets the observed cardinality of the given signature. A previous observation is replaced.
+   *
+   * @param signature plan node signature
+   * @param cardinality observed cardinality
+   */
+  public void setCardinality(String signature, long cardinality) {
+    cardinalities.put(signature, cardinality);
+  }
+
+  /**
+   * Returns the number of stored cardinalities.
+   *
+   * @return number of signatures
+   */
+  public int size() {
+    return cardinalities.size();
+  }
+
+  /**
+   * Updates the store with the cardinalities observed during the given job. Observations which
+   * are not part of the job remain registered for later jobs.
+   *
+   * @param result result of the executed job
+   */
+  public void update(JobExecutionResult result) {
+    observations.entrySet().removeIf(observation -> {
+      Object count = result.getAccumulatorResult(observation.getKey());
+      if (count == null) {
+        return false;
+      }
+      setCardinality(observation.getValue(), ((Number) count).longValue());
+      return true;
+    });
+  }
+
+  /**
+   * Registers the observation of the given signature and returns the name of the accumulator
+   * counting the observed elements.
+   *
+   * @param signature plan node signature
+   * @return accumulator name
+   */
+  String register(String signature) {
+    String accumulatorName = accumulatorPrefix + observationCount++;
+    observations.put(accumulatorName, signature);
+    return accumulatorName;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.functions;
+
+import org.apache.flink.api.common.accumulators.LongCounter;
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Forwards all embeddings and counts them using an accumulator.
+ */
+@FunctionAnnotation.ForwardedFields("*")
+public class CountEmbeddings extends RichMapFunction<Embedding, Embedding> {
+  /**
+   * Name of the accumulator
+   */
+  private final String accumulatorName;
+  /**
+   * Counts the embeddings of the current task
+   */
+  private transient LongCounter counter;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param accumulatorName name of the accumulator
+   */
+  public CountEmbeddings(String accumulatorName) {
+    this.accumulatorName = accumulatorName;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    counter = new LongCounter();
+    getRuntimeContext().addAccumulator(accumulatorName, counter);
+  }
+
+  @Override
+  public Embedding map(Embedding embedding) {
+    counter.add(1L);
+    return embedding;
+  }
+}
@@ -17,8 +17,9 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.p
 
 import com.google.common.collect.Sets;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.common.operators.base.CrossOperatorBase;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
-import org.gradoop.common.util.GradoopConstants;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
@@ -29,9 +30,12 @@ import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.c
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.LabelScans;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.CardinalityStore;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.reduction.CandidateSets;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.CartesianProductNode;
@@ -47,6 +51,7 @@ import org.s1ck.gdl.model.Vertex;
 import org.s1ck.gdl.utils.Comparator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -62,6 +67,10 @@ import static org.gradoop.flink.model.impl.operators.matching.single.cypher.plan
  * plan and extending it.
  */
 public class GreedyPlanner {
+  /**
+   * Default maximum estimated cardinality of a join input that is broadcasted to all workers.
+   */
+  public static final long DEFAULT_BROADCAST_THRESHOLD = 10_000L;
   /**
    * The search graph to be queried
    */
@@ -82,9 +91,25 @@ public class GreedyPlanner {
    * The morphism type for edge mappings.
    */
   private final MatchStrategy edgeStrategy;
+  /**
+   * Maximum estimated cardinality of a join input that is broadcasted to all workers.
+   */
+  private final long broadcastThreshold;
+  /**
+   * Reduced candidates for the query variables (may be {@code null}).
+   */
+  private final CandidateSets candidates;
+  /**
+   * Properties that are kept in the resulting embeddings, (variable, propertyKey) pairs.
+   */
+  private final Set<Pair<String, String>> returnProperties;
+  /**
+   * Cardinalities observed in previous executions (may be {@code null}).
+   */
+  private final CardinalityStore cardinalityStore;
 
   /**
-   * Creates a new greedy planner.
+   * Creates a new greedy planner using the {@link #DEFAULT_BROADCAST_THRESHOLD}.
    *
    * @param graph search graph
    * @param queryHandler query handler
@@ -94,11 +119,99 @@ public class GreedyPlanner {
    */
   public GreedyPlanner(LogicalGraph graph, QueryHandler queryHandler,
     GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+      DEFAULT_BROADCAST_THRESHOLD);
+  }
+
+  /**
+   * Creates a new greedy planner.
+   *
+   * Join inputs whose estimated cardinality does not exceed the broadcast threshold (and is
+   * smaller than the other input) are broadcasted, all other joins are executed as repartition
+   * hash joins with the smaller input as build side. A negative threshold disables broadcasting.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param broadcastThreshold maximum estimated cardinality of a broadcasted join input
+   */
+  public GreedyPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    long broadcastThreshold) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy, broadcastThreshold,
+      null);
+  }
+
+  /**
+   * Creates a new greedy planner that reads the query plan leaves from the specified candidate
+   * sets. If the candidate cardinalities have been computed, they are used by the estimation
+   * instead of the label based estimates derived from the graph statistics.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param broadcastThreshold maximum estimated cardinality of a broadcasted join input
+   * @param candidates reduced candidates for the query variables (may be {@code null})
+   */
+  public GreedyPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    long broadcastThreshold, CandidateSets candidates) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy, broadcastThreshold,
+      candidates, new HashSet<>());
+  }
+
+  /**
+   * Creates a new greedy planner whose query plan keeps the specified properties in the resulting
+   * embeddings, in addition to the properties required for query planning.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param broadcastThreshold maximum estimated cardinality of a broadcasted join input
+   * @param candidates reduced candidates for the query variables (may be {@code null})
+   * @param returnProperties (variable, propertyKey) pairs to keep in the resulting embeddings
+   */
+  public GreedyPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    long broadcastThreshold, CandidateSets candidates,
+    Set<Pair<String, String>> returnProperties) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy, broadcastThreshold,
+      candidates, returnProperties, null);
+  }
+
+  /**
+   * Creates a new greedy planner that prefers the cardinalities observed in previous executions
+   * over the estimations derived from the graph statistics.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param broadcastThreshold maximum estimated cardinality of a broadcasted join input
+   * @param candidates reduced candidates for the query variables (may be {@code null})
+   * @param returnProperties (variable, propertyKey) pairs to keep in the resulting embeddings
+   * @param cardinalityStore observed cardinalities (may be {@code null})
+   */
+  public GreedyPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    long broadcastThreshold, CandidateSets candidates,
+    Set<Pair<String, String>> returnProperties, CardinalityStore cardinalityStore) {
     this.graph = graph;
     this.queryHandler = queryHandler;
     this.graphStatistics = graphStatistics;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
+    this.broadcastThreshold = broadcastThreshold;
+    this.candidates = candidates;
+    this.returnProperties = returnProperties;
+    this.cardinalityStore = cardinalityStore;
   }
 
   /**
@@ -164,16 +277,17 @@ public class GreedyPlanner {
       // TODO: this might be moved to the FilterAndProject node in issue #510
       CNF vertexPredicates = allPredicates.removeSubCNF(vertexVariable);
       Set<String> projectionKeys = allPredicates.getPropertyKeys(vertexVariable);
+      projectionKeys.addAll(getReturnPropertyKeys(vertexVariable));
 
-      DataSet<org.gradoop.common.model.impl.pojo.Vertex> vertices =
-        vertex.getLabel().equals(GradoopConstants.DEFAULT_VERTEX_LABEL) ?
-          graph.getVertices() : graph.getVerticesByLabel(vertex.getLabel());
+      DataSet<org.gradoop.common.model.impl.pojo.Vertex> vertices = candidates != null ?
+        candidates.getVertices(vertexVariable) :
+        LabelScans.getVertices(graph, vertexVariable, vertex.getLabel(), vertexPredicates);
 
       FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(vertices,
         vertex.getVariable(), vertexPredicates, projectionKeys);
 
       planTable.add(new PlanTableEntry(VERTEX, Sets.newHashSet(vertexVariable), allPredicates,
-        new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+        createEstimator(node)));
     }
   }
 
@@ -196,10 +310,13 @@ public class GreedyPlanner {
       Set<String> projectionKeys = allPredicates.getPropertyKeys(edgeVariable);
 
       boolean isPath = edge.getUpperBound() != 1;
+      if (!isPath) {
+        projectionKeys.addAll(getReturnPropertyKeys(edgeVariable));
+      }
 
-      DataSet<org.gradoop.common.model.impl.pojo.Edge> edges =
-        edge.getLabel().equals(GradoopConstants.DEFAULT_EDGE_LABEL) ?
-          graph.getEdges() : graph.getEdgesByLabel(edge.getLabel());
+      DataSet<org.gradoop.common.model.impl.pojo.Edge> edges = candidates != null ?
+        candidates.getEdges(edgeVariable) :
+        LabelScans.getEdges(graph, edgeVariable, edge.getLabel(), edgePredicates);
 
       FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(edges,
         sourceVariable, edgeVariable, targetVariable, edgePredicates, projectionKeys, isPath);
@@ -207,10 +324,24 @@ public class GreedyPlanner {
       PlanTableEntry.Type type = edge.hasVariableLength() ? PATH : EDGE;
 
       planTable.add(new PlanTableEntry(type, Sets.newHashSet(edgeVariable), allPredicates,
-        new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+        createEstimator(node)));
     }
   }
 
+  /**
+   * Returns the keys of all properties of the specified variable that are kept in the resulting
+   * embeddings.
+   *
+   * @param variable query variable
+   * @return property keys
+   */
+  private Set<String> getReturnPropertyKeys(String variable) {
+    return returnProperties.stream()
+      .filter(pair -> pair.getKey().equals(variable))
+      .map(Pair::getValue)
+      .collect(Collectors.toSet());
+  }
+
   //------------------------------------------------------------------------------------------------
   // Join and Expand
   //------------------------------------------------------------------------------------------------
@@ -294,7 +425,8 @@ public class GreedyPlanner {
       node = createExpandNode(leftEntry, rightEntry, joinVariables.get(0));
     } else {
       node = new JoinEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
-        rightEntry.getQueryPlan().getRoot(), joinVariables, vertexStrategy, edgeStrategy);
+        rightEntry.getQueryPlan().getRoot(), joinVariables, vertexStrategy, edgeStrategy,
+        getJoinHint(leftEntry, rightEntry));
     }
 
     // update processed variables
@@ -305,7 +437,7 @@ public class GreedyPlanner {
     CNF predicates = mergePredicates(leftEntry, rightEntry);
 
     return new PlanTableEntry(GRAPH, processedVariables, predicates,
-      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+      createEstimator(node));
   }
 
   /**
@@ -337,7 +469,94 @@ public class GreedyPlanner {
     return new ExpandEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
       rightEntry.getQueryPlan().getRoot(),
       startVariable, pathVariable, endVariable, lowerBound, upperBound, direction,
-      vertexStrategy, edgeStrategy);
+      vertexStrategy, edgeStrategy, getExpandJoinHint(rightEntry));
+  }
+
+  /**
+   * Creates an estimator for a query plan with the specified root node.
+   *
+   * @param root root of the query plan
+   * @return query plan estimator
+   */
+  private QueryPlanEstimator createEstimator(PlanNode root) {
+    return new QueryPlanEstimator(new QueryPlan(root), queryHandler, graphStatistics,
+      candidates != null ? candidates.getCardinalities() : Collections.emptyMap(),
+      cardinalityStore);
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Join strategy selection
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Selects the join strategy for the specified entries based on their estimated cardinalities.
+   *
+   * The smaller input is broadcasted if its cardinality does not exceed the broadcast threshold.
+   * Otherwise, both inputs are repartitioned and the smaller one is used as hash table.
+   *
+   * @param leftEntry left join input
+   * @param rightEntry right join input
+   * @return join hint for the Flink optimizer
+   */
+  private JoinOperatorBase.JoinHint getJoinHint(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry) {
+    long leftCardinality = leftEntry.getEstimatedCardinality();
+    long rightCardinality = rightEntry.getEstimatedCardinality();
+
+    if (rightCardinality <= leftCardinality) {
+      return isBroadcastable(rightCardinality, leftCardinality) ?
+        JoinOperatorBase.JoinHint.BROADCAST_HASH_SECOND :
+        JoinOperatorBase.JoinHint.REPARTITION_HASH_SECOND;
+    }
+    return isBroadcastable(leftCardinality, rightCardinality) ?
+      JoinOperatorBase.JoinHint.BROADCAST_HASH_FIRST :
+      JoinOperatorBase.JoinHint.REPARTITION_HASH_FIRST;
+  }
+
+  /**
+   * Selects the join strategy for an expansion along the candidate edges of the specified entry.
+   *
+   * The expanded paths grow in each iteration and are never broadcasted. The candidate edges are
+   * static and either broadcasted or used as hash table.
+   *
+   * @param edgeEntry entry representing the candidate edges
+   * @return join hint for the Flink optimizer
+   */
+  private JoinOperatorBase.JoinHint getExpandJoinHint(PlanTableEntry edgeEntry) {
+    return edgeEntry.getEstimatedCardinality() <= broadcastThreshold ?
+      JoinOperatorBase.JoinHint.BROADCAST_HASH_SECOND :
+      JoinOperatorBase.JoinHint.REPARTITION_HASH_SECOND;
+  }
+
+  /**
+   * Selects the cross strategy for the specified entries based on their estimated cardinalities.
+   *
+   * @param leftEntry left cross input
+   * @param rightEntry right cross input
+   * @return cross hint for the Flink optimizer
+   */
+  private CrossOperatorBase.CrossHint getCrossHint(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry) {
+    long leftCardinality = leftEntry.getEstimatedCardinality();
+    long rightCardinality = rightEntry.getEstimatedCardinality();
+
+    if (isBroadcastable(rightCardinality, leftCardinality)) {
+      return CrossOperatorBase.CrossHint.SECOND_IS_SMALL;
+    } else if (isBroadcastable(leftCardinality, rightCardinality)) {
+      return CrossOperatorBase.CrossHint.FIRST_IS_SMALL;
+    }
+    return CrossOperatorBase.CrossHint.OPTIMIZER_CHOOSES;
+  }
+
+  /**
+   * Checks if an input may be broadcasted in favor of the other input.
+   *
+   * @param cardinality estimated cardinality of the input to broadcast
+   * @param otherCardinality estimated cardinality of the other input
+   * @return true, iff the input is small enough to be broadcasted
+   */
+  private boolean isBroadcastable(long cardinality, long otherCardinality) {
+    return cardinality <= broadcastThreshold && cardinality < otherCardinality;
   }
 
   //------------------------------------------------------------------------------------------------
@@ -363,7 +582,7 @@ public class GreedyPlanner {
         FilterEmbeddingsNode node = new FilterEmbeddingsNode(entry.getQueryPlan().getRoot(),
           subCNF);
         newTable.add(new PlanTableEntry(GRAPH, Sets.newHashSet(entry.getProcessedVariables()),
-          predicates, new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+          predicates, createEstimator(node)));
       } else {
         newTable.add(entry);
       }
@@ -392,7 +611,7 @@ public class GreedyPlanner {
       Set<Pair<String, String>> projectionPairs = entry.getProjectionPairs();
 
       Set<Pair<String, String>> updatedPropertyPairs = propertyPairs.stream()
-        .filter(projectionPairs::contains)
+        .filter(pair -> projectionPairs.contains(pair) || returnProperties.contains(pair))
         .collect(Collectors.toSet());
 
       if (updatedPropertyPairs.size() < propertyPairs.size()) {
@@ -400,7 +619,7 @@ public class GreedyPlanner {
           new ArrayList<>(updatedPropertyPairs));
         newTable.add(new PlanTableEntry(GRAPH,
           Sets.newHashSet(entry.getProcessedVariables()), entry.getPredicates(),
-          new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+          createEstimator(node)));
       } else {
         newTable.add(entry);
       }
@@ -477,7 +696,8 @@ public class GreedyPlanner {
     CartesianProductNode node = new CartesianProductNode(
       leftEntry.getQueryPlan().getRoot(),
       rightEntry.getQueryPlan().getRoot(),
-      vertexStrategy, edgeStrategy
+      vertexStrategy, edgeStrategy,
+      getCrossHint(leftEntry, rightEntry)
     );
 
     Set<String> processedVariables = leftEntry.getProcessedVariables();
@@ -489,7 +709,7 @@ public class GreedyPlanner {
       GRAPH,
       processedVariables,
       predicates,
-      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)
+      createEstimator(node)
     );
   }
 
@@ -530,7 +750,8 @@ public class GreedyPlanner {
       leftEntry.getQueryPlan().getRoot(),
       rightEntry.getQueryPlan().getRoot(),
       leftProperties, rightProperties,
-      vertexStrategy, edgeStrategy
+      vertexStrategy, edgeStrategy,
+      getJoinHint(leftEntry, rightEntry)
     );
 
     Set<String> processedVariables = leftEntry.getProcessedVariables();
@@ -542,7 +763,7 @@ public class GreedyPlanner {
       GRAPH,
       processedVariables,
       predicates,
-      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)
+      createEstimator(node)
     );
   }
 
@@ -15,6 +15,11 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
 
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.CardinalityObserver;
+
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -61,4 +66,52 @@ public abstract class BinaryNode extends PlanNode {
   public PlanNode getRightChild() {
     return rightChild;
   }
+
+  /**
+   * Returns the morphism type for vertex mappings applied by the node.
+   *
+   * @return vertex morphism type
+   */
+  public abstract MatchStrategy getVertexStrategy();
+
+  /**
+   * Returns the morphism type for edge mappings applied by the node.
+   *
+   * @return edge morphism type
+   */
+  public abstract MatchStrategy getEdgeStrategy();
+
+  @Override
+  public void setExecutionCache(ExecutionCache executionCache) {
+    super.setExecutionCache(executionCache);
+    leftChild.setExecutionCache(executionCache);
+    rightChild.setExecutionCache(executionCache);
+  }
+
+  @Override
+  public void setCardinalityObserver(CardinalityObserver cardinalityObserver) {
+    super.setCardinalityObserver(cardinalityObserver);
+    leftChild.setCardinalityObserver(cardinalityObserver);
+    rightChild.setCardinalityObserver(cardinalityObserver);
+  }
+
+  @Override
+  protected void addInputs(List<DataSet<?>> inputs) {
+    leftChild.addInputs(inputs);
+    rightChild.addInputs(inputs);
+  }
+
+  @Override
+  public String getSignature() {
+    return getOperatorSignature() +
+      "(" + leftChild.getSignature() + "," + rightChild.getSignature() + ")";
+  }
+
+  /**
+   * Returns a string that describes the operator of this node and all its parameters affecting
+   * the result, excluding the input nodes. Optimizer hints are not part of the signature.
+   *
+   * @return operator signature
+   */
+  protected abstract String getOperatorSignature();
 }
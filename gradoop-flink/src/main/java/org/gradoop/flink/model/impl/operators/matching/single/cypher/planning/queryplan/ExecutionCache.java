@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Shares the results of plan nodes between multiple {@link QueryPlan}s.
+ *
+ * Plan nodes are identified by their signature (see {@link PlanNode#getSignature()}) and the
+ * identity of their input datasets. If a node with the same signature has been executed on the
+ * same inputs before, the resulting dataset is reused instead of adding the same operators to the
+ * Flink program again. As a consequence, common sub plans of multiple queries are evaluated only
+ * once when the results of all queries are computed within the same Flink job.
+ *
+ * Label scans are shared per search graph, see {@link #getVertexScans(LogicalGraph)}.
+ */
+public class ExecutionCache {
+  /**
+   * signature and input ids -> result of the plan node
+   */
+  private final Map<String, DataSet<Embedding>> results;
+  /**
+   * input dataset -> unique id (compared by identity)
+   */
+  private final Map<DataSet<?>, Integer> inputIds;
+  /**
+   * vertices of the scanned graph (compared by identity) -> label scan -> vertices read by the scan
+   */
+  private final Map<DataSet<Vertex>, Map<String, DataSet<Vertex>>> vertexScans;
+  /**
+   * edges of the scanned graph (compared by identity) -> label scan -> edges read by the scan
+   */
+  private final Map<DataSet<Edge>, Map<String, DataSet<Edge>>> edgeScans;
+  /**
+   * Number of plan nodes whose result has been reused
+   */
+  private int reuseCount;
+
+  /**
+   * Creates a new, empty cache.
+   */
+  public ExecutionCache() {
+    this.results = new HashMap<>();
+    this.inputIds = new IdentityHashMap<>();
+    this.vertexScans = new IdentityHashMap<>();
+    this.edgeScans = new IdentityHashMap<>();
+  }
+
+  /**
+   * Returns the key of the given plan node, consisting of its signature and the ids of its input
+   * datasets.
+   *
+   * @param node plan node
+   * @return cache key
+   */
+  String getKey(PlanNode node) {
+    List<DataSet<?>> inputs = new ArrayList<>();
+    node.addInputs(inputs);
+    return node.getSignature() + inputs.stream()
+      .map(input -> String.valueOf(getInputId(input)))
+      .collect(Collectors.joining(",", "@", ""));
+  }
+
+  /**
+   * Returns the result of the plan node with the given key, if it has been executed before.
+   *
+   * @param key plan node key
+   * @return result or {@code null}
+   */
+  DataSet<Embedding> get(String key) {
+    DataSet<Embedding> result = results.get(key);
+    if (result != null) {
+      reuseCount++;
+    }
+    return result;
+  }
+
+  /**
+   * Stores the result of the plan node with the given key.
+   *
+   * @param key plan node key
+   * @param result result of the plan node
+   */
+  void put(String key, DataSet<Embedding> result) {
+    results.put(key, result);
+  }
+
+  /**
+   * Returns a unique id for the given input dataset. The same dataset instance is always mapped
+   * to the same id.
+   *
+   * @param input input dataset
+   * @return unique id
+   */
+  public int getInputId(DataSet<?> input) {
+    return inputIds.computeIfAbsent(input, key -> inputIds.size());
+  }
+
+  /**
+   * Returns the vertex datasets read by label scans on the given graph, keyed by a description of
+   * the scan. Graphs are distinguished by the identity of their vertex dataset.
+   *
+   * @param graph scanned graph
+   * @return vertex scans of the graph
+   */
+  public Map<String, DataSet<Vertex>> getVertexScans(LogicalGraph graph) {
+    return vertexScans.computeIfAbsent(graph.getVertices(), vertices -> new HashMap<>());
+  }
+
+  /**
+   * Returns the edge datasets read by label scans on the given graph, keyed by a description of
+   * the scan. Graphs are distinguished by the identity of their edge dataset.
+   *
+   * @param graph scanned graph
+   * @return edge scans of the graph
+   */
+  public Map<String, DataSet<Edge>> getEdgeScans(LogicalGraph graph) {
+    return edgeScans.computeIfAbsent(graph.getEdges(), edges -> new HashMap<>());
+  }
+
+  /**
+   * Returns the number of plan nodes whose result has been reused.
+   *
+   * @return number of reused plan nodes
+   */
+  public int getReuseCount() {
+    return reuseCount;
+  }
+}
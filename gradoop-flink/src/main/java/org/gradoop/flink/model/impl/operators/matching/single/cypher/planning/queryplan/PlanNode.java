@@ -16,9 +16,19 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
 
 import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.ElementSelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.CardinalityObserver;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.CardinalityStore;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Represents a single node in a {@link QueryPlan}
  */
@@ -27,13 +37,150 @@ public abstract class PlanNode {
    * Describes the output of that node.
    */
   private EmbeddingMetaData embeddingMetaData;
+  /**
+   * Shares results between plan nodes of multiple query plans (may be {@code null}).
+   */
+  private ExecutionCache executionCache;
+  /**
+   * Counts the embeddings produced by this node (may be {@code null}).
+   */
+  private CardinalityObserver cardinalityObserver;
+
+  /**
+   * Recursively executes this node and returns the resulting {@link Embedding} data set. If an
+   * {@link ExecutionCache} is set, the result of a node with the same signature and the same input
+   * data sets is reused if available. The cardinality observer counts reused results as well, the
+   * sub tree of a reused node is only observed by the plan that executed it first.
+   *
+   * @return embeddings
+   */
+  public DataSet<Embedding> execute() {
+    if (executionCache == null) {
+      return observe(executeNode());
+    }
+    String key = executionCache.getKey(this);
+    DataSet<Embedding> result = executionCache.get(key);
+    if (result == null) {
+      result = executeNode();
+      executionCache.put(key, result);
+    }
+    return observe(result);
+  }
+
+  /**
+   * Recursively executes this node without considering the execution cache.
+   *
+   * @return embeddings
+   */
+  protected abstract DataSet<Embedding> executeNode();
+
+  /**
+   * Sets the cache used to share results with other query plans for this node and its sub tree.
+   *
+   * @param executionCache execution cache
+   */
+  public void setExecutionCache(ExecutionCache executionCache) {
+    this.executionCache = executionCache;
+  }
+
+  /**
+   * Sets the observer counting the embeddings produced by this node and its sub tree.
+   *
+   * @param cardinalityObserver cardinality observer
+   */
+  public void setCardinalityObserver(CardinalityObserver cardinalityObserver) {
+    this.cardinalityObserver = cardinalityObserver;
+  }
+
+  /**
+   * Returns the cache used to share results with other query plans.
+   *
+   * @return execution cache or {@code null}
+   */
+  protected ExecutionCache getExecutionCache() {
+    return executionCache;
+  }
 
   /**
-   * Recursively executes this node and returns the resulting {@link Embedding} data set.
+   * Adds the cardinality observer to the result of this node, if set.
    *
+   * @param result embeddings produced by this node
    * @return embeddings
    */
-  public abstract DataSet<Embedding> execute();
+  private DataSet<Embedding> observe(DataSet<Embedding> result) {
+    return cardinalityObserver == null ? result : cardinalityObserver.observe(this, result);
+  }
+
+  /**
+   * Returns a string that describes the result of this node including its sub tree. Nodes with
+   * the same signature produce the same embeddings from the same input data sets. The signature
+   * is built from the operator and all parameters affecting the result, it does not depend on
+   * {@link #toString()}. Query variables are replaced by the embedding columns they are bound to,
+   * so that equivalent nodes of different queries have the same signature.
+   *
+   * The signature is used to share results via the {@link ExecutionCache} and to store observed
+   * cardinalities in the {@link CardinalityStore}.
+   *
+   * @return signature
+   */
+  public abstract String getSignature();
+
+  /**
+   * Adds the input data sets of this node and its sub tree to the given list.
+   *
+   * @param inputs input data sets
+   */
+  protected abstract void addInputs(List<DataSet<?>> inputs);
+
+  /**
+   * Describes the given predicates for a signature. Query variables are replaced by their column
+   * in the given meta data, clauses and comparisons are sorted.
+   *
+   * @param predicates predicates
+   * @param metaData meta data containing the variables of the predicates
+   * @return description
+   */
+  protected static String describe(CNF predicates, EmbeddingMetaData metaData) {
+    return predicates.getPredicates().stream()
+      .map(clause -> clause.getPredicates().stream()
+        .map(comparison -> describe(comparison.getLhs(), metaData) + " " +
+          comparison.getComparator() + " " + describe(comparison.getRhs(), metaData))
+        .sorted()
+        .collect(Collectors.joining(" OR ", "(", ")")))
+      .sorted()
+      .collect(Collectors.joining(" AND "));
+  }
+
+  /**
+   * Describes a single side of a comparison for a signature.
+   *
+   * @param comparable compared value
+   * @param metaData meta data containing the variable of the comparable
+   * @return description
+   */
+  private static String describe(QueryComparable comparable, EmbeddingMetaData metaData) {
+    if (comparable instanceof PropertySelectorComparable) {
+      PropertySelectorComparable selector = (PropertySelectorComparable) comparable;
+      return describe(selector.getVariable(), metaData) + "." + selector.getPropertyKey();
+    }
+    if (comparable instanceof ElementSelectorComparable) {
+      return describe(((ElementSelectorComparable) comparable).getVariable(), metaData);
+    }
+    Object value = ((LiteralComparable) comparable).getValue();
+    return value == null ? "NULL" : value.getClass().getSimpleName() + ":" + value;
+  }
+
+  /**
+   * Describes a query variable by its column in the given meta data.
+   *
+   * @param variable query variable
+   * @param metaData meta data
+   * @return description
+   */
+  private static String describe(String variable, EmbeddingMetaData metaData) {
+    return metaData.containsEntryColumn(variable) ?
+      "$" + metaData.getEntryColumn(variable) : variable;
+  }
 
   /**
    * Returns the meta data describing the embeddings produced by this node.
@@ -59,6 +59,18 @@ public class QueryPlan {
     return root.execute();
   }
 
+  /**
+   * Executes the query plan and produces the resulting embeddings. Results of sub plans are
+   * shared with other query plans executed using the same cache.
+   *
+   * @param executionCache cache to share results between query plans
+   * @return embeddings representing the query result
+   */
+  public DataSet<Embedding> execute(ExecutionCache executionCache) {
+    root.setExecutionCache(executionCache);
+    return root.execute();
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
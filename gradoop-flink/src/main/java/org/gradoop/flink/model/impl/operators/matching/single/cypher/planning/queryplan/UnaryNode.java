@@ -15,6 +15,10 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
 
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.CardinalityObserver;
+
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -45,4 +49,34 @@ public abstract class UnaryNode extends PlanNode {
   public PlanNode getChildNode() {
     return childNode;
   }
+
+  @Override
+  public void setExecutionCache(ExecutionCache executionCache) {
+    super.setExecutionCache(executionCache);
+    childNode.setExecutionCache(executionCache);
+  }
+
+  @Override
+  public void setCardinalityObserver(CardinalityObserver cardinalityObserver) {
+    super.setCardinalityObserver(cardinalityObserver);
+    childNode.setCardinalityObserver(cardinalityObserver);
+  }
+
+  @Override
+  protected void addInputs(List<DataSet<?>> inputs) {
+    childNode.addInputs(inputs);
+  }
+
+  @Override
+  public String getSignature() {
+    return getOperatorSignature() + "(" + childNode.getSignature() + ")";
+  }
+
+  /**
+   * Returns a string that describes the operator of this node and all its parameters affecting
+   * the result, excluding the input node.
+   *
+   * @return operator signature
+   */
+  protected abstract String getOperatorSignature();
 }
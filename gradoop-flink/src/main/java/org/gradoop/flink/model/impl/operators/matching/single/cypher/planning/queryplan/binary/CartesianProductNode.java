@@ -79,15 +79,25 @@ public class CartesianProductNode extends BinaryNode implements JoinNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     CartesianProduct op = new CartesianProduct(getLeftChild().execute(), getRightChild().execute(),
       getRightChild().getEmbeddingMetaData().getEntryCount(),
       getDistinctVertexColumnsLeft(), getDistinctVertexColumnsRight(),
-      getDistinctEdgeColumnsLeft(), getDistinctEdgeColumnsRight(), crossHint);
+      getDistinctEdgeColumnsLeft(), getDistinctEdgeColumnsRight(), crossHint,
+      getEmbeddingMetaData());
     op.setName(this.toString());
     return op.evaluate();
   }
 
+  /**
+   * Returns the cross hint which is passed to the Flink optimizer.
+   *
+   * @return cross hint
+   */
+  public CrossOperatorBase.CrossHint getCrossHint() {
+    return crossHint;
+  }
+
   @Override
   protected EmbeddingMetaData computeEmbeddingMetaData() {
     EmbeddingMetaData leftInputMetaData = getLeftChild().getEmbeddingMetaData();
@@ -181,11 +191,30 @@ public class CartesianProductNode extends BinaryNode implements JoinNode {
         .collect(Collectors.toList()) : Collections.emptyList();
   }
 
+  @Override
+  public MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  @Override
+  public MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
+  @Override
+  protected String getOperatorSignature() {
+    return "CartesianProduct{" +
+      "vertexStrategy=" + vertexStrategy +
+      ",edgeStrategy=" + edgeStrategy +
+      "}";
+  }
+
   @Override
   public String toString() {
     return String.format("CartesianProductNode{" +
       "vertexMorphismType=%s, " +
-      "edgeMorphismType=%s}",
-      vertexStrategy, edgeStrategy);
+      "edgeMorphismType=%s, " +
+      "crossHint=%s}",
+      vertexStrategy, edgeStrategy, crossHint);
   }
 }
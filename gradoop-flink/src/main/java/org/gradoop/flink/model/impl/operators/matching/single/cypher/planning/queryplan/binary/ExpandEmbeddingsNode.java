@@ -24,17 +24,22 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embed
 
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand
   .ExpandEmbeddings;
-import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsBulk;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsDelta;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.FrontierDeduplication;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Binary node that wraps an {@link ExpandEmbeddingsBulk} operator.
+ * Binary node that wraps an {@link ExpandEmbeddingsDelta} operator.
+ *
+ * The delta iteration only expands the paths found in the previous superstep and terminates as
+ * soon as no new path is found. Every distinct path is kept
+ * ({@link FrontierDeduplication#NONE}), i.e. the result equals the one of a bulk iteration.
  */
 public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
   /**
@@ -77,6 +82,10 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
    * Morphism type for edges
    */
   private final MatchStrategy edgeStrategy;
+  /**
+   * Join hint for Flink optimizer
+   */
+  private final JoinOperatorBase.JoinHint joinHint;
 
   /**
    * Creates a new node.
@@ -96,6 +105,30 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
     String startVariable, String pathVariable, String endVariable,
     int lowerBound, int upperBound, ExpandDirection expandDirection,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(leftChild, rightChild, startVariable, pathVariable, endVariable, lowerBound, upperBound,
+      expandDirection, vertexStrategy, edgeStrategy, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+  }
+
+  /**
+   * Creates a new node.
+   *
+   * @param leftChild left child representing the embeddings to expand
+   * @param rightChild right child representing the edges to expand with
+   * @param startVariable vertex variable on which to start the expansion
+   * @param pathVariable variable representing the path
+   * @param endVariable vertex variable on which to end the expansion
+   * @param lowerBound minimum number of expansions
+   * @param upperBound maximum number of expansions
+   * @param expandDirection edge direction in the expansion
+   * @param vertexStrategy morphism strategy for vertices
+   * @param edgeStrategy morphism strategy for edges
+   * @param joinHint join hint for the Flink optimizer
+   */
+  public ExpandEmbeddingsNode(PlanNode leftChild, PlanNode rightChild,
+    String startVariable, String pathVariable, String endVariable,
+    int lowerBound, int upperBound, ExpandDirection expandDirection,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    JoinOperatorBase.JoinHint joinHint) {
     super(leftChild, rightChild);
     this.pathVariable = pathVariable;
     this.startVariable = startVariable;
@@ -105,23 +138,33 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
     this.expandDirection = expandDirection;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
+    this.joinHint = joinHint;
     this.expandColumn = leftChild.getEmbeddingMetaData().getEntryColumn(startVariable);
     this.closingColumn = leftChild.getEmbeddingMetaData().containsEntryColumn(endVariable) ?
       leftChild.getEmbeddingMetaData().getEntryColumn(endVariable) : -1;
   }
 
   @Override
-  public DataSet<Embedding> execute() {
-    ExpandEmbeddings op = new ExpandEmbeddingsBulk(
+  protected DataSet<Embedding> executeNode() {
+    ExpandEmbeddings op = new ExpandEmbeddingsDelta(
       getLeftChild().execute(), getRightChild().execute(),
       expandColumn, lowerBound, upperBound, expandDirection,
       getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
       getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
-      closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+      closingColumn, joinHint, FrontierDeduplication.NONE);
     op.setName(toString());
     return op.evaluate();
   }
 
+  /**
+   * Returns the join hint which is passed to the Flink optimizer.
+   *
+   * @return join hint
+   */
+  public JoinOperatorBase.JoinHint getJoinHint() {
+    return joinHint;
+  }
+
   @Override
   protected EmbeddingMetaData computeEmbeddingMetaData() {
     EmbeddingMetaData inputMetaData = getLeftChild().getEmbeddingMetaData();
@@ -168,6 +211,29 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
         .collect(Collectors.toList()) : Collections.emptyList();
   }
 
+  @Override
+  public MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  @Override
+  public MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
+  @Override
+  protected String getOperatorSignature() {
+    return "ExpandEmbeddings{" +
+      "expandColumn=" + expandColumn +
+      ",lowerBound=" + lowerBound +
+      ",upperBound=" + upperBound +
+      ",closingColumn=" + closingColumn +
+      ",expandDirection=" + expandDirection +
+      ",vertexStrategy=" + vertexStrategy +
+      ",edgeStrategy=" + edgeStrategy +
+      "}";
+  }
+
   @Override
   public String toString() {
     return String.format("ExpandEmbeddingsNode={" +
@@ -178,8 +244,9 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
         "upperBound=%d, " +
         "expandDirection=%s, " +
         "vertexMorphismType=%s, " +
-        "edgeMorphismType=%s}",
+        "edgeMorphismType=%s, " +
+        "joinHint=%s}",
       startVariable, pathVariable, endVariable, lowerBound, upperBound, expandDirection,
-      vertexStrategy, edgeStrategy);
+      vertexStrategy, edgeStrategy, joinHint);
   }
 }
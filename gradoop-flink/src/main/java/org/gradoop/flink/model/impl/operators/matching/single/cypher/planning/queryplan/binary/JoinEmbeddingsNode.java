@@ -88,17 +88,26 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     JoinEmbeddings op = new JoinEmbeddings(getLeftChild().execute(), getRightChild().execute(),
       getRightChild().getEmbeddingMetaData().getEntryCount(),
       getJoinColumnsLeft(), getJoinColumnsRight(),
       getDistinctVertexColumnsLeft(), getDistinctVertexColumnsRight(),
       getDistinctEdgeColumnsLeft(), getDistinctEdgeColumnsRight(),
-      joinHint);
+      joinHint, getEmbeddingMetaData());
     op.setName(toString());
     return op.evaluate();
   }
 
+  /**
+   * Returns the join hint which is passed to the Flink optimizer.
+   *
+   * @return join hint
+   */
+  public JoinOperatorBase.JoinHint getJoinHint() {
+    return joinHint;
+  }
+
   @Override
   protected EmbeddingMetaData computeEmbeddingMetaData() {
     EmbeddingMetaData leftInputMetaData = getLeftChild().getEmbeddingMetaData();
@@ -217,12 +226,33 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
         .collect(Collectors.toList()) : Collections.emptyList();
   }
 
+  @Override
+  public MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  @Override
+  public MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
+  @Override
+  protected String getOperatorSignature() {
+    return "JoinEmbeddings{" +
+      "joinColumnsLeft=" + getJoinColumnsLeft() +
+      ",joinColumnsRight=" + getJoinColumnsRight() +
+      ",vertexStrategy=" + vertexStrategy +
+      ",edgeStrategy=" + edgeStrategy +
+      "}";
+  }
+
   @Override
   public String toString() {
     return String.format("JoinEmbeddingsNode{" +
       "joinVariables=%s, " +
       "vertexMorphismType=%s, " +
-      "edgeMorphismType=%s}",
-      joinVariables, vertexStrategy, edgeStrategy);
+      "edgeMorphismType=%s, " +
+      "joinHint=%s}",
+      joinVariables, vertexStrategy, edgeStrategy, joinHint);
   }
 }
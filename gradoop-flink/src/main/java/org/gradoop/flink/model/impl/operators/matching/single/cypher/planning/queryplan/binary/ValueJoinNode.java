@@ -96,17 +96,26 @@ public class ValueJoinNode extends BinaryNode implements JoinNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     ValueJoin op = new ValueJoin(getLeftChild().execute(), getRightChild().execute(),
       getJoinPropertiesLeft(), getJoinPropertiesRight(),
       getRightChild().getEmbeddingMetaData().getEntryCount(),
       getDistinctVertexColumnsLeft(), getDistinctVertexColumnsRight(),
       getDistinctEdgeColumnsLeft(), getDistinctEdgeColumnsRight(),
-      joinHint);
+      joinHint, getEmbeddingMetaData());
     op.setName(this.toString());
     return op.evaluate();
   }
 
+  /**
+   * Returns the join hint which is passed to the Flink optimizer.
+   *
+   * @return join hint
+   */
+  public JoinOperatorBase.JoinHint getJoinHint() {
+    return joinHint;
+  }
+
   @Override
   protected EmbeddingMetaData computeEmbeddingMetaData() {
     EmbeddingMetaData leftInputMetaData = getLeftChild().getEmbeddingMetaData();
@@ -224,13 +233,34 @@ public class ValueJoinNode extends BinaryNode implements JoinNode {
         .collect(Collectors.toList()) : Collections.emptyList();
   }
 
+  @Override
+  public MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  @Override
+  public MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
+  @Override
+  protected String getOperatorSignature() {
+    return "ValueJoin{" +
+      "joinPropertiesLeft=" + getJoinPropertiesLeft() +
+      ",joinPropertiesRight=" + getJoinPropertiesRight() +
+      ",vertexStrategy=" + vertexStrategy +
+      ",edgeStrategy=" + edgeStrategy +
+      "}";
+  }
+
   @Override
   public String toString() {
     return String.format("ValueJoinNode{" +
       "leftJoinProperties=%s, " +
       "rightJoinProperties=%s, " +
       "vertexMorphismType=%s, " +
-      "edgeMorphismType=%s}",
-      leftJoinProperties, rightJoinProperties, vertexStrategy, edgeStrategy);
+      "edgeMorphismType=%s, " +
+      "joinHint=%s}",
+      leftJoinProperties, rightJoinProperties, vertexStrategy, edgeStrategy, joinHint);
   }
 }
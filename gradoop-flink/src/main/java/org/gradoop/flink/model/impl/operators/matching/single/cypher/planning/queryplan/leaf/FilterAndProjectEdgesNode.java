@@ -86,7 +86,7 @@ public class FilterAndProjectEdgesNode extends LeafNode implements FilterNode, P
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     FilterAndProjectEdges op =  new FilterAndProjectEdges(
       edges,
       filterPredicate,
@@ -115,6 +115,15 @@ public class FilterAndProjectEdgesNode extends LeafNode implements FilterNode, P
     return new ArrayList<>(projectionKeys);
   }
 
+  /**
+   * Returns true, if the node reads the edges of a variable length path.
+   *
+   * @return true, if the edges belong to a path
+   */
+  public boolean isPath() {
+    return isPath;
+  }
+
   public boolean isLoop() {
     return sourceVariable.equals(targetVariable) && !isPath;
   }
@@ -133,6 +142,21 @@ public class FilterAndProjectEdgesNode extends LeafNode implements FilterNode, P
     return embeddingMetaData;
   }
 
+  @Override
+  protected void addInputs(List<DataSet<?>> inputs) {
+    inputs.add(edges);
+  }
+
+  @Override
+  public String getSignature() {
+    return "FilterAndProjectEdges{" +
+      "filterPredicate=" + describe(filterPredicate, getEmbeddingMetaData()) +
+      ",projectionKeys=" + projectionKeys +
+      ",isLoop=" + isLoop() +
+      ",isPath=" + isPath +
+      "}";
+  }
+
   @Override
   public String toString() {
     return String.format("FilterAndProjectEdgesNode{" +
@@ -67,7 +67,7 @@ public class FilterAndProjectVerticesNode extends LeafNode implements FilterNode
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     FilterAndProjectVertices op =
       new FilterAndProjectVertices(vertices, filterPredicate, projectionKeys);
     op.setName(toString());
@@ -101,6 +101,19 @@ public class FilterAndProjectVerticesNode extends LeafNode implements FilterNode
     return embeddingMetaData;
   }
 
+  @Override
+  protected void addInputs(List<DataSet<?>> inputs) {
+    inputs.add(vertices);
+  }
+
+  @Override
+  public String getSignature() {
+    return "FilterAndProjectVertices{" +
+      "filterPredicate=" + describe(filterPredicate, getEmbeddingMetaData()) +
+      ",projectionKeys=" + projectionKeys +
+      "}";
+  }
+
   @Override
   public String toString() {
     return String.format("FilterAndProjectVerticesNode{" +
@@ -44,7 +44,7 @@ public class FilterEmbeddingsNode extends UnaryNode implements FilterNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     FilterEmbeddings op =
       new FilterEmbeddings(getChildNode().execute(), filterPredicate, getEmbeddingMetaData());
     op.setName(toString());
@@ -65,6 +65,12 @@ public class FilterEmbeddingsNode extends UnaryNode implements FilterNode {
     return new EmbeddingMetaData(getChildNode().getEmbeddingMetaData());
   }
 
+  @Override
+  protected String getOperatorSignature() {
+    return "FilterEmbeddings{filterPredicate=" +
+      describe(filterPredicate, getEmbeddingMetaData()) + "}";
+  }
+
   @Override
   public String toString() {
     return String.format("FilterEmbeddingsNode{filterPredicate=%s}", filterPredicate);
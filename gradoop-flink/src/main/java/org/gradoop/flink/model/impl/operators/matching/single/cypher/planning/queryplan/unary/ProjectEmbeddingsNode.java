@@ -60,8 +60,9 @@ public class ProjectEmbeddingsNode extends UnaryNode implements ProjectionNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
-    ProjectEmbeddings op =  new ProjectEmbeddings(getChildNode().execute(), whiteListColumns);
+  protected DataSet<Embedding> executeNode() {
+    ProjectEmbeddings op =  new ProjectEmbeddings(getChildNode().execute(), whiteListColumns,
+      getEmbeddingMetaData());
     op.setName(toString());
     return op.evaluate();
   }
@@ -85,6 +86,11 @@ public class ProjectEmbeddingsNode extends UnaryNode implements ProjectionNode {
     return embeddingMetaData;
   }
 
+  @Override
+  protected String getOperatorSignature() {
+    return "ProjectEmbeddings{whiteListColumns=" + whiteListColumns + "}";
+  }
+
   @Override
   public String toString() {
     return String.format("ProjectEmbeddingsNode{projectionKeys=%s}", projectionKeys);
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.reduction;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.tuples.WithCount;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.reduction.functions.ToVariableCount;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores the candidate vertices and edges for each variable of a query graph.
+ */
+public class CandidateSets {
+  /**
+   * Candidate vertices by query variable
+   */
+  private final Map<String, DataSet<Vertex>> vertices;
+  /**
+   * Candidate edges by query variable
+   */
+  private final Map<String, DataSet<Edge>> edges;
+  /**
+   * Number of candidates by query variable (empty, if not computed yet)
+   */
+  private Map<String, Long> cardinalities;
+
+  /**
+   * Creates new candidate sets.
+   *
+   * @param vertices candidate vertices by query variable
+   * @param edges candidate edges by query variable
+   */
+  public CandidateSets(Map<String, DataSet<Vertex>> vertices, Map<String, DataSet<Edge>> edges) {
+    this.vertices = vertices;
+    this.edges = edges;
+    this.cardinalities = Collections.emptyMap();
+  }
+
+  /**
+   * Returns the candidate vertices for the specified query variable.
+   *
+   * @param variable vertex variable
+   * @return candidate vertices
+   */
+  public DataSet<Vertex> getVertices(String variable) {
+    return vertices.get(variable);
+  }
+
+  /**
+   * Returns the candidate edges for the specified query variable.
+   *
+   * @param variable edge variable
+   * @return candidate edges
+   */
+  public DataSet<Edge> getEdges(String variable) {
+    return edges.get(variable);
+  }
+
+  /**
+   * Returns the number of candidates for each query variable. The map is empty unless
+   * {@link #computeCardinalities()} has been called before.
+   *
+   * @return number of candidates by query variable
+   */
+  public Map<String, Long> getCardinalities() {
+    return cardinalities;
+  }
+
+  /**
+   * Counts the candidates for all query variables within a single Flink job.
+   *
+   * @return number of candidates by query variable
+   * @throws Exception on failure
+   */
+  public Map<String, Long> computeCardinalities() throws Exception {
+    DataSet<WithCount<String>> counts = null;
+
+    for (Map.Entry<String, DataSet<Vertex>> entry : vertices.entrySet()) {
+      counts = union(counts, entry.getValue().map(new ToVariableCount<>(entry.getKey())));
+    }
+    for (Map.Entry<String, DataSet<Edge>> entry : edges.entrySet()) {
+      counts = union(counts, entry.getValue().map(new ToVariableCount<>(entry.getKey())));
+    }
+
+    Map<String, Long> result = new HashMap<>();
+    vertices.keySet().forEach(variable -> result.put(variable, 0L));
+    edges.keySet().forEach(variable -> result.put(variable, 0L));
+
+    if (counts != null) {
+      List<WithCount<String>> collected = counts.groupBy(0).sum(1).collect();
+      for (WithCount<String> count : collected) {
+        result.put(count.getObject(), count.getCount());
+      }
+    }
+
+    cardinalities = result;
+    return cardinalities;
+  }
+
+  /**
+   * Unions the given data sets, the first one may be {@code null}.
+   *
+   * @param first first data set or {@code null}
+   * @param second second data set
+   * @return union of both data sets
+   */
+  private DataSet<WithCount<String>> union(DataSet<WithCount<String>> first,
+    DataSet<WithCount<String>> second) {
+    return first == null ? second : first.union(second);
+  }
+}
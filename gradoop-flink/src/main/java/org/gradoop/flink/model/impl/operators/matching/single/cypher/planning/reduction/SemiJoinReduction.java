@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.reduction;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+import org.gradoop.flink.model.impl.functions.epgm.TargetId;
+import org.gradoop.flink.model.impl.functions.utils.LeftSide;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions.FilterEdge;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions.FilterVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.LabelScans;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reduces the candidate vertices and edges of each query variable before the actual pattern
+ * matching is planned and executed.
+ *
+ * Initially, the candidates of a variable are the graph elements matching its label and its
+ * variable-local predicates. Afterwards, each fixed-length query edge (a)-[e]->(b) is used to
+ * semi-join the candidates of e with the candidates of a and b and vice versa, i.e. a vertex
+ * candidate is discarded if it has no incident edge candidate and an edge candidate is discarded
+ * if its source or target is not a candidate. This is repeated for the given number of rounds.
+ *
+ * Candidates are never discarded if they can still participate in a match, so the reduced sets
+ * can be used as input for the query plan leaves without changing the result.
+ */
+public class SemiJoinReduction {
+  /**
+   * The query handler represents the query.
+   */
+  private final QueryHandler queryHandler;
+  /**
+   * Number of reduction rounds
+   */
+  private final int rounds;
+
+  /**
+   * Creates a new reduction.
+   *
+   * @param queryHandler query handler
+   * @param rounds number of reduction rounds
+   */
+  public SemiJoinReduction(QueryHandler queryHandler, int rounds) {
+    this.queryHandler = queryHandler;
+    this.rounds = rounds;
+  }
+
+  /**
+   * Computes the reduced candidate sets for all query variables.
+   *
+   * @param graph search graph
+   * @return candidate sets
+   */
+  public CandidateSets reduce(LogicalGraph graph) {
+    CNF predicates = queryHandler.getPredicates();
+
+    Map<String, DataSet<Vertex>> vertices = new HashMap<>();
+    for (org.s1ck.gdl.model.Vertex queryVertex : queryHandler.getVertices()) {
+      String variable = queryVertex.getVariable();
+      CNF vertexPredicates = predicates.getSubCNF(variable);
+      DataSet<Vertex> candidates =
+        LabelScans.getVertices(graph, variable, queryVertex.getLabel(), vertexPredicates);
+      if (vertexPredicates.size() > 0) {
+        candidates = candidates.filter(new FilterVertex(vertexPredicates));
+      }
+      vertices.put(variable, candidates);
+    }
+
+    Map<String, DataSet<Edge>> edges = new HashMap<>();
+    for (org.s1ck.gdl.model.Edge queryEdge : queryHandler.getEdges()) {
+      String variable = queryEdge.getVariable();
+      CNF edgePredicates = predicates.getSubCNF(variable);
+      DataSet<Edge> candidates =
+        LabelScans.getEdges(graph, variable, queryEdge.getLabel(), edgePredicates);
+      if (edgePredicates.size() > 0) {
+        candidates = candidates.filter(new FilterEdge(edgePredicates));
+      }
+      edges.put(variable, candidates);
+    }
+
+    for (int i = 0; i < rounds; i++) {
+      for (org.s1ck.gdl.model.Edge queryEdge : queryHandler.getEdges()) {
+        // variable length paths may contain arbitrary intermediate vertices
+        if (queryEdge.hasVariableLength() || queryEdge.getUpperBound() != 1) {
+          continue;
+        }
+        String edgeVariable = queryEdge.getVariable();
+        String sourceVariable =
+          queryHandler.getVertexById(queryEdge.getSourceVertexId()).getVariable();
+        String targetVariable =
+          queryHandler.getVertexById(queryEdge.getTargetVertexId()).getVariable();
+
+        DataSet<Edge> edgeCandidates = edges.get(edgeVariable)
+          .join(vertices.get(sourceVariable).map(new Id<>()))
+          .where(new SourceId<>()).equalTo("*")
+          .with(new LeftSide<>());
+        edgeCandidates = edgeCandidates
+          .join(vertices.get(targetVariable).map(new Id<>()))
+          .where(new TargetId<>()).equalTo("*")
+          .with(new LeftSide<>());
+        edges.put(edgeVariable, edgeCandidates);
+
+        vertices.put(sourceVariable,
+          semiJoin(vertices.get(sourceVariable), edgeCandidates.map(new SourceId<>())));
+        vertices.put(targetVariable,
+          semiJoin(vertices.get(targetVariable), edgeCandidates.map(new TargetId<>())));
+      }
+    }
+
+    return new CandidateSets(vertices, edges);
+  }
+
+  /**
+   * Keeps all vertices whose id is contained in the given set of ids.
+   *
+   * @param vertices candidate vertices
+   * @param ids vertex ids (may contain duplicates)
+   * @return vertices with a matching id
+   */
+  private DataSet<Vertex> semiJoin(DataSet<Vertex> vertices, DataSet<GradoopId> ids) {
+    return vertices
+      .join(ids.distinct())
+      .where(new Id<>()).equalTo("*")
+      .with(new LeftSide<>());
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.reduction.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.flink.model.impl.tuples.WithCount;
+
+/**
+ * element => (variable, 1)
+ *
+ * @param <T> element type
+ */
+public class ToVariableCount<T> implements MapFunction<T, WithCount<String>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final WithCount<String> reuseTuple;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param variable query variable the elements are candidates for
+   */
+  public ToVariableCount(String variable) {
+    this.reuseTuple = new WithCount<>(variable, 1L);
+  }
+
+  @Override
+  public WithCount<String> map(T element) throws Exception {
+    return reuseTuple;
+  }
+}
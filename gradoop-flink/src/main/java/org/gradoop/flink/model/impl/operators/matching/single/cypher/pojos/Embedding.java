@@ -494,9 +494,31 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return Embedding with the projected property list
    */
   public Embedding project(List<Integer> propertyWhiteList) {
-    byte[] newPropertyData = new byte[0];
+    // compute the offsets of all properties in a single pass
+    List<Integer> offsets = new ArrayList<>();
+    int offset = 0;
+    while (offset < propertyData.length) {
+      offsets.add(offset);
+      offset += Integer.BYTES + Ints.fromBytes(propertyData[offset], propertyData[offset + 1],
+        propertyData[offset + 2], propertyData[offset + 3]);
+    }
+    offsets.add(offset);
+
+    int newPropertiesSize = 0;
+    for (int index : propertyWhiteList) {
+      if (index < 0 || index >= offsets.size() - 1) {
+        throw new IndexOutOfBoundsException(
+          "Cant find Property. " + (offsets.size() - 2) + " < " + index);
+      }
+      newPropertiesSize += offsets.get(index + 1) - offsets.get(index);
+    }
+
+    byte[] newPropertyData = new byte[newPropertiesSize];
+    offset = 0;
     for (int index : propertyWhiteList) {
-      newPropertyData = ArrayUtils.addAll(newPropertyData, getRawProperty(index));
+      int length = offsets.get(index + 1) - offsets.get(index);
+      System.arraycopy(propertyData, offsets.get(index), newPropertyData, offset, length);
+      offset += length;
     }
 
     return new Embedding(idData, newPropertyData, idListData);
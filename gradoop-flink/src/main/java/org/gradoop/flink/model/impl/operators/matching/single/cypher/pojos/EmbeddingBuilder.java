@@ -0,0 +1,344 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Assembles embeddings from the raw data of other embeddings without creating intermediate arrays.
+ *
+ * The builder appends id entries, properties and id lists to growable buffers, which are sized
+ * from the {@link EmbeddingMetaData} of the resulting embeddings and reused after
+ * {@link #reset()}. {@link #build(Embedding)} copies the buffers into the given embedding and
+ * overwrites the arrays the builder has written before, if their size did not change. Hence,
+ * a UDF that reuses a builder and an output embedding does not allocate memory once the buffers
+ * have reached the size of its records.
+ */
+public class EmbeddingBuilder implements Serializable {
+  /**
+   * Estimated size of a property value in bytes, used to size the property buffer
+   */
+  private static final int ESTIMATED_PROPERTY_SIZE = 16;
+  /**
+   * Estimated number of ids in a path, used to size the id list buffer
+   */
+  private static final int ESTIMATED_PATH_LENGTH = 4;
+  /**
+   * Buffer holding the id entries
+   */
+  private byte[] idData;
+  /**
+   * Number of used bytes in the id buffer
+   */
+  private int idLength;
+  /**
+   * Buffer holding the properties
+   */
+  private byte[] propertyData;
+  /**
+   * Number of used bytes in the property buffer
+   */
+  private int propertyLength;
+  /**
+   * Buffer holding the id lists
+   */
+  private byte[] idListData;
+  /**
+   * Number of used bytes in the id list buffer
+   */
+  private int idListLength;
+  /**
+   * Arrays handed out by the last call of {@link #build(Embedding)}
+   */
+  private byte[][] built;
+  /**
+   * Offsets of the properties of an embedding, reused by {@link #addProperties(Embedding, int[])}
+   */
+  private int[] propertyOffsets;
+
+  /**
+   * Creates a new builder with empty buffers.
+   */
+  public EmbeddingBuilder() {
+    this(0, 0, 0);
+  }
+
+  /**
+   * Creates a new builder with buffers sized for embeddings described by the given meta data.
+   *
+   * @param metaData meta data of the resulting embeddings
+   */
+  public EmbeddingBuilder(EmbeddingMetaData metaData) {
+    this(metaData.getEntryCount() * Embedding.ID_ENTRY_SIZE,
+      metaData.getPropertyCount() * (Integer.BYTES + ESTIMATED_PROPERTY_SIZE),
+      metaData.getPathCount() *
+        (GradoopId.ID_SIZE + Integer.BYTES + ESTIMATED_PATH_LENGTH * GradoopId.ID_SIZE));
+  }
+
+  /**
+   * Creates a new builder with buffers of the given sizes.
+   *
+   * @param idCapacity initial size of the id buffer in bytes
+   * @param propertyCapacity initial size of the property buffer in bytes
+   * @param idListCapacity initial size of the id list buffer in bytes
+   */
+  public EmbeddingBuilder(int idCapacity, int propertyCapacity, int idListCapacity) {
+    this.idData = new byte[idCapacity];
+    this.propertyData = new byte[propertyCapacity];
+    this.idListData = new byte[idListCapacity];
+    this.built = new byte[3][];
+    this.propertyOffsets = new int[0];
+  }
+
+  /**
+   * Removes all data from the builder, the buffers are kept.
+   *
+   * @return this builder
+   */
+  public EmbeddingBuilder reset() {
+    idLength = 0;
+    propertyLength = 0;
+    idListLength = 0;
+    return this;
+  }
+
+  /**
+   * Appends all id entries of the given embedding.
+   *
+   * @param embedding embedding
+   * @return this builder
+   */
+  public EmbeddingBuilder addIdEntries(Embedding embedding) {
+    byte[] source = embedding.getIdData();
+    idData = ensureCapacity(idData, idLength + source.length);
+    System.arraycopy(source, 0, idData, idLength, source.length);
+    idLength += source.length;
+    return this;
+  }
+
+  /**
+   * Appends the id entries of the given embedding at the specified columns.
+   *
+   * @param embedding embedding
+   * @param columns columns of the id entries
+   * @return this builder
+   */
+  public EmbeddingBuilder addIdEntries(Embedding embedding, int[] columns) {
+    byte[] source = embedding.getIdData();
+    idData = ensureCapacity(idData, idLength + columns.length * Embedding.ID_ENTRY_SIZE);
+    for (int column : columns) {
+      if (column < 0 || column >= embedding.size()) {
+        throw new IndexOutOfBoundsException(column + " >= " + embedding.size());
+      }
+      System.arraycopy(source, column * Embedding.ID_ENTRY_SIZE, idData, idLength,
+        Embedding.ID_ENTRY_SIZE);
+      idLength += Embedding.ID_ENTRY_SIZE;
+    }
+    return this;
+  }
+
+  /**
+   * Appends an id entry that references a single element.
+   *
+   * @param id element id
+   * @return this builder
+   */
+  public EmbeddingBuilder addId(GradoopId id) {
+    idData = ensureCapacity(idData, idLength + Embedding.ID_ENTRY_SIZE);
+    idData[idLength] = Embedding.ID_ENTRY_FLAG;
+    System.arraycopy(id.toByteArray(), 0, idData, idLength + 1, GradoopId.ID_SIZE);
+    idLength += Embedding.ID_ENTRY_SIZE;
+    return this;
+  }
+
+  /**
+   * Appends all properties of the given embedding.
+   *
+   * @param embedding embedding
+   * @return this builder
+   */
+  public EmbeddingBuilder addProperties(Embedding embedding) {
+    byte[] source = embedding.getPropertyData();
+    propertyData = ensureCapacity(propertyData, propertyLength + source.length);
+    System.arraycopy(source, 0, propertyData, propertyLength, source.length);
+    propertyLength += source.length;
+    return this;
+  }
+
+  /**
+   * Appends the properties of the given embedding at the specified columns. The property data of
+   * the embedding is scanned only once.
+   *
+   * @param embedding embedding
+   * @param columns columns of the properties
+   * @return this builder
+   */
+  public EmbeddingBuilder addProperties(Embedding embedding, int[] columns) {
+    byte[] source = embedding.getPropertyData();
+    int count = indexProperties(source);
+
+    for (int column : columns) {
+      if (column < 0 || column >= count) {
+        throw new IndexOutOfBoundsException("Cant find Property. " + count + " <= " + column);
+      }
+      int offset = propertyOffsets[column];
+      int length = propertyOffsets[column + 1] - offset;
+      propertyData = ensureCapacity(propertyData, propertyLength + length);
+      System.arraycopy(source, offset, propertyData, propertyLength, length);
+      propertyLength += length;
+    }
+    return this;
+  }
+
+  /**
+   * Appends a property value.
+   *
+   * @param value property value
+   * @return this builder
+   */
+  public EmbeddingBuilder addProperty(PropertyValue value) {
+    int size = value.getByteSize();
+    propertyData = ensureCapacity(propertyData, propertyLength + Integer.BYTES + size);
+    writeInt(size, propertyData, propertyLength);
+    System.arraycopy(value.getRawBytes(), 0, propertyData, propertyLength + Integer.BYTES, size);
+    propertyLength += Integer.BYTES + size;
+    return this;
+  }
+
+  /**
+   * Appends all id lists of the given embedding.
+   *
+   * @param embedding embedding
+   * @return this builder
+   */
+  public EmbeddingBuilder addIdLists(Embedding embedding) {
+    byte[] source = embedding.getIdListData();
+    idListData = ensureCapacity(idListData, idListLength + source.length);
+    System.arraycopy(source, 0, idListData, idListLength, source.length);
+    idListLength += source.length;
+    return this;
+  }
+
+  /**
+   * Writes the data of the builder into the given embedding. Arrays of the embedding that have
+   * been written by the previous call of this method are overwritten, if they have the required
+   * size. Otherwise, new arrays are assigned to the embedding.
+   *
+   * @param target embedding to write to
+   * @return the target embedding
+   */
+  public Embedding build(Embedding target) {
+    target.setIdData(write(0, target.getIdData(), idData, idLength));
+    target.setPropertyData(write(1, target.getPropertyData(), propertyData, propertyLength));
+    target.setIdListData(write(2, target.getIdListData(), idListData, idListLength));
+    return target;
+  }
+
+  /**
+   * Creates a new embedding from the data of the builder.
+   *
+   * @return new embedding
+   */
+  public Embedding build() {
+    return new Embedding(Arrays.copyOf(idData, idLength),
+      Arrays.copyOf(propertyData, propertyLength), Arrays.copyOf(idListData, idListLength));
+  }
+
+  /**
+   * Copies the used part of a buffer to the current array of the target embedding, if the
+   * builder owns this array and it has the required size, or to a new array otherwise.
+   *
+   * @param index index of the array in {@link #built}
+   * @param current current array of the target embedding
+   * @param buffer buffer
+   * @param length number of used bytes in the buffer
+   * @return array holding the data
+   */
+  private byte[] write(int index, byte[] current, byte[] buffer, int length) {
+    byte[] result = current == built[index] && current.length == length ?
+      current : new byte[length];
+    System.arraycopy(buffer, 0, result, 0, length);
+    built[index] = result;
+    return result;
+  }
+
+  /**
+   * Computes the offsets of all properties stored in the given property data.
+   *
+   * @param source property data
+   * @return number of properties
+   */
+  private int indexProperties(byte[] source) {
+    int count = 0;
+    int offset = 0;
+    while (offset < source.length) {
+      if (count + 1 >= propertyOffsets.length) {
+        propertyOffsets = Arrays.copyOf(propertyOffsets, Math.max(8, propertyOffsets.length * 2));
+      }
+      propertyOffsets[count++] = offset;
+      offset += Integer.BYTES + readInt(source, offset);
+    }
+    if (count >= propertyOffsets.length) {
+      propertyOffsets = Arrays.copyOf(propertyOffsets, count + 1);
+    }
+    propertyOffsets[count] = offset;
+    return count;
+  }
+
+  /**
+   * Returns a buffer that can hold at least the given number of bytes.
+   *
+   * @param buffer current buffer
+   * @param required required number of bytes
+   * @return current buffer or a larger copy of it
+   */
+  private static byte[] ensureCapacity(byte[] buffer, int required) {
+    if (buffer.length >= required) {
+      return buffer;
+    }
+    return Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+  }
+
+  /**
+   * Writes an integer in big endian byte order.
+   *
+   * @param value integer
+   * @param target target array
+   * @param offset offset in the target array
+   */
+  private static void writeInt(int value, byte[] target, int offset) {
+    target[offset] = (byte) (value >> 24);
+    target[offset + 1] = (byte) (value >> 16);
+    target[offset + 2] = (byte) (value >> 8);
+    target[offset + 3] = (byte) value;
+  }
+
+  /**
+   * Reads an integer in big endian byte order.
+   *
+   * @param source source array
+   * @param offset offset in the source array
+   * @return integer
+   */
+  private static int readInt(byte[] source, int offset) {
+    return (source[offset] & 0xFF) << 24 | (source[offset + 1] & 0xFF) << 16 |
+      (source[offset + 2] & 0xFF) << 8 | (source[offset + 3] & 0xFF);
+  }
+}
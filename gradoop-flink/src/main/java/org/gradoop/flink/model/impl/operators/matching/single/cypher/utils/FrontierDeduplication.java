@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+/**
+ * Specifies which states of a path expansion are considered equivalent. Of each set of equivalent
+ * states, only one is kept and expanded further.
+ */
+public enum FrontierDeduplication {
+  /**
+   * Every distinct path is a separate state.
+   */
+  NONE,
+  /**
+   * Paths that start at the same embedding, end at the same vertex and contain the same vertices
+   * and edges in any order are equivalent.
+   */
+  PATH_SET,
+  /**
+   * Paths that start at the same embedding and end at the same vertex are equivalent, i.e. only
+   * one shortest path is kept for each pair of start embedding and end vertex.
+   */
+  SHORTEST_PATH
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A set of raw ids that is optimized for the small number of ids stored in a single embedding.
+ *
+ * Each id sets one bit in a 64 bit fingerprint. An id whose bit is not set yet is definitely not
+ * contained in the set, so most lookups are answered in constant time. Only if the bit of an id
+ * is already set, the stored ids are compared byte-wise. The set does not create id objects and
+ * reuses its buffer after {@link #clear()}, i.e. it is meant to be reused by a single UDF.
+ */
+public class IdFingerprintSet implements Serializable {
+  /**
+   * Initial number of ids the buffer can hold
+   */
+  private static final int INITIAL_CAPACITY = 16;
+  /**
+   * Fingerprint of the contained ids
+   */
+  private long fingerprint;
+  /**
+   * Contained ids in their raw representation
+   */
+  private byte[] ids;
+  /**
+   * Number of contained ids
+   */
+  private int size;
+
+  /**
+   * Creates a new empty set.
+   */
+  public IdFingerprintSet() {
+    this.ids = new byte[INITIAL_CAPACITY * GradoopId.ID_SIZE];
+  }
+
+  /**
+   * Removes all ids from the set.
+   */
+  public void clear() {
+    fingerprint = 0L;
+    size = 0;
+  }
+
+  /**
+   * Returns the number of ids in the set.
+   *
+   * @return number of ids
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Adds the specified id to the set.
+   *
+   * @param id id to add
+   * @return true, iff the id was not contained in the set
+   */
+  public boolean add(GradoopId id) {
+    return add(id.toByteArray(), 0);
+  }
+
+  /**
+   * Adds the id stored at the specified offset to the set.
+   *
+   * @param data raw id data
+   * @param offset offset of the id
+   * @return true, iff the id was not contained in the set
+   */
+  public boolean add(byte[] data, int offset) {
+    long bit = getBit(data, offset);
+    if ((fingerprint & bit) != 0L && containsExact(data, offset)) {
+      return false;
+    }
+    fingerprint |= bit;
+    if ((size + 1) * GradoopId.ID_SIZE > ids.length) {
+      ids = Arrays.copyOf(ids, ids.length * 2);
+    }
+    System.arraycopy(data, offset, ids, size * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+    size++;
+    return true;
+  }
+
+  /**
+   * Adds all ids stored at the specified embedding column, i.e. a single id or an id list.
+   *
+   * @param embedding embedding
+   * @param column column of the embedding
+   * @return true, iff none of the ids was contained in the set
+   */
+  public boolean addAll(Embedding embedding, int column) {
+    byte[] idData = embedding.getIdData();
+    int offset = column * Embedding.ID_ENTRY_SIZE;
+    if (idData[offset] == Embedding.ID_ENTRY_FLAG) {
+      return add(idData, offset + 1);
+    }
+    boolean distinct = true;
+    for (GradoopId id : embedding.getIdList(column)) {
+      distinct &= add(id);
+    }
+    return distinct;
+  }
+
+  /**
+   * Checks if the specified id is contained in the set.
+   *
+   * @param id id to check
+   * @return true, iff the set contains the id
+   */
+  public boolean contains(GradoopId id) {
+    byte[] data = id.toByteArray();
+    return (fingerprint & getBit(data, 0)) != 0L && containsExact(data, 0);
+  }
+
+  /**
+   * Compares the specified id with all ids in the set.
+   *
+   * @param data raw id data
+   * @param offset offset of the id
+   * @return true, iff the set contains the id
+   */
+  private boolean containsExact(byte[] data, int offset) {
+    for (int i = 0; i < size; i++) {
+      int start = i * GradoopId.ID_SIZE;
+      int j = 0;
+      while (j < GradoopId.ID_SIZE && ids[start + j] == data[offset + j]) {
+        j++;
+      }
+      if (j == GradoopId.ID_SIZE) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Maps the id stored at the specified offset to a single bit of the fingerprint. The trailing
+   * counter bytes of an id vary the most between ids.
+   *
+   * @param data raw id data
+   * @param offset offset of the id
+   * @return fingerprint with a single bit set
+   */
+  private static long getBit(byte[] data, int offset) {
+    int hash = ((data[offset + 8] & 0xff) << 24) |
+      ((data[offset + 9] & 0xff) << 16) |
+      ((data[offset + 10] & 0xff) << 8) |
+      (data[offset + 11] & 0xff);
+    hash ^= data[offset + 3] & 0xff;
+    // Fibonacci hashing, the highest six bits select the bit index
+    return 1L << ((hash * 0x9E3779B9) >>> 26);
+  }
+}
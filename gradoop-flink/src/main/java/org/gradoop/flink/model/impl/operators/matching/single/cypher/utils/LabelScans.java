@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Selects the input elements of query variables from a search graph by their labels.
+ *
+ * The labels of a variable are either given by the query graph, e.g. {@code (p:Person)}, or by a
+ * disjunction of label predicates, e.g. {@code WHERE p.__label__ = "Person" OR
+ * p.__label__ = "Tag"}. If the search graph is stored in an indexed layout, each label is read
+ * from its own dataset. Otherwise, a single scan of all elements is used for multiple labels.
+ *
+ * The returned datasets may still contain elements that do not satisfy the label predicates, they
+ * have to be evaluated by the leaf nodes of the query plan.
+ */
+public class LabelScans {
+  /**
+   * Property key that refers to the label of an element within a predicate
+   */
+  private static final String LABEL_KEY = "__label__";
+  /**
+   * Key of scans that read all elements of the search graph
+   */
+  private static final String ALL_LABELS = "*";
+
+  /**
+   * Private constructor
+   */
+  private LabelScans() { }
+
+  /**
+   * Returns the candidate vertices for the specified query variable.
+   *
+   * @param graph search graph
+   * @param variable query variable
+   * @param label label of the query vertex
+   * @param predicates query predicates
+   * @return candidate vertices
+   */
+  public static DataSet<Vertex> getVertices(LogicalGraph graph, String variable, String label,
+    CNF predicates) {
+    return getVertices(graph, variable, label, predicates, new HashMap<>());
+  }
+
+  /**
+   * Returns the candidate vertices for the specified query variable. Scans that have been
+   * performed before are taken from the given map, new scans are added to it.
+   *
+   * @param graph search graph
+   * @param variable query variable
+   * @param label label of the query vertex
+   * @param predicates query predicates
+   * @param scans previous scans of the search graph
+   * @return candidate vertices
+   */
+  public static DataSet<Vertex> getVertices(LogicalGraph graph, String variable, String label,
+    CNF predicates, Map<String, DataSet<Vertex>> scans) {
+    Set<String> labels =
+      getLabels(variable, label, GradoopConstants.DEFAULT_VERTEX_LABEL, predicates);
+
+    if (labels == null || (labels.size() > 1 && !graph.isIndexedGVELayout())) {
+      return scans.computeIfAbsent(ALL_LABELS, key -> graph.getVertices());
+    }
+    if (labels.isEmpty()) {
+      labels.add(label);
+    }
+    return scans.computeIfAbsent(new TreeSet<>(labels).toString(), key -> labels.stream()
+      .map(graph::getVerticesByLabel)
+      .reduce(DataSet::union)
+      .get());
+  }
+
+  /**
+   * Returns the candidate edges for the specified query variable.
+   *
+   * @param graph search graph
+   * @param variable query variable
+   * @param label label of the query edge
+   * @param predicates query predicates
+   * @return candidate edges
+   */
+  public static DataSet<Edge> getEdges(LogicalGraph graph, String variable, String label,
+    CNF predicates) {
+    return getEdges(graph, variable, label, predicates, new HashMap<>());
+  }
+
+  /**
+   * Returns the candidate edges for the specified query variable. Scans that have been performed
+   * before are taken from the given map, new scans are added to it.
+   *
+   * @param graph search graph
+   * @param variable query variable
+   * @param label label of the query edge
+   * @param predicates query predicates
+   * @param scans previous scans of the search graph
+   * @return candidate edges
+   */
+  public static DataSet<Edge> getEdges(LogicalGraph graph, String variable, String label,
+    CNF predicates, Map<String, DataSet<Edge>> scans) {
+    Set<String> labels =
+      getLabels(variable, label, GradoopConstants.DEFAULT_EDGE_LABEL, predicates);
+
+    if (labels == null || (labels.size() > 1 && !graph.isIndexedGVELayout())) {
+      return scans.computeIfAbsent(ALL_LABELS, key -> graph.getEdges());
+    }
+    if (labels.isEmpty()) {
+      labels.add(label);
+    }
+    return scans.computeIfAbsent(new TreeSet<>(labels).toString(), key -> labels.stream()
+      .map(graph::getEdgesByLabel)
+      .reduce(DataSet::union)
+      .get());
+  }
+
+  /**
+   * Computes the labels a query variable may be bound to.
+   *
+   * @param variable query variable
+   * @param label label of the query element
+   * @param defaultLabel label of query elements without label
+   * @param predicates query predicates
+   * @return possible labels or {@code null}, if the variable may be bound to any label
+   */
+  static Set<String> getLabels(String variable, String label, String defaultLabel,
+    CNF predicates) {
+    Set<String> labels = null;
+    if (!label.equals(defaultLabel)) {
+      labels = new HashSet<>();
+      labels.add(label);
+    }
+
+    for (CNFElement element : predicates.getSubCNF(variable)) {
+      Set<String> disjunction = getLabelDisjunction(element);
+      if (disjunction != null) {
+        if (labels == null) {
+          labels = disjunction;
+        } else {
+          labels.retainAll(disjunction);
+        }
+      }
+    }
+    return labels;
+  }
+
+  /**
+   * Returns the labels compared in the specified disjunction, if it consists of label equality
+   * comparisons only.
+   *
+   * @param element disjunction of comparisons
+   * @return compared labels or {@code null}, if the disjunction contains other comparisons
+   */
+  private static Set<String> getLabelDisjunction(CNFElement element) {
+    Set<String> labels = new HashSet<>();
+    for (ComparisonExpression comparison : element.getPredicates()) {
+      if (!comparison.getComparator().equals(Comparator.EQ)) {
+        return null;
+      }
+      String compared = getComparedLabel(comparison.getLhs(), comparison.getRhs());
+      if (compared == null) {
+        compared = getComparedLabel(comparison.getRhs(), comparison.getLhs());
+      }
+      if (compared == null) {
+        return null;
+      }
+      labels.add(compared);
+    }
+    return labels;
+  }
+
+  /**
+   * Returns the label literal, if the first comparable selects a label and the second one is a
+   * string literal.
+   *
+   * @param selector possible label selector
+   * @param literal possible string literal
+   * @return label or {@code null}
+   */
+  private static String getComparedLabel(QueryComparable selector, QueryComparable literal) {
+    if (selector instanceof PropertySelectorComparable &&
+      ((PropertySelectorComparable) selector).getPropertyKey().equals(LABEL_KEY) &&
+      literal instanceof LiteralComparable &&
+      ((LiteralComparable) literal).getValue() instanceof String) {
+      return (String) ((LiteralComparable) literal).getValue();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import java.io.Serializable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a trailing {@code LIMIT} or {@code ORDER BY ... LIMIT} clause of a Cypher query.
+ *
+ * The clause is not supported by the GDL query parser, it is therefore removed from the query
+ * string before the query graph is created. Supported clauses are:
+ *
+ * <pre>
+ * MATCH ... LIMIT 10
+ * MATCH ... ORDER BY p.age LIMIT 10
+ * MATCH ... ORDER BY p.age DESC LIMIT 10
+ * </pre>
+ */
+public class LimitClause implements Serializable {
+  /**
+   * Matches a trailing {@code ORDER BY var.key [ASC|DESC] LIMIT n} clause
+   */
+  private static final Pattern ORDER_BY_LIMIT = Pattern.compile(
+    "\\s+ORDER\\s+BY\\s+(\\w+)\\.(\\w+)(?:\\s+(ASC|DESC))?\\s+LIMIT\\s+(\\d+)\\s*$",
+    Pattern.CASE_INSENSITIVE);
+  /**
+   * Matches a trailing {@code LIMIT n} clause
+   */
+  private static final Pattern LIMIT = Pattern.compile(
+    "\\s+LIMIT\\s+(\\d+)\\s*$", Pattern.CASE_INSENSITIVE);
+  /**
+   * Query variable whose property is used for ordering ({@code null} if unordered)
+   */
+  private final String variable;
+  /**
+   * Property key used for ordering ({@code null} if unordered)
+   */
+  private final String propertyKey;
+  /**
+   * True, if the results are ordered ascending
+   */
+  private final boolean ascending;
+  /**
+   * Maximum number of results
+   */
+  private final int limit;
+
+  /**
+   * Creates a new limit clause.
+   *
+   * @param variable query variable used for ordering ({@code null} if unordered)
+   * @param propertyKey property key used for ordering ({@code null} if unordered)
+   * @param ascending true, if the results are ordered ascending
+   * @param limit maximum number of results
+   */
+  public LimitClause(String variable, String propertyKey, boolean ascending, int limit) {
+    this.variable = variable;
+    this.propertyKey = propertyKey;
+    this.ascending = ascending;
+    this.limit = limit;
+  }
+
+  /**
+   * Parses the trailing limit clause of the given query.
+   *
+   * @param query Cypher query string
+   * @return limit clause or {@code null}, if the query has no limit clause
+   */
+  public static LimitClause parse(String query) {
+    Matcher matcher = ORDER_BY_LIMIT.matcher(query);
+    if (matcher.find()) {
+      return new LimitClause(matcher.group(1), matcher.group(2),
+        !"DESC".equalsIgnoreCase(matcher.group(3)), parseLimit(matcher.group(4)));
+    }
+    matcher = LIMIT.matcher(query);
+    if (matcher.find()) {
+      return new LimitClause(null, null, true, parseLimit(matcher.group(1)));
+    }
+    return null;
+  }
+
+  /**
+   * Removes the trailing limit clause from the given query.
+   *
+   * @param query Cypher query string
+   * @return query string without limit clause
+   */
+  public static String strip(String query) {
+    Matcher matcher = ORDER_BY_LIMIT.matcher(query);
+    if (matcher.find()) {
+      return query.substring(0, matcher.start());
+    }
+    matcher = LIMIT.matcher(query);
+    if (matcher.find()) {
+      return query.substring(0, matcher.start());
+    }
+    return query;
+  }
+
+  /**
+   * Parses the number of results.
+   *
+   * @param limit number of results
+   * @return number of results
+   * @throws IllegalArgumentException if the limit is not a positive integer
+   */
+  private static int parseLimit(String limit) {
+    int value;
+    try {
+      value = Integer.parseInt(limit);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid limit: " + limit, e);
+    }
+    if (value < 1) {
+      throw new IllegalArgumentException("Limit must be positive: " + limit);
+    }
+    return value;
+  }
+
+  /**
+   * Returns the query variable used for ordering.
+   *
+   * @return query variable or {@code null}, if unordered
+   */
+  public String getVariable() {
+    return variable;
+  }
+
+  /**
+   * Returns the property key used for ordering.
+   *
+   * @return property key or {@code null}, if unordered
+   */
+  public String getPropertyKey() {
+    return propertyKey;
+  }
+
+  /**
+   * Returns true, if the results are ordered.
+   *
+   * @return true, if ordered
+   */
+  public boolean isOrdered() {
+    return variable != null;
+  }
+
+  /**
+   * Returns true, if the results are ordered ascending.
+   *
+   * @return true, if ascending
+   */
+  public boolean isAscending() {
+    return ascending;
+  }
+
+  /**
+   * Returns the maximum number of results.
+   *
+   * @return maximum number of results
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  @Override
+  public String toString() {
+    return (isOrdered() ? String.format("ORDER BY %s.%s %s ", variable, propertyKey,
+      ascending ? "ASC" : "DESC") : "") + "LIMIT " + limit;
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.io.TypeSerializerInputFormat;
+import org.apache.flink.api.java.io.TypeSerializerOutputFormat;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.types.Row;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over the rows of a query result page by page on the client.
+ *
+ * The DataSet API only supports collecting a result as a whole. Instead, the rows are written in
+ * Flink's binary serialization format to a temporary path by a single job, which is executed on
+ * the first access. The written splits are read lazily afterwards, so that at most one page of
+ * rows is held in client memory.
+ *
+ * <pre>
+ * try (RowPageIterator pages = new RowPageIterator(rows, rowType, "hdfs:///tmp/result", 1000)) {
+ *   while (pages.hasNext()) {
+ *     List&lt;Row&gt; page = pages.next();
+ *   }
+ * }
+ * </pre>
+ */
+public class RowPageIterator implements Iterator<List<Row>>, AutoCloseable {
+  /**
+   * Rows to iterate over
+   */
+  private final DataSet<Row> rows;
+  /**
+   * Type of the rows
+   */
+  private final RowTypeInfo rowType;
+  /**
+   * Temporary path the rows are written to
+   */
+  private final Path path;
+  /**
+   * Maximum number of rows per page
+   */
+  private final int pageSize;
+  /**
+   * Splits of the written rows
+   */
+  private FileInputSplit[] splits;
+  /**
+   * Index of the next split to open
+   */
+  private int nextSplit;
+  /**
+   * Reads the current split
+   */
+  private TypeSerializerInputFormat<Row> format;
+  /**
+   * True, if the current split is opened and not exhausted
+   */
+  private boolean splitOpen;
+  /**
+   * Next page ({@code null} if not fetched yet)
+   */
+  private List<Row> nextPage;
+
+  /**
+   * Creates a new iterator. The rows are not computed until the first page is requested.
+   *
+   * @param rows rows to iterate over
+   * @param rowType type of the rows
+   * @param path temporary path, which is overwritten and removed on {@link #close()}
+   * @param pageSize maximum number of rows per page
+   */
+  public RowPageIterator(DataSet<Row> rows, RowTypeInfo rowType, String path, int pageSize) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+    }
+    this.rows = rows;
+    this.rowType = rowType;
+    this.path = new Path(path);
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextPage == null) {
+      try {
+        nextPage = fetchPage();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return !nextPage.isEmpty();
+  }
+
+  @Override
+  public List<Row> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    List<Row> page = nextPage;
+    nextPage = null;
+    return page;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (format != null) {
+      format.close();
+      format = null;
+    }
+    if (splits != null) {
+      path.getFileSystem().delete(path, true);
+    }
+  }
+
+  /**
+   * Reads the next page from the written splits. Executes the job writing the rows on the first
+   * call.
+   *
+   * @return next page, empty if all rows have been read
+   * @throws IOException if the rows cannot be written or read
+   */
+  private List<Row> fetchPage() throws IOException {
+    if (splits == null) {
+      writeRows();
+    }
+    List<Row> page = new ArrayList<>(pageSize);
+    while (page.size() < pageSize) {
+      if (!splitOpen) {
+        if (nextSplit == splits.length) {
+          break;
+        }
+        format.open(splits[nextSplit++]);
+        splitOpen = true;
+      }
+      Row row = format.reachedEnd() ? null : format.nextRecord(new Row(rowType.getArity()));
+      if (row == null) {
+        format.close();
+        splitOpen = false;
+      } else {
+        page.add(row);
+      }
+    }
+    return page;
+  }
+
+  /**
+   * Writes the rows to the temporary path and prepares reading them.
+   *
+   * @throws IOException if the job fails or the splits cannot be created
+   */
+  private void writeRows() throws IOException {
+    TypeSerializerOutputFormat<Row> outputFormat = new TypeSerializerOutputFormat<>();
+    outputFormat.setInputType(rowType, rows.getExecutionEnvironment().getConfig());
+    rows.write(outputFormat, path.toString(), FileSystem.WriteMode.OVERWRITE);
+    try {
+      rows.getExecutionEnvironment().execute("Write query result pages");
+    } catch (Exception e) {
+      throw new IOException("Cannot compute query result", e);
+    }
+
+    format = new TypeSerializerInputFormat<>(rowType);
+    format.setFilePath(path);
+    format.configure(new Configuration());
+    splits = format.createInputSplits(1);
+  }
+}
@@ -40,9 +40,12 @@ import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.PostProcessor;
 import org.gradoop.flink.model.impl.operators.matching.common.PreProcessor;
 import org.gradoop.flink.model.impl.operators.matching.common.functions.AddGraphElementToNewGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.functions.CountCandidates;
 import org.gradoop.flink.model.impl.operators.matching.common.functions.ElementsFromEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.common.functions.MatchingVertices;
 import org.gradoop.flink.model.impl.operators.matching.common.query.DFSTraverser;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.StatisticsTraverser;
 import org.gradoop.flink.model.impl.operators.matching.common.query.TraversalCode;
 import org.gradoop.flink.model.impl.operators.matching.common.query.Traverser;
 import org.gradoop.flink.model.impl.operators.matching.common.tuples.Embedding;
@@ -55,8 +58,10 @@ import org.gradoop.flink.model.impl.operators.matching.single.preserving.explora
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TraverserStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TripleForLoopTraverser;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TripleTraverser;
+import org.gradoop.flink.model.impl.tuples.WithCount;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
+import java.util.List;
 import java.util.Objects;
 
 import static org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES;
@@ -155,7 +160,7 @@ public class ExplorativePatternMatching
   @Override
   protected GraphCollection executeForPattern(LogicalGraph graph) {
 
-    TraversalCode traversalCode = traverser.traverse();
+    TraversalCode traversalCode;
 
     DataSet<Tuple1<Embedding<GradoopId>>> embeddings;
 
@@ -172,6 +177,8 @@ public class ExplorativePatternMatching
       DataSet<TripleWithCandidates<GradoopId>> edges = PreProcessor.filterEdges(
         graph, getQuery());
 
+      traversalCode = traverse(vertices, edges);
+
       //--------------------------------------------------------------------------
       // Exploration via Traversal
       //--------------------------------------------------------------------------
@@ -195,6 +202,8 @@ public class ExplorativePatternMatching
       DataSet<TripleWithCandidates<GradoopId>> triples = PreProcessor
         .filterTriplets(graph, getQuery());
 
+      traversalCode = traverse(null, triples);
+
       TripleTraverser<GradoopId> distributedTraverser = new TripleForLoopTraverser<>(
         traversalCode, matchStrategy,
         traverser.getQueryHandler().getVertexCount(),
@@ -225,6 +234,50 @@ public class ExplorativePatternMatching
   }
 
 
+  /**
+   * Computes the traversal code for the query graph. If the traverser is a
+   * {@link StatisticsTraverser}, the number of candidates per query element is computed first
+   * and used to order the traversal steps.
+   *
+   * @param vertices vertex candidates or {@code null} if not available
+   * @param edges edge candidates
+   * @return traversal code
+   */
+  private TraversalCode traverse(DataSet<IdWithCandidates<GradoopId>> vertices,
+    DataSet<TripleWithCandidates<GradoopId>> edges) {
+    if (traverser instanceof StatisticsTraverser) {
+      QueryHandler queryHandler = traverser.getQueryHandler();
+      int vertexCount = queryHandler.getVertexCount();
+      int edgeCount = queryHandler.getEdgeCount();
+
+      // edge candidates are shifted behind the vertex candidates to count both in one job
+      DataSet<WithCount<Integer>> counts = edges
+        .mapPartition(new CountCandidates<>(3, edgeCount, vertexCount));
+      if (vertices != null) {
+        counts = counts.union(vertices.mapPartition(new CountCandidates<>(1, vertexCount)));
+      }
+      List<WithCount<Integer>> candidateCounts;
+      try {
+        candidateCounts = counts.groupBy(0).sum(1).collect();
+      } catch (Exception e) {
+        throw new RuntimeException("Could not count query candidates", e);
+      }
+
+      long[] vertexCandidateCounts = vertices == null ? null : new long[vertexCount];
+      long[] edgeCandidateCounts = new long[edgeCount];
+      for (WithCount<Integer> count : candidateCounts) {
+        if (count.getObject() < vertexCount) {
+          vertexCandidateCounts[count.getObject()] = count.getCount();
+        } else {
+          edgeCandidateCounts[count.getObject() - vertexCount] = count.getCount();
+        }
+      }
+      ((StatisticsTraverser) traverser)
+        .setCandidateCounts(vertexCandidateCounts, edgeCandidateCounts);
+    }
+    return traverser.traverse();
+  }
+
   /**
    * Used for configuring and creating a new {@link ExplorativePatternMatching}
    * operator instance.
@@ -119,14 +119,12 @@ public class DualSimulation extends PatternMatching {
     //--------------------------------------------------------------------------
 
     DataSet<TripleWithCandidates<GradoopId>> triples = filterTriples(graph);
-    DataSet<FatVertex> fatVertices = buildInitialWorkingSet(triples);
 
     //--------------------------------------------------------------------------
     // Dual Simulation
     //--------------------------------------------------------------------------
 
-    DataSet<FatVertex> result = useBulkIteration ?
-      simulateBulk(fatVertices) : simulateDelta(fatVertices);
+    DataSet<FatVertex> result = simulate(triples);
 
     //--------------------------------------------------------------------------
     // Post-processing (build maximum match graph)
@@ -141,12 +139,24 @@ public class DualSimulation extends PatternMatching {
    * @param g input graph
    * @return triples that have a match in the query graph
    */
-  private DataSet<TripleWithCandidates<GradoopId>> filterTriples(
+  protected DataSet<TripleWithCandidates<GradoopId>> filterTriples(
     LogicalGraph g) {
     // filter vertex-edge-vertex triples by query predicates
     return PreProcessor.filterTriplets(g, getQuery());
   }
 
+  /**
+   * Computes the maximum match for the given triples.
+   *
+   * @param triples matching triples from the input graph
+   * @return remaining fat vertices after dual simulation
+   */
+  protected DataSet<FatVertex> simulate(DataSet<TripleWithCandidates<GradoopId>> triples) {
+    DataSet<FatVertex> fatVertices = buildInitialWorkingSet(triples);
+
+    return useBulkIteration ? simulateBulk(fatVertices) : simulateDelta(fatVertices);
+  }
+
   /**
    * Prepares the initial working set for the bulk iteration.
    *
@@ -279,7 +289,7 @@ public class DualSimulation extends PatternMatching {
    * @param vertices valid vertices after simulation
    * @return maximum match graph
    */
-  private GraphCollection postProcess(LogicalGraph graph,
+  protected GraphCollection postProcess(LogicalGraph graph,
     DataSet<FatVertex> vertices) {
     GradoopFlinkConfig config = graph.getConfig();
 
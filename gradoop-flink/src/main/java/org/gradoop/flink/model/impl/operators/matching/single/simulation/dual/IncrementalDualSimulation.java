@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.DeltaIteration;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.log4j.Logger;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.utils.LeftSide;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.TripleWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.EdgeEndpoints;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.NewlyReachedVertices;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.UnaffectedFatVertices;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.UndirectedNeighbors;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
+
+/**
+ * Vertex-centric Dual-Simulation that maintains the maximum match of a continuously updated graph.
+ *
+ * The candidates of a vertex only depend on vertices that are connected to it via triples that
+ * match a query edge. Hence, the maximum match of a weakly connected component of these triples
+ * only changes, if an edge of the component has been inserted or deleted. Given the previous
+ * simulation result and the edge changes, the operator determines all vertices that are reachable
+ * from an endpoint of a changed edge in the updated graph, recomputes the simulation only for the
+ * triples of these vertices and keeps the previous result for all other vertices.
+ *
+ * If the number of changed edges exceeds a threshold, the maximum match is recomputed from
+ * scratch, since the affected part of the graph is likely to be large. Queries consisting of a
+ * single vertex are not supported, as their match does not depend on edges.
+ *
+ * Usage:
+ *
+ * <pre>
+ * IncrementalDualSimulation op = new IncrementalDualSimulation(query, true, false, 1000);
+ * DataSet&lt;FatVertex&gt; match = op.computeMatch(graph);
+ * DataSet&lt;FatVertex&gt; newMatch = op.updateMatch(updatedGraph, match, inserted, deleted);
+ * GraphCollection result = op.toGraphCollection(updatedGraph, newMatch);
+ * </pre>
+ */
+public class IncrementalDualSimulation extends DualSimulation {
+
+  /**
+   * Logger
+   */
+  private static Logger LOG = Logger.getLogger(IncrementalDualSimulation.class);
+
+  /**
+   * Maximum number of changed edges for which the match is updated incrementally
+   */
+  private final long maxChanges;
+
+  /**
+   * Creates a new operator instance.
+   *
+   * @param query       GDL based query
+   * @param attachData  attach original data to resulting vertices/edges
+   * @param useBulk     true to use bulk, false to use delta iteration
+   * @param maxChanges  maximum number of changed edges that are handled incrementally
+   */
+  public IncrementalDualSimulation(String query, boolean attachData, boolean useBulk,
+    long maxChanges) {
+    super(query, attachData, useBulk);
+    this.maxChanges = maxChanges;
+  }
+
+  /**
+   * Computes the maximum match of the query in the given graph from scratch.
+   *
+   * @param graph data graph
+   * @return fat vertices of the maximum match
+   */
+  public DataSet<FatVertex> computeMatch(LogicalGraph graph) {
+    checkQuery();
+    return simulate(filterTriples(graph));
+  }
+
+  /**
+   * Computes the maximum match of the query in an updated graph based on the maximum match
+   * before the update.
+   *
+   * The number of changed edges is counted in a separate Flink job to decide whether the match
+   * is updated incrementally or recomputed.
+   *
+   * @param graph    updated data graph
+   * @param previous fat vertices of the maximum match before the update
+   * @param inserted edges that have been inserted by the update
+   * @param deleted  edges that have been deleted by the update
+   * @return fat vertices of the maximum match after the update
+   * @throws Exception if counting the changed edges fails
+   */
+  public DataSet<FatVertex> updateMatch(LogicalGraph graph, DataSet<FatVertex> previous,
+    DataSet<Edge> inserted, DataSet<Edge> deleted) throws Exception {
+    checkQuery();
+    DataSet<Edge> changes = inserted.union(deleted);
+    DataSet<TripleWithCandidates<GradoopId>> triples = filterTriples(graph);
+
+    long changeCount = changes.count();
+    if (changeCount > maxChanges) {
+      LOG.info(String.format("Recompute match for %d changed edges", changeCount));
+      return simulate(triples);
+    }
+
+    DataSet<Tuple1<GradoopId>> affected = getAffectedVertices(triples, changes);
+
+    // recompute the match for the triples of affected vertices
+    DataSet<FatVertex> updated = simulate(triples
+      .join(affected)
+      .where(1).equalTo(0) // sourceId == vertexId
+      .with(new LeftSide<>()));
+
+    // keep the previous match for all other vertices
+    DataSet<FatVertex> unaffected = previous
+      .leftOuterJoin(affected)
+      .where(0).equalTo(0) // vertexId == vertexId
+      .with(new UnaffectedFatVertices());
+
+    return unaffected.union(updated);
+  }
+
+  /**
+   * Extracts vertices and edges from a maximum match and constructs a maximum match graph.
+   *
+   * @param graph data graph the match has been computed on
+   * @param match fat vertices of the maximum match
+   * @return maximum match graph
+   */
+  public GraphCollection toGraphCollection(LogicalGraph graph, DataSet<FatVertex> match) {
+    return postProcess(graph, match);
+  }
+
+  /**
+   * Determines all vertices that are reachable from an endpoint of a changed edge via matching
+   * triples, ignoring the direction of the triples.
+   *
+   * @param triples matching triples of the updated graph
+   * @param changes inserted and deleted edges
+   * @return ids of affected vertices
+   */
+  private DataSet<Tuple1<GradoopId>> getAffectedVertices(
+    DataSet<TripleWithCandidates<GradoopId>> triples, DataSet<Edge> changes) {
+    DataSet<Tuple1<GradoopId>> endpoints = changes
+      .flatMap(new EdgeEndpoints())
+      .distinct();
+
+    DataSet<Tuple2<GradoopId, GradoopId>> neighbors = triples
+      .flatMap(new UndirectedNeighbors());
+
+    // ITERATION HEAD
+    DeltaIteration<Tuple1<GradoopId>, Tuple1<GradoopId>> iteration = endpoints
+      .iterateDelta(endpoints, Integer.MAX_VALUE, 0);
+
+    // ITERATION BODY
+    DataSet<Tuple1<GradoopId>> reached = iteration.getWorkset()
+      .join(neighbors)
+      .where(0).equalTo(0) // vertexId == vertexId
+      .projectSecond(1);
+
+    DataSet<Tuple1<GradoopId>> newlyReached = reached
+      .coGroup(iteration.getSolutionSet())
+      .where(0).equalTo(0)
+      .with(new NewlyReachedVertices());
+
+    // ITERATION FOOTER
+    return iteration.closeWith(newlyReached, newlyReached);
+  }
+
+  /**
+   * Checks that the query can be handled incrementally.
+   */
+  private void checkQuery() {
+    if (getQueryHandler().isSingleVertexGraph()) {
+      throw new UnsupportedOperationException(
+        "Incremental dual simulation requires a query with edges");
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+/**
+ * Extracts the source and target vertex id of an edge.
+ *
+ * edge -> (sourceId),(targetId)
+ */
+public class EdgeEndpoints implements FlatMapFunction<Edge, Tuple1<GradoopId>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple1<GradoopId> reuseTuple;
+
+  /**
+   * Constructor
+   */
+  public EdgeEndpoints() {
+    reuseTuple = new Tuple1<>();
+  }
+
+  @Override
+  public void flatMap(Edge edge, Collector<Tuple1<GradoopId>> collector) throws Exception {
+    reuseTuple.f0 = edge.getSourceId();
+    collector.collect(reuseTuple);
+    reuseTuple.f0 = edge.getTargetId();
+    collector.collect(reuseTuple);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.Iterator;
+
+/**
+ * Emits a reached vertex id once, if it has not been reached before.
+ *
+ * [(vertexId)],[(vertexId)] -> (vertexId)
+ */
+public class NewlyReachedVertices implements
+  CoGroupFunction<Tuple1<GradoopId>, Tuple1<GradoopId>, Tuple1<GradoopId>> {
+
+  @Override
+  public void coGroup(Iterable<Tuple1<GradoopId>> reached,
+    Iterable<Tuple1<GradoopId>> reachedBefore, Collector<Tuple1<GradoopId>> collector) throws
+    Exception {
+    Iterator<Tuple1<GradoopId>> iterator = reached.iterator();
+    if (iterator.hasNext() && !reachedBefore.iterator().hasNext()) {
+      collector.collect(iterator.next());
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
+
+/**
+ * Forwards a {@link FatVertex} of a previous simulation result, if it is not affected by a graph
+ * update (i.e. there is no matching affected vertex id).
+ *
+ * fatVertex,(vertexId)|null -> fatVertex
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("*->*")
+public class UnaffectedFatVertices implements
+  FlatJoinFunction<FatVertex, Tuple1<GradoopId>, FatVertex> {
+
+  @Override
+  public void join(FatVertex fatVertex, Tuple1<GradoopId> affectedId,
+    Collector<FatVertex> collector) throws Exception {
+    if (affectedId == null) {
+      collector.collect(fatVertex);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.TripleWithCandidates;
+
+/**
+ * Emits the vertices of a triple as neighbors of each other, ignoring the edge direction.
+ *
+ * triple -> (sourceId,targetId),(targetId,sourceId)
+ */
+public class UndirectedNeighbors implements
+  FlatMapFunction<TripleWithCandidates<GradoopId>, Tuple2<GradoopId, GradoopId>> {
+
+  /**
+   * Reduce instantiations
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * Constructor
+   */
+  public UndirectedNeighbors() {
+    reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void flatMap(TripleWithCandidates<GradoopId> triple,
+    Collector<Tuple2<GradoopId, GradoopId>> collector) throws Exception {
+    reuseTuple.f0 = triple.getSourceId();
+    reuseTuple.f1 = triple.getTargetId();
+    collector.collect(reuseTuple);
+    reuseTuple.f0 = triple.getTargetId();
+    reuseTuple.f1 = triple.getSourceId();
+    collector.collect(reuseTuple);
+  }
+}
@@ -0,0 +1,559 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.transactional.algorithm;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.IdWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.TripleWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.transactional.tuples.GraphWithCandidates;
+import org.s1ck.gdl.model.Edge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A depth-first pattern matching algorithm that is optimized for large numbers of small graphs.
+ *
+ * Each graph transaction is mapped to dense int indexes for its vertices and edges. The
+ * adjacency of the graph is stored in CSR (compressed sparse row) arrays for outgoing and
+ * incoming edges, and the candidates of each query vertex are stored as a bitset. All arrays are
+ * reused across transactions, so matching a transaction creates no objects apart from the
+ * resulting embeddings.
+ *
+ * Query vertices are matched in the order of their candidate counts, starting with the query
+ * vertex with the fewest candidates and continuing with connected query vertices. Whenever a
+ * vertex is matched, all query edges to already matched vertices are matched as well. Like
+ * {@link DepthSearchMatching}, the algorithm computes isomorphic embeddings.
+ */
+public class IndexedDepthSearchMatching implements PatternMatchingAlgorithm {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Marks an unmapped vertex or an edge whose endpoints are not part of the graph
+   */
+  private static final int NONE = -1;
+
+  // query state, updated only if the query changes
+
+  /**
+   * Query the state has been built for
+   */
+  private transient String query;
+  /**
+   * Number of query vertices
+   */
+  private transient int queryVertexCount;
+  /**
+   * Number of query edges
+   */
+  private transient int queryEdgeCount;
+  /**
+   * query edge id -> query source vertex id
+   */
+  private transient int[] querySources;
+  /**
+   * query edge id -> query target vertex id
+   */
+  private transient int[] queryTargets;
+
+  // transaction state, reused across transactions
+
+  /**
+   * Number of vertices in the current graph
+   */
+  private transient int vertexCount;
+  /**
+   * Number of edges in the current graph
+   */
+  private transient int edgeCount;
+  /**
+   * vertex index -> vertex id
+   */
+  private transient GradoopId[] vertexIds;
+  /**
+   * edge index -> edge id
+   */
+  private transient GradoopId[] edgeIds;
+  /**
+   * edge index -> source vertex index
+   */
+  private transient int[] edgeSources;
+  /**
+   * edge index -> target vertex index
+   */
+  private transient int[] edgeTargets;
+  /**
+   * edge index -> query edge candidates
+   */
+  private transient boolean[][] edgeCandidates;
+  /**
+   * query vertex id -> bitset of candidate vertex indexes
+   */
+  private transient long[][] vertexCandidates;
+  /**
+   * query vertex id -> number of candidate vertices
+   */
+  private transient int[] candidateCounts;
+  /**
+   * vertex index -> offset of its outgoing edges in {@link #outEdges}
+   */
+  private transient int[] outOffsets;
+  /**
+   * Edge indexes sorted by source vertex index
+   */
+  private transient int[] outEdges;
+  /**
+   * vertex index -> offset of its incoming edges in {@link #inEdges}
+   */
+  private transient int[] inOffsets;
+  /**
+   * Edge indexes sorted by target vertex index
+   */
+  private transient int[] inEdges;
+  /**
+   * Insert positions used while building the CSR arrays
+   */
+  private transient int[] positions;
+  /**
+   * Open addressing hash table: slot -> vertex id
+   */
+  private transient GradoopId[] idTable;
+  /**
+   * Open addressing hash table: slot -> vertex index
+   */
+  private transient int[] indexTable;
+  /**
+   * vertex index -> slot in the hash table
+   */
+  private transient int[] vertexSlots;
+
+  // search state
+
+  /**
+   * step -> query vertex id
+   */
+  private transient int[] plan;
+  /**
+   * step -> offset of the query edges matched in that step in {@link #stepEdges}
+   */
+  private transient int[] stepEdgeOffsets;
+  /**
+   * Query edge ids ordered by the step they are matched in
+   */
+  private transient int[] stepEdges;
+  /**
+   * query vertex id -> matched vertex index
+   */
+  private transient int[] vertexMapping;
+  /**
+   * query edge id -> matched edge index
+   */
+  private transient int[] edgeMapping;
+  /**
+   * vertex index -> true, if the vertex is part of the current embedding
+   */
+  private transient boolean[] usedVertices;
+  /**
+   * edge index -> true, if the edge is part of the current embedding
+   */
+  private transient boolean[] usedEdges;
+  /**
+   * Collects the embeddings found, {@code null} if the search stops at the first embedding
+   */
+  private transient List<Embedding<GradoopId>> results;
+
+  @Override
+  public Boolean hasEmbedding(GraphWithCandidates graph, String query) {
+    results = null;
+    return prepare(graph, query) && matchVertex(0);
+  }
+
+  @Override
+  public List<Embedding<GradoopId>> findEmbeddings(GraphWithCandidates graph, String query) {
+    results = new ArrayList<>();
+    if (prepare(graph, query)) {
+      matchVertex(0);
+    }
+    return results;
+  }
+
+  /**
+   * Initializes the query and transaction state.
+   *
+   * @param graph graph with candidates
+   * @param query query string
+   * @return false, if there is a query vertex without candidates
+   */
+  private boolean prepare(GraphWithCandidates graph, String query) {
+    if (!query.equals(this.query)) {
+      initQuery(query);
+    }
+    indexGraph(graph);
+    for (int q = 0; q < queryVertexCount; q++) {
+      if (candidateCounts[q] == 0) {
+        return false;
+      }
+    }
+    buildPlan();
+    Arrays.fill(vertexMapping, NONE);
+    Arrays.fill(edgeMapping, NONE);
+    Arrays.fill(usedVertices, 0, vertexCount, false);
+    Arrays.fill(usedEdges, 0, edgeCount, false);
+    return true;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Search
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Matches the query vertex of the specified step and continues with its query edges.
+   *
+   * @param step current step
+   * @return true, if the search shall stop
+   */
+  private boolean matchVertex(int step) {
+    if (step == queryVertexCount) {
+      return emit();
+    }
+    int queryVertex = plan[step];
+    long[] candidates = vertexCandidates[queryVertex];
+    int words = getWordCount(vertexCount);
+
+    for (int w = 0; w < words; w++) {
+      long word = candidates[w];
+      while (word != 0L) {
+        int vertex = (w << 6) + Long.numberOfTrailingZeros(word);
+        word &= word - 1;
+        if (!usedVertices[vertex]) {
+          usedVertices[vertex] = true;
+          vertexMapping[queryVertex] = vertex;
+          if (matchEdge(step, stepEdgeOffsets[step])) {
+            return true;
+          }
+          vertexMapping[queryVertex] = NONE;
+          usedVertices[vertex] = false;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Matches the query edge at the specified position of the step edges. Both query vertices of
+   * the edge are already matched.
+   *
+   * @param step current step
+   * @param position position in {@link #stepEdges}
+   * @return true, if the search shall stop
+   */
+  private boolean matchEdge(int step, int position) {
+    if (position == stepEdgeOffsets[step + 1]) {
+      return matchVertex(step + 1);
+    }
+    int queryEdge = stepEdges[position];
+    int source = vertexMapping[querySources[queryEdge]];
+    int target = vertexMapping[queryTargets[queryEdge]];
+
+    // scan the smaller adjacency list
+    boolean outgoing = outOffsets[source + 1] - outOffsets[source] <=
+      inOffsets[target + 1] - inOffsets[target];
+    int[] offsets = outgoing ? outOffsets : inOffsets;
+    int[] adjacentEdges = outgoing ? outEdges : inEdges;
+    int vertex = outgoing ? source : target;
+
+    for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+      int edge = adjacentEdges[i];
+      if (!usedEdges[edge] && edgeSources[edge] == source && edgeTargets[edge] == target &&
+        edgeCandidates[edge][queryEdge]) {
+        usedEdges[edge] = true;
+        edgeMapping[queryEdge] = edge;
+        if (matchEdge(step, position + 1)) {
+          return true;
+        }
+        edgeMapping[queryEdge] = NONE;
+        usedEdges[edge] = false;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Handles a complete embedding.
+   *
+   * @return true, if the search shall stop
+   */
+  private boolean emit() {
+    if (results == null) {
+      return true;
+    }
+    GradoopId[] vertexMappingIds = new GradoopId[queryVertexCount];
+    for (int q = 0; q < queryVertexCount; q++) {
+      vertexMappingIds[q] = vertexIds[vertexMapping[q]];
+    }
+    GradoopId[] edgeMappingIds = new GradoopId[queryEdgeCount];
+    for (int q = 0; q < queryEdgeCount; q++) {
+      edgeMappingIds[q] = edgeIds[edgeMapping[q]];
+    }
+    Embedding<GradoopId> embedding = new Embedding<>();
+    embedding.setVertexMapping(vertexMappingIds);
+    embedding.setEdgeMapping(edgeMappingIds);
+    results.add(embedding);
+    return false;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Planning
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Orders the query vertices by their candidate counts while preferring query vertices that are
+   * connected to already planned ones. Each query edge is assigned to the step in which its second
+   * query vertex is matched.
+   */
+  private void buildPlan() {
+    // vertexMapping temporarily stores the step of each planned query vertex
+    int[] stepOf = vertexMapping;
+    Arrays.fill(stepOf, NONE);
+
+    for (int step = 0; step < queryVertexCount; step++) {
+      int next = NONE;
+      boolean nextConnected = false;
+      for (int q = 0; q < queryVertexCount; q++) {
+        if (stepOf[q] != NONE) {
+          continue;
+        }
+        boolean connected = isConnectedToPlan(q, stepOf);
+        if (next == NONE || (connected && !nextConnected) ||
+          (connected == nextConnected && candidateCounts[q] < candidateCounts[next])) {
+          next = q;
+          nextConnected = connected;
+        }
+      }
+      plan[step] = next;
+      stepOf[next] = step;
+    }
+
+    int position = 0;
+    for (int step = 0; step < queryVertexCount; step++) {
+      stepEdgeOffsets[step] = position;
+      for (int e = 0; e < queryEdgeCount; e++) {
+        if (Math.max(stepOf[querySources[e]], stepOf[queryTargets[e]]) == step) {
+          stepEdges[position++] = e;
+        }
+      }
+    }
+    stepEdgeOffsets[queryVertexCount] = position;
+  }
+
+  /**
+   * Checks if the query vertex is adjacent to an already planned query vertex.
+   *
+   * @param queryVertex query vertex id
+   * @param stepOf query vertex id -> step or {@link #NONE}
+   * @return true, iff the query vertex is connected to the plan
+   */
+  private boolean isConnectedToPlan(int queryVertex, int[] stepOf) {
+    for (int e = 0; e < queryEdgeCount; e++) {
+      if ((querySources[e] == queryVertex && stepOf[queryTargets[e]] != NONE) ||
+        (queryTargets[e] == queryVertex && stepOf[querySources[e]] != NONE)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Initialization
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Initializes the query dependent state.
+   *
+   * @param query query string
+   */
+  private void initQuery(String query) {
+    QueryHandler handler = new QueryHandler(query);
+    this.query = query;
+    this.queryVertexCount = handler.getVertexCount();
+    this.queryEdgeCount = handler.getEdgeCount();
+    this.querySources = new int[queryEdgeCount];
+    this.queryTargets = new int[queryEdgeCount];
+    for (Edge edge : handler.getEdges()) {
+      querySources[(int) edge.getId()] = (int) edge.getSourceVertexId();
+      queryTargets[(int) edge.getId()] = (int) edge.getTargetVertexId();
+    }
+    this.plan = new int[queryVertexCount];
+    this.stepEdgeOffsets = new int[queryVertexCount + 1];
+    this.stepEdges = new int[queryEdgeCount];
+    this.vertexMapping = new int[queryVertexCount];
+    this.edgeMapping = new int[queryEdgeCount];
+    this.candidateCounts = new int[queryVertexCount];
+    this.vertexCandidates = new long[queryVertexCount][];
+  }
+
+  /**
+   * Maps the vertices and edges of the graph to dense indexes and builds the candidate bitsets
+   * and the CSR adjacency arrays.
+   *
+   * @param graph graph with candidates
+   */
+  private void indexGraph(GraphWithCandidates graph) {
+    List<IdWithCandidates<GradoopId>> vertices = graph.getVertexCandidates();
+    List<TripleWithCandidates<GradoopId>> edges = graph.getEdgeCandidates();
+    // only the slots of the previous graph need to be cleared
+    for (int v = 0; v < vertexCount; v++) {
+      idTable[vertexSlots[v]] = null;
+    }
+    vertexCount = vertices.size();
+    edgeCount = edges.size();
+    ensureCapacity();
+
+    // vertices and candidate bitsets
+    int words = getWordCount(vertexCount);
+    for (int q = 0; q < queryVertexCount; q++) {
+      Arrays.fill(vertexCandidates[q], 0, words, 0L);
+      candidateCounts[q] = 0;
+    }
+    for (int v = 0; v < vertexCount; v++) {
+      IdWithCandidates<GradoopId> vertex = vertices.get(v);
+      vertexIds[v] = vertex.getId();
+      vertexSlots[v] = putIndex(vertex.getId(), v);
+      boolean[] candidates = vertex.getCandidates();
+      for (int q = 0; q < queryVertexCount; q++) {
+        if (candidates[q]) {
+          vertexCandidates[q][v >>> 6] |= 1L << v;
+          candidateCounts[q]++;
+        }
+      }
+    }
+
+    // edges and CSR adjacency
+    Arrays.fill(outOffsets, 0, vertexCount + 1, 0);
+    Arrays.fill(inOffsets, 0, vertexCount + 1, 0);
+    for (int e = 0; e < edgeCount; e++) {
+      TripleWithCandidates<GradoopId> edge = edges.get(e);
+      edgeIds[e] = edge.getEdgeId();
+      edgeSources[e] = getIndex(edge.getSourceId());
+      edgeTargets[e] = getIndex(edge.getTargetId());
+      edgeCandidates[e] = edge.getCandidates();
+      if (edgeSources[e] != NONE && edgeTargets[e] != NONE) {
+        outOffsets[edgeSources[e] + 1]++;
+        inOffsets[edgeTargets[e] + 1]++;
+      }
+    }
+    for (int v = 0; v < vertexCount; v++) {
+      outOffsets[v + 1] += outOffsets[v];
+      inOffsets[v + 1] += inOffsets[v];
+    }
+    System.arraycopy(outOffsets, 0, positions, 0, vertexCount);
+    for (int e = 0; e < edgeCount; e++) {
+      if (edgeSources[e] != NONE && edgeTargets[e] != NONE) {
+        outEdges[positions[edgeSources[e]]++] = e;
+      }
+    }
+    System.arraycopy(inOffsets, 0, positions, 0, vertexCount);
+    for (int e = 0; e < edgeCount; e++) {
+      if (edgeSources[e] != NONE && edgeTargets[e] != NONE) {
+        inEdges[positions[edgeTargets[e]]++] = e;
+      }
+    }
+  }
+
+  /**
+   * Grows the transaction dependent arrays if the current graph does not fit.
+   */
+  private void ensureCapacity() {
+    int words = getWordCount(vertexCount);
+    if (vertexIds == null || vertexIds.length < vertexCount) {
+      int capacity = Math.max(vertexCount, 16);
+      vertexIds = new GradoopId[capacity];
+      usedVertices = new boolean[capacity];
+      positions = new int[capacity];
+      outOffsets = new int[capacity + 1];
+      inOffsets = new int[capacity + 1];
+      idTable = new GradoopId[Integer.highestOneBit(capacity) << 2];
+      indexTable = new int[idTable.length];
+      vertexSlots = new int[capacity];
+    }
+    for (int q = 0; q < queryVertexCount; q++) {
+      if (vertexCandidates[q] == null || vertexCandidates[q].length < words) {
+        vertexCandidates[q] = new long[getWordCount(vertexIds.length)];
+      }
+    }
+    if (edgeIds == null || edgeIds.length < edgeCount) {
+      int capacity = Math.max(edgeCount, 16);
+      edgeIds = new GradoopId[capacity];
+      edgeSources = new int[capacity];
+      edgeTargets = new int[capacity];
+      edgeCandidates = new boolean[capacity][];
+      usedEdges = new boolean[capacity];
+      outEdges = new int[capacity];
+      inEdges = new int[capacity];
+    }
+  }
+
+  /**
+   * Stores the index of the specified vertex id.
+   *
+   * @param id vertex id
+   * @param index vertex index
+   * @return slot of the vertex id in the hash table
+   */
+  private int putIndex(GradoopId id, int index) {
+    int mask = idTable.length - 1;
+    int slot = id.hashCode() & mask;
+    while (idTable[slot] != null && !idTable[slot].equals(id)) {
+      slot = (slot + 1) & mask;
+    }
+    idTable[slot] = id;
+    indexTable[slot] = index;
+    return slot;
+  }
+
+  /**
+   * Returns the index of the specified vertex id.
+   *
+   * @param id vertex id
+   * @return vertex index or {@link #NONE} if the vertex is not part of the graph
+   */
+  private int getIndex(GradoopId id) {
+    int mask = idTable.length - 1;
+    int slot = id.hashCode() & mask;
+    while (idTable[slot] != null) {
+      if (idTable[slot].equals(id)) {
+        return indexTable[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return NONE;
+  }
+
+  /**
+   * Returns the number of 64 bit words needed to store a bitset of the given size.
+   *
+   * @param bits number of bits
+   * @return number of words
+   */
+  private static int getWordCount(int bits) {
+    return (bits + 63) >>> 6;
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.persistence;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.io.TypeSerializerInputFormat;
+import org.apache.flink.api.java.io.TypeSerializerOutputFormat;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.impl.binary.BinaryDataSink;
+import org.gradoop.flink.io.impl.binary.BinaryDataSource;
+import org.gradoop.flink.model.api.epgm.GraphBaseOperators;
+import org.gradoop.flink.model.api.operators.UnaryBaseGraphToBaseGraphOperator;
+import org.gradoop.flink.model.api.operators.UnaryCollectionToCollectionOperator;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Materializes a logical graph or graph collection and returns an equal graph or collection that
+ * reads the materialized data.
+ * <p>
+ * Flink re-executes the whole lineage of a dataset for each job that uses it. Persisting an
+ * intermediate result executes its lineage once and lets subsequent jobs, e.g. iterations of an
+ * analysis calling {@code collect()} or {@code count()}, start from the written files.
+ * <p>
+ * The operator is eager: the execution environment is executed when the operator is called.
+ * Note, that this also executes all other sinks defined in the environment so far. The written
+ * files are kept until {@link #unpersist(GraphBaseOperators)} is called for the returned graph
+ * or collection.
+ * <p>
+ * By default, the data is written to the temporary directory of the local file system, which
+ * is only suitable for local execution. On a cluster, a directory that is accessible by all
+ * task managers, e.g. on HDFS, has to be provided.
+ */
+public class Persist implements UnaryBaseGraphToBaseGraphOperator<LogicalGraph>,
+  UnaryCollectionToCollectionOperator {
+  /**
+   * File containing the graph heads.
+   */
+  private static final String GRAPH_HEADS = "graphs";
+  /**
+   * File containing the vertices.
+   */
+  private static final String VERTICES = "vertices";
+  /**
+   * File containing the edges.
+   */
+  private static final String EDGES = "edges";
+  /**
+   * Paths of the graphs and collections returned by persist operators.
+   */
+  private static final Map<GraphBaseOperators, Path> PERSISTED_PATHS =
+    Collections.synchronizedMap(new WeakHashMap<>());
+  /**
+   * Storage format.
+   */
+  private final PersistenceLevel level;
+  /**
+   * Directory that contains the persisted graphs.
+   */
+  private final String directory;
+
+  /**
+   * Creates a new operator writing to the temporary directory of the local file system.
+   *
+   * @param level storage format
+   */
+  public Persist(PersistenceLevel level) {
+    this(level, new File(System.getProperty("java.io.tmpdir")).toURI().toString());
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param level storage format
+   * @param directory directory to write to, each call creates a new subdirectory
+   */
+  public Persist(PersistenceLevel level, String directory) {
+    if (level == null) {
+      throw new IllegalArgumentException("Persistence level must not be null.");
+    }
+    if (directory == null) {
+      throw new IllegalArgumentException("Directory must not be null.");
+    }
+    this.level = level;
+    this.directory = directory;
+  }
+
+  @Override
+  public LogicalGraph execute(LogicalGraph graph) {
+    GradoopFlinkConfig config = graph.getConfig();
+    Path path = createPath();
+    LogicalGraph persisted;
+    try {
+      if (level == PersistenceLevel.COMPACT) {
+        new BinaryDataSink(path.toString(), config).write(graph, true);
+        executeJob(config.getExecutionEnvironment());
+        // read the collection to keep the persisted graph head
+        GraphCollection collection =
+          new BinaryDataSource(path.toString(), config).getGraphCollection();
+        persisted = config.getLogicalGraphFactory().fromDataSets(
+          collection.getGraphHeads(), collection.getVertices(), collection.getEdges());
+      } else {
+        write(graph.getGraphHead(), path, GRAPH_HEADS);
+        write(graph.getVertices(), path, VERTICES);
+        write(graph.getEdges(), path, EDGES);
+        executeJob(config.getExecutionEnvironment());
+        persisted = config.getLogicalGraphFactory().fromDataSets(
+          read(graph.getGraphHead(), path, GRAPH_HEADS),
+          read(graph.getVertices(), path, VERTICES),
+          read(graph.getEdges(), path, EDGES));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    PERSISTED_PATHS.put(persisted, path);
+    return persisted;
+  }
+
+  @Override
+  public GraphCollection execute(GraphCollection collection) {
+    GradoopFlinkConfig config = collection.getConfig();
+    Path path = createPath();
+    GraphCollection persisted;
+    try {
+      if (level == PersistenceLevel.COMPACT) {
+        new BinaryDataSink(path.toString(), config).write(collection, true);
+        executeJob(config.getExecutionEnvironment());
+        persisted = new BinaryDataSource(path.toString(), config).getGraphCollection();
+      } else {
+        write(collection.getGraphHeads(), path, GRAPH_HEADS);
+        write(collection.getVertices(), path, VERTICES);
+        write(collection.getEdges(), path, EDGES);
+        executeJob(config.getExecutionEnvironment());
+        persisted = config.getGraphCollectionFactory().fromDataSets(
+          read(collection.getGraphHeads(), path, GRAPH_HEADS),
+          read(collection.getVertices(), path, VERTICES),
+          read(collection.getEdges(), path, EDGES));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    PERSISTED_PATHS.put(persisted, path);
+    return persisted;
+  }
+
+  /**
+   * Removes the files of a graph or collection returned by a persist operator. The graph or
+   * collection must not be used afterwards. Does nothing if the graph or collection was not
+   * returned by a persist operator or has already been unpersisted.
+   *
+   * @param graph persisted graph or collection
+   * @throws IOException if the files cannot be removed
+   */
+  public static void unpersist(GraphBaseOperators graph) throws IOException {
+    Path path = PERSISTED_PATHS.remove(graph);
+    if (path != null) {
+      path.getFileSystem().delete(path, true);
+    }
+  }
+
+  /**
+   * Creates a new subdirectory of the persistence directory.
+   *
+   * @return path of the subdirectory
+   */
+  private Path createPath() {
+    return new Path(directory, "gradoop-persist-" + UUID.randomUUID());
+  }
+
+  /**
+   * Executes the job writing the persisted data.
+   *
+   * @param env execution environment
+   * @throws IOException if the job fails
+   */
+  private void executeJob(ExecutionEnvironment env) throws IOException {
+    try {
+      env.execute("Persist intermediate result");
+    } catch (Exception e) {
+      throw new IOException("Cannot persist intermediate result", e);
+    }
+  }
+
+  /**
+   * Writes the elements of a dataset using their type serializer.
+   *
+   * @param elements elements to write
+   * @param path path of the persisted graph or collection
+   * @param name file name of the elements
+   * @param <T> element type
+   */
+  private <T> void write(DataSet<T> elements, Path path, String name) {
+    TypeSerializerOutputFormat<T> outputFormat = new TypeSerializerOutputFormat<>();
+    outputFormat.setInputType(elements.getType(), elements.getExecutionEnvironment().getConfig());
+    elements.write(outputFormat, new Path(path, name).toString(), FileSystem.WriteMode.OVERWRITE);
+  }
+
+  /**
+   * Reads elements written by {@link #write(DataSet, Path, String)}.
+   *
+   * @param elements dataset the elements were written from
+   * @param path path of the persisted graph or collection
+   * @param name file name of the elements
+   * @param <T> element type
+   * @return dataset reading the written elements
+   */
+  private <T> DataSet<T> read(DataSet<T> elements, Path path, String name) {
+    TypeInformation<T> type = elements.getType();
+    TypeSerializerInputFormat<T> inputFormat = new TypeSerializerInputFormat<>(type);
+    inputFormat.setFilePath(new Path(path, name));
+    return elements.getExecutionEnvironment().createInput(inputFormat, type);
+  }
+}
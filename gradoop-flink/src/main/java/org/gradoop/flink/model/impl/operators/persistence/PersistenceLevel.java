@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.persistence;
+
+/**
+ * Storage formats used by {@link Persist} to materialize graphs.
+ */
+public enum PersistenceLevel {
+  /**
+   * Elements are stored using their Flink type serializers. Writing and reading requires no
+   * conversion, which makes this the fastest level. The files can only be read by the program
+   * that wrote them.
+   */
+  SERIALIZED,
+  /**
+   * Elements are stored in the columnar binary format of
+   * {@link org.gradoop.flink.io.impl.binary.BinaryDataSink}. Labels and property keys are
+   * dictionary encoded, which reduces the size of the files at the cost of conversion.
+   */
+  COMPACT
+}
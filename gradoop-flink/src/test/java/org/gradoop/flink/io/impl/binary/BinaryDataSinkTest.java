@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import com.google.common.collect.Sets;
+import org.apache.hadoop.conf.Configuration;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the binary data sink and data source.
+ */
+public class BinaryDataSinkTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Test writing and reading a graph collection.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWrite() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    GraphCollection input = getSocialNetworkLoader().getGraphCollection();
+
+    checkBinaryWrite(tmpPath, input, BinaryConstants.DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Test writing and reading a logical graph using blocks of a single element.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteWithSmallBlocks() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+
+    checkBinaryWrite(tmpPath,
+      input.getConfig().getGraphCollectionFactory().fromGraph(input), 1);
+  }
+
+  /**
+   * Test writing and reading a graph with different property types for the same key and
+   * elements without labels.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteWithDifferentPropertyTypes() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g:graph1[" +
+        "(v1:A {keya:1, keyb:2, keyc:\"Foo\"})," +
+        "(v2:A {keya:1.2f, keyb:\"Bar\", keyc:2.3f})," +
+        "(v3:A {keya:\"Bar\", keyb:true})," +
+        "(v4 {keya:2L})," +
+        "(v1)-[e1:a {keya:14, keyb:3, keyc:\"Foo\"}]->(v1)," +
+        "(v1)-[e2:a {keya:1.1f, keyb:\"Bar\", keyc:2.5f}]->(v1)," +
+        "(v1)-[e3 {keya:true, keyb:3.13f}]->(v4)" +
+        "]");
+
+    checkBinaryWrite(tmpPath, loader.getGraphCollectionByVariables("g"), 2);
+  }
+
+  /**
+   * Test reading only selected labels and property keys.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testReadSelection() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+    new BinaryDataSink(tmpPath, getConfig()).write(input, true);
+    getExecutionEnvironment().execute();
+
+    DataSource source = new BinaryDataSource(tmpPath, Sets.newHashSet("Person", "knows"),
+      Sets.newHashSet("name"), getConfig(), new Configuration());
+    LogicalGraph output = source.getLogicalGraph();
+
+    List<Vertex> vertices = output.getVertices().collect();
+    List<Edge> edges = output.getEdges().collect();
+
+    assertEquals(6, vertices.size());
+    for (Vertex vertex : vertices) {
+      assertEquals("Person", vertex.getLabel());
+      assertTrue(vertex.hasProperty("name"));
+      assertFalse(vertex.hasProperty("age"));
+    }
+    assertEquals(10, edges.size());
+    for (Edge edge : edges) {
+      assertEquals("knows", edge.getLabel());
+      assertEquals(0, edge.getPropertyCount());
+    }
+  }
+
+  /**
+   * Test reading only vertices matching a property filter.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testReadFiltered() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+    new BinaryDataSink(tmpPath, 2, getConfig()).write(input, true);
+    getExecutionEnvironment().execute();
+
+    DataSource source = new BinaryDataSource(tmpPath, Sets.newHashSet("Person", "knows"),
+      Sets.newHashSet("name"), Collections.singletonMap("age", PropertyValue.create(35)), null,
+      getConfig(), new Configuration());
+    LogicalGraph output = source.getLogicalGraph();
+
+    List<Vertex> vertices = output.getVertices().collect();
+    Set<String> names = vertices.stream()
+      .map(vertex -> vertex.getPropertyValue("name").getString())
+      .collect(Collectors.toSet());
+
+    assertEquals(Sets.newHashSet("Eve", "Frank"), names);
+    // the filtered property is not selected
+    for (Vertex vertex : vertices) {
+      assertFalse(vertex.hasProperty("age"));
+    }
+    assertEquals(10, output.getEdges().count());
+  }
+
+  /**
+   * Test writing and reading the given graph collection to and from the binary format.
+   *
+   * @param tmpPath   path to write to
+   * @param input     graph collection
+   * @param blockSize maximum number of elements per block
+   * @throws Exception if the execution or IO fails.
+   */
+  private void checkBinaryWrite(String tmpPath, GraphCollection input, int blockSize)
+    throws Exception {
+    DataSink sink = new BinaryDataSink(tmpPath, blockSize, getConfig());
+    sink.write(input, true);
+    getExecutionEnvironment().execute();
+
+    DataSource source = new BinaryDataSource(tmpPath, getConfig());
+    GraphCollection output = source.getGraphCollection();
+
+    collectAndAssertTrue(input.equalsByGraphElementData(output));
+    collectAndAssertTrue(input.equalsByGraphIds(output));
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.block;
+
+import com.google.common.collect.Sets;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests encoding and decoding of column blocks.
+ */
+public class ElementBlockTest {
+
+  /**
+   * Property key dictionary used by all tests.
+   */
+  private static final String[] KEYS = {"a", "b", "c"};
+
+  /**
+   * Test that all ids and properties survive a round trip and that the blocks are read in order.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testRoundTrip() throws Exception {
+    Edge[] edges = createEdges();
+    DataInputStream in = writeBlocks(edges, 2);
+
+    ElementBlockReader reader = new ElementBlockReader(KEYS, null);
+    int position = 0;
+    for (ElementBlock block = reader.read(in); block != null; block = reader.read(in)) {
+      for (int row = 0; row < block.size(); row++) {
+        Edge edge = edges[position++];
+        assertEquals(edge.getId(), block.getId(row));
+        assertEquals(edge.getSourceId(), block.getSourceId(row));
+        assertEquals(edge.getTargetId(), block.getTargetId(row));
+        assertEquals(edge.getGraphIds(), block.getGraphIds(row));
+        assertEquals(edge.getProperties(), block.getProperties(row));
+      }
+    }
+    assertEquals(edges.length, position);
+  }
+
+  /**
+   * Test that unselected columns are skipped and that the column bounds are stored.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testColumnSelectionAndBounds() throws Exception {
+    DataInputStream in = writeBlocks(createEdges(), 3);
+
+    ElementBlock block = new ElementBlockReader(KEYS, Sets.newHashSet("a", "b")).read(in);
+
+    assertEquals(3, block.size());
+    for (int row = 0; row < block.size(); row++) {
+      assertFalse(block.getProperties(row).containsKey("c"));
+    }
+    assertNull(block.getStatistics("c"));
+
+    ColumnStatistics a = block.getStatistics("a");
+    assertTrue(a.hasBounds());
+    assertEquals(PropertyValue.create(1), a.getMin());
+    assertEquals(PropertyValue.create(3), a.getMax());
+    assertTrue(a.mayContain(PropertyValue.create(2)));
+    assertFalse(a.mayContain(PropertyValue.create(4)));
+
+    // column b contains values of different types
+    assertFalse(block.getStatistics("b").hasBounds());
+    assertTrue(block.getStatistics("b").mayContain(PropertyValue.create(42)));
+  }
+
+  /**
+   * Test that blocks whose bounds exclude a filtered value are skipped.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testPropertyFilter() throws Exception {
+    DataInputStream in = writeBlocks(createEdges(), 3);
+
+    ElementBlockReader reader = new ElementBlockReader(KEYS, Sets.newHashSet("b"),
+      Collections.singletonMap("a", PropertyValue.create(4)));
+
+    // the first block contains a values from 1 to 3
+    assertEquals(0, reader.read(in).size());
+
+    // the filtered column is decoded even if it is not selected
+    ElementBlock block = reader.read(in);
+    assertEquals(2, block.size());
+    assertEquals(PropertyValue.create(4), block.getProperties(0).get("a"));
+    assertNull(reader.read(in));
+
+    // no block contains a column for the filtered key
+    in = writeBlocks(createEdges(), 3);
+    reader = new ElementBlockReader(KEYS, null,
+      Collections.singletonMap("d", PropertyValue.create(4)));
+    assertEquals(0, reader.read(in).size());
+    assertEquals(0, reader.read(in).size());
+    assertNull(reader.read(in));
+  }
+
+  /**
+   * Encodes the given edges into blocks.
+   *
+   * @param edges     edges to encode
+   * @param blockSize maximum number of edges per block
+   * @return input on the encoded blocks
+   * @throws Exception on failure
+   */
+  private DataInputStream writeBlocks(Edge[] edges, int blockSize) throws Exception {
+    ElementBlockWriter writer = new ElementBlockWriter(KEYS, blockSize);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (Edge edge : edges) {
+      writer.add(edge);
+      if (writer.isFull()) {
+        out.write(writer.flush());
+      }
+    }
+    if (writer.size() > 0) {
+      out.write(writer.flush());
+    }
+    return new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+  }
+
+  /**
+   * Creates the edges used by the tests.
+   *
+   * @return edges with sparse properties of mixed types
+   */
+  private Edge[] createEdges() {
+    EdgeFactory factory = new EdgeFactory();
+    GradoopIdSet graphIds = GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get());
+    Properties[] properties = new Properties[5];
+    for (int i = 0; i < properties.length; i++) {
+      properties[i] = Properties.create();
+      properties[i].set("a", i + 1);
+    }
+    properties[0].set("b", "foo");
+    properties[1].set("b", 2L);
+    properties[2].set("c", Arrays.asList(PropertyValue.create(1), PropertyValue.create("x")));
+    properties[4].set("c", true);
+
+    Edge[] edges = new Edge[properties.length];
+    for (int i = 0; i < edges.length; i++) {
+      edges[i] = factory.initEdge(GradoopId.get(), "e", GradoopId.get(), GradoopId.get(),
+        properties[i], graphIds);
+    }
+    return edges;
+  }
+}
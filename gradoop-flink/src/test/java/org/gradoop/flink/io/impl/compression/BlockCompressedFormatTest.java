@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.api.java.io.TextOutputFormat;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the block compressed input and output formats.
+ */
+public class BlockCompressedFormatTest {
+
+  /**
+   * Number of written records.
+   */
+  private static final int RECORD_COUNT = 10000;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testSplitRead() throws Exception {
+    String path = temporaryFolder.getRoot().getPath() + "/records";
+    List<String> expected = new ArrayList<>();
+
+    // small blocks to get many block boundaries
+    BlockCompressedOutputFormat<Integer> outputFormat = new BlockCompressedOutputFormat<>(
+      new Path(path), (TextOutputFormat.TextFormatter<Integer>) i -> "record;" + i + ";äö", 1024);
+    outputFormat.setWriteMode(FileSystem.WriteMode.OVERWRITE);
+    outputFormat.configure(new Configuration());
+    outputFormat.open(0, 1);
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      outputFormat.writeRecord(i);
+      expected.add("record;" + i + ";äö");
+    }
+    outputFormat.close();
+
+    BlockCompressedInputFormat inputFormat = new BlockCompressedInputFormat(path);
+    inputFormat.configure(new Configuration());
+    FileInputSplit[] splits = inputFormat.createInputSplits(4);
+    assertTrue(splits.length > 1);
+
+    List<String> actual = new ArrayList<>();
+    for (FileInputSplit split : splits) {
+      inputFormat.open(split);
+      while (!inputFormat.reachedEnd()) {
+        actual.add(inputFormat.nextRecord(null));
+      }
+      inputFormat.close();
+    }
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void testEmptyFile() throws Exception {
+    String path = temporaryFolder.getRoot().getPath() + "/empty";
+
+    BlockCompressedOutputFormat<String> outputFormat =
+      new BlockCompressedOutputFormat<>(new Path(path), s -> s);
+    outputFormat.setWriteMode(FileSystem.WriteMode.OVERWRITE);
+    outputFormat.configure(new Configuration());
+    outputFormat.open(0, 1);
+    outputFormat.close();
+
+    BlockCompressedInputFormat inputFormat = new BlockCompressedInputFormat(path);
+    inputFormat.configure(new Configuration());
+    assertEquals(0, inputFormat.createInputSplits(2).length);
+  }
+}
@@ -67,6 +67,29 @@ public class CSVDataSinkTest extends CSVTestBase {
     checkCSVWrite(tmpPath, graphCollection);
   }
 
+  /**
+   * Test writing and reading a block compressed graph collection.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteCompressed() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    GraphCollection input = getSocialNetworkLoader().getGraphCollection();
+
+    DataSink csvDataSink = new CSVDataSink(tmpPath, null, getConfig(), true);
+    csvDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    DataSource csvDataSource =
+      new CSVDataSource(tmpPath, getConfig(), new Configuration(), true);
+    GraphCollection output = csvDataSource.getGraphCollection();
+
+    collectAndAssertTrue(input.equalsByGraphElementData(output));
+  }
+
   /**
    * Test CSVDataSink to write a graph with different property types
    * using the same label on different elements with the same label.
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.hadoop.conf.Configuration;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.impl.csv.CSVDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataTable;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the byte-level CSV input formats produce the same elements as the line based
+ * {@link CSVLineToElement} functions.
+ */
+public class CSVElementInputFormatTest extends GradoopFlinkTestBase {
+
+  /**
+   * Meta data of the test graph.
+   */
+  private static final String METADATA =
+    "v;A\\;B;s:string,i:int,l:long,b:boolean,d:double,h:short\n" +
+    "v;Person;s:string,i:int,l:long,b:boolean,d:double,h:short\n" +
+    "e;knows;since:int,note:string\n";
+
+  /**
+   * Vertices of the test graph, containing escaped delimiters and special numbers.
+   */
+  private static final String VERTICES =
+    "000000000000000000000000;[000000000000000000000000];A\\;B;" +
+    "x\\|y\\nz\\;|42|-7|true|1.5|3\n" +
+    "00000000000000000000000a;[000000000000000000000000, 00000000000000000000000A];Person;" +
+    "|+5|9223372036854775807|FALSE||-32768\r\n" +
+    "00000000000000000000000b;[000000000000000000000001];Person;ä\\\\ö|||||\n";
+
+  /**
+   * Edges of the test graph.
+   */
+  private static final String EDGES =
+    "000000000000000000000010;[000000000000000000000000];000000000000000000000000;" +
+    "00000000000000000000000a;knows;2019|a\\,b\\=c\n" +
+    "000000000000000000000011;[000000000000000000000000];00000000000000000000000a;" +
+    "00000000000000000000000b;knows;|\n";
+
+  /**
+   * Temporary directory for the test graph.
+   */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Test reading vertices with the byte-level input format.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadVertices() throws Exception {
+    File root = writeGraph();
+    ExecutionEnvironment env = getExecutionEnvironment();
+    String vertexPath = new File(root, "vertices.csv").getPath();
+
+    DataSet<Vertex> expected = env.readTextFile(vertexPath)
+      .map(new CSVLineToVertex(getConfig().getVertexFactory()))
+      .withBroadcastSet(readMetaData(root), CSVDataSource.BC_METADATA);
+    DataSet<Vertex> vertices = env.createInput(new CSVVertexInputFormat(
+      vertexPath, getConfig().getVertexFactory(), readMetaDataTable(root)));
+
+    List<Vertex> expectedVertices = expected.collect();
+    List<Vertex> actualVertices = vertices.collect();
+    validateEPGMElementCollections(expectedVertices, actualVertices);
+    validateEPGMGraphElementCollections(expectedVertices, actualVertices);
+  }
+
+  /**
+   * Test reading edges with the byte-level input format.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadEdges() throws Exception {
+    File root = writeGraph();
+    ExecutionEnvironment env = getExecutionEnvironment();
+    String edgePath = new File(root, "edges.csv").getPath();
+
+    DataSet<Edge> expected = env.readTextFile(edgePath)
+      .map(new CSVLineToEdge(getConfig().getEdgeFactory()))
+      .withBroadcastSet(readMetaData(root), CSVDataSource.BC_METADATA);
+    DataSet<Edge> edges = env.createInput(new CSVEdgeInputFormat(
+      edgePath, getConfig().getEdgeFactory(), readMetaDataTable(root)));
+
+    List<Edge> expectedEdges = expected.collect();
+    List<Edge> actualEdges = edges.collect();
+    validateEPGMElementCollections(expectedEdges, actualEdges);
+    validateEPGMGraphElementCollections(expectedEdges, actualEdges);
+    for (Edge edge : actualEdges) {
+      Edge other = expectedEdges.stream()
+        .filter(e -> e.getId().equals(edge.getId())).findFirst().orElseThrow(AssertionError::new);
+      assertEquals(other.getSourceId(), edge.getSourceId());
+      assertEquals(other.getTargetId(), edge.getTargetId());
+    }
+  }
+
+  /**
+   * Writes the test graph to a temporary directory.
+   *
+   * @return graph directory
+   * @throws IOException if the files cannot be written
+   */
+  private File writeGraph() throws IOException {
+    File root = temporaryFolder.newFolder();
+    for (String[] file : Arrays.asList(
+      new String[] {"metadata.csv", METADATA},
+      new String[] {"vertices.csv", VERTICES},
+      new String[] {"edges.csv", EDGES})) {
+      Files.write(new File(root, file[0]).toPath(), file[1].getBytes(StandardCharsets.UTF_8));
+    }
+    return root;
+  }
+
+  /**
+   * Reads the meta data of the test graph as data set.
+   *
+   * @param root graph directory
+   * @return meta data tuples
+   */
+  private DataSet<Tuple3<String, String, String>> readMetaData(File root) {
+    return new CSVMetaDataSource()
+      .readDistributed(new File(root, "metadata.csv").getPath(), getConfig());
+  }
+
+  /**
+   * Reads the meta data of the test graph locally.
+   *
+   * @param root graph directory
+   * @return parser table
+   * @throws IOException if the file cannot be read
+   */
+  private CSVMetaDataTable readMetaDataTable(File root) throws IOException {
+    return new CSVMetaDataSource()
+      .readLocalTable(new File(root, "metadata.csv").getPath(), new Configuration());
+  }
+}
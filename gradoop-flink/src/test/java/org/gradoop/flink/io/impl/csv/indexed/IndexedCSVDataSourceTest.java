@@ -15,12 +15,24 @@
  */
 package org.gradoop.flink.io.impl.csv.indexed;
 
+import com.google.common.collect.Sets;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.PushdownDataSource;
+import org.gradoop.flink.io.api.predicate.ElementPredicate;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.junit.Test;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Test class for indexed csv data source
@@ -68,6 +80,27 @@ public class IndexedCSVDataSourceTest extends GradoopFlinkTestBase {
     collectAndAssertTrue(input.equalsByElementData(expected));
   }
 
+  /**
+   * Test that a single logical graph keeps the label index of the csv files.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadSingleGraphIndexed() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_indexed");
+
+    DataSource dataSource = new IndexedCSVDataSource(csvPath, getConfig());
+    LogicalGraph input = dataSource.getLogicalGraph();
+
+    assertTrue(input.isIndexedGVELayout());
+    assertEquals(2L, input.getVerticesByLabel("A").count());
+    assertEquals(0L, input.getVerticesByLabel("C").count());
+
+    GraphCollection result = input
+      .query("MATCH (x)-[e:b]->(y) WHERE y.__label__ = \"A\" OR y.__label__ = \"C\"");
+    assertEquals(1L, result.getGraphHeads().count());
+  }
+
   /**
    * Test reading a indexed csv graph collection without edges.
    *
@@ -87,4 +120,75 @@ public class IndexedCSVDataSourceTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(input.equalsByGraphElementData(expected));
   }
+
+  /**
+   * Test that label predicates skip the files of rejected labels.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithLabelPredicate() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_indexed");
+
+    PushdownDataSource dataSource = new IndexedCSVDataSource(csvPath, getConfig())
+      .applyVertexPredicate(ElementPredicate.labelIn("B"))
+      .applyEdgePredicate(ElementPredicate.labelIn("b"));
+    LogicalGraph input = dataSource.getLogicalGraph();
+
+    assertTrue(dataSource.isFilterPushedDown());
+    List<Vertex> vertices = input.getVertices().collect();
+    assertEquals(3, vertices.size());
+    for (Vertex vertex : vertices) {
+      assertEquals("B", vertex.getLabel());
+    }
+    List<Edge> edges = input.getEdges().collect();
+    assertEquals(3, edges.size());
+    for (Edge edge : edges) {
+      assertEquals("b", edge.getLabel());
+    }
+  }
+
+  /**
+   * Test a vertex predicate rejecting all vertex labels.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithRejectingVertexPredicate() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_indexed");
+
+    LogicalGraph input = new IndexedCSVDataSource(csvPath, getConfig())
+      .applyVertexPredicate(ElementPredicate.labelIn("X"))
+      .applyEdgePredicate(ElementPredicate.labelIn("b"))
+      .getLogicalGraph();
+
+    assertEquals(0, input.getVertices().count());
+    assertEquals(3, input.getEdges().count());
+  }
+
+  /**
+   * Test property predicates in combination with a property projection.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithPropertyPredicateAndProjection() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_indexed");
+
+    DataSource dataSource = new IndexedCSVDataSource(csvPath, getConfig())
+      .applyVertexPredicate(ElementPredicate.property("c", Comparator.GT, 1.0d))
+      .applyPropertyProjection(Sets.newHashSet("a"));
+    LogicalGraph input = dataSource.getLogicalGraph();
+
+    List<Vertex> vertices = input.getVertices().collect();
+    assertEquals(4, vertices.size());
+    for (Vertex vertex : vertices) {
+      assertTrue(vertex.hasProperty("a"));
+      assertFalse(vertex.hasProperty("b"));
+      assertFalse(vertex.hasProperty("c"));
+    }
+    for (Edge edge : input.getEdges().collect()) {
+      assertFalse(edge.hasProperty("b"));
+    }
+  }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.metadata;
+
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.InstantiationUtil;
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link CSVMetaDataTable}.
+ */
+public class CSVMetaDataTableTest {
+
+  /**
+   * Test that a serialized table provides the property parsers by position.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testSerializedTable() throws Exception {
+    CSVMetaDataTable table = new CSVMetaDataTable(Arrays.asList(
+      Tuple3.of(MetaDataSource.VERTEX_TYPE, "Person", "name:string,age:int"),
+      Tuple3.of(MetaDataSource.EDGE_TYPE, "knows", "")));
+
+    CSVMetaDataTable copy = InstantiationUtil.deserializeObject(
+      InstantiationUtil.serializeObject(table), getClass().getClassLoader());
+
+    assertEquals(table.getTuples(), copy.getTuples());
+
+    List<PropertyMetaData> properties =
+      copy.getPropertyMetaData(MetaDataSource.VERTEX_TYPE, "Person");
+    assertEquals(2, properties.size());
+    assertEquals("name", properties.get(0).getKey());
+    assertEquals("age", properties.get(1).getKey());
+    assertEquals(42, properties.get(1).getValueParser().apply("42"));
+    assertTrue(copy.getPropertyMetaData(MetaDataSource.EDGE_TYPE, "knows").isEmpty());
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.partitioned;
+
+import org.apache.flink.api.common.functions.RichMapPartitionFunction;
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for a partitioned csv data sink
+ */
+public class PartitionedCSVDataSinkTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWrite() throws Exception {
+    checkWrite(3);
+  }
+
+  @Test
+  public void testWriteSinglePartition() throws Exception {
+    checkWrite(1);
+  }
+
+  @Test
+  public void testCoPartitioning() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+    DataSink sink = new PartitionedCSVDataSink(tmpPath, getConfig(), 3);
+    sink.write(input, true);
+    getExecutionEnvironment().execute();
+
+    LogicalGraph output = new PartitionedCSVDataSource(tmpPath, getConfig()).getLogicalGraph();
+
+    List<Tuple2<GradoopId, Integer>> vertexPartitions = output.getVertices()
+      .mapPartition(new RichMapPartitionFunction<Vertex, Tuple2<GradoopId, Integer>>() {
+        @Override
+        public void mapPartition(Iterable<Vertex> vertices,
+          Collector<Tuple2<GradoopId, Integer>> out) {
+          int partition = getRuntimeContext().getIndexOfThisSubtask();
+          vertices.forEach(vertex -> out.collect(Tuple2.of(vertex.getId(), partition)));
+        }
+      }).setParallelism(3).collect();
+
+    List<Tuple2<GradoopId, Integer>> edgePartitions = output.getEdges()
+      .mapPartition(new RichMapPartitionFunction<Edge, Tuple2<GradoopId, Integer>>() {
+        @Override
+        public void mapPartition(Iterable<Edge> edges,
+          Collector<Tuple2<GradoopId, Integer>> out) {
+          int partition = getRuntimeContext().getIndexOfThisSubtask();
+          edges.forEach(edge -> out.collect(Tuple2.of(edge.getSourceId(), partition)));
+        }
+      }).setParallelism(3).collect();
+
+    Map<GradoopId, Integer> partitionOfVertex = new HashMap<>();
+    vertexPartitions.forEach(pair -> partitionOfVertex.put(pair.f0, pair.f1));
+
+    assertEquals(input.getVertices().count(), vertexPartitions.size());
+    assertEquals(input.getEdges().count(), edgePartitions.size());
+    // edges are read by the parallel instance reading their source vertex
+    for (Tuple2<GradoopId, Integer> edgePartition : edgePartitions) {
+      assertEquals(partitionOfVertex.get(edgePartition.f0), edgePartition.f1);
+    }
+  }
+
+  @Test
+  public void testJoinWithoutRepartitioning() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+    DataSink sink = new PartitionedCSVDataSink(tmpPath, getConfig(), 3);
+    sink.write(input, true);
+    getExecutionEnvironment().execute();
+
+    LogicalGraph output = new PartitionedCSVDataSource(tmpPath, getConfig()).getLogicalGraph();
+
+    output.getVertices()
+      .join(output.getEdges())
+      .where("id").equalTo("sourceId")
+      .setParallelism(3)
+      .output(new DiscardingOutputFormat<>());
+
+    String plan = getExecutionEnvironment().getExecutionPlan();
+
+    // both join inputs are forwarded from the partitioned sources
+    assertTrue(plan.contains("Join"));
+    assertFalse(plan.contains("Hash Partition"));
+    assertFalse(plan.contains("Broadcast"));
+  }
+
+  /**
+   * Writes and reads the social network using the given number of partitions.
+   *
+   * @param partitionCount number of partitions
+   * @throws Exception if the execution or IO fails.
+   */
+  private void checkWrite(int partitionCount) throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    GraphCollection input = getSocialNetworkLoader().getGraphCollection();
+
+    DataSink sink = new PartitionedCSVDataSink(tmpPath, getConfig(), partitionCount);
+    sink.write(input, true);
+    getExecutionEnvironment().execute();
+
+    DataSource source = new PartitionedCSVDataSource(tmpPath, getConfig());
+    GraphCollection output = source.getGraphCollection();
+
+    collectAndAssertTrue(input.equalsByGraphElementData(output));
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.edgelist.functions.BinaryEdgeListInputFormat;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BinaryEdgeListDataSourceTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testRead() throws Exception {
+    String edgeListFile = getFilePath("/data/edgelist/basic/input");
+    String gdlFile = getFilePath("/data/edgelist/basic/expected.gdl");
+
+    List<Tuple2<Long, Long>> edges = new ArrayList<>();
+    for (String line : Files.readAllLines(new File(edgeListFile).toPath())) {
+      String[] ids = line.split(",");
+      edges.add(Tuple2.of(Long.parseLong(ids[0]), Long.parseLong(ids[1])));
+    }
+    File binaryFile = writeBinaryEdgeList(edges);
+
+    DataSource dataSource = new BinaryEdgeListDataSource(binaryFile.getPath(), getConfig());
+    LogicalGraph result = dataSource.getLogicalGraph();
+    FlinkAsciiGraphLoader loader = getLoaderFromFile(gdlFile);
+    LogicalGraph expected = loader.getLogicalGraphByVariable("expected");
+    collectAndAssertTrue(expected.equalsByElementData(result));
+  }
+
+  @Test
+  public void testSplits() throws Exception {
+    List<Tuple2<Long, Long>> edges = new ArrayList<>();
+    for (long i = 0; i < 1000; i++) {
+      edges.add(Tuple2.of(i, Long.MAX_VALUE - i));
+    }
+    File binaryFile = writeBinaryEdgeList(edges);
+
+    BinaryEdgeListInputFormat format = new BinaryEdgeListInputFormat(binaryFile.getPath());
+    format.configure(new Configuration());
+    // split boundaries are not aligned to records
+    FileInputSplit[] splits = format.createInputSplits(7);
+    assertTrue(splits.length > 1);
+
+    List<Tuple2<Long, Long>> result = new ArrayList<>();
+    for (FileInputSplit split : splits) {
+      format.open(split);
+      while (!format.reachedEnd()) {
+        result.add(format.nextRecord(new Tuple2<>()));
+      }
+      format.close();
+    }
+    assertEquals(edges, result);
+  }
+
+  /**
+   * Writes the given edges to a binary edge list file.
+   *
+   * @param edges (sourceId, targetId) pairs
+   * @return binary edge list file
+   */
+  private File writeBinaryEdgeList(List<Tuple2<Long, Long>> edges) throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(edges.size() * 2 * Long.BYTES)
+      .order(ByteOrder.LITTLE_ENDIAN);
+    for (Tuple2<Long, Long> edge : edges) {
+      buffer.putLong(edge.f0);
+      buffer.putLong(edge.f1);
+    }
+    File file = temporaryFolder.newFile();
+    Files.write(file.toPath(), buffer.array());
+    return file;
+  }
+}
@@ -16,17 +16,27 @@
 package org.gradoop.flink.io.impl.graph;
 
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.impl.graph.functions.ImportIdHasher;
 import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
 import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
+
 public class GraphDataSourceTest extends GradoopFlinkTestBase {
 
   @Test
@@ -131,4 +141,66 @@ public class GraphDataSourceTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(output.equalsByElementData(expected));
   }
+
+  @Test
+  public void testReadWithHashedIds() throws Exception {
+    ExecutionEnvironment env = getExecutionEnvironment();
+
+    Map<String, Object> properties = Maps.newHashMap();
+    properties.put("foo", 42);
+
+    DataSet<ImportVertex<String>> importVertices = env.fromElements(
+      new ImportVertex<>("alice", "A", Properties.createFromMap(properties)),
+      new ImportVertex<>("bob", "B", Properties.createFromMap(properties)));
+
+    DataSet<ImportEdge<String>> importEdges = env.fromElements(
+      new ImportEdge<>("e0", "alice", "bob", "a", Properties.createFromMap(properties)),
+      new ImportEdge<>("e1", "bob", "alice", "b", Properties.createFromMap(properties)));
+
+    LogicalGraph expected = getLoaderFromString("expected[" +
+        "(a:A {foo : 42, __L : \"alice\"})" +
+        "(b:B {foo : 42, __L : \"bob\"})" +
+        "(a)-[:a {foo : 42, __L : \"e0\"}]->(b)-[:b {foo : 42, __L : \"e1\"}]->(a)" +
+        "]").getLogicalGraphByVariable("expected");
+
+    GraphDataSource<String> dataSource = new GraphDataSource<>(
+      importVertices, importEdges, "__L", true, getConfig());
+
+    LogicalGraph output = dataSource.getLogicalGraph();
+
+    collectAndAssertTrue(output.equalsByElementData(expected));
+
+    ImportIdHasher<String> hasher = new ImportIdHasher<>();
+    List<GradoopId> vertexIds = new ArrayList<>();
+    output.getVertices().map(new Id<>()).output(new LocalCollectionOutputFormat<>(vertexIds));
+    getExecutionEnvironment().execute();
+
+    assertEquals(Sets.newHashSet(hasher.getId("alice"), hasher.getId("bob")),
+      new HashSet<>(vertexIds));
+  }
+
+  @Test
+  public void testReadWithHashedIdCollision() throws Exception {
+    ExecutionEnvironment env = getExecutionEnvironment();
+
+    // duplicate import ids result in equal hashed ids
+    DataSet<ImportVertex<Long>> importVertices = env.fromElements(
+      new ImportVertex<>(0L, "A"),
+      new ImportVertex<>(0L, "B"),
+      new ImportVertex<>(1L, "C"));
+
+    DataSet<ImportEdge<Long>> importEdges = env.fromElements(
+      new ImportEdge<>(0L, 0L, 1L, "a"));
+
+    LogicalGraph expected = getLoaderFromString("expected[" +
+      "(a:A)-[:a]->(c:C)<-[:a]-(b:B)" +
+      "]").getLogicalGraphByVariable("expected");
+
+    GraphDataSource<Long> dataSource = new GraphDataSource<>(
+      importVertices, importEdges, null, true, getConfig());
+
+    LogicalGraph output = dataSource.getLogicalGraph();
+
+    collectAndAssertTrue(output.equalsByElementData(expected));
+  }
 }
@@ -58,6 +58,23 @@ public class TLFDataSinkTest extends GradoopFlinkTestBase {
       .equalsByGraphElementData(dataSource2.getGraphCollection()));
   }
 
+  @Test
+  public void testWriteCompressed() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+    String tlfFileImport = getFilePath("/data/tlf/io_test.tlf");
+    String tlfFileExport = tmpPath + "/io_test_compressed";
+
+    DataSource dataSource = new TLFDataSource(tlfFileImport, getConfig());
+    DataSink dataSink = new TLFDataSink(tlfFileExport, "", "", getConfig(), true);
+    dataSink.write(dataSource.getGraphCollection(), true);
+    DataSource dataSource2 = new TLFDataSource(tlfFileExport, "", "", getConfig(), true);
+
+    getExecutionEnvironment().execute();
+
+    collectAndAssertTrue(dataSource.getGraphCollection()
+      .equalsByGraphElementData(dataSource2.getGraphCollection()));
+  }
+
   @Test
   public void testWriteWithoutEdges() throws Exception {
     String tmpPath = temporaryFolder.getRoot().getPath();
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.inputformats;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.conversion.EPGMGraphTransactionToLabeledGraph;
+import org.gradoop.flink.algorithms.fsm.dimspan.tuples.LabeledGraphStringString;
+import org.gradoop.flink.io.impl.tlf.TLFDataSource;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TLFLabeledGraphInputFormatTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testRead() throws Exception {
+    String tlfFile = getFilePath("/data/tlf/yeast.tlf");
+
+    List<LabeledGraphStringString> expected = new TLFDataSource(tlfFile, getConfig())
+      .getGraphCollection()
+      .getGraphTransactions()
+      .map(new EPGMGraphTransactionToLabeledGraph())
+      .collect();
+
+    // split boundaries are not aligned to graphs
+    List<LabeledGraphStringString> result = readAll(tlfFile, 13);
+
+    assertEquals(expected.size(), result.size());
+    assertEquals(toCanonicalStrings(expected), toCanonicalStrings(result));
+  }
+
+  @Test
+  public void testReadVertexIds() throws Exception {
+    File tlfFile = temporaryFolder.newFile();
+    Files.write(tlfFile.toPath(), ("" +
+      "t # 0\r\n" +
+      "v 5 A\r\n" +
+      "v 2 B\r\n" +
+      "e 5 2 a\r\n" +
+      "e 2 2 b\r\n" +
+      "t # 1\n" +
+      "v 0 A\n").getBytes(StandardCharsets.UTF_8));
+
+    List<LabeledGraphStringString> result = readAll(tlfFile.getPath(), 1);
+
+    assertEquals(2, result.size());
+    LabeledGraphStringString graph = result.get(0);
+    assertArrayEquals(new int[] {0, 1, 1, 1}, graph.f0);
+    assertArrayEquals(new String[] {"A", "B"}, graph.getVertexLabels());
+    assertArrayEquals(new String[] {"a", "b"}, graph.getEdgeLabels());
+    graph = result.get(1);
+    assertArrayEquals(new int[0], graph.f0);
+    assertArrayEquals(new String[] {"A"}, graph.getVertexLabels());
+    assertArrayEquals(new String[0], graph.getEdgeLabels());
+    // labels are shared between graphs
+    assertTrue(result.get(0).getVertexLabels()[0] == graph.getVertexLabels()[0]);
+  }
+
+  @Test
+  public void testReadSparseVertexIds() throws Exception {
+    // large ids and more vertices than the initial capacity of the position table
+    StringBuilder tlf = new StringBuilder("t # 0\n");
+    for (int i = 0; i < 100; i++) {
+      tlf.append("v ").append(Integer.MAX_VALUE - 64 * i).append(" A\n");
+    }
+    tlf.append("e ").append(Integer.MAX_VALUE).append(' ')
+      .append(Integer.MAX_VALUE - 64 * 99).append(" a\n");
+    File tlfFile = temporaryFolder.newFile();
+    Files.write(tlfFile.toPath(), tlf.toString().getBytes(StandardCharsets.UTF_8));
+
+    List<LabeledGraphStringString> result = readAll(tlfFile.getPath(), 1);
+
+    assertEquals(1, result.size());
+    assertEquals(100, result.get(0).getVertexLabels().length);
+    assertArrayEquals(new int[] {0, 99}, result.get(0).f0);
+  }
+
+  /**
+   * Reads all graphs of a TLF file using the given minimum number of splits.
+   *
+   * @param path TLF file
+   * @param minNumSplits minimum number of splits
+   * @return graphs
+   */
+  private List<LabeledGraphStringString> readAll(String path, int minNumSplits)
+    throws Exception {
+    TLFLabeledGraphInputFormat format = new TLFLabeledGraphInputFormat(path);
+    format.configure(new Configuration());
+    FileInputSplit[] splits = format.createInputSplits(minNumSplits);
+    assertTrue(splits.length >= minNumSplits);
+
+    List<LabeledGraphStringString> result = new ArrayList<>();
+    for (FileInputSplit split : splits) {
+      format.open(split);
+      while (!format.reachedEnd()) {
+        LabeledGraphStringString graph = format.nextRecord(new LabeledGraphStringString());
+        if (graph != null) {
+          result.add(graph);
+        }
+      }
+      format.close();
+    }
+    return result;
+  }
+
+  /**
+   * Creates a sorted list of string representations of graphs that is independent of the order
+   * of vertices and edges within each graph.
+   *
+   * @param graphs labeled graphs
+   * @return sorted string representations
+   */
+  private List<String> toCanonicalStrings(List<LabeledGraphStringString> graphs) {
+    List<String> canonicalStrings = new ArrayList<>();
+    for (LabeledGraphStringString graph : graphs) {
+      String[] vertexLabels = graph.getVertexLabels().clone();
+      Arrays.sort(vertexLabels);
+      String[] edges = new String[graph.getEdgeLabels().length];
+      for (int i = 0; i < edges.length; i++) {
+        edges[i] = graph.getVertexLabels()[graph.getSourceId(i)] + "-" + graph.getEdgeLabel(i) +
+          "->" + graph.getVertexLabels()[graph.getTargetId(i)];
+      }
+      Arrays.sort(edges);
+      canonicalStrings.add(Arrays.toString(vertexLabels) + Arrays.toString(edges));
+    }
+    Collections.sort(canonicalStrings);
+    return canonicalStrings;
+  }
+}
@@ -130,6 +130,12 @@ public class GVELayoutTest extends GradoopFlinkTestBase {
       from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).getVerticesByLabel("A").collect());
   }
 
+  @Test
+  public void getVerticesByUnknownLabel() throws Exception {
+    assertEquals(0L, from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1))
+      .getVerticesByLabel("D").count());
+  }
+
   @Test
   public void getEdges() throws Exception {
     GradoopTestUtils.validateEPGMGraphElementCollections(Sets.newHashSet(e0, e1),
@@ -141,4 +147,10 @@ public class GVELayoutTest extends GradoopFlinkTestBase {
     GradoopTestUtils.validateEPGMGraphElementCollections(Sets.newHashSet(e0),
       from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).getEdgesByLabel("a").collect());
   }
+
+  @Test
+  public void getEdgesByUnknownLabel() throws Exception {
+    assertEquals(0L, from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1))
+      .getEdgesByLabel("c").count());
+  }
 }
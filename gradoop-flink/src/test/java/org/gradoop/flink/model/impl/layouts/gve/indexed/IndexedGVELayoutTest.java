@@ -21,12 +21,15 @@ import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.impl.layouts.gve.GVELayout;
 import org.gradoop.flink.model.impl.layouts.gve.GVELayoutTest;
+import org.junit.Test;
 
 import java.util.Collection;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class IndexedGVELayoutTest extends GVELayoutTest {
@@ -46,7 +49,19 @@ public class IndexedGVELayoutTest extends GVELayoutTest {
       .collect(Collectors.groupingBy(Edge::getLabel)).entrySet().stream()
       .collect(Collectors.toMap(Map.Entry::getKey, e -> getExecutionEnvironment().fromCollection(e.getValue())));
 
-    return new IndexedGVELayout(indexedGraphHeads, indexedVertices, indexedEdges);
+    IndexedGVECollectionLayoutFactory factory = new IndexedGVECollectionLayoutFactory();
+    factory.setGradoopFlinkConfig(getConfig());
+    return (GVELayout) factory.fromIndexedDataSets(indexedGraphHeads, indexedVertices, indexedEdges);
+  }
+
+  @Test
+  public void fromEmptyIndex() throws Exception {
+    GVELayout layout = from(emptyList(), emptyList(), emptyList());
+
+    assertEquals(0L, layout.getVertices().count());
+    assertEquals(0L, layout.getEdges().count());
+    assertEquals(0L, layout.getVerticesByLabel("A").count());
+    assertEquals(0L, layout.getEdgesByLabel("a").count());
   }
 
   @Override
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.cypher.capf.query;
+
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.cypher.capf.TestData;
+import org.gradoop.flink.model.impl.operators.cypher.capf.result.CAPFQueryResult;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+public class CAPFGraphSessionTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testRepeatedQueries() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(TestData.GRAPH_1);
+
+    loader.appendToDatabaseFromString(
+      "expected1[(v1)], expected2[(v3)], expected3[(v5)], expected4[(v6)]" +
+        "expected5[(v1)], expected6[(v3)], expected7[(v5)], expected8[(v6)]");
+
+    LogicalGraph graph = loader.getLogicalGraphByVariable(TestData.DATA_GRAPH_VARIABLE);
+
+    CAPFGraphSession session =
+      new CAPFGraphSession(graph, null, temporaryFolder.getRoot().toURI().toString());
+
+    CAPFQueryResult first = session.cypher("MATCH (n1)-->(n2)<--(n3) RETURN n2");
+    CAPFQueryResult second = session.cypher("MATCH (n1)-->(n2)<--(n3) RETURN n2");
+
+    // the metadata is computed only once
+    assertNotNull(session.getMetaData());
+    assertSame(session.getMetaData(), session.getMetaData());
+
+    // because the pattern is symmetric, each result exists twice
+    GraphCollection expectedGraphs = loader.getGraphCollectionByVariables(
+      "expected1", "expected2", "expected3", "expected4",
+      "expected5", "expected6", "expected7", "expected8");
+
+    collectAndAssertTrue(first.getGraphs().equalsByGraphElementIds(expectedGraphs));
+    collectAndAssertTrue(second.getGraphs().equalsByGraphElementIds(expectedGraphs));
+
+    session.close();
+  }
+
+  @Test
+  public void testTablesAreMaterialized() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(TestData.GRAPH_1);
+    LogicalGraph graph = loader.getLogicalGraphByVariable(TestData.DATA_GRAPH_VARIABLE);
+    File directory = temporaryFolder.getRoot();
+
+    CAPFGraphSession session =
+      new CAPFGraphSession(graph, null, directory.toURI().toString());
+
+    // the first query materializes the vertices and edges with their long ids
+    CAPFQueryResult first = session.cypher("MATCH (n1)-->(n2) RETURN n2");
+    assertEquals(1, directory.list().length);
+    first.getGraphs().getVertices().output(new DiscardingOutputFormat<>());
+    getExecutionEnvironment().execute();
+
+    // the second query reads the materialized data instead of assigning new ids
+    CAPFQueryResult second = session.cypher("MATCH (n1)<--(n2) RETURN n2");
+    second.getGraphs().getVertices().output(new DiscardingOutputFormat<>());
+    assertFalse(getExecutionEnvironment().getExecutionPlan()
+      .contains(CAPFGraphSession.ASSIGN_IDS));
+    getExecutionEnvironment().execute();
+
+    session.close();
+    assertEquals(0, directory.list().length);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDirectoryRequiredOnCluster() {
+    // the test environment submits jobs to a (mini) cluster
+    LogicalGraph graph = getLoaderFromString(TestData.GRAPH_1)
+      .getLogicalGraphByVariable(TestData.DATA_GRAPH_VARIABLE);
+
+    new CAPFGraphSession(graph);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.query;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StatisticsTraverserTest {
+
+  @Test
+  public void testTraverseWithCandidateCounts() {
+    StatisticsTraverser traverser = new StatisticsTraverser(new GraphStatistics(10, 10, 10, 10));
+    traverser.setQueryHandler(new QueryHandler(QueryHandlerTest.TEST_QUERY));
+    traverser.setCandidateCounts(new long[] {100L, 100L, 1L}, new long[] {20L, 10L, 10L, 10L});
+
+    TraversalCode result = traverser.traverse();
+
+    // starts at the most selective vertex and closes the loop first
+    assertTrue(Iterables.elementsEqual(result.getSteps(), Lists.newArrayList(
+      new Step(2L, 3L, 2L, true),
+      new Step(2L, 1L, 1L, false),
+      new Step(1L, 2L, 0L, true),
+      new Step(0L, 0L, 1L, true)
+    )));
+  }
+
+  @Test
+  public void testTraverseFromRootVertex() {
+    StatisticsTraverser traverser = new StatisticsTraverser(new GraphStatistics(10, 10, 10, 10));
+    traverser.setQueryHandler(new QueryHandler(QueryHandlerTest.TEST_QUERY));
+    traverser.setCandidateCounts(new long[] {100L, 100L, 1L}, new long[] {20L, 10L, 10L, 10L});
+
+    TraversalCode result = traverser.traverse(0L);
+
+    assertEquals(4, result.getSteps().size());
+    assertEquals(0L, result.getStep(0).getFrom());
+    // every step starts at an already visited vertex
+    for (int i = 1; i < result.getSteps().size(); i++) {
+      long from = result.getStep(i).getFrom();
+      boolean visited = false;
+      for (int j = 0; j < i; j++) {
+        visited |= result.getStep(j).getFrom() == from || result.getStep(j).getTo() == from;
+      }
+      assertTrue(visited);
+    }
+  }
+
+  @Test
+  public void testTraverseLoop() {
+    StatisticsTraverser traverser = new StatisticsTraverser(new GraphStatistics(10, 10, 10, 10));
+    traverser.setQueryHandler(new QueryHandler("(v0)-->(v0)"));
+
+    TraversalCode result = traverser.traverse();
+
+    assertTrue(Iterables.elementsEqual(result.getSteps(), Lists.newArrayList(
+      new Step(0L, 0L, 0L, true)
+    )));
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.adaptive;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.DualSimulation;
+import org.junit.Test;
+
+import java.util.EnumSet;
+
+import static org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy.HOMOMORPHISM;
+import static org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy.ISOMORPHISM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptivePatternMatchingTest extends GradoopFlinkTestBase {
+
+  private static final GraphStatistics STATISTICS = new GraphStatistics(11, 24, 11, 11);
+
+  @Test
+  public void testInlinePredicatesSupportAllEngines() throws Exception {
+    String query = "MATCH (p:Person {name : \"Alice\"})-[:knows]->(q:Person)";
+
+    EngineDecision decision = decide(query, ISOMORPHISM, ISOMORPHISM);
+
+    assertTrue(decision.getShape().hasInlinePredicatesOnly());
+    assertEquals(EnumSet.of(MatchingEngine.CYPHER,
+      MatchingEngine.EXPLORATIVE_SET_PAIR_BULK_ITERATION,
+      MatchingEngine.EXPLORATIVE_SET_PAIR_FOR_LOOP_ITERATION,
+      MatchingEngine.EXPLORATIVE_TRIPLES_FOR_LOOP_ITERATION), decision.getCosts().keySet());
+  }
+
+  @Test
+  public void testWherePredicatesRequireCypher() throws Exception {
+    EngineDecision decision = decide(
+      "MATCH (p:Person)-[:knows]->(q:Person) WHERE p.age > q.age", ISOMORPHISM, ISOMORPHISM);
+
+    assertFalse(decision.getShape().hasInlinePredicatesOnly());
+    assertEquals(EnumSet.of(MatchingEngine.CYPHER), decision.getCosts().keySet());
+  }
+
+  @Test
+  public void testVariableLengthRequiresCypher() throws Exception {
+    EngineDecision decision = decide(
+      "MATCH (p:Person)-[:knows*1..2]->(q:Person)", HOMOMORPHISM, HOMOMORPHISM);
+
+    assertTrue(decision.getShape().hasVariableLength());
+    assertEquals(MatchingEngine.CYPHER, decision.getEngine());
+  }
+
+  @Test
+  public void testMixedStrategiesRequireCypher() throws Exception {
+    EngineDecision decision = decide(
+      "MATCH (p:Person)-[:knows]->(q:Person)", HOMOMORPHISM, ISOMORPHISM);
+
+    assertEquals(EnumSet.of(MatchingEngine.CYPHER), decision.getCosts().keySet());
+  }
+
+  @Test
+  public void testLimitRequiresCypher() throws Exception {
+    EngineDecision decision = decide(
+      "MATCH (p:Person)-[:knows]->(q:Person) LIMIT 2", ISOMORPHISM, ISOMORPHISM);
+
+    assertEquals(EnumSet.of(MatchingEngine.CYPHER), decision.getCosts().keySet());
+  }
+
+  @Test
+  public void testCyclicShape() throws Exception {
+    EngineDecision decision = decide(
+      "MATCH (p:Person)-[:knows]->(q:Person)-[:knows]->(p)", ISOMORPHISM, ISOMORPHISM);
+
+    assertTrue(decision.getShape().isCyclic());
+    assertEquals(2, decision.getShape().getVertexCount());
+  }
+
+  @Test
+  public void testExecuteMorphism() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+    String query = "MATCH (p:Person {name : \"Alice\"})-[:knows]->(q:Person)";
+
+    AdaptivePatternMatching operator =
+      new AdaptivePatternMatching(query, true, ISOMORPHISM, ISOMORPHISM, STATISTICS);
+    assertNull(operator.getDecision());
+
+    GraphCollection result = graph.callForCollection(operator);
+    GraphCollection expected = graph.callForCollection(
+      new CypherPatternMatching(query, true, ISOMORPHISM, ISOMORPHISM, STATISTICS));
+
+    collectAndAssertTrue(result.equalsByGraphElementIds(expected));
+    assertTrue(operator.getDecision().getCosts().containsKey(operator.getDecision().getEngine()));
+  }
+
+  @Test
+  public void testExecuteSimulation() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+    String query = "MATCH (p:Person)-[:knows]->(q:Person)-[:hasInterest]->(t:Tag)";
+
+    AdaptivePatternMatching operator = new AdaptivePatternMatching(query, true, STATISTICS);
+
+    GraphCollection result = graph.callForCollection(operator);
+    GraphCollection expected = graph.callForCollection(new DualSimulation(query, true, true));
+
+    collectAndAssertTrue(result.equalsByGraphElementIds(expected));
+    assertTrue(operator.getDecision().getEngine().isSimulation());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsupportedSimulation() throws Exception {
+    new AdaptivePatternMatching("MATCH (p:Person)-[:knows]->(q:Person) WHERE p.age > q.age",
+      false, STATISTICS).decide(getSocialNetworkLoader().getLogicalGraph());
+  }
+
+  private EngineDecision decide(String query, MatchStrategy vertexStrategy,
+    MatchStrategy edgeStrategy) {
+    return new AdaptivePatternMatching(query, false, vertexStrategy, edgeStrategy, STATISTICS)
+      .decide(getSocialNetworkLoader().getLogicalGraph());
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class CypherLimitTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testLimit() throws Exception {
+    LogicalGraph dbGraph = getSocialNetworkLoader().getLogicalGraph();
+
+    GraphCollection result = dbGraph.query("MATCH (p:Person)-[k:knows]->(q:Person) LIMIT 3");
+
+    assertEquals(3, result.getGraphHeads().count());
+  }
+
+  @Test
+  public void testOrderByVertexPropertyLimit() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph dbGraph = loader.getLogicalGraph();
+    loader.appendToDatabaseFromString("expected0[(dave)]");
+
+    GraphCollection result = dbGraph.query("MATCH (p:Person) ORDER BY p.age DESC LIMIT 1");
+
+    collectAndAssertTrue(result.equalsByGraphElementIds(
+      loader.getGraphCollectionByVariables("expected0")));
+  }
+
+  @Test
+  public void testOrderByEdgePropertyLimit() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph dbGraph = loader.getLogicalGraph();
+    loader.appendToDatabaseFromString(
+      "expected0[(eve)-[eka]->(alice)]," +
+      "expected1[(bob)-[bkc]->(carol)]," +
+      "expected2[(carol)-[ckb]->(bob)]");
+
+    GraphCollection result = dbGraph.query(
+      "MATCH (p:Person)-[k:knows]->(q:Person) ORDER BY k.since ASC LIMIT 3");
+
+    collectAndAssertTrue(result.equalsByGraphElementIds(
+      loader.getGraphCollectionByVariables("expected0", "expected1", "expected2")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOrderByPathProperty() throws Exception {
+    LogicalGraph dbGraph = getSocialNetworkLoader().getLogicalGraph();
+
+    dbGraph.query("MATCH (p:Person)-[k:knows*1..2]->(q:Person) ORDER BY k.since LIMIT 1")
+      .getGraphHeads().count();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import com.google.common.collect.Lists;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.ExecutionCache;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CypherMultiPatternMatchingTest extends GradoopFlinkTestBase {
+
+  private static final List<String> QUERIES = Lists.newArrayList(
+    "MATCH (p:Person)-[k:knows]->(q:Person)",
+    "MATCH (p:Person)-[k:knows]->(q:Person) WHERE p.city = \"Berlin\"",
+    "MATCH (p:Person)-[i:hasInterest]->(t:Tag)",
+    "MATCH (p:Person)-[k:knows]->(q:Person)");
+
+  private LogicalGraph socialNetwork;
+
+  private GraphStatistics socialNetworkStatistics;
+
+  @Before
+  public void setUp() throws Exception {
+    socialNetwork = getSocialNetworkLoader().getLogicalGraph();
+    String path = getFilePath("/data/json/sna/statistics");
+    socialNetworkStatistics = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    ExecutionCache cache = new ExecutionCache();
+    List<GraphCollection> results = new CypherMultiPatternMatching(QUERIES, true,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, socialNetworkStatistics)
+      .execute(socialNetwork, cache);
+
+    assertEquals(QUERIES.size(), results.size());
+    assertTrue(cache.getReuseCount() > 0);
+
+    for (int i = 0; i < QUERIES.size(); i++) {
+      GraphCollection expected = socialNetwork.query(QUERIES.get(i), socialNetworkStatistics);
+      collectAndAssertTrue(results.get(i).equalsByGraphElementIds(expected));
+    }
+  }
+
+  @Test
+  public void testQueryList() throws Exception {
+    List<GraphCollection> results = socialNetwork.query(QUERIES, socialNetworkStatistics);
+
+    assertEquals(QUERIES.size(), results.size());
+    collectAndAssertTrue(results.get(0).equalsByGraphElementIds(results.get(3)));
+    assertEquals(2L, results.get(1).getGraphHeads().count());
+  }
+}
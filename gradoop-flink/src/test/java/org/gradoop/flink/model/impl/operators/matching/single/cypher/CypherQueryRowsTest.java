@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.types.Row;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.RowPageIterator;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CypherQueryRowsTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testQueryRows() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph dbGraph = loader.getLogicalGraph();
+
+    List<Row> rows = dbGraph.queryRows(
+      "MATCH (p:Person)-[k:knows]->(q:Person) WHERE p.name = \"Alice\"",
+      Arrays.asList("p", "q.name", "k.since")).collect();
+
+    assertEquals(1, rows.size());
+    Row row = rows.get(0);
+    assertEquals(3, row.getArity());
+    assertEquals(loader.getVertexByVariable("alice").getId(), row.getField(0));
+    assertEquals(PropertyValue.create("Bob"), row.getField(1));
+    assertEquals(PropertyValue.create(2014), row.getField(2));
+  }
+
+  @Test
+  public void testQueryRowsMissingProperty() throws Exception {
+    LogicalGraph dbGraph = getSocialNetworkLoader().getLogicalGraph();
+
+    List<Row> rows = dbGraph.queryRows(
+      "MATCH (p:Person) WHERE p.name = \"Eve\"", Arrays.asList("p.speaks", "p.locIP")).collect();
+
+    assertEquals(1, rows.size());
+    assertEquals(PropertyValue.create("English"), rows.get(0).getField(0));
+    assertEquals(PropertyValue.NULL_VALUE, rows.get(0).getField(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testQueryRowsUnknownVariable() {
+    LogicalGraph dbGraph = getSocialNetworkLoader().getLogicalGraph();
+
+    dbGraph.queryRows("MATCH (p:Person)", Arrays.asList("q.name"));
+  }
+
+  @Test
+  public void testRowPageIterator() throws Exception {
+    LogicalGraph dbGraph = getSocialNetworkLoader().getLogicalGraph();
+    List<String> columns = Arrays.asList("p.name");
+
+    DataSet<Row> rows = dbGraph.queryRows("MATCH (p:Person)", columns);
+    String path = temporaryFolder.getRoot().getAbsolutePath() + "/rows";
+
+    List<List<Row>> pages = new ArrayList<>();
+    try (RowPageIterator iterator = new RowPageIterator(
+      rows, CypherPatternMatching.getRowType(columns), path, 4)) {
+      iterator.forEachRemaining(pages::add);
+    }
+
+    assertEquals(2, pages.size());
+    assertEquals(4, pages.get(0).size());
+    assertEquals(2, pages.get(1).size());
+
+    Set<PropertyValue> names = new HashSet<>();
+    pages.forEach(page -> page.forEach(row -> names.add((PropertyValue) row.getField(0))));
+    assertEquals(6, names.size());
+    assertTrue(names.contains(PropertyValue.create("Frank")));
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingBuilder;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class EmbeddingBuilderTest {
+
+  @Test
+  public void testBuild() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+
+    Embedding left = new Embedding();
+    left.add(a, PropertyValue.create("foo"));
+    left.add(b, PropertyValue.create(42));
+
+    Embedding right = new Embedding();
+    right.add(b);
+    right.add(a, c);
+    right.addPropertyValues(PropertyValue.create(true));
+
+    Embedding expected = new Embedding();
+    expected.add(a, PropertyValue.create("foo"));
+    expected.add(b, PropertyValue.create(42));
+    expected.addPropertyValues(PropertyValue.create(true));
+
+    Embedding result = new EmbeddingBuilder()
+      .addIdEntries(left)
+      .addIdEntries(right, new int[] {1})
+      .addProperties(left)
+      .addProperties(right)
+      .addIdLists(left)
+      .addIdLists(right)
+      .build();
+
+    assertEquals(3, result.size());
+    assertEquals(a, result.getId(0));
+    assertEquals(b, result.getId(1));
+    assertEquals(right.getIdList(1), result.getIdList(2));
+    assertEquals(expected.getProperties(), result.getProperties());
+  }
+
+  @Test
+  public void testAddSelectedProperties() {
+    Embedding embedding = new Embedding();
+    embedding.add(GradoopId.get(), PropertyValue.create("a"), PropertyValue.create(42),
+      PropertyValue.create("foobar"));
+
+    Embedding result = new EmbeddingBuilder()
+      .addIdEntries(embedding)
+      .addProperties(embedding, new int[] {2, 0})
+      .build();
+
+    assertEquals(embedding.getId(0), result.getId(0));
+    assertEquals(2, result.getProperties().size());
+    assertEquals(PropertyValue.create("foobar"), result.getProperty(0));
+    assertEquals(PropertyValue.create("a"), result.getProperty(1));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testAddMissingProperty() {
+    Embedding embedding = new Embedding();
+    embedding.add(GradoopId.get(), PropertyValue.create("a"));
+
+    new EmbeddingBuilder().addProperties(embedding, new int[] {1});
+  }
+
+  @Test
+  public void testReuseTarget() {
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn("a", EntryType.VERTEX, 0);
+    metaData.setPropertyColumn("a", "age", 0);
+
+    EmbeddingBuilder builder = new EmbeddingBuilder(metaData);
+    Embedding target = new Embedding();
+
+    builder.reset().addId(GradoopId.get()).addProperty(PropertyValue.create(23)).build(target);
+    byte[] idData = target.getIdData();
+    byte[] propertyData = target.getPropertyData();
+
+    GradoopId id = GradoopId.get();
+    builder.reset().addId(id).addProperty(PropertyValue.create(42)).build(target);
+
+    // arrays of the same size are overwritten
+    assertSame(idData, target.getIdData());
+    assertSame(propertyData, target.getPropertyData());
+    assertEquals(id, target.getId(0));
+    assertEquals(PropertyValue.create(42), target.getProperty(0));
+
+    builder.reset().addId(id).addProperty(PropertyValue.create("foo")).build(target);
+
+    assertNotSame(propertyData, target.getPropertyData());
+    assertEquals(PropertyValue.create("foo"), target.getProperty(0));
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.FrontierDeduplication;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
+import static org.junit.Assert.assertEquals;
+
+public class ExpandEmbeddingsDeltaTest extends ExpandEmbeddingsTest {
+  //define some vertices
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+  private final GradoopId c = GradoopId.get();
+  private final GradoopId d = GradoopId.get();
+
+  //define some edges
+  private final GradoopId e1 = GradoopId.get();
+  private final GradoopId e2 = GradoopId.get();
+  private final GradoopId e3 = GradoopId.get();
+  private final GradoopId e4 = GradoopId.get();
+
+  protected ExpandEmbeddings getOperator(
+    DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns, int closingColumn) {
+
+    return new ExpandEmbeddingsDelta(input, candidateEdges, expandColumn, lowerBound,
+      upperBound, direction, distinctVertexColumns, distinctEdgeColumns, closingColumn);
+  }
+
+  @Test
+  public void testShortestPathDeduplication() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(a, e2, c),
+      createEmbedding(b, e3, d),
+      createEmbedding(c, e4, d)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsDelta(
+      input, candidateEdges, 0, 1, 3,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1,
+      FrontierDeduplication.SHORTEST_PATH
+    ).evaluate();
+
+    assertEquals(3, result.count());
+    assertEmbeddingExists(result, a, e1, b);
+    assertEmbeddingExists(result, a, e2, c);
+    assertEmbeddingExists(result, embedding -> embedding.getId(2).equals(d));
+  }
+
+  @Test
+  public void testShortestPathRespectsLowerBound() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, c),
+      createEmbedding(a, e3, c)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsDelta(
+      input, candidateEdges, 0, 2, 2,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1,
+      FrontierDeduplication.SHORTEST_PATH
+    ).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a, e1, b, e2, c);
+  }
+
+  @Test
+  public void testPathSetDeduplication() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, a),
+      createEmbedding(a, e3, b)
+    );
+
+    DataSet<Embedding> withoutDeduplication = new ExpandEmbeddingsDelta(
+      input, candidateEdges, 0, 1, 3,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1,
+      FrontierDeduplication.NONE
+    ).evaluate();
+
+    DataSet<Embedding> withDeduplication = new ExpandEmbeddingsDelta(
+      input, candidateEdges, 0, 1, 3,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1,
+      FrontierDeduplication.PATH_SET
+    ).evaluate();
+
+    // (a,e1,b,e2,a,e3,b) and (a,e3,b,e2,a,e1,b) are equivalent
+    assertEquals(8, withoutDeduplication.count());
+    assertEquals(7, withDeduplication.count());
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.FrontierDeduplication;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+
+public class KeyExpandEmbeddingTest {
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId e1 = GradoopId.get();
+  private final GradoopId v1 = GradoopId.get();
+  private final GradoopId e2 = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+
+  @Test
+  public void testNone() throws Exception {
+    KeyExpandEmbedding function = new KeyExpandEmbedding(FrontierDeduplication.NONE, 1);
+
+    assertArrayEquals(key(function, e1, v1, e2, b), key(function, e1, v1, e2, b));
+    assertFalse(Arrays.equals(key(function, e1, v1, e2, b), key(function, e2, v1, e1, b)));
+  }
+
+  @Test
+  public void testPathSet() throws Exception {
+    KeyExpandEmbedding function = new KeyExpandEmbedding(FrontierDeduplication.PATH_SET, 1);
+
+    assertArrayEquals(key(function, e1, v1, e2, b), key(function, e2, v1, e1, b));
+    assertFalse(Arrays.equals(key(function, e1, v1, e2, b), key(function, e1, b)));
+  }
+
+  @Test
+  public void testShortestPath() throws Exception {
+    KeyExpandEmbedding function = new KeyExpandEmbedding(FrontierDeduplication.SHORTEST_PATH, 1);
+
+    assertArrayEquals(key(function, e1, v1, e2, b), key(function, e1, b));
+
+    // the short path is below the lower bound
+    function = new KeyExpandEmbedding(FrontierDeduplication.SHORTEST_PATH, 2);
+    assertFalse(Arrays.equals(key(function, e1, v1, e2, b), key(function, e1, b)));
+  }
+
+  @Test
+  public void testBase() throws Exception {
+    KeyExpandEmbedding function = new KeyExpandEmbedding(FrontierDeduplication.SHORTEST_PATH, 1);
+
+    Embedding other = new Embedding();
+    other.add(b);
+    byte[] otherKey = function.map(new ExpandEmbedding(other, e1, b)).f0;
+
+    assertFalse(Arrays.equals(key(function, e1, b), otherKey));
+  }
+
+  private byte[] key(KeyExpandEmbedding function, GradoopId... path) throws Exception {
+    Embedding base = new Embedding();
+    base.add(a);
+    return function.map(new ExpandEmbedding(base, path)).f0;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class LimitEmbeddingsTest extends PhysicalOperatorTest {
+
+  @Test
+  public void testLimitEmbeddings() throws Exception {
+    List<Embedding> input = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      Embedding embedding = new Embedding();
+      embedding.add(GradoopId.get());
+      input.add(embedding);
+    }
+    DataSet<Embedding> embeddings = getExecutionEnvironment().fromCollection(input);
+
+    assertEquals(3, new LimitEmbeddings(embeddings, 3).evaluate().count());
+    assertEquals(10, new LimitEmbeddings(embeddings, 20).evaluate().count());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLimitZero() {
+    new LimitEmbeddings(getExecutionEnvironment().fromElements(new Embedding()), 0);
+  }
+}
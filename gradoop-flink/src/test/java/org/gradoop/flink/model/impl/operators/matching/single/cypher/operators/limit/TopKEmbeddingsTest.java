@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TopKEmbeddingsTest extends PhysicalOperatorTest {
+
+  private final GradoopId v0 = GradoopId.get();
+  private final GradoopId v1 = GradoopId.get();
+  private final GradoopId v2 = GradoopId.get();
+  private final GradoopId v3 = GradoopId.get();
+
+  private DataSet<Embedding> embeddings;
+
+  @Before
+  public void setUp() {
+    GradoopId[] ids = {v0, v1, v2, v3};
+    PropertyValue[] values = {
+      PropertyValue.create(30), PropertyValue.create(10),
+      PropertyValue.NULL_VALUE, PropertyValue.create(20)};
+
+    List<Embedding> input = new ArrayList<>();
+    for (int i = 0; i < ids.length; i++) {
+      Embedding embedding = new Embedding();
+      embedding.add(GradoopId.get(), PropertyValue.create("other"));
+      embedding.add(ids[i], values[i]);
+      input.add(embedding);
+    }
+    embeddings = getExecutionEnvironment().fromCollection(input);
+  }
+
+  @Test
+  public void testAscending() throws Exception {
+    List<Embedding> result = new TopKEmbeddings(embeddings, 1, 2, true)
+      .evaluate().collect();
+
+    assertEquals(2, result.size());
+    assertTrue(containsId(result, v1));
+    assertTrue(containsId(result, v3));
+  }
+
+  @Test
+  public void testDescending() throws Exception {
+    List<Embedding> result = new TopKEmbeddings(embeddings, 1, 1, false)
+      .evaluate().collect();
+
+    assertEquals(1, result.size());
+    assertEquals(v0, result.get(0).getId(1));
+  }
+
+  @Test
+  public void testNullValuesLast() throws Exception {
+    List<Embedding> result = new TopKEmbeddings(embeddings, 1, 3, false)
+      .evaluate().collect();
+
+    assertEquals(3, result.size());
+    assertTrue(!containsId(result, v2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testZero() {
+    new TopKEmbeddings(embeddings, 1, 0, true);
+  }
+
+  private boolean containsId(List<Embedding> embeddings, GradoopId id) {
+    return embeddings.stream().anyMatch(embedding -> embedding.getId(1).equals(id));
+  }
+}
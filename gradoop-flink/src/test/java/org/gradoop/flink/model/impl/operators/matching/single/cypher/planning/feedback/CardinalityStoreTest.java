@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback;
+
+import com.google.common.collect.Sets;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy.HOMOMORPHISM;
+import static org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy.ISOMORPHISM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class CardinalityStoreTest extends GradoopFlinkTestBase {
+
+  private static final String QUERY = "MATCH (p:Person)-[k:knows]->(q:Person)";
+
+  private static final GraphStatistics STATISTICS = new GraphStatistics(11, 24, 11, 11);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testReadWrite() throws Exception {
+    String path = temporaryFolder.getRoot().getAbsolutePath() + "/cardinalities";
+    CardinalityStore store = new CardinalityStore();
+    store.setCardinality("FilterAndProjectVertices{filterPredicate=,projectionKeys=[]}", 6L);
+    store.setCardinality("FilterAndProjectEdges{filterPredicate=,projectionKeys=[]}", 3L);
+    store.write(path);
+
+    CardinalityStore readStore = CardinalityStore.read(path);
+
+    assertEquals(2, readStore.size());
+    assertEquals(Long.valueOf(6L), readStore
+      .getCardinality("FilterAndProjectVertices{filterPredicate=,projectionKeys=[]}"));
+    assertEquals(Long.valueOf(3L), readStore
+      .getCardinality("FilterAndProjectEdges{filterPredicate=,projectionKeys=[]}"));
+  }
+
+  @Test
+  public void testReadMissingFile() throws Exception {
+    CardinalityStore store = CardinalityStore.read(
+      temporaryFolder.getRoot().getAbsolutePath() + "/missing");
+
+    assertEquals(0, store.size());
+  }
+
+  @Test
+  public void testSignaturesIgnoreVariables() {
+    QueryHandler first = new QueryHandler("MATCH (a:Person)-[e:knows]->(b) WHERE a.age > 30");
+    QueryHandler second = new QueryHandler("MATCH (x:Person)-[f:knows]->(y) WHERE x.age > 30");
+
+    assertEquals(createVertexLeaf(first, "a").getSignature(),
+      createVertexLeaf(second, "x").getSignature());
+    assertEquals(createEdgeLeaf(first, "a", "e", "b").getSignature(),
+      createEdgeLeaf(second, "x", "f", "y").getSignature());
+  }
+
+  @Test
+  public void testSignaturesDistinguishPredicates() {
+    QueryHandler first = new QueryHandler("MATCH (a:Person) WHERE a.age > 30");
+    QueryHandler second = new QueryHandler("MATCH (a:Person) WHERE a.age > 40");
+    QueryHandler third = new QueryHandler("MATCH (a:Tag) WHERE a.age > 30");
+
+    String signature = createVertexLeaf(first, "a").getSignature();
+
+    assertNotEquals(signature, createVertexLeaf(second, "a").getSignature());
+    assertNotEquals(signature, createVertexLeaf(third, "a").getSignature());
+  }
+
+  @Test
+  public void testJoinSignaturesIgnoreVariables() {
+    QueryHandler first = new QueryHandler("MATCH (a:P)-[e:k]->(b:P)");
+    QueryHandler second = new QueryHandler("MATCH (z:P)-[g:k]->(y:P)");
+
+    assertEquals(createJoin(first, "a", "e", "b", HOMOMORPHISM).getSignature(),
+      createJoin(second, "z", "g", "y", HOMOMORPHISM).getSignature());
+  }
+
+  @Test
+  public void testJoinSignaturesDistinguishStrategies() {
+    QueryHandler queryHandler = new QueryHandler("MATCH (a:P)-[e:k]->(b:P)");
+
+    assertNotEquals(createJoin(queryHandler, "a", "e", "b", HOMOMORPHISM).getSignature(),
+      createJoin(queryHandler, "a", "e", "b", ISOMORPHISM).getSignature());
+  }
+
+  @Test
+  public void testUpdateFromExecution() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+    QueryHandler queryHandler = new QueryHandler(QUERY);
+    CardinalityStore store = new CardinalityStore();
+
+    // the plan is computed the same way by the operator, as long as the store is empty
+    QueryPlan plan = new GreedyPlanner(graph, queryHandler, STATISTICS, HOMOMORPHISM,
+      ISOMORPHISM, GreedyPlanner.DEFAULT_BROADCAST_THRESHOLD, null, new HashSet<>(), store)
+      .plan().getQueryPlan();
+    String personSignature = findLeaf(plan.getRoot(), "p").getSignature();
+    String knowsSignature = findLeaf(plan.getRoot(), "k").getSignature();
+
+    long matches = graph.callForCollection(new CypherPatternMatching(QUERY, null, false,
+      HOMOMORPHISM, ISOMORPHISM, STATISTICS, GreedyPlanner.DEFAULT_BROADCAST_THRESHOLD, 0, false,
+      store)).getGraphHeads().count();
+    assertNull(store.getCardinality(personSignature));
+
+    store.update(getExecutionEnvironment().getLastJobExecutionResult());
+
+    assertEquals(10L, matches);
+    assertEquals(Long.valueOf(6L), store.getCardinality(personSignature));
+    assertEquals(Long.valueOf(10L), store.getCardinality(knowsSignature));
+
+    // the observed result size is used to estimate the same plan in a later query
+    long estimation = new QueryPlanEstimator(plan, queryHandler, STATISTICS,
+      Collections.emptyMap(), store).getCardinality();
+    assertEquals(10L, estimation);
+  }
+
+  private static PlanNode findLeaf(PlanNode node, String variable) {
+    if (node instanceof LeafNode) {
+      EmbeddingMetaData metaData = node.getEmbeddingMetaData();
+      return metaData.getVariables().equals(Collections.singletonList(variable)) ||
+        metaData.getEdgeVariables().contains(variable) ? node : null;
+    }
+    if (node instanceof UnaryNode) {
+      return findLeaf(((UnaryNode) node).getChildNode(), variable);
+    }
+    PlanNode leaf = findLeaf(((BinaryNode) node).getLeftChild(), variable);
+    return leaf != null ? leaf : findLeaf(((BinaryNode) node).getRightChild(), variable);
+  }
+
+  private static PlanNode createJoin(QueryHandler queryHandler, String source, String edge,
+    String target, MatchStrategy edgeStrategy) {
+    return new JoinEmbeddingsNode(createVertexLeaf(queryHandler, source),
+      createEdgeLeaf(queryHandler, source, edge, target), Collections.singletonList(source),
+      ISOMORPHISM, edgeStrategy);
+  }
+
+  private static PlanNode createVertexLeaf(QueryHandler queryHandler, String variable) {
+    return new FilterAndProjectVerticesNode(null, variable,
+      queryHandler.getPredicates().getSubCNF(Sets.newHashSet(variable)),
+      queryHandler.getPredicates().getPropertyKeys(variable));
+  }
+
+  private static PlanNode createEdgeLeaf(QueryHandler queryHandler, String source, String edge,
+    String target) {
+    return new FilterAndProjectEdgesNode(null, source, edge, target,
+      queryHandler.getPredicates().getSubCNF(Sets.newHashSet(edge)),
+      queryHandler.getPredicates().getPropertyKeys(edge), false);
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ExpandEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class GreedyPlannerTest extends GradoopFlinkTestBase {
+
+  private static final String QUERY = "MATCH (p:Person)-[:knows]->(q:Person)";
+
+  private LogicalGraph socialNetwork;
+
+  private GraphStatistics socialNetworkStatistics;
+
+  @Before
+  public void setUp() throws Exception {
+    socialNetwork = getSocialNetworkLoader().getLogicalGraph();
+    String path = getFilePath("/data/json/sna/statistics");
+    socialNetworkStatistics = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testBroadcastJoinBelowThreshold() throws Exception {
+    QueryPlan plan = plan(QUERY, Long.MAX_VALUE);
+
+    JoinHint joinHint = getRootJoinHint(plan);
+    assertTrue(joinHint == JoinHint.BROADCAST_HASH_FIRST ||
+      joinHint == JoinHint.BROADCAST_HASH_SECOND);
+    assertThat(plan.execute().count(), is(10L));
+  }
+
+  @Test
+  public void testRepartitionJoinAboveThreshold() throws Exception {
+    QueryPlan plan = plan(QUERY, -1L);
+
+    JoinHint joinHint = getRootJoinHint(plan);
+    assertTrue(joinHint == JoinHint.REPARTITION_HASH_FIRST ||
+      joinHint == JoinHint.REPARTITION_HASH_SECOND);
+    assertThat(plan.execute().count(), is(10L));
+  }
+
+  @Test
+  public void testJoinHintInPlanDescription() throws Exception {
+    QueryPlan plan = plan(QUERY, -1L);
+
+    assertTrue(plan.toString().contains("joinHint=REPARTITION_HASH"));
+  }
+
+  @Test
+  public void testVariableLengthPathUsesDeltaIteration() throws Exception {
+    QueryPlan plan = plan("MATCH (p:Person)-[:knows*1..3]->(q:Person)", Long.MAX_VALUE);
+    assertNotNull(findExpandNode(plan.getRoot()));
+
+    plan.execute().output(new DiscardingOutputFormat<>());
+    String executionPlan = getExecutionEnvironment().getExecutionPlan();
+
+    // only the frontier is expanded, the bulk iteration would filter the whole solution set
+    assertTrue(executionPlan.contains("Filter known states"));
+    assertFalse(executionPlan.contains("FilterRecent"));
+  }
+
+  private QueryPlan plan(String query, long broadcastThreshold) {
+    return new GreedyPlanner(socialNetwork, new QueryHandler(query), socialNetworkStatistics,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, broadcastThreshold)
+      .plan().getQueryPlan();
+  }
+
+  private JoinHint getRootJoinHint(QueryPlan plan) {
+    PlanNode root = plan.getRoot();
+    assertThat(root, instanceOf(JoinEmbeddingsNode.class));
+    return ((JoinEmbeddingsNode) root).getJoinHint();
+  }
+
+  private ExpandEmbeddingsNode findExpandNode(PlanNode node) {
+    if (node instanceof ExpandEmbeddingsNode) {
+      return (ExpandEmbeddingsNode) node;
+    }
+    if (node instanceof UnaryNode) {
+      return findExpandNode(((UnaryNode) node).getChildNode());
+    }
+    if (node instanceof BinaryNode) {
+      ExpandEmbeddingsNode left = findExpandNode(((BinaryNode) node).getLeftChild());
+      return left != null ? left : findExpandNode(((BinaryNode) node).getRightChild());
+    }
+    return null;
+  }
+}
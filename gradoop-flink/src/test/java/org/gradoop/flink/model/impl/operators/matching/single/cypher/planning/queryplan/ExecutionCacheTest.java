@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
+
+import com.google.common.collect.Sets;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.Operator;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.CardinalityObserver;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.feedback.CardinalityStore;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.LabelScans;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutionCacheTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testSharedLeaves() {
+    DataSet<Vertex> vertices =
+      getExecutionEnvironment().fromElements(new VertexFactory().createVertex());
+    ExecutionCache cache = new ExecutionCache();
+
+    DataSet<Embedding> first = new QueryPlan(createLeaf(vertices, "n.foo = 23")).execute(cache);
+    DataSet<Embedding> second = new QueryPlan(createLeaf(vertices, "n.foo = 23")).execute(cache);
+    DataSet<Embedding> third = new QueryPlan(createLeaf(vertices, "n.foo = 42")).execute(cache);
+
+    assertSame(first, second);
+    assertNotSame(first, third);
+    assertEquals(1, cache.getReuseCount());
+  }
+
+  @Test
+  public void testDifferentInputs() {
+    DataSet<Vertex> vertices1 =
+      getExecutionEnvironment().fromElements(new VertexFactory().createVertex());
+    DataSet<Vertex> vertices2 =
+      getExecutionEnvironment().fromElements(new VertexFactory().createVertex());
+    ExecutionCache cache = new ExecutionCache();
+
+    DataSet<Embedding> first = new QueryPlan(createLeaf(vertices1, "n.foo = 23")).execute(cache);
+    DataSet<Embedding> second = new QueryPlan(createLeaf(vertices2, "n.foo = 23")).execute(cache);
+
+    assertNotSame(first, second);
+    assertEquals(0, cache.getReuseCount());
+  }
+
+  @Test
+  public void testSharedSubTrees() {
+    DataSet<Vertex> vertices =
+      getExecutionEnvironment().fromElements(new VertexFactory().createVertex());
+    ExecutionCache cache = new ExecutionCache();
+
+    DataSet<Embedding> first = new QueryPlan(createJoin(vertices)).execute(cache);
+    DataSet<Embedding> second = new QueryPlan(createJoin(vertices)).execute(cache);
+
+    assertSame(first, second);
+    // only the root is looked up, its sub tree is not executed again
+    assertEquals(1, cache.getReuseCount());
+  }
+
+  @Test
+  public void testSignatureIgnoresHints() {
+    DataSet<Vertex> vertices =
+      getExecutionEnvironment().fromElements(new VertexFactory().createVertex());
+    ExecutionCache cache = new ExecutionCache();
+
+    DataSet<Embedding> first = new QueryPlan(createJoin(vertices,
+      JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES)).execute(cache);
+    DataSet<Embedding> second = new QueryPlan(createJoin(vertices,
+      JoinOperatorBase.JoinHint.BROADCAST_HASH_FIRST)).execute(cache);
+
+    assertSame(first, second);
+  }
+
+  @Test
+  public void testObserveSharedResults() {
+    DataSet<Vertex> vertices =
+      getExecutionEnvironment().fromElements(new VertexFactory().createVertex());
+    ExecutionCache cache = new ExecutionCache();
+    CardinalityStore store = new CardinalityStore();
+
+    new QueryPlan(createLeaf(vertices, "n.foo = 23")).execute(cache);
+
+    PlanNode leaf = createLeaf(vertices, "n.foo = 23");
+    leaf.setCardinalityObserver(new CardinalityObserver(store));
+    DataSet<Embedding> observed = new QueryPlan(leaf).execute(cache);
+
+    // the reused result is counted for the second plan
+    assertEquals(1, cache.getReuseCount());
+    assertTrue(((Operator<?, ?>) observed).getName().startsWith("Count "));
+  }
+
+  @Test
+  public void testScansOfDifferentGraphs() {
+    LogicalGraph first = getConfig().getLogicalGraphFactory().fromDataSets(
+      getExecutionEnvironment().fromElements(new VertexFactory().createVertex("Person")));
+    LogicalGraph second = getConfig().getLogicalGraphFactory().fromDataSets(
+      getExecutionEnvironment().fromElements(new VertexFactory().createVertex("Person")));
+    ExecutionCache cache = new ExecutionCache();
+
+    DataSet<Vertex> firstScan = LabelScans.getVertices(first, "n", "Person", new CNF(),
+      cache.getVertexScans(first));
+    DataSet<Vertex> repeatedScan = LabelScans.getVertices(first, "m", "Person", new CNF(),
+      cache.getVertexScans(first));
+    DataSet<Vertex> secondScan = LabelScans.getVertices(second, "n", "Person", new CNF(),
+      cache.getVertexScans(second));
+
+    assertSame(firstScan, repeatedScan);
+    assertNotSame(firstScan, secondScan);
+  }
+
+  private static PlanNode createJoin(DataSet<Vertex> vertices, JoinOperatorBase.JoinHint hint) {
+    return new JoinEmbeddingsNode(createLeaf(vertices, "n.foo = 23"),
+      createLeaf(vertices, "n.bar = 42"), Collections.singletonList("n"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, hint);
+  }
+
+  private static PlanNode createJoin(DataSet<Vertex> vertices) {
+    return new JoinEmbeddingsNode(createLeaf(vertices, "n.foo = 23"),
+      createLeaf(vertices, "n.bar = 42"), Collections.singletonList("n"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+  }
+
+  private static PlanNode createLeaf(DataSet<Vertex> vertices, String predicate) {
+    QueryHandler queryHandler = new QueryHandler("MATCH (n) WHERE " + predicate);
+    CNF filterPredicate = queryHandler.getPredicates().getSubCNF(Sets.newHashSet("n"));
+    return new FilterAndProjectVerticesNode(vertices, "n", filterPredicate,
+      queryHandler.getPredicates().getPropertyKeys("n"));
+  }
+}
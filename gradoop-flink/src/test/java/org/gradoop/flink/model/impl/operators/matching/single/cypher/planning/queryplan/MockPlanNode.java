@@ -19,6 +19,8 @@ import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 
+import java.util.List;
+
 public class MockPlanNode extends PlanNode {
   /**
    * Data set to be returned by the node
@@ -41,7 +43,7 @@ public class MockPlanNode extends PlanNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     return mockOutput;
   }
 
@@ -55,6 +57,16 @@ public class MockPlanNode extends PlanNode {
     return mockMetaData;
   }
 
+  @Override
+  protected void addInputs(List<DataSet<?>> inputs) {
+    inputs.add(mockOutput);
+  }
+
+  @Override
+  public String getSignature() {
+    return "Mock";
+  }
+
   @Override
   public String toString() {
     return "MockPlanNode{" + "mockMetaData=" + mockMetaData + '}';
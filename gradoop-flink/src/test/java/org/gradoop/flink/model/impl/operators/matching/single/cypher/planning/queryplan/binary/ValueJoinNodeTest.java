@@ -39,6 +39,7 @@ import static org.gradoop.common.GradoopTestUtils.call;
 import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbedding;
 import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class ValueJoinNodeTest extends GradoopFlinkTestBase {
@@ -238,4 +239,32 @@ public class ValueJoinNodeTest extends GradoopFlinkTestBase {
     assertEmbedding(result.get(0), asList(b, f, g, h), asList(PropertyValue.create(21), PropertyValue.create(21)));
     assertEmbedding(result.get(1), asList(a, c, d, e), asList(PropertyValue.create(42), PropertyValue.create(42)));
   }
+
+  @Test
+  public void testSignature() {
+    EmbeddingMetaData leftInputMetaData = new EmbeddingMetaData();
+    leftInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    leftInputMetaData.setPropertyColumn("v1", "age", 0);
+    leftInputMetaData.setPropertyColumn("v1", "size", 1);
+
+    EmbeddingMetaData rightInputMetaData = new EmbeddingMetaData();
+    rightInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 0);
+    rightInputMetaData.setPropertyColumn("v2", "age", 0);
+    rightInputMetaData.setPropertyColumn("v2", "size", 1);
+
+    PlanNode leftChild = new MockPlanNode(null, leftInputMetaData);
+    PlanNode rightChild = new MockPlanNode(null, rightInputMetaData);
+
+    String ageJoin = new ValueJoinNode(leftChild, rightChild,
+      singletonList(Pair.of("v1", "age")), singletonList(Pair.of("v2", "age")),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).getSignature();
+    String sizeJoin = new ValueJoinNode(leftChild, rightChild,
+      singletonList(Pair.of("v1", "size")), singletonList(Pair.of("v2", "size")),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).getSignature();
+    String cartesianProduct = new CartesianProductNode(leftChild, rightChild,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).getSignature();
+
+    assertThat(ageJoin, not(sizeJoin));
+    assertThat(ageJoin, not(cartesianProduct));
+  }
 }
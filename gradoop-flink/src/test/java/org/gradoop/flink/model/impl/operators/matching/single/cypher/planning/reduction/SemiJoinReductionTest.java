@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.reduction;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SemiJoinReductionTest extends GradoopFlinkTestBase {
+
+  private static final String QUERY =
+    "MATCH (p:Person)-[i:hasInterest]->(t:Tag)<-[h:hasTag]-(f:Forum)";
+
+  private LogicalGraph socialNetwork;
+
+  private GraphStatistics socialNetworkStatistics;
+
+  @Before
+  public void setUp() throws Exception {
+    socialNetwork = getSocialNetworkLoader().getLogicalGraph();
+    String path = getFilePath("/data/json/sna/statistics");
+    socialNetworkStatistics = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testReduce() throws Exception {
+    CandidateSets candidates = new SemiJoinReduction(new QueryHandler(QUERY), 2)
+      .reduce(socialNetwork);
+
+    Map<String, Long> cardinalities = candidates.computeCardinalities();
+
+    assertThat(cardinalities.get("p"), is(4L));
+    assertThat(cardinalities.get("i"), is(4L));
+    assertThat(cardinalities.get("t"), is(2L));
+    assertThat(cardinalities.get("h"), is(2L));
+    assertThat(cardinalities.get("f"), is(2L));
+    assertThat(candidates.getCardinalities(), is(cardinalities));
+  }
+
+  @Test
+  public void testReduceWithPredicates() throws Exception {
+    String query = "MATCH (p:Person)-[k:knows]->(q:Person) WHERE p.city = \"Berlin\"";
+    CandidateSets candidates = new SemiJoinReduction(new QueryHandler(query), 1)
+      .reduce(socialNetwork);
+
+    Map<String, Long> cardinalities = candidates.computeCardinalities();
+
+    assertThat(cardinalities.get("p"), is(1L));
+    assertThat(cardinalities.get("k"), is(2L));
+    assertThat(cardinalities.get("q"), is(2L));
+  }
+
+  @Test
+  public void testVariableLengthPathIsNotReduced() throws Exception {
+    String query = "MATCH (p:Person)-[k:knows*1..2]->(t:Tag)";
+    CandidateSets candidates = new SemiJoinReduction(new QueryHandler(query), 1)
+      .reduce(socialNetwork);
+
+    Map<String, Long> cardinalities = candidates.computeCardinalities();
+
+    assertThat(cardinalities.get("p"), is(6L));
+    assertThat(cardinalities.get("k"), is(10L));
+    assertThat(cardinalities.get("t"), is(3L));
+  }
+
+  @Test
+  public void testPatternMatchingWithReduction() throws Exception {
+    long expected = socialNetwork.callForCollection(new CypherPatternMatching(QUERY, null, true,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, socialNetworkStatistics))
+      .getGraphHeads().count();
+
+    long reduced = socialNetwork.callForCollection(new CypherPatternMatching(QUERY, null, true,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, socialNetworkStatistics,
+      GreedyPlanner.DEFAULT_BROADCAST_THRESHOLD, 2, true))
+      .getGraphHeads().count();
+
+    assertThat(expected, is(4L));
+    assertThat(reduced, is(expected));
+  }
+}
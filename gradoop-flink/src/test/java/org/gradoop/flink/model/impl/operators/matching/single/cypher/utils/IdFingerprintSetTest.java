@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IdFingerprintSetTest {
+
+  @Test
+  public void testAddAndContains() {
+    IdFingerprintSet set = new IdFingerprintSet();
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+
+    assertTrue(set.add(a));
+    assertTrue(set.contains(a));
+    assertFalse(set.contains(b));
+    assertFalse(set.add(GradoopId.fromString(a.toString())));
+    assertTrue(set.add(b));
+    assertEquals(2, set.size());
+  }
+
+  @Test
+  public void testClear() {
+    IdFingerprintSet set = new IdFingerprintSet();
+    GradoopId a = GradoopId.get();
+
+    set.add(a);
+    set.clear();
+
+    assertEquals(0, set.size());
+    assertFalse(set.contains(a));
+    assertTrue(set.add(a));
+  }
+
+  @Test
+  public void testManyIds() {
+    // more ids than fingerprint bits and initial buffer capacity
+    IdFingerprintSet set = new IdFingerprintSet();
+    GradoopId[] ids = new GradoopId[200];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = GradoopId.get();
+      assertTrue(set.add(ids[i]));
+    }
+    for (GradoopId id : ids) {
+      assertTrue(set.contains(id));
+      assertFalse(set.add(id));
+    }
+    assertFalse(set.contains(GradoopId.get()));
+    assertEquals(ids.length, set.size());
+  }
+
+  @Test
+  public void testAddAllFromEmbedding() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+
+    Embedding embedding = new Embedding();
+    embedding.add(a);
+    embedding.add(b, c);
+    embedding.add(c);
+
+    IdFingerprintSet set = new IdFingerprintSet();
+    assertTrue(set.addAll(embedding, 0));
+    assertTrue(set.addAll(embedding, 1));
+    assertTrue(set.contains(b));
+    assertFalse(set.addAll(embedding, 2));
+    assertFalse(set.addAll(embedding, 0));
+  }
+}
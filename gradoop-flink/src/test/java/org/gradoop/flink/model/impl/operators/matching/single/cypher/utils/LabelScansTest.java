@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import com.google.common.collect.Sets;
+import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class LabelScansTest {
+
+  @Test
+  public void testLabelFromQueryGraph() {
+    QueryHandler queryHandler = new QueryHandler("MATCH (a:Person)");
+
+    assertEquals(Sets.newHashSet("Person"), getVertexLabels(queryHandler, "a"));
+  }
+
+  @Test
+  public void testNoLabel() {
+    QueryHandler queryHandler = new QueryHandler("MATCH (a) WHERE a.age > 20");
+
+    assertNull(getVertexLabels(queryHandler, "a"));
+  }
+
+  @Test
+  public void testLabelDisjunction() {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (a) WHERE a.__label__ = \"Person\" OR \"Tag\" = a.__label__");
+
+    assertEquals(Sets.newHashSet("Person", "Tag"), getVertexLabels(queryHandler, "a"));
+  }
+
+  @Test
+  public void testMixedDisjunction() {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (a) WHERE a.__label__ = \"Person\" OR a.age > 20");
+
+    assertNull(getVertexLabels(queryHandler, "a"));
+  }
+
+  @Test
+  public void testLabelConjunction() {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (a:Person) WHERE a.__label__ = \"Person\" OR a.__label__ = \"Tag\"");
+
+    assertEquals(Sets.newHashSet("Person"), getVertexLabels(queryHandler, "a"));
+  }
+
+  @Test
+  public void testEdgeLabelDisjunction() {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (a)-[e]->(b) WHERE e.__label__ = \"knows\" OR e.__label__ = \"likes\"");
+
+    assertEquals(Sets.newHashSet("knows", "likes"), LabelScans.getLabels("e",
+      queryHandler.getEdgeByVariable("e").getLabel(), GradoopConstants.DEFAULT_EDGE_LABEL,
+      queryHandler.getPredicates()));
+  }
+
+  private Set<String> getVertexLabels(QueryHandler queryHandler, String variable) {
+    return LabelScans.getLabels(variable, queryHandler.getVertexByVariable(variable).getLabel(),
+      GradoopConstants.DEFAULT_VERTEX_LABEL, queryHandler.getPredicates());
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LimitClauseTest {
+
+  @Test
+  public void testParseLimit() {
+    LimitClause clause = LimitClause.parse("MATCH (a)-->(b) WHERE a.age > 20 LIMIT 10");
+
+    assertFalse(clause.isOrdered());
+    assertEquals(10, clause.getLimit());
+  }
+
+  @Test
+  public void testParseOrderByLimit() {
+    LimitClause clause = LimitClause.parse("MATCH (a)-[e]->(b) order by e.since desc limit 5 ");
+
+    assertTrue(clause.isOrdered());
+    assertEquals("e", clause.getVariable());
+    assertEquals("since", clause.getPropertyKey());
+    assertFalse(clause.isAscending());
+    assertEquals(5, clause.getLimit());
+  }
+
+  @Test
+  public void testParseAscendingByDefault() {
+    LimitClause clause = LimitClause.parse("MATCH (a) ORDER BY a.age LIMIT 1");
+
+    assertTrue(clause.isAscending());
+    assertEquals("ORDER BY a.age ASC LIMIT 1", clause.toString());
+  }
+
+  @Test
+  public void testParseWithoutClause() {
+    assertNull(LimitClause.parse("MATCH (a)-->(b) WHERE a.name = \"LIMIT 10\""));
+  }
+
+  @Test
+  public void testStrip() {
+    assertEquals("MATCH (a)-->(b)", LimitClause.strip("MATCH (a)-->(b) LIMIT 10"));
+    assertEquals("MATCH (a)-->(b) WHERE a.age > 20",
+      LimitClause.strip("MATCH (a)-->(b) WHERE a.age > 20 ORDER BY a.age DESC LIMIT 10"));
+    assertEquals("MATCH (a)-->(b)", LimitClause.strip("MATCH (a)-->(b)"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseLimitZero() {
+    LimitClause.parse("MATCH (a)-->(b) LIMIT 0");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseOrderByLimitZero() {
+    LimitClause.parse("MATCH (a)-->(b) ORDER BY a.age LIMIT 0");
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+public class IncrementalDualSimulationTest extends GradoopFlinkTestBase {
+
+  private static final String QUERY = "MATCH (a:A)-[:x]->(b:B)-[:x]->(c:C)";
+
+  // v8, v9 and v10 match in both graphs but are not reachable from the changed edges, the
+  // update has to take them over from the previous match
+  private static final String GRAPHS = "" +
+    "g0[(v0:A)-[e0:x]->(v1:B)-[e1:x]->(v2:C),(v3:A)-[e2:x]->(v4:B),(v6:A)-[e4:x]->(v7:B)," +
+    "(v8:A)-[e5:x]->(v9:B)-[e6:x]->(v10:C)]" +
+    "g1[(v0)-[e0]->(v1),(v2),(v3)-[e2]->(v4)-[e3:x]->(v5:C),(v6)-[e4]->(v7)," +
+    "(v8)-[e5]->(v9)-[e6]->(v10)]" +
+    "expected0[(v0)-[e0]->(v1)-[e1]->(v2),(v8)-[e5]->(v9)-[e6]->(v10)]" +
+    "expected1[(v3)-[e2]->(v4)-[e3]->(v5),(v8)-[e5]->(v9)-[e6]->(v10)]";
+
+  @Test
+  public void testComputeMatch() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPHS);
+    LogicalGraph g0 = loader.getLogicalGraphByVariable("g0");
+
+    IncrementalDualSimulation op = new IncrementalDualSimulation(QUERY, true, false, 10);
+    GraphCollection result = op.toGraphCollection(g0, op.computeMatch(g0));
+
+    collectAndAssertTrue(result.equalsByGraphElementIds(
+      loader.getGraphCollectionByVariables("expected0")));
+  }
+
+  @Test
+  public void testUpdateMatch() throws Exception {
+    testUpdate(10);
+  }
+
+  @Test
+  public void testUpdateMatchWithRecomputation() throws Exception {
+    testUpdate(1);
+  }
+
+  private void testUpdate(long maxChanges) throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPHS);
+    LogicalGraph g0 = loader.getLogicalGraphByVariable("g0");
+    LogicalGraph g1 = loader.getLogicalGraphByVariable("g1");
+
+    DataSet<Edge> inserted = getExecutionEnvironment()
+      .fromElements(loader.getEdgeByVariable("e3"));
+    DataSet<Edge> deleted = getExecutionEnvironment()
+      .fromElements(loader.getEdgeByVariable("e1"));
+
+    IncrementalDualSimulation op = new IncrementalDualSimulation(QUERY, true, true, maxChanges);
+    DataSet<FatVertex> match = op.updateMatch(g1, op.computeMatch(g0), inserted, deleted);
+
+    collectAndAssertTrue(op.toGraphCollection(g1, match).equalsByGraphElementIds(
+      loader.getGraphCollectionByVariables("expected1")));
+    collectAndAssertTrue(op.toGraphCollection(g1, match).equalsByGraphElementIds(
+      new DualSimulation(QUERY, true, true).execute(g1)));
+  }
+}
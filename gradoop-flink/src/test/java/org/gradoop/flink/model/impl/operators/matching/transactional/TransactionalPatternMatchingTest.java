@@ -23,6 +23,8 @@ import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.operators.matching.TestData;
 import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.DepthSearchMatching;
+import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.IndexedDepthSearchMatching;
+import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.PatternMatchingAlgorithm;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Rule;
 import org.junit.Test;
@@ -41,6 +43,21 @@ public class TransactionalPatternMatchingTest extends GradoopFlinkTestBase {
 
   @Test
   public void test() throws Exception {
+    runTest(new DepthSearchMatching());
+  }
+
+  @Test
+  public void testIndexed() throws Exception {
+    runTest(new IndexedDepthSearchMatching());
+  }
+
+  /**
+   * Matches all test patterns using the given algorithm and checks the result counts.
+   *
+   * @param algorithm pattern matching algorithm
+   * @throws Exception on failure
+   */
+  private void runTest(PatternMatchingAlgorithm algorithm) throws Exception {
 
     FlinkAsciiGraphLoader loader = getLoaderFromString(
       "g1:A[" +
@@ -120,7 +137,7 @@ public class TransactionalPatternMatchingTest extends GradoopFlinkTestBase {
     for (int i = 0; i < tests.length; i++) {
       String testPattern = tests[i];
 
-      GraphCollection result = coll.match(testPattern, new DepthSearchMatching(), true);
+      GraphCollection result = coll.match(testPattern, algorithm, true);
 
       Collection<GraphHead> originalHeads = Lists.newArrayList();
       Collection<GraphHead> resultHeads = Lists.newArrayList();
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.persistence;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+
+public class PersistTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testPersistGraph() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraphByVariable("g0");
+    File directory = temporaryFolder.getRoot();
+
+    for (PersistenceLevel level : PersistenceLevel.values()) {
+      LogicalGraph persisted = graph.persist(level, directory.toURI().toString());
+      assertEquals(1, directory.list().length);
+
+      // the persisted data is read by each job
+      collectAndAssertTrue(persisted.equalsByData(graph));
+      assertEquals(graph.getVertices().count(), persisted.getVertices().count());
+      assertEquals(graph.getGraphHead().collect(), persisted.getGraphHead().collect());
+
+      persisted.unpersist();
+      assertEquals(0, directory.list().length);
+    }
+  }
+
+  @Test
+  public void testPersistCollection() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    GraphCollection collection = loader.getGraphCollectionByVariables("g0", "g1", "g2");
+    File directory = temporaryFolder.getRoot();
+
+    for (PersistenceLevel level : PersistenceLevel.values()) {
+      GraphCollection persisted = collection.persist(level, directory.toURI().toString());
+      assertEquals(1, directory.list().length);
+
+      collectAndAssertTrue(persisted.equalsByGraphData(collection));
+
+      persisted.unpersist();
+      assertEquals(0, directory.list().length);
+    }
+  }
+
+  @Test
+  public void testCache() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+
+    LogicalGraph cached = graph.cache();
+    collectAndAssertTrue(cached.equalsByData(graph));
+    cached.unpersist();
+
+    // unpersisting twice or unpersisting a graph that is not persisted has no effect
+    cached.unpersist();
+    graph.unpersist();
+  }
+}